@@ -88,6 +88,7 @@ public class WsMasterModule extends AbstractModule {
         bind(TokenValidator.class).to(org.eclipse.che.api.local.DummyTokenValidator.class);
 
         bind(org.eclipse.che.api.core.rest.ApiInfoService.class);
+        bind(org.eclipse.che.api.core.rest.HttpJsonRequestFactory.class).to(org.eclipse.che.api.core.rest.PooledHttpJsonRequestFactory.class);
         bind(org.eclipse.che.api.project.server.template.ProjectTemplateDescriptionLoader.class).asEagerSingleton();
         bind(org.eclipse.che.api.project.server.template.ProjectTemplateRegistry.class);
         bind(org.eclipse.che.api.project.server.template.ProjectTemplateService.class);
@@ -187,6 +188,8 @@ public class WsMasterModule extends AbstractModule {
         install(new org.eclipse.che.plugin.machine.ssh.SshMachineModule());
         install(new org.eclipse.che.plugin.docker.machine.proxy.DockerProxyModule());
         install(new org.eclipse.che.commons.schedule.executor.ScheduleModule());
+        bind(org.eclipse.che.api.core.schedule.ScheduleService.class);
+        bind(org.eclipse.che.api.core.startup.StartupService.class);
 
         final Multibinder<MessageBodyAdapter> adaptersMultibinder = Multibinder.newSetBinder(binder(), MessageBodyAdapter.class);
         adaptersMultibinder.addBinding().to(WorkspaceConfigMessageBodyAdapter.class);
@@ -206,6 +206,38 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
                                                                               UnauthorizedException,
                                                                               ConflictException,
                                                                               BadRequestException {
+        final HttpURLConnection conn = connect(timeout, url, method, body, parameters, authorizationHeaderValue);
+        boolean consumed = false;
+        try {
+            final DefaultHttpJsonResponse response;
+            try (Reader reader = new InputStreamReader(conn.getInputStream())) {
+                response = new DefaultHttpJsonResponse(CharStreams.toString(reader), conn.getResponseCode());
+            }
+            consumed = true;
+            return response;
+        } finally {
+            releaseConnection(conn, consumed);
+        }
+    }
+
+    /**
+     * Sends request and checks response, see {@link #doRequest(int, String, String, Object, List, String)}.
+     *
+     * @return connection which response is successful and its body is ready to be read,
+     * the connection must be released with {@link #releaseConnection(HttpURLConnection, boolean)}
+     */
+    protected HttpURLConnection connect(int timeout,
+                                        String url,
+                                        String method,
+                                        Object body,
+                                        List<Pair<String, ?>> parameters,
+                                        String authorizationHeaderValue) throws IOException,
+                                                                                ServerException,
+                                                                                ForbiddenException,
+                                                                                NotFoundException,
+                                                                                UnauthorizedException,
+                                                                                ConflictException,
+                                                                                BadRequestException {
         final String authToken = EnvironmentContext.getCurrent().getSubject().getToken();
         final boolean hasQueryParams = parameters != null && !parameters.isEmpty();
         if (hasQueryParams || authToken != null) {
@@ -223,6 +255,8 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
         final HttpURLConnection conn = (HttpURLConnection)new URL(url).openConnection();
         conn.setConnectTimeout(timeout > 0 ? timeout : 60000);
         conn.setReadTimeout(timeout > 0 ? timeout : 60000);
+        boolean connected = false;
+        boolean consumed = false;
         try {
             conn.setRequestMethod(method);
             //drop a hint for server side that we want to receive application/json
@@ -256,6 +290,7 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
                 try (Reader reader = new InputStreamReader(in)) {
                     str = CharStreams.toString(reader);
                 }
+                consumed = true;
                 final String contentType = conn.getContentType();
                 if (contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON)) {
                     final ServiceError serviceError = DtoFactory.getInstance().createDtoFromJson(str, ServiceError.class);
@@ -284,15 +319,27 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
             if (contentType != null && !contentType.startsWith(MediaType.APPLICATION_JSON)) {
                 throw new IOException(conn.getResponseMessage());
             }
-
-            try (Reader reader = new InputStreamReader(conn.getInputStream())) {
-                return new DefaultHttpJsonResponse(CharStreams.toString(reader), responseCode);
-            }
+            connected = true;
+            return conn;
         } finally {
-            conn.disconnect();
+            if (!connected) {
+                releaseConnection(conn, consumed);
+            }
         }
     }
 
+    /**
+     * Releases connection when the response is read or the request is failed.
+     *
+     * @param conn
+     *         connection to release
+     * @param consumed
+     *         whether the response body is read to the end, so the connection may be reused
+     */
+    protected void releaseConnection(HttpURLConnection conn, boolean consumed) {
+        conn.disconnect();
+    }
+
     @Override
     public String toString() {
         return "DefaultHttpJsonRequest{" +
@@ -12,6 +12,7 @@ package org.eclipse.che.api.core.rest;
 
 import com.google.common.annotations.Beta;
 
+import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
@@ -27,6 +28,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Defines simple set of methods for requesting json objects.
@@ -177,6 +179,37 @@ public interface HttpJsonRequest {
                                       ConflictException,
                                       BadRequestException;
 
+    /**
+     * Makes this request asynchronously, the returned future is completed with
+     * the response or exceptionally with the error thrown by {@link #request()}.
+     *
+     * <p>The default implementation makes the request in the caller thread,
+     * implementations which manage their own threads should override it.
+     *
+     * @return future of the response of this request
+     */
+    default CompletableFuture<HttpJsonResponse> requestAsync() {
+        final CompletableFuture<HttpJsonResponse> future = new CompletableFuture<>();
+        try {
+            future.complete(request());
+        } catch (IOException | ApiException | RuntimeException x) {
+            future.completeExceptionally(x);
+        }
+        return future;
+    }
+
+    /**
+     * Same as {@link #requestAsync()} but the response is converted to the given dto.
+     *
+     * @param dtoInterface
+     *         type of the expected dto
+     * @return future of the dto sent in response to this request
+     */
+    default <T> CompletableFuture<T> requestAsync(@NotNull Class<T> dtoInterface) {
+        Objects.requireNonNull(dtoInterface, "Required non-null dto interface");
+        return requestAsync().thenApply(response -> response.asDto(dtoInterface));
+    }
+
     /**
      * Uses {@link HttpMethod#GET} as a request method.
      *
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import org.eclipse.che.api.core.ApiException;
+import org.eclipse.che.api.core.BadRequestException;
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.UnauthorizedException;
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+import org.eclipse.che.commons.lang.Pair;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext.wrap;
+
+/**
+ * Implementation of {@link HttpJsonRequest} which limits the number of the concurrent
+ * requests to the same host and keeps connections alive when their responses are read to the end.
+ * If there is no free connection to the host during the wait timeout the request fails with {@link IOException}.
+ *
+ * <p>Like {@link DefaultHttpJsonRequest} the instance of this request is not thread-safe.
+ *
+ * @see PooledHttpJsonRequestFactory
+ */
+class PooledHttpJsonRequest extends DefaultHttpJsonRequest {
+
+    private final Function<String, Semaphore> hostConnections;
+    private final long                        waitTimeoutMs;
+    private final ExecutorService             executor;
+
+    PooledHttpJsonRequest(String url,
+                          Function<String, Semaphore> hostConnections,
+                          long waitTimeoutMs,
+                          ExecutorService executor) {
+        super(url);
+        this.hostConnections = hostConnections;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.executor = executor;
+    }
+
+    PooledHttpJsonRequest(Link link,
+                          Function<String, Semaphore> hostConnections,
+                          long waitTimeoutMs,
+                          ExecutorService executor) {
+        super(link);
+        this.hostConnections = hostConnections;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<HttpJsonResponse> requestAsync() {
+        final CompletableFuture<HttpJsonResponse> future = new CompletableFuture<>();
+        try {
+            executor.execute(wrap(() -> {
+                try {
+                    future.complete(request());
+                } catch (IOException | ApiException | RuntimeException x) {
+                    future.completeExceptionally(x);
+                }
+            }));
+        } catch (RejectedExecutionException x) {
+            future.completeExceptionally(x);
+        }
+        return future;
+    }
+
+    @Override
+    protected DefaultHttpJsonResponse doRequest(int timeout,
+                                                String url,
+                                                String method,
+                                                Object body,
+                                                List<Pair<String, ?>> parameters,
+                                                String authorizationHeaderValue) throws IOException,
+                                                                                        ServerException,
+                                                                                        ForbiddenException,
+                                                                                        NotFoundException,
+                                                                                        UnauthorizedException,
+                                                                                        ConflictException,
+                                                                                        BadRequestException {
+        final URL target = new URL(url);
+        final Semaphore connections = hostConnections.apply(target.getHost() + ':' + (target.getPort() == -1 ? target.getDefaultPort()
+                                                                                                             : target.getPort()));
+        try {
+            if (!connections.tryAcquire(waitTimeoutMs, MILLISECONDS)) {
+                throw new IOException(format("No free connection to %s during %d ms", url, waitTimeoutMs));
+            }
+        } catch (InterruptedException x) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a free connection to " + url, x);
+        }
+        try {
+            return super.doRequest(timeout, url, method, body, parameters, authorizationHeaderValue);
+        } finally {
+            connections.release();
+        }
+    }
+
+    /** Connections which responses are read to the end are returned to the keep-alive cache of the JDK. */
+    @Override
+    protected void releaseConnection(HttpURLConnection conn, boolean consumed) {
+        if (!consumed) {
+            conn.disconnect();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.validation.constraints.NotNull;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Creates {@link HttpJsonRequest} instances which share the limited number of connections per host.
+ *
+ * <p>Connections which responses are read to the end are not closed, so they are
+ * kept alive and reused by the JDK for the next requests to the same host.
+ * Requests to the host which has no free connection wait for it not longer than the configured
+ * timeout, so a slow host doesn't hold the requests to the other hosts.
+ * Asynchronous requests are made by the fixed size pool of this factory.
+ *
+ * @see PooledHttpJsonRequest
+ */
+@Singleton
+public class PooledHttpJsonRequestFactory implements HttpJsonRequestFactory {
+
+    private final int                              maxConnectionsPerHost;
+    private final long                             waitTimeoutMs;
+    private final ConcurrentMap<String, Semaphore> hostConnections;
+    private final ExecutorService                  executor;
+
+    @Inject
+    public PooledHttpJsonRequestFactory(@Named("che.core.http.max_connections_per_host") int maxConnectionsPerHost,
+                                        @Named("che.core.http.connection_wait_timeout_ms") long waitTimeoutMs,
+                                        @Named("che.core.http.async_threads") int asyncThreads) {
+        if (maxConnectionsPerHost <= 0) {
+            throw new IllegalArgumentException("Maximum number of connections per host must be positive: " + maxConnectionsPerHost);
+        }
+        if (asyncThreads <= 0) {
+            throw new IllegalArgumentException("Number of asynchronous request threads must be positive: " + asyncThreads);
+        }
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.hostConnections = new ConcurrentHashMap<>();
+        this.executor = Executors.newFixedThreadPool(asyncThreads,
+                                                     new ThreadFactoryBuilder().setNameFormat("HttpJsonRequest-%d")
+                                                                               .setUncaughtExceptionHandler(
+                                                                                       LoggingUncaughtExceptionHandler.getInstance())
+                                                                               .setDaemon(true)
+                                                                               .build());
+    }
+
+    @Override
+    public HttpJsonRequest fromUrl(@NotNull String url) {
+        return new PooledHttpJsonRequest(url, this::getConnections, waitTimeoutMs, executor);
+    }
+
+    @Override
+    public HttpJsonRequest fromLink(@NotNull Link link) {
+        return new PooledHttpJsonRequest(link, this::getConnections, waitTimeoutMs, executor);
+    }
+
+    /** Returns the connections of the host identified by {@code host:port}. */
+    private Semaphore getConnections(String hostAndPort) {
+        return hostConnections.computeIfAbsent(hostAndPort, key -> new Semaphore(maxConnectionsPerHost, true));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
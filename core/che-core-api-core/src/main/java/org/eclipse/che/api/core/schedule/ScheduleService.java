@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.schedule;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+
+import org.eclipse.che.api.core.rest.Service;
+import org.eclipse.che.api.core.schedule.shared.dto.ScheduleExecutorDto;
+import org.eclipse.che.api.core.schedule.shared.dto.ScheduledTaskDto;
+import org.eclipse.che.commons.schedule.executor.ScheduledTask;
+import org.eclipse.che.commons.schedule.executor.ThreadPullLauncher;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * REST API for statistics of the scheduled jobs and of the thread pool which executes them.
+ */
+@Api(value = "/schedule", description = "Scheduled jobs statistics")
+@Path("/schedule")
+public class ScheduleService extends Service {
+    private final ThreadPullLauncher launcher;
+
+    @Inject
+    public ScheduleService(ThreadPullLauncher launcher) {
+        this.launcher = launcher;
+    }
+
+    @GET
+    @Path("/tasks")
+    @Produces(APPLICATION_JSON)
+    @ApiOperation(value = "Get statistics of the scheduled jobs",
+                  notes = "Timings of the executions, next execution time and number of the failed and skipped executions of each job",
+                  response = ScheduledTaskDto.class,
+                  responseContainer = "List")
+    @ApiResponses(@ApiResponse(code = 200, message = "The response contains statistics of the jobs"))
+    public List<ScheduledTaskDto> getTasks() {
+        return launcher.getScheduledTasks()
+                       .stream()
+                       .map(ScheduleService::asDto)
+                       .collect(toList());
+    }
+
+    @GET
+    @Path("/executor")
+    @Produces(APPLICATION_JSON)
+    @ApiOperation(value = "Get state of the thread pool which executes the scheduled jobs",
+                  notes = "Size of the thread pool and the number of the jobs waiting for a free thread",
+                  response = ScheduleExecutorDto.class)
+    @ApiResponses(@ApiResponse(code = 200, message = "The response contains state of the thread pool"))
+    public ScheduleExecutorDto getExecutor() {
+        return newDto(ScheduleExecutorDto.class).withCorePoolSize(launcher.getCorePoolSize())
+                                                .withPoolSize(launcher.getPoolSize())
+                                                .withActiveCount(launcher.getActiveCount())
+                                                .withQueueSize(launcher.getQueueSize())
+                                                .withCompletedTaskCount(launcher.getCompletedTaskCount());
+    }
+
+    private static ScheduledTaskDto asDto(ScheduledTask task) {
+        return newDto(ScheduledTaskDto.class).withName(task.getName())
+                                             .withSchedule(task.getSchedule())
+                                             .withSkipIfRunning(task.isSkipIfRunning())
+                                             .withRunning(task.isRunning())
+                                             .withExecutions(task.getExecutions())
+                                             .withFailures(task.getFailures())
+                                             .withSkipped(task.getSkipped())
+                                             .withLastStartTime(task.getLastStartTime())
+                                             .withLastDuration(task.getLastDuration())
+                                             .withMaxDuration(task.getMaxDuration())
+                                             .withAverageDuration(task.getAverageDuration())
+                                             .withCurrentRunDuration(task.getCurrentRunDuration())
+                                             .withNextRunTime(task.getNextRunTime());
+    }
+}
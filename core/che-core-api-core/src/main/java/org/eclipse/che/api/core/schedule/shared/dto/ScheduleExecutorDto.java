@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.schedule.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Describes state of the thread pool which executes periodic jobs.
+ */
+@DTO
+public interface ScheduleExecutorDto {
+
+    int getCorePoolSize();
+
+    void setCorePoolSize(int corePoolSize);
+
+    ScheduleExecutorDto withCorePoolSize(int corePoolSize);
+
+    /** Returns current number of threads in the pool. */
+    int getPoolSize();
+
+    void setPoolSize(int poolSize);
+
+    ScheduleExecutorDto withPoolSize(int poolSize);
+
+    /** Returns number of threads which are executing jobs. */
+    int getActiveCount();
+
+    void setActiveCount(int activeCount);
+
+    ScheduleExecutorDto withActiveCount(int activeCount);
+
+    /** Returns number of the scheduled executions, including the ones waiting for a free thread. */
+    int getQueueSize();
+
+    void setQueueSize(int queueSize);
+
+    ScheduleExecutorDto withQueueSize(int queueSize);
+
+    long getCompletedTaskCount();
+
+    void setCompletedTaskCount(long completedTaskCount);
+
+    ScheduleExecutorDto withCompletedTaskCount(long completedTaskCount);
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.schedule.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Describes periodic job and statistics of its executions.
+ */
+@DTO
+public interface ScheduledTaskDto {
+
+    /** Returns name of the job, e.g. class and method which is executed. */
+    String getName();
+
+    void setName(String name);
+
+    ScheduledTaskDto withName(String name);
+
+    /** Returns human readable description of the schedule. */
+    String getSchedule();
+
+    void setSchedule(String schedule);
+
+    ScheduledTaskDto withSchedule(String schedule);
+
+    /** Returns whether execution is skipped while the previous one is still running. */
+    boolean isSkipIfRunning();
+
+    void setSkipIfRunning(boolean skipIfRunning);
+
+    ScheduledTaskDto withSkipIfRunning(boolean skipIfRunning);
+
+    boolean isRunning();
+
+    void setRunning(boolean running);
+
+    ScheduledTaskDto withRunning(boolean running);
+
+    long getExecutions();
+
+    void setExecutions(long executions);
+
+    ScheduledTaskDto withExecutions(long executions);
+
+    long getFailures();
+
+    void setFailures(long failures);
+
+    ScheduledTaskDto withFailures(long failures);
+
+    /** Returns number of executions skipped because the previous one was still running. */
+    long getSkipped();
+
+    void setSkipped(long skipped);
+
+    ScheduledTaskDto withSkipped(long skipped);
+
+    /** Returns start time of the last execution in milliseconds or 0 if job has never been executed. */
+    long getLastStartTime();
+
+    void setLastStartTime(long lastStartTime);
+
+    ScheduledTaskDto withLastStartTime(long lastStartTime);
+
+    long getLastDuration();
+
+    void setLastDuration(long lastDuration);
+
+    ScheduledTaskDto withLastDuration(long lastDuration);
+
+    long getMaxDuration();
+
+    void setMaxDuration(long maxDuration);
+
+    ScheduledTaskDto withMaxDuration(long maxDuration);
+
+    long getAverageDuration();
+
+    void setAverageDuration(long averageDuration);
+
+    ScheduledTaskDto withAverageDuration(long averageDuration);
+
+    /** Returns duration of the execution which is in progress or 0 if job is not running. */
+    long getCurrentRunDuration();
+
+    void setCurrentRunDuration(long currentRunDuration);
+
+    ScheduledTaskDto withCurrentRunDuration(long currentRunDuration);
+
+    /** Returns time of the next execution in milliseconds or 0 if it is unknown. */
+    long getNextRunTime();
+
+    void setNextRunTime(long nextRunTime);
+
+    ScheduledTaskDto withNextRunTime(long nextRunTime);
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.startup;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+
+import org.eclipse.che.api.core.rest.Service;
+import org.eclipse.che.api.core.startup.shared.dto.StartupComponentDto;
+import org.eclipse.che.api.core.startup.shared.dto.StartupPhaseDto;
+import org.eclipse.che.inject.lifecycle.Initializer;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * REST API for time spent in the phases of the application start and in the initialization of each component.
+ */
+@Api(value = "/startup", description = "Application start statistics")
+@Path("/startup")
+public class StartupService extends Service {
+    private final Initializer initializer;
+
+    @Inject
+    public StartupService(Initializer initializer) {
+        this.initializer = initializer;
+    }
+
+    @GET
+    @Path("/phases")
+    @Produces(APPLICATION_JSON)
+    @ApiOperation(value = "Get duration of the application start phases",
+                  notes = "Phases are listed in the order they are finished, e.g. creation of the injector and parallel initialization",
+                  response = StartupPhaseDto.class,
+                  responseContainer = "List")
+    @ApiResponses(@ApiResponse(code = 200, message = "The response contains duration of the start phases"))
+    public List<StartupPhaseDto> getPhases() {
+        return initializer.getPhaseTimes()
+                          .entrySet()
+                          .stream()
+                          .map(phase -> newDto(StartupPhaseDto.class).withName(phase.getKey())
+                                                                     .withDurationMs(phase.getValue()))
+                          .collect(toList());
+    }
+
+    @GET
+    @Path("/components")
+    @Produces(APPLICATION_JSON)
+    @ApiOperation(value = "Get time spent in the init-methods of the components",
+                  notes = "Components are sorted by the time of the initialization, the slowest first",
+                  response = StartupComponentDto.class,
+                  responseContainer = "List")
+    @ApiResponses(@ApiResponse(code = 200, message = "The response contains initialization time of the components"))
+    public List<StartupComponentDto> getComponents() {
+        return initializer.getComponentTimes()
+                          .stream()
+                          .map(StartupService::asDto)
+                          .collect(toList());
+    }
+
+    private static StartupComponentDto asDto(Initializer.ComponentTime time) {
+        return newDto(StartupComponentDto.class).withComponent(time.getComponent())
+                                                .withDurationMs(time.getDurationMs())
+                                                .withDeferred(time.isDeferred());
+    }
+}
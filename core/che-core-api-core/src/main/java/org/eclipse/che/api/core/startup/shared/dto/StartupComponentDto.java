@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.startup.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Describes time spent in the init-methods of a component during the application start.
+ */
+@DTO
+public interface StartupComponentDto {
+
+    /** Returns class name of the component. */
+    String getComponent();
+
+    void setComponent(String component);
+
+    StartupComponentDto withComponent(String component);
+
+    long getDurationMs();
+
+    void setDurationMs(long durationMs);
+
+    StartupComponentDto withDurationMs(long durationMs);
+
+    /** Returns {@code true} if the component was initialized in parallel at the end of the start. */
+    boolean isDeferred();
+
+    void setDeferred(boolean deferred);
+
+    StartupComponentDto withDeferred(boolean deferred);
+}
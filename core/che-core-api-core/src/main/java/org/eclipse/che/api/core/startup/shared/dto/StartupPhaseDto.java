@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.startup.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Describes time spent in a phase of the application start.
+ */
+@DTO
+public interface StartupPhaseDto {
+
+    /** Returns name of the phase, e.g. injector creation. */
+    String getName();
+
+    void setName(String name);
+
+    StartupPhaseDto withName(String name);
+
+    long getDurationMs();
+
+    void setDurationMs(long durationMs);
+
+    StartupPhaseDto withDurationMs(long durationMs);
+}
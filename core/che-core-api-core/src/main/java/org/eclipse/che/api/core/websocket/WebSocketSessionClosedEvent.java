@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.websocket;
+
+/**
+ * Published by {@link org.eclipse.che.api.core.notification.EventService} when WEB SOCKET session
+ * of the endpoint is closed, so the resources held for the endpoint can be released.
+ */
+public class WebSocketSessionClosedEvent {
+    private final String endpointId;
+
+    public WebSocketSessionClosedEvent(String endpointId) {
+        this.endpointId = endpointId;
+    }
+
+    /** Returns identifier of the endpoint whose session is closed. */
+    public String getEndpointId() {
+        return endpointId;
+    }
+
+    @Override
+    public String toString() {
+        return "WebSocketSessionClosedEvent{endpointId='" + endpointId + "'}";
+    }
+}
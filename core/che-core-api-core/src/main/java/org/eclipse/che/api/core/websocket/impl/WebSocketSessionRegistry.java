@@ -10,8 +10,11 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.websocket.impl;
 
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.websocket.WebSocketSessionClosedEvent;
 import org.slf4j.Logger;
 
+import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.websocket.Session;
 import java.util.HashMap;
@@ -25,6 +28,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Binds WEB SOCKET session to a specific endpoint form which it was opened.
+ * {@link WebSocketSessionClosedEvent} is published when the session of the endpoint is removed.
  *
  * @author Dmitry Kuleshov
  */
@@ -33,6 +37,12 @@ public class WebSocketSessionRegistry {
     private static final Logger LOG = getLogger(WebSocketSessionRegistry.class);
 
     private final Map<String, Session> sessionsMap = new ConcurrentHashMap<>();
+    private final EventService         eventService;
+
+    @Inject
+    public WebSocketSessionRegistry(EventService eventService) {
+        this.eventService = eventService;
+    }
 
     public void add(String endpointId, Session session) {
         LOG.debug("Registering session with endpoint {}", session.getId(), endpointId);
@@ -43,7 +53,9 @@ public class WebSocketSessionRegistry {
     public void remove(String endpointId) {
         LOG.debug("Cancelling registration for session with endpoint {}", endpointId);
 
-        sessionsMap.remove(endpointId);
+        if (sessionsMap.remove(endpointId) != null) {
+            eventService.publish(new WebSocketSessionClosedEvent(endpointId));
+        }
     }
 
     public Optional<Session> get(String endpointId) {
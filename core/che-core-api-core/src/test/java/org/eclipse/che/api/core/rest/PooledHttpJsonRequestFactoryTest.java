@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+import org.eclipse.che.api.core.util.LinksHelper;
+import org.everrest.assured.EverrestJetty;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonList;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests of {@link PooledHttpJsonRequestFactory}.
+ */
+@Listeners({MockitoTestNGListener.class, EverrestJetty.class})
+public class PooledHttpJsonRequestFactoryTest {
+
+    @SuppressWarnings("unused") // used by EverrestJetty
+    private static final ApiExceptionMapper EXCEPTION_MAPPER = new ApiExceptionMapper();
+    @SuppressWarnings("unused") // used by EverrestJetty
+    private static final TestService        TEST_SERVICE     = new TestService();
+    @SuppressWarnings("unused") // used by EverrestJetty
+    private static final BlockingService    BLOCKING_SERVICE = new BlockingService();
+
+    private PooledHttpJsonRequestFactory factory;
+
+    @BeforeMethod
+    public void setUp() {
+        factory = new PooledHttpJsonRequestFactory(2, 10_000, 5);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        factory.shutdown();
+    }
+
+    @Test
+    public void shouldMakeRequestsOneAfterAnother(ITestContext ctx) throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(factory.fromUrl(getUrl(ctx) + "/application-json").request().asString(), TestService.JSON_OBJECT);
+        }
+    }
+
+    @Test
+    public void shouldMakeMoreConcurrentRequestsThanMaxConnections(ITestContext ctx) throws Exception {
+        final List<CompletableFuture<HttpJsonResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(factory.fromUrl(getUrl(ctx) + "/application-json").requestAsync());
+        }
+
+        for (CompletableFuture<HttpJsonResponse> future : futures) {
+            assertEquals(future.get(10, TimeUnit.SECONDS).asString(), TestService.JSON_OBJECT);
+        }
+    }
+
+    @Test
+    public void shouldNotMakeMoreConcurrentRequestsThanMaxConnections(ITestContext ctx) throws Exception {
+        BlockingService.reset(2);
+        final ExecutorService callers = Executors.newFixedThreadPool(5);
+        try {
+            final List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                responses.add(callers.submit(() -> factory.fromUrl(getBlockingUrl(ctx)).request().asString()));
+            }
+
+            assertTrue(BlockingService.allowedArrived.await(10, TimeUnit.SECONDS));
+            // the rest of the requests wait for a free connection
+            assertFalse(BlockingService.exceededArrived.await(500, TimeUnit.MILLISECONDS));
+            BlockingService.release.countDown();
+
+            for (Future<String> response : responses) {
+                assertEquals(response.get(10, TimeUnit.SECONDS), TestService.JSON_OBJECT);
+            }
+            assertEquals(BlockingService.maxActive.get(), 2);
+        } finally {
+            BlockingService.release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldConvertAsyncResponseToDto(ITestContext ctx) throws Exception {
+        final Link link = LinksHelper.createLink("GET", "localhost:8080/application-json", "rel");
+
+        final List<Link> links = factory.fromUrl(getUrl(ctx) + "/application-json")
+                                        .usePostMethod()
+                                        .setBody(singletonList(link))
+                                        .requestAsync()
+                                        .get(10, TimeUnit.SECONDS)
+                                        .asList(Link.class);
+
+        assertEquals(links, singletonList(link));
+    }
+
+    @Test
+    public void shouldCompleteFutureExceptionallyWhenRequestFails(ITestContext ctx) throws Exception {
+        final CompletableFuture<HttpJsonResponse> future = factory.fromUrl(getUrl(ctx) + "/404/response-code-test").requestAsync();
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Request must fail");
+        } catch (ExecutionException x) {
+            assertTrue(x.getCause() instanceof NotFoundException);
+        }
+    }
+
+    @Test
+    public void shouldReuseConnectionForSubsequentRequests(ITestContext ctx) throws Exception {
+        final String port = factory.fromUrl(getUrl(ctx) + "/remote-port").request().asString();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(factory.fromUrl(getUrl(ctx) + "/remote-port").request().asString(), port);
+        }
+    }
+
+    @Test
+    public void shouldReuseConnectionAfterFailedRequest(ITestContext ctx) throws Exception {
+        final String port = factory.fromUrl(getUrl(ctx) + "/remote-port").request().asString();
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                factory.fromUrl(getUrl(ctx) + "/404/response-code-test").request();
+                fail("Request must fail");
+            } catch (NotFoundException ignored) {
+            }
+        }
+
+        assertEquals(factory.fromUrl(getUrl(ctx) + "/remote-port").request().asString(), port);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldNotAllowNonPositiveNumberOfConnections() {
+        new PooledHttpJsonRequestFactory(0, 10_000, 5);
+    }
+
+    @Test
+    public void shouldFailRequestWhenThereIsNoFreeConnectionDuringWaitTimeout(ITestContext ctx) throws Exception {
+        final PooledHttpJsonRequestFactory singleConnection = new PooledHttpJsonRequestFactory(1, 200, 2);
+        BlockingService.reset(1);
+        try {
+            final CompletableFuture<HttpJsonResponse> blocked = singleConnection.fromUrl(getBlockingUrl(ctx)).requestAsync();
+            assertTrue(BlockingService.allowedArrived.await(10, TimeUnit.SECONDS));
+
+            try {
+                singleConnection.fromUrl(getBlockingUrl(ctx)).request();
+                fail("Request must fail");
+            } catch (IOException x) {
+                assertTrue(x.getMessage().startsWith("No free connection"), x.getMessage());
+            }
+
+            BlockingService.release.countDown();
+            assertEquals(blocked.get(10, TimeUnit.SECONDS).asString(), TestService.JSON_OBJECT);
+        } finally {
+            BlockingService.release.countDown();
+            singleConnection.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldLimitConnectionsPerHost(ITestContext ctx) throws Exception {
+        final PooledHttpJsonRequestFactory singleConnection = new PooledHttpJsonRequestFactory(1, 200, 2);
+        BlockingService.reset(1);
+        try {
+            final CompletableFuture<HttpJsonResponse> blocked = singleConnection.fromUrl(getBlockingUrl(ctx)).requestAsync();
+            assertTrue(BlockingService.allowedArrived.await(10, TimeUnit.SECONDS));
+
+            // the same server is reachable by another host name, which has its own connections
+            final String otherHostUrl = "http://127.0.0.1:" + ctx.getAttribute(EverrestJetty.JETTY_PORT) + "/rest/test/application-json";
+            assertEquals(singleConnection.fromUrl(otherHostUrl).request().asString(), TestService.JSON_OBJECT);
+
+            BlockingService.release.countDown();
+            assertEquals(blocked.get(10, TimeUnit.SECONDS).asString(), TestService.JSON_OBJECT);
+        } finally {
+            BlockingService.release.countDown();
+            singleConnection.shutdown();
+        }
+    }
+
+    private String getUrl(ITestContext ctx) {
+        return "http://localhost:" + ctx.getAttribute(EverrestJetty.JETTY_PORT) + "/rest/test";
+    }
+
+    private String getBlockingUrl(ITestContext ctx) {
+        return "http://localhost:" + ctx.getAttribute(EverrestJetty.JETTY_PORT) + "/rest/blocking";
+    }
+
+    /** Holds requests until they are released and records the maximum number of the requests held at the same time. */
+    @Path("/blocking")
+    public static class BlockingService extends Service {
+        static final AtomicInteger active    = new AtomicInteger();
+        static final AtomicInteger maxActive = new AtomicInteger();
+
+        static volatile CountDownLatch allowedArrived;
+        static volatile CountDownLatch exceededArrived;
+        static volatile CountDownLatch release;
+
+        static void reset(int maxConnections) {
+            active.set(0);
+            maxActive.set(0);
+            allowedArrived = new CountDownLatch(maxConnections);
+            exceededArrived = new CountDownLatch(maxConnections + 1);
+            release = new CountDownLatch(1);
+        }
+
+        @GET
+        @Produces(APPLICATION_JSON)
+        public String block() throws InterruptedException {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            allowedArrived.countDown();
+            exceededArrived.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+                return TestService.JSON_OBJECT;
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.dto.server.JsonArrayImpl;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.GET;
 import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
@@ -73,6 +74,13 @@ public class TestService extends Service {
         return JSON_OBJECT;
     }
 
+    @GET
+    @Path("/remote-port")
+    @Produces(APPLICATION_JSON)
+    public String getRemotePort(@Context HttpServletRequest request) {
+        return String.valueOf(request.getRemotePort());
+    }
+
     @POST
     @Path("/application-json")
     @Produces(APPLICATION_JSON)
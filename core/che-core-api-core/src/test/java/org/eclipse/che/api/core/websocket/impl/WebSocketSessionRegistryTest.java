@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.websocket.impl;
 
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.websocket.WebSocketSessionClosedEvent;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -20,7 +23,10 @@ import javax.websocket.Session;
 
 import java.util.Optional;
 
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.testng.Assert.*;
 
 /**
@@ -34,11 +40,13 @@ public class WebSocketSessionRegistryTest {
     private WebSocketSessionRegistry registry;
 
     @Mock
-    private Session session;
+    private Session      session;
+    @Mock
+    private EventService eventService;
 
     @BeforeMethod
     public void setUp() throws Exception {
-        registry = new WebSocketSessionRegistry();
+        registry = new WebSocketSessionRegistry(eventService);
     }
 
     @Test
@@ -74,6 +82,24 @@ public class WebSocketSessionRegistryTest {
         assertTrue(registry.getSessions().isEmpty());
     }
 
+    @Test
+    public void shouldPublishEventWhenSessionIsRemoved() {
+        registry.add("0", session);
+
+        registry.remove("0");
+
+        ArgumentCaptor<WebSocketSessionClosedEvent> captor = ArgumentCaptor.forClass(WebSocketSessionClosedEvent.class);
+        verify(eventService).publish(captor.capture());
+        assertEquals(captor.getValue().getEndpointId(), "0");
+    }
+
+    @Test
+    public void shouldNotPublishEventWhenThereIsNoSessionToRemove() {
+        registry.remove("0");
+
+        verify(eventService, never()).publish(any());
+    }
+
     @Test
     public void shouldGetAllSessions() {
         registry.add("0", session);
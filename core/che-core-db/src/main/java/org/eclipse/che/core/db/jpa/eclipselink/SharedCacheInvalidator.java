@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.core.db.jpa.eclipselink;
+
+import org.eclipse.persistence.sessions.server.ServerSession;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Invalidates the results of the queries cached by EclipseLink.
+ *
+ * <p>EclipseLink invalidates cached results of a query when an entity of the query type is changed.
+ * Queries which criteria use other entities, e.g. workspaces by the name of the account,
+ * are not aware of the changes of those entities, so components which change such entities
+ * should invalidate the cached results explicitly after the change is committed.
+ *
+ * <p>Only the query cache of this server is cleared, the caches of other servers which share
+ * the database are not invalidated. Such deployments must configure EclipseLink cache coordination,
+ * see the {@code eclipselink.cache.coordination.*} properties in {@code persistence.xml}.
+ */
+@Singleton
+public class SharedCacheInvalidator {
+
+    private final Provider<EntityManagerFactory> emfProvider;
+
+    @Inject
+    public SharedCacheInvalidator(Provider<EntityManagerFactory> emfProvider) {
+        this.emfProvider = emfProvider;
+    }
+
+    /** Invalidates cached results of all the queries. */
+    public void invalidateQueryResults() {
+        emfProvider.get().unwrap(ServerSession.class).getIdentityMapAccessor().clearQueryCache();
+    }
+}
@@ -23,6 +23,7 @@ import com.google.inject.util.Providers;
 import org.eclipse.che.inject.lifecycle.DestroyModule;
 import org.eclipse.che.inject.lifecycle.Destroyer;
 import org.eclipse.che.inject.lifecycle.InitModule;
+import org.eclipse.che.inject.lifecycle.Initializer;
 import org.everrest.guice.servlet.EverrestGuiceContextListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,8 +64,13 @@ import static org.eclipse.che.inject.lifecycle.DestroyErrorHandler.LOG_HANDLER;
  * <li>Binds all environment variables (visible as prefixed with "env.") and system properties (visible as prefixed with "sys.")</li>
  * <li>Thanks to Everrest integration injects all the properly annotated (see Everrest docs) REST Resources. Providers and ExceptionMappers
  * and inject necessary dependencies</li>
+ * <li>Collects time spent in the init-methods of the components during the start, see {@link Initializer}</li>
  * </ul>
  * <p/>
+ * Independent singletons may be initialized in parallel at the end of the start if <i>che.bootstrap.parallel_init_threads</i>
+ * system property or <i>CHE_BOOTSTRAP_PARALLEL__INIT__THREADS</i> environment variable is set to the number of threads,
+ * see {@link Initializer}. The option can't be set in .properties files as it is needed before the configuration is bound.
+ * <p/>
  * Configuration properties are bound as a {@code &#064Named}. For example:
  * Following entry in the .property file:
  * {@code myProp=value}
@@ -102,6 +108,9 @@ public class CheBootstrap extends EverrestGuiceContextListener {
 
     public static final String PROPERTIES_ALIASES_CONFIG_FILE = "che_aliases.properties";
 
+    /** Number of threads for parallel initialization of the components, 0 or absence of the property disables it. */
+    public static final String PARALLEL_INIT_THREADS = "che.bootstrap.parallel_init_threads";
+
     /** Path to the internal folder that is expected in WEB-INF/classes */
     private static final String WEB_INF_RESOURCES = "che";
 
@@ -112,6 +121,21 @@ public class CheBootstrap extends EverrestGuiceContextListener {
 
     private final List<Module> modules = new ArrayList<>();
 
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        final long startTime = System.currentTimeMillis();
+        super.contextInitialized(sce);
+        final Injector injector = getInjector(sce.getServletContext());
+        if (injector != null) {
+            final Initializer initializer = injector.getInstance(Initializer.class);
+            initializer.addPhaseTime("injector creation", System.currentTimeMillis() - startTime);
+            initializer.finishStartup();
+            final long duration = System.currentTimeMillis() - startTime;
+            initializer.addPhaseTime("total", duration);
+            LOG.info("Application is initialized in {} ms", duration);
+        }
+    }
+
     @Override
     public void contextDestroyed(ServletContextEvent sce) {
         final ServletContext ctx = sce.getServletContext();
@@ -125,7 +149,7 @@ public class CheBootstrap extends EverrestGuiceContextListener {
     @Override
     protected List<Module> getModules() {
         // based on logic that getServletModule() is called BEFORE getModules() in the EverrestGuiceContextListener
-        modules.add(new InitModule(PostConstruct.class));
+        modules.add(new InitModule(PostConstruct.class, getParallelInitThreads()));
         modules.add(new DestroyModule(PreDestroy.class, LOG_HANDLER));
         modules.add(new URIConverter());
         modules.add(new URLConverter());
@@ -145,6 +169,28 @@ public class CheBootstrap extends EverrestGuiceContextListener {
         return modules;
     }
 
+    private int getParallelInitThreads() {
+        String value = System.getProperty(PARALLEL_INIT_THREADS);
+        if (value == null) {
+            value = System.getenv().entrySet()
+                          .stream()
+                          .filter(new PropertyNamePrefixPredicate<>("CHE_"))
+                          .map(new EnvironmentVariableToSystemPropertyFormatNameConverter())
+                          .filter(entry -> PARALLEL_INIT_THREADS.equals(entry.getKey()))
+                          .map(Map.Entry::getValue)
+                          .findAny()
+                          .orElse(null);
+        }
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            throw new ConfigurationException(format("Value of %s must be a number but was %s", PARALLEL_INIT_THREADS, value));
+        }
+    }
+
     private Map<String, Set<String>> readConfigurationAliases() {
         URL aliasesResource = getClass().getClassLoader().getResource(PROPERTIES_ALIASES_CONFIG_FILE);
         Map<String, Set<String>> aliases = new HashMap<>();
@@ -10,7 +10,6 @@
  *******************************************************************************/
 package org.eclipse.che.inject.lifecycle;
 
-import com.google.inject.ProvisionException;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matchers;
 import com.google.inject.spi.InjectionListener;
@@ -18,19 +17,42 @@ import com.google.inject.spi.TypeEncounter;
 import com.google.inject.spi.TypeListener;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
-/** @author andrew00x */
+/**
+ * Invokes init-methods of the components, see {@link Initializer}.
+ *
+ * @author andrew00x
+ */
 public final class InitModule extends LifecycleModule {
     private final Class<? extends Annotation> annotationType;
+    private final Initializer                 initializer;
 
     public InitModule(Class<? extends Annotation> annotationType) {
         this.annotationType = annotationType;
+        this.initializer = new Initializer(0, false);
+    }
+
+    /**
+     * Creates module which collects times of initialization until {@link Initializer#finishStartup()} is called.
+     *
+     * @param annotationType
+     *         annotation of the init-methods
+     * @param parallelThreads
+     *         number of threads for initialization of the independent singletons at the end
+     *         of the start, {@code 0} means that all the components are initialized sequentially
+     */
+    public InitModule(Class<? extends Annotation> annotationType, int parallelThreads) {
+        this.annotationType = annotationType;
+        this.initializer = new Initializer(parallelThreads, true);
     }
 
     @Override
     protected void configure() {
+        bind(Initializer.class).toInstance(initializer);
+        if (initializer.isParallel()) {
+            bindListener(Matchers.any(), initializer.provisionListener());
+        }
         bindListener(Matchers.any(), new TypeListener() {
             @Override
             public <T> void hear(TypeLiteral<T> type, TypeEncounter<T> encounter) {
@@ -39,20 +61,7 @@ public final class InitModule extends LifecycleModule {
                     public void afterInjection(T injectee) {
                         final Method[] methods = get(injectee.getClass(), annotationType);
                         if (methods.length > 0) {
-                            for (Method method : methods) {
-                                try {
-                                    method.invoke(injectee);
-                                } catch (IllegalArgumentException e) {
-                                    // method MUST NOT have any parameters
-                                    throw new ProvisionException(e.getMessage(), e);
-                                } catch (IllegalAccessException e) {
-                                    throw new ProvisionException(String.format("Failed access to %s on %s", method, injectee), e);
-                                } catch (InvocationTargetException e) {
-                                    final Throwable cause = e.getTargetException();
-                                    throw new ProvisionException(String.format("Invocation error of method %s on %s", method, injectee),
-                                                                 cause);
-                                }
-                            }
+                            initializer.afterInjection(injectee, methods);
                         }
                     }
                 });
@@ -0,0 +1,322 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.inject.lifecycle;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Binding;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.ProvisionException;
+import com.google.inject.Scopes;
+import com.google.inject.spi.ConstructorBinding;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.ProviderBinding;
+import com.google.inject.spi.ProvisionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Invokes init-methods of the components and keeps the time spent in them during the application start.
+ * <p/>
+ * In parallel mode initialization of the singletons provisioned directly by the injector, e.g. eager singletons,
+ * is deferred until {@link #finishStartup()} and is performed concurrently then. A component is initialized
+ * right away when it is injected into another one, so no component gets a dependency which is not initialized.
+ * Components which are not initialized until the end of the start don't depend on each other.
+ *
+ * @see InitModule
+ */
+public final class Initializer {
+    private static final Logger LOG = LoggerFactory.getLogger(Initializer.class);
+
+    private static final int SLOWEST_COMPONENTS_TO_REPORT = 10;
+
+    private final int                                  parallelThreads;
+    private final ThreadLocal<Deque<Binding<?>>>       provisioning;
+    private final Map<Object, Method[]>                deferred;
+    private final Map<Key<?>, Object>                  deferredByKey;
+    private final ConcurrentLinkedQueue<ComponentTime> componentTimes;
+    private final Map<String, Long>                    phaseTimes;
+
+    private volatile boolean starting;
+    private          Injector injector;
+
+    /**
+     * @param parallelThreads
+     *         number of threads used for the deferred initialization, {@code 0} disables the parallel mode
+     * @param starting
+     *         whether times of initialization are collected until {@link #finishStartup()} is called,
+     *         must be {@code true} in parallel mode
+     */
+    Initializer(int parallelThreads, boolean starting) {
+        this.parallelThreads = parallelThreads;
+        this.provisioning = ThreadLocal.withInitial(ArrayDeque::new);
+        this.deferred = new IdentityHashMap<>();
+        this.deferredByKey = new HashMap<>();
+        this.componentTimes = new ConcurrentLinkedQueue<>();
+        this.phaseTimes = new LinkedHashMap<>();
+        this.starting = starting;
+    }
+
+    @Inject
+    void setInjector(Injector injector) {
+        this.injector = injector;
+    }
+
+    public boolean isParallel() {
+        return parallelThreads > 0;
+    }
+
+    /**
+     * Initializes components which initialization is deferred and stops collecting the times of initialization.
+     * Must be called once, when the application is started.
+     *
+     * @throws ProvisionException
+     *         if initialization of any component fails
+     */
+    public void finishStartup() {
+        final List<Map.Entry<Object, Method[]>> toInitialize;
+        synchronized (this) {
+            starting = false;
+            toInitialize = new ArrayList<>(deferred.entrySet());
+            deferred.clear();
+            deferredByKey.clear();
+        }
+        try {
+            if (!toInitialize.isEmpty()) {
+                final long startTime = System.currentTimeMillis();
+                initializeConcurrently(toInitialize);
+                addPhaseTime("deferred initialization", System.currentTimeMillis() - startTime);
+            }
+        } finally {
+            logSlowestComponents();
+        }
+    }
+
+    /** Returns components initialized during the start ordered by the time of initialization, the slowest first. */
+    public List<ComponentTime> getComponentTimes() {
+        return componentTimes.stream()
+                             .sorted(comparingLong(ComponentTime::getDurationMs).reversed())
+                             .collect(toList());
+    }
+
+    /** Returns duration of the application start phases in milliseconds. */
+    public synchronized Map<String, Long> getPhaseTimes() {
+        return new LinkedHashMap<>(phaseTimes);
+    }
+
+    public synchronized void addPhaseTime(String phase, long durationMs) {
+        phaseTimes.put(phase, durationMs);
+    }
+
+    void afterInjection(Object injectee, Method[] methods) {
+        if (starting && isParallel() && isProvisionedDirectly()) {
+            synchronized (this) {
+                if (starting) {
+                    deferred.put(injectee, methods);
+                    return;
+                }
+            }
+        }
+        invoke(injectee, methods, false);
+    }
+
+    /** Tracks the provisioning components and initializes deferred dependencies before the component is created. */
+    ProvisionListener provisionListener() {
+        return new ProvisionListener() {
+            @Override
+            public <T> void onProvision(ProvisionInvocation<T> provision) {
+                if (!starting) {
+                    provision.provision();
+                    return;
+                }
+                final Binding<T> binding = provision.getBinding();
+                initializeDependencies(binding, new HashSet<>());
+                final Deque<Binding<?>> stack = provisioning.get();
+                final T instance;
+                stack.push(binding);
+                try {
+                    instance = provision.provision();
+                } finally {
+                    stack.pop();
+                }
+                if (instance != null) {
+                    synchronized (Initializer.this) {
+                        if (deferred.containsKey(instance)) {
+                            deferredByKey.put(binding.getKey(), instance);
+                        }
+                    }
+                }
+            }
+        };
+    }
+
+    /** Whether the component which is being injected is a singleton provisioned by the injector, not a dependency of another one. */
+    private boolean isProvisionedDirectly() {
+        final Deque<Binding<?>> stack = provisioning.get();
+        return stack.size() == 1 && Scopes.isSingleton(stack.peek());
+    }
+
+    private void initializeDependencies(Binding<?> binding, Set<Key<?>> visited) {
+        if (binding instanceof HasDependencies) {
+            for (Dependency<?> dependency : ((HasDependencies)binding).getDependencies()) {
+                initializeDeferred(dependency.getKey(), visited);
+            }
+        }
+    }
+
+    private void initializeDeferred(Key<?> key, Set<Key<?>> visited) {
+        if (!visited.add(key)) {
+            return;
+        }
+        Object instance;
+        Method[] methods = null;
+        synchronized (this) {
+            instance = deferredByKey.remove(key);
+            if (instance != null) {
+                methods = deferred.remove(instance);
+            }
+        }
+        if (methods != null) {
+            invoke(instance, methods, false);
+            return;
+        }
+        final Binding<?> binding = injector == null ? null : injector.getExistingBinding(key);
+        if (binding instanceof LinkedKeyBinding) {
+            initializeDeferred(((LinkedKeyBinding<?>)binding).getLinkedKey(), visited);
+        } else if (binding instanceof ProviderBinding) {
+            initializeDeferred(((ProviderBinding<?>)binding).getProvidedKey(), visited);
+        } else if (binding != null && !(binding instanceof ConstructorBinding)) {
+            // e.g. provider of a set of components, created components are initialized before
+            // they are injected, so only bindings which refer to other bindings are checked
+            initializeDependencies(binding, visited);
+        }
+    }
+
+    private void initializeConcurrently(List<Map.Entry<Object, Method[]>> toInitialize) {
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelThreads, toInitialize.size()),
+                                                                      new ThreadFactoryBuilder().setNameFormat("Initializer-%d")
+                                                                                                .setDaemon(true)
+                                                                                                .build());
+        try {
+            final List<Future<?>> futures = new ArrayList<>(toInitialize.size());
+            for (Map.Entry<Object, Method[]> entry : toInitialize) {
+                futures.add(executor.submit(() -> invoke(entry.getKey(), entry.getValue(), true)));
+            }
+            ProvisionException error = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (error == null) {
+                        error = cause instanceof ProvisionException ? (ProvisionException)cause
+                                                                    : new ProvisionException(cause.getMessage(), cause);
+                    } else {
+                        error.addSuppressed(cause);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ProvisionException("Initialization of the components is interrupted", e);
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void invoke(Object injectee, Method[] methods, boolean deferred) {
+        final long startTime = System.currentTimeMillis();
+        for (Method method : methods) {
+            try {
+                method.invoke(injectee);
+            } catch (IllegalArgumentException e) {
+                // method MUST NOT have any parameters
+                throw new ProvisionException(e.getMessage(), e);
+            } catch (IllegalAccessException e) {
+                throw new ProvisionException(String.format("Failed access to %s on %s", method, injectee), e);
+            } catch (InvocationTargetException e) {
+                final Throwable cause = e.getTargetException();
+                throw new ProvisionException(String.format("Invocation error of method %s on %s", method, injectee), cause);
+            }
+        }
+        if (starting || deferred) {
+            componentTimes.add(new ComponentTime(injectee.getClass().getName(), System.currentTimeMillis() - startTime, deferred));
+        }
+    }
+
+    private void logSlowestComponents() {
+        final List<ComponentTime> times = getComponentTimes();
+        if (!times.isEmpty()) {
+            LOG.info("Initialized {} components, {} of them in parallel. The slowest ones: {}",
+                     times.size(),
+                     times.stream().filter(ComponentTime::isDeferred).count(),
+                     times.stream()
+                          .limit(SLOWEST_COMPONENTS_TO_REPORT)
+                          .map(time -> time.getComponent() + " - " + time.getDurationMs() + " ms")
+                          .collect(joining(", ")));
+        }
+    }
+
+    /** Time spent in the init-methods of a component. */
+    public static class ComponentTime {
+        private final String  component;
+        private final long    durationMs;
+        private final boolean deferred;
+
+        ComponentTime(String component, long durationMs, boolean deferred) {
+            this.component = component;
+            this.durationMs = durationMs;
+            this.deferred = deferred;
+        }
+
+        /** Returns class name of the component. */
+        public String getComponent() {
+            return component;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        /** Returns {@code true} if the component was initialized in parallel with others. */
+        public boolean isDeferred() {
+            return deferred;
+        }
+    }
+}
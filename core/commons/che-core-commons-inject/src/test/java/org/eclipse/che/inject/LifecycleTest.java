@@ -13,6 +13,7 @@ package org.eclipse.che.inject;
 import org.eclipse.che.inject.lifecycle.DestroyModule;
 import org.eclipse.che.inject.lifecycle.Destroyer;
 import org.eclipse.che.inject.lifecycle.InitModule;
+import org.eclipse.che.inject.lifecycle.Initializer;
 import com.google.inject.Binder;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
@@ -26,6 +27,8 @@ import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.che.inject.lifecycle.DestroyErrorHandler.LOG_HANDLER;
 
@@ -53,6 +56,44 @@ public class LifecycleTest {
         Assert.assertEquals(component.destroy, 1, "'destroy' method must be called just once");
     }
 
+    @Test
+    public void testIndependentSingletonsAreInitializedInParallel() {
+        // the latch is created per test, so the components don't depend on the state left by other runs
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final Injector parallelInjector = Guice.createInjector(new InitModule(PostConstruct.class, 2),
+                                                               binder -> {
+                                                                   binder.bind(CountDownLatch.class).toInstance(bothStarted);
+                                                                   binder.bind(FirstParallelComponent.class).asEagerSingleton();
+                                                                   binder.bind(SecondParallelComponent.class).asEagerSingleton();
+                                                               });
+        final Initializer initializer = parallelInjector.getInstance(Initializer.class);
+        Assert.assertEquals(parallelInjector.getInstance(FirstParallelComponent.class).init, 0, "Initialization must be deferred");
+
+        // each component waits for another one, so initialization fails with timeout if it is not parallel
+        initializer.finishStartup();
+
+        Assert.assertEquals(parallelInjector.getInstance(FirstParallelComponent.class).init, 1);
+        Assert.assertEquals(parallelInjector.getInstance(SecondParallelComponent.class).init, 1);
+        Assert.assertEquals(initializer.getComponentTimes().size(), 2);
+        Assert.assertTrue(initializer.getComponentTimes().get(0).isDeferred());
+    }
+
+    @Test
+    public void testDependencyIsInitializedBeforeDependentComponentInParallelMode() {
+        final Injector parallelInjector = Guice.createInjector(new InitModule(PostConstruct.class, 2),
+                                                               binder -> {
+                                                                   binder.bind(TestComponent.class).asEagerSingleton();
+                                                                   binder.bind(DependentComponent.class).asEagerSingleton();
+                                                               });
+
+        final DependentComponent component = parallelInjector.getInstance(DependentComponent.class);
+        Assert.assertEquals(component.dependencyInitOnCreation, 1, "Dependency must be initialized before it is injected");
+
+        parallelInjector.getInstance(Initializer.class).finishStartup();
+
+        Assert.assertEquals(component.dependency.init, 1, "'init' method must be called just once");
+    }
+
     public static class MyModule implements Module {
         @Override
         public void configure(Binder binder) {
@@ -93,4 +134,40 @@ public class LifecycleTest {
             super.destroy();
         }
     }
+
+    public static abstract class ParallelComponent {
+        @Inject
+        CountDownLatch bothStarted;
+
+        volatile int init;
+
+        @PostConstruct
+        public void init() throws InterruptedException {
+            bothStarted.countDown();
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Components are not initialized in parallel");
+            }
+            init++;
+        }
+    }
+
+    @Singleton
+    public static class FirstParallelComponent extends ParallelComponent {
+    }
+
+    @Singleton
+    public static class SecondParallelComponent extends ParallelComponent {
+    }
+
+    @Singleton
+    public static class DependentComponent {
+        final TestComponent dependency;
+        final int           dependencyInitOnCreation;
+
+        @Inject
+        public DependentComponent(TestComponent dependency) {
+            this.dependency = dependency;
+            this.dependencyInitOnCreation = dependency.init;
+        }
+    }
 }
@@ -34,4 +34,10 @@ public @interface ScheduleCron {
      */
     String cronParameterName() default "";
 
+    /**
+     * @return whether execution should be skipped if the previous one is still running, by default
+     * executions may overlap if the job takes longer than the time between the cron fire times
+     */
+    boolean skipIfRunning() default false;
+
 }
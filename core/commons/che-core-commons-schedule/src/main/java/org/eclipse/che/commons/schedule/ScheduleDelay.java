@@ -54,4 +54,10 @@ public @interface ScheduleDelay {
      */
     String delayParameterName() default "";
 
+    /**
+     * @return maximum random addition to the initial delay in the same time unit, jobs which share the same delay
+     * are spread over this time instead of being executed all at once
+     */
+    long initialDelayJitter() default 0;
+
 }
@@ -59,4 +59,10 @@ public @interface ScheduleRate {
      */
     String periodParameterName() default "";
 
+    /**
+     * @return maximum random addition to the initial delay in the same time unit, jobs which share the same period
+     * are spread over this time instead of being executed all at once
+     */
+    long initialDelayJitter() default 0;
+
 }
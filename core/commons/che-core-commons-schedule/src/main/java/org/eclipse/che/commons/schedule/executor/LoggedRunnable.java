@@ -36,8 +36,8 @@ public class LoggedRunnable implements Runnable {
     @Override
     public void run() {
         long startTime = System.currentTimeMillis();
-        try {
-            if (object instanceof Runnable && method.getName().equals("run") && method.getParameterTypes().length == 0) {
+        if (object instanceof Runnable && method.getName().equals("run") && method.getParameterTypes().length == 0) {
+            try {
                 LOG.debug("Invoking method run of class {} instance {}", object.getClass().getName(), object);
 
                 ((Runnable)object).run();
@@ -46,24 +46,35 @@ public class LoggedRunnable implements Runnable {
                           object.getClass().getName(),
                           object,
                           TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startTime));
-            } else {
-                try {
-                    LOG.debug("Invoking run method of class {} instance {}", object.getClass().getName(), object);
+            } catch (Exception e) {
+                LOG.error(e.getLocalizedMessage(), e);
+                throw e;
+            }
+        } else {
+            try {
+                LOG.debug("Invoking run method of class {} instance {}", object.getClass().getName(), object);
 
-                    method.invoke(object);
+                method.invoke(object);
 
-                    LOG.debug("Method of class {} instance {} complete  at {}  sec",
-                              object.getClass().getName(),
-                              object,
-                              TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startTime));
-                } catch (InvocationTargetException | IllegalAccessException e) {
-                    LOG.error(e.getLocalizedMessage());
-                }
+                LOG.debug("Method of class {} instance {} complete  at {}  sec",
+                          object.getClass().getName(),
+                          object,
+                          TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startTime));
+            } catch (InvocationTargetException | IllegalAccessException e) {
+                final Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+                LOG.error(cause.getLocalizedMessage(), cause);
+                throw new InvocationFailedException(cause);
             }
-        } catch (Exception e) {
-            LOG.error(e.getLocalizedMessage(), e);
-            throw e;
         }
+    }
 
+    /**
+     * Thrown when the invoked method fails. Unlike exception thrown by {@link Runnable} job, this one doesn't
+     * cancel the next executions of the job, see {@link ScheduledTask}.
+     */
+    public static class InvocationFailedException extends RuntimeException {
+        public InvocationFailedException(Throwable cause) {
+            super(cause);
+        }
     }
 }
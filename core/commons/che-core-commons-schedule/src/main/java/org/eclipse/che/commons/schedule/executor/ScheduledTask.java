@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.commons.schedule.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodic job together with statistics of its executions.
+ * <p/>
+ * If job is configured to skip execution while the previous one is still running, such executions
+ * are not started at all and only counted. Note that fixed rate and fixed delay jobs are never
+ * executed concurrently by the executor, this may happen only with cron jobs.
+ */
+public class ScheduledTask implements Runnable {
+    private static final Logger LOG = LoggerFactory.getLogger(ScheduledTask.class);
+
+    private final String        name;
+    private final String        schedule;
+    private final Runnable      delegate;
+    private final boolean       skipIfRunning;
+    private final AtomicInteger running;
+    private final AtomicLong    executions;
+    private final AtomicLong    failures;
+    private final AtomicLong    skipped;
+    private final AtomicLong    totalDuration;
+
+    private volatile long               lastStartTime;
+    private volatile long               lastDuration;
+    private volatile long               maxDuration;
+    private volatile ScheduledFuture<?> future;
+    private volatile CronExpression     cronExpression;
+
+    /**
+     * @param name
+     *         name of the job, e.g. class and method which is executed
+     * @param schedule
+     *         human readable description of the schedule
+     * @param delegate
+     *         the job
+     * @param skipIfRunning
+     *         whether execution should be skipped if the previous one is still running
+     */
+    public ScheduledTask(String name, String schedule, Runnable delegate, boolean skipIfRunning) {
+        this.name = name;
+        this.schedule = schedule;
+        this.delegate = delegate;
+        this.skipIfRunning = skipIfRunning;
+        this.running = new AtomicInteger();
+        this.executions = new AtomicLong();
+        this.failures = new AtomicLong();
+        this.skipped = new AtomicLong();
+        this.totalDuration = new AtomicLong();
+    }
+
+    @Override
+    public void run() {
+        if (running.incrementAndGet() > 1 && skipIfRunning) {
+            running.decrementAndGet();
+            skipped.incrementAndGet();
+            LOG.warn("Execution of {} is skipped, previous one is still running for {} ms", name, getCurrentRunDuration());
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        lastStartTime = startTime;
+        try {
+            delegate.run();
+        } catch (LoggedRunnable.InvocationFailedException e) {
+            // failure is already logged, the job is executed again according to its schedule
+            failures.incrementAndGet();
+        } catch (RuntimeException | Error e) {
+            failures.incrementAndGet();
+            throw e;
+        } finally {
+            long duration = System.currentTimeMillis() - startTime;
+            running.decrementAndGet();
+            executions.incrementAndGet();
+            totalDuration.addAndGet(duration);
+            lastDuration = duration;
+            if (duration > maxDuration) {
+                maxDuration = duration;
+            }
+        }
+    }
+
+    void setFuture(ScheduledFuture<?> future) {
+        this.future = future;
+    }
+
+    void setCronExpression(CronExpression cronExpression) {
+        this.cronExpression = cronExpression;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSchedule() {
+        return schedule;
+    }
+
+    public boolean isSkipIfRunning() {
+        return skipIfRunning;
+    }
+
+    public boolean isRunning() {
+        return running.get() > 0;
+    }
+
+    public long getExecutions() {
+        return executions.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /** Number of executions skipped because the previous one was still running. */
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    /** Start time of the last execution in milliseconds or 0 if job has never been executed. */
+    public long getLastStartTime() {
+        return lastStartTime;
+    }
+
+    public long getLastDuration() {
+        return lastDuration;
+    }
+
+    public long getMaxDuration() {
+        return maxDuration;
+    }
+
+    public long getAverageDuration() {
+        long count = executions.get();
+        return count == 0 ? 0 : totalDuration.get() / count;
+    }
+
+    /** Duration of the execution which is in progress or 0 if job is not running. */
+    public long getCurrentRunDuration() {
+        return isRunning() ? System.currentTimeMillis() - lastStartTime : 0;
+    }
+
+    /** Time of the next execution in milliseconds or 0 if it is unknown, e.g. job is cancelled. */
+    public long getNextRunTime() {
+        CronExpression expression = cronExpression;
+        if (expression != null) {
+            Date next = expression.getNextValidTimeAfter(new Date());
+            return next == null ? 0 : next.getTime();
+        }
+        ScheduledFuture<?> scheduledFuture = future;
+        if (scheduledFuture == null || scheduledFuture.isDone()) {
+            return 0;
+        }
+        return System.currentTimeMillis() + Math.max(0, scheduledFuture.getDelay(TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
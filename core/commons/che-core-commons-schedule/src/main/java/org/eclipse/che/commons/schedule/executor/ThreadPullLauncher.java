@@ -24,11 +24,16 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Execute method marked with @ScheduleCron @ScheduleDelay and @ScheduleRate annotations using
  * CronThreadPoolExecutor.
+ * <p/>
+ * All the scheduled jobs are wrapped with {@link ScheduledTask} so statistics of their executions are available.
  *
  * @author Sergii Kabashniuk
  */
@@ -36,6 +41,7 @@ import java.util.concurrent.TimeUnit;
 public class ThreadPullLauncher implements Launcher {
     private static final Logger LOG = LoggerFactory.getLogger(CronThreadPoolExecutor.class);
     private final CronThreadPoolExecutor service;
+    private final List<ScheduledTask>    tasks;
 
     /**
      * @param corePoolSize
@@ -50,6 +56,35 @@ public class ThreadPullLauncher implements Launcher {
                                                                                     LoggingUncaughtExceptionHandler.getInstance())
                                                                             .setDaemon(false)
                                                                             .build());
+        this.tasks = new CopyOnWriteArrayList<>();
+    }
+
+    /** Returns all the scheduled jobs. */
+    public List<ScheduledTask> getScheduledTasks() {
+        return new ArrayList<>(tasks);
+    }
+
+    public int getCorePoolSize() {
+        return service.getCorePoolSize();
+    }
+
+    /** Returns current number of threads in the pool. */
+    public int getPoolSize() {
+        return service.getPoolSize();
+    }
+
+    /** Returns number of threads which are executing jobs. */
+    public int getActiveCount() {
+        return service.getActiveCount();
+    }
+
+    /** Returns number of the scheduled executions, including the ones waiting for a free thread. */
+    public int getQueueSize() {
+        return service.getQueue().size();
+    }
+
+    public long getCompletedTaskCount() {
+        return service.getCompletedTaskCount();
     }
 
 
@@ -81,7 +116,9 @@ public class ThreadPullLauncher implements Launcher {
         }
         try {
             CronExpression expression = new CronExpression(cron);
-            service.schedule(runnable, expression);
+            ScheduledTask task = toScheduledTask(runnable, "cron " + cron);
+            task.setCronExpression(expression);
+            service.schedule(task, expression);
             LOG.debug("Schedule method {} with cron  {} schedule", runnable, cron);
         } catch (ParseException e) {
             LOG.error(e.getLocalizedMessage(), e);
@@ -91,7 +128,8 @@ public class ThreadPullLauncher implements Launcher {
 
     @Override
     public void scheduleWithFixedDelay(Runnable runnable, long initialDelay, long delay, TimeUnit unit) {
-        service.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
+        ScheduledTask task = toScheduledTask(runnable, "fixed delay " + delay + " " + unit);
+        task.setFuture(service.scheduleWithFixedDelay(task, initialDelay, delay, unit));
         LOG.debug("Schedule method {} with fixed initial delay {} delay {} unit {}",
                   runnable,
                   initialDelay,
@@ -100,11 +138,19 @@ public class ThreadPullLauncher implements Launcher {
 
     @Override
     public void scheduleAtFixedRate(Runnable runnable, long initialDelay, long period, TimeUnit unit) {
-        service.scheduleAtFixedRate(runnable, initialDelay, period, unit);
+        ScheduledTask task = toScheduledTask(runnable, "fixed rate " + period + " " + unit);
+        task.setFuture(service.scheduleAtFixedRate(task, initialDelay, period, unit));
         LOG.debug("Schedule method {} with fixed rate. Initial delay {} period {} unit {}",
                   runnable,
                   initialDelay,
                   period,
                   unit);
     }
+
+    private ScheduledTask toScheduledTask(Runnable runnable, String schedule) {
+        ScheduledTask task = runnable instanceof ScheduledTask ? (ScheduledTask)runnable
+                                                               : new ScheduledTask(runnable.toString(), schedule, runnable, false);
+        tasks.add(task);
+        return task;
+    }
 }
@@ -15,6 +15,7 @@ import org.eclipse.che.commons.schedule.ScheduleCron;
 import org.eclipse.che.commons.schedule.ScheduleDelay;
 import org.eclipse.che.commons.schedule.ScheduleRate;
 import org.eclipse.che.commons.schedule.executor.LoggedRunnable;
+import org.eclipse.che.commons.schedule.executor.ScheduledTask;
 import com.google.inject.ConfigurationException;
 import com.google.inject.Injector;
 import com.google.inject.Key;
@@ -31,6 +32,7 @@ import org.slf4j.LoggerFactory;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Listen guice injections and launch method marked with schedule annotations.
@@ -88,14 +90,22 @@ public class ScheduleInjectionListener<T> extends LifecycleModule implements Inj
         throw new RuntimeException("Parameter " + configurationKey + " is not configured");
     }
 
+    private long withJitter(long initialDelay, long jitter) {
+        return jitter > 0 ? initialDelay + ThreadLocalRandom.current().nextLong(jitter + 1) : initialDelay;
+    }
+
+    private ScheduledTask newTask(Object object, Method method, String schedule, boolean skipIfRunning) {
+        return new ScheduledTask(method.getDeclaringClass().getName() + '#' + method.getName(),
+                                 schedule,
+                                 new LoggedRunnable(object, method),
+                                 skipIfRunning);
+    }
+
     private void launch(Object object, Method method, ScheduleCron annotation) {
         Launcher launcher = launcherProvider.get();
-        launcher.scheduleCron(new LoggedRunnable(object,
-                                                 method), annotation.cronParameterName().isEmpty() ? annotation.cron()
-                                                                                                   : getValue(String.class,
-                                                                                                              annotation
-                                                                                                                      .cronParameterName
-                                                                                                                              ()));
+        String cron = annotation.cronParameterName().isEmpty() ? annotation.cron()
+                                                               : getValue(String.class, annotation.cronParameterName());
+        launcher.scheduleCron(newTask(object, method, "cron " + cron, annotation.skipIfRunning()), cron);
     }
 
     private void launch(Object object, Method method, ScheduleDelay annotation) {
@@ -105,16 +115,13 @@ public class ScheduleInjectionListener<T> extends LifecycleModule implements Inj
 
         Launcher launcher = launcherProvider.get();
 
-
-        launcher.scheduleWithFixedDelay(new LoggedRunnable(object,
-                                                           method),
-                                        annotation.initialDelayParameterName().isEmpty() ? annotation.initialDelay()
-                                                                                         : getValue(
-                                                                                                 annotation
-                                                                                                         .initialDelayParameterName()),
-                                        annotation.delayParameterName().isEmpty() ? annotation.delay()
-                                                                                  : getValue(
-                                                                                          annotation.delayParameterName()),
+        long initialDelay = annotation.initialDelayParameterName().isEmpty() ? annotation.initialDelay()
+                                                                             : getValue(annotation.initialDelayParameterName());
+        long delay = annotation.delayParameterName().isEmpty() ? annotation.delay()
+                                                               : getValue(annotation.delayParameterName());
+        launcher.scheduleWithFixedDelay(newTask(object, method, "fixed delay " + delay + " " + annotation.unit(), false),
+                                        withJitter(initialDelay, annotation.initialDelayJitter()),
+                                        delay,
                                         annotation.unit());
     }
 
@@ -125,15 +132,13 @@ public class ScheduleInjectionListener<T> extends LifecycleModule implements Inj
         }
 
         Launcher launcher = launcherProvider.get();
-        launcher.scheduleAtFixedRate(new LoggedRunnable(object,
-                                                        method),
-                                     annotation.initialDelayParameterName().isEmpty() ? annotation.initialDelay()
-                                                                                      : getValue(
-                                                                                              annotation
-                                                                                                      .initialDelayParameterName()),
-                                     annotation.periodParameterName().isEmpty() ? annotation.period()
-                                                                                : getValue(
-                                                                                        annotation.periodParameterName()),
+        long initialDelay = annotation.initialDelayParameterName().isEmpty() ? annotation.initialDelay()
+                                                                             : getValue(annotation.initialDelayParameterName());
+        long period = annotation.periodParameterName().isEmpty() ? annotation.period()
+                                                                 : getValue(annotation.periodParameterName());
+        launcher.scheduleAtFixedRate(newTask(object, method, "fixed rate " + period + " " + annotation.unit(), false),
+                                     withJitter(initialDelay, annotation.initialDelayJitter()),
+                                     period,
                                      annotation.unit());
     }
 
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.commons.schedule.executor;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class ScheduledTaskTest {
+
+    @Test
+    public void shouldCollectStatisticsOfExecutions() throws Exception {
+        ScheduledTask task = new ScheduledTask("job", "fixed rate 1 SECONDS", () -> {}, false);
+
+        task.run();
+        task.run();
+
+        assertEquals(task.getExecutions(), 2);
+        assertEquals(task.getFailures(), 0);
+        assertEquals(task.getSkipped(), 0);
+        assertTrue(task.getLastStartTime() > 0);
+        assertFalse(task.isRunning());
+    }
+
+    @Test
+    public void shouldCountFailedExecutions() throws Exception {
+        ScheduledTask task = new ScheduledTask("job", "fixed rate 1 SECONDS", () -> {
+            throw new IllegalStateException();
+        }, false);
+
+        try {
+            task.run();
+            fail("Exception of the job must not be swallowed");
+        } catch (IllegalStateException ignored) {
+        }
+
+        assertEquals(task.getExecutions(), 1);
+        assertEquals(task.getFailures(), 1);
+    }
+
+    @Test
+    public void shouldCountFailedMethodInvocationsWithoutCancellingJob() throws Exception {
+        FailingJob job = new FailingJob();
+        ScheduledTask task = new ScheduledTask("job", "fixed rate 1 SECONDS",
+                                               new LoggedRunnable(job, FailingJob.class.getMethod("execute")), false);
+
+        task.run();
+        task.run();
+
+        assertEquals(job.invocations.get(), 2);
+        assertEquals(task.getExecutions(), 2);
+        assertEquals(task.getFailures(), 2);
+    }
+
+    @Test
+    public void shouldSkipExecutionIfPreviousOneIsStillRunning() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger invocations = new AtomicInteger();
+        ScheduledTask task = new ScheduledTask("job", "cron 0/1 * * * * ?", () -> {
+            invocations.incrementAndGet();
+            started.countDown();
+            await(release);
+        }, true);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.execute(task);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            task.run();
+
+            assertEquals(task.getSkipped(), 1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        assertEquals(invocations.get(), 1);
+        assertEquals(task.getExecutions(), 1);
+    }
+
+    @Test
+    public void shouldNotSkipExecutionsByDefault() throws Exception {
+        // both executions must be in progress at the same time to release each other
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ScheduledTask task = new ScheduledTask("job", "cron 0/1 * * * * ?", () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            bothStarted.countDown();
+            await(bothStarted);
+            running.decrementAndGet();
+        }, false);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.execute(task);
+            executor.execute(task);
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        assertEquals(bothStarted.getCount(), 0);
+        assertEquals(maxRunning.get(), 2);
+        assertEquals(task.getExecutions(), 2);
+        assertEquals(task.getSkipped(), 0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static class FailingJob {
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        public void execute() throws Exception {
+            invocations.incrementAndGet();
+            throw new Exception("failure");
+        }
+    }
+}
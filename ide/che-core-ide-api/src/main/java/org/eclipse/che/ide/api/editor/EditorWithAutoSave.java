@@ -23,6 +23,11 @@ public interface EditorWithAutoSave {
      */
     boolean isAutoSaveEnabled();
 
+    /**
+     * Return false if auto save can't be enabled for this editor at all, e.g. the file is saved only on explicit save.
+     */
+    boolean isAutoSaveAllowed();
+
     /**
      * Enable auto save. If editor doesn't support auto save do nothing.
      */
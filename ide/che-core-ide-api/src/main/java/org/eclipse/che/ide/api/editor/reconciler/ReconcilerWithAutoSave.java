@@ -54,6 +54,7 @@ public class ReconcilerWithAutoSave implements Reconciler {
     private DocumentHandle   documentHandle;
     private TextEditor       editor;
     private       boolean autoSaveEnabled = true;
+    private       boolean autoSaveAllowed = true;
     private final Timer   autoSaveTimer   = new Timer() {
 
         @Override
@@ -249,8 +250,25 @@ public class ReconcilerWithAutoSave implements Reconciler {
         autoSaveTimer.cancel();
     }
 
+    /** Enables auto save unless it is {@link #disallowAutoSave() disallowed}. */
     public void enableAutoSave() {
+        if (!autoSaveAllowed) {
+            return;
+        }
         autoSaveEnabled = true;
         autoSaveTimer.schedule(DELAY);
     }
+
+    public boolean isAutoSaveAllowed() {
+        return autoSaveAllowed;
+    }
+
+    /**
+     * Disables auto save for good, it can't be enabled again, e.g. by synchronization of the editors.
+     * Used for the files which are reconciled without being saved, so they are saved only on explicit save.
+     */
+    public void disallowAutoSave() {
+        autoSaveAllowed = false;
+        disableAutoSave();
+    }
 }
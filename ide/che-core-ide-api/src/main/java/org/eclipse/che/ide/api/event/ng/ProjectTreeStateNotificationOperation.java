@@ -21,6 +21,7 @@ import org.eclipse.che.ide.api.app.AppContext;
 import org.eclipse.che.ide.api.resources.Container;
 import org.eclipse.che.ide.api.resources.ExternalResourceDelta;
 import org.eclipse.che.ide.api.resources.File;
+import org.eclipse.che.ide.api.resources.Resource;
 import org.eclipse.che.ide.jsonrpc.JsonRpcException;
 import org.eclipse.che.ide.jsonrpc.JsonRpcRequestBiOperation;
 import org.eclipse.che.ide.jsonrpc.RequestHandlerConfigurator;
@@ -29,6 +30,8 @@ import org.eclipse.che.ide.util.loging.Log;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.eclipse.che.ide.api.resources.ResourceDelta.ADDED;
 import static org.eclipse.che.ide.api.resources.ResourceDelta.REMOVED;
@@ -38,16 +41,23 @@ import static org.eclipse.che.ide.api.resources.ResourceDelta.UPDATED;
  * Receives project tree status notifications from server side. There are three type of notifications
  * for files and directories in a project tree: creation, removal, modification. Each notification is
  * processed and passed further to an instance of workspace {@link Container}.
+ * <p/>
+ * Notifications carry the type of the changed item, so they are applied without reading the project
+ * tree. Notifications are numbered by the server, if some of them are missed the whole workspace
+ * is synchronized instead.
  *
  * @author Dmitry Kuleshov
  */
 @Singleton
 public class ProjectTreeStateNotificationOperation implements JsonRpcRequestBiOperation<ProjectTreeStateUpdateDto> {
-    private final AppContext appContext;
+    private final AppContext        appContext;
+    /** Version of the last received notification by endpoint. */
+    private final Map<String, Long> versions;
 
     @Inject
     public ProjectTreeStateNotificationOperation(AppContext appContext) {
         this.appContext = appContext;
+        this.versions = new HashMap<>();
     }
 
     @Inject
@@ -91,10 +101,38 @@ public class ProjectTreeStateNotificationOperation implements JsonRpcRequestBiOp
 
         Log.debug(getClass(), "Received request\npath: " + path + "\ntype:" + type + "\nstatus:" + status);
 
-        if (path == null || path.isEmpty()) {
+        if (isMissedNotification(endpointId, params.getVersion())) {
+            Log.debug(getClass(), "Project tree notifications are missed, synchronizing the workspace");
+
+            appContext.getWorkspaceRoot().synchronize();
+        } else if (path == null || path.isEmpty()) {
             appContext.getWorkspaceRoot().synchronize();
         } else {
-            appContext.getWorkspaceRoot().synchronize(new ExternalResourceDelta(Path.valueOf(path), Path.valueOf(path), status));
+            appContext.getWorkspaceRoot()
+                      .synchronize(new ExternalResourceDelta(Path.valueOf(path), Path.valueOf(path), status,
+                                                             getResourceType(params.getItemType())));
+        }
+    }
+
+    private boolean isMissedNotification(String endpointId, long version) {
+        if (version == 0) {
+            // server doesn't number notifications
+            return false;
         }
+
+        final Long previous = versions.put(endpointId, version);
+
+        // numbering is started from 1 again when the server forgets the stopped tracking
+        return previous != null && version != 1 && version != previous + 1;
+    }
+
+    private int getResourceType(String itemType) {
+        if ("file".equals(itemType)) {
+            return Resource.FILE;
+        } else if ("folder".equals(itemType)) {
+            return Resource.FOLDER;
+        }
+
+        return 0;
     }
 }
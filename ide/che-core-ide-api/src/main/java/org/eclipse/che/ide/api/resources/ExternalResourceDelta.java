@@ -52,6 +52,7 @@ public class ExternalResourceDelta implements ResourceDelta {
 
     private Path newPath;
     private Path oldPath;
+    private int  resourceType;
 
     protected static int KIND_MASK = 0xF;
     protected int status;
@@ -61,9 +62,22 @@ public class ExternalResourceDelta implements ResourceDelta {
     }
 
     public ExternalResourceDelta(Path newPath, Path oldPath, int status) {
+        this(newPath, oldPath, status, 0);
+    }
+
+    /**
+     * Creates delta with the known type of the changed resource, so resource management is able to apply
+     * the delta without requesting the resource from the server.
+     *
+     * @param resourceType
+     *         {@link Resource#FILE}, {@link Resource#FOLDER} or 0 if the type is unknown
+     * @since 5.11.0
+     */
+    public ExternalResourceDelta(Path newPath, Path oldPath, int status, int resourceType) {
         this.newPath = checkNotNull(newPath);
         this.oldPath = oldPath;
         this.status = status;
+        this.resourceType = resourceType;
     }
 
     /** {@inheritDoc} */
@@ -96,6 +110,16 @@ public class ExternalResourceDelta implements ResourceDelta {
         return null;
     }
 
+    /**
+     * Returns type of the changed resource or 0 if it is unknown.
+     *
+     * @return {@link Resource#FILE}, {@link Resource#FOLDER} or 0
+     * @since 5.11.0
+     */
+    public int getResourceType() {
+        return resourceType;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -103,6 +127,7 @@ public class ExternalResourceDelta implements ResourceDelta {
                "newPath=" + newPath +
                ", oldPath=" + oldPath +
                ", status=" + status +
+               ", resourceType=" + resourceType +
                '}';
     }
 }
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.api.event.ng;
+
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.project.shared.dto.event.ProjectTreeStateUpdateDto;
+import org.eclipse.che.ide.api.app.AppContext;
+import org.eclipse.che.ide.api.resources.Container;
+import org.eclipse.che.ide.api.resources.ExternalResourceDelta;
+import org.eclipse.che.ide.api.resources.Resource;
+import org.eclipse.che.ide.api.resources.ResourceDelta;
+import org.eclipse.che.ide.resource.Path;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests {@link ProjectTreeStateNotificationOperation}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ProjectTreeStateNotificationOperationTest {
+    private static final String ENDPOINT = "endpoint";
+
+    @Mock
+    private AppContext appContext;
+    @Mock
+    private Container  workspaceRoot;
+
+    private ProjectTreeStateNotificationOperation operation;
+
+    @Before
+    public void setUp() throws Exception {
+        when(appContext.getWorkspaceRoot()).thenReturn(workspaceRoot);
+
+        operation = new ProjectTreeStateNotificationOperation(appContext);
+    }
+
+    @Test
+    public void shouldApplyConsecutiveNotificationsAsDeltas() throws Exception {
+        operation.apply(ENDPOINT, newUpdate("/project/src", CREATED, "folder", 1));
+        operation.apply(ENDPOINT, newUpdate("/project/pom.xml", DELETED, null, 2));
+
+        ArgumentCaptor<ResourceDelta> captor = ArgumentCaptor.forClass(ResourceDelta.class);
+        verify(workspaceRoot, times(2)).synchronize(captor.capture());
+        verify(workspaceRoot, never()).synchronize();
+
+        ExternalResourceDelta created = (ExternalResourceDelta)captor.getAllValues().get(0);
+        assertEquals(Path.valueOf("/project/src"), created.getToPath());
+        assertEquals(ResourceDelta.ADDED, created.getKind());
+        assertEquals(Resource.FOLDER, created.getResourceType());
+
+        ExternalResourceDelta removed = (ExternalResourceDelta)captor.getAllValues().get(1);
+        assertEquals(Path.valueOf("/project/pom.xml"), removed.getFromPath());
+        assertEquals(ResourceDelta.REMOVED, removed.getKind());
+    }
+
+    @Test
+    public void shouldSynchronizeWorkspaceWhenNotificationIsMissed() throws Exception {
+        operation.apply(ENDPOINT, newUpdate("/project/src", CREATED, "folder", 1));
+        operation.apply(ENDPOINT, newUpdate("/project/pom.xml", CREATED, "file", 3));
+
+        verify(workspaceRoot, times(1)).synchronize(anyVararg());
+        verify(workspaceRoot).synchronize();
+    }
+
+    @Test
+    public void shouldNotSynchronizeWorkspaceWhenFirstNotificationOfEndpointIsReceived() throws Exception {
+        operation.apply(ENDPOINT, newUpdate("/project/src", CREATED, "folder", 5));
+        operation.apply("another-endpoint", newUpdate("/project/pom.xml", CREATED, "file", 1));
+        operation.apply(ENDPOINT, newUpdate("/project/README.md", CREATED, "file", 6));
+
+        verify(workspaceRoot, times(3)).synchronize(anyVararg());
+        verify(workspaceRoot, never()).synchronize();
+    }
+
+    @Test
+    public void shouldNotSynchronizeWorkspaceWhenNumberingIsRestarted() throws Exception {
+        operation.apply(ENDPOINT, newUpdate("/project/src", CREATED, "folder", 7));
+        operation.apply(ENDPOINT, newUpdate("/project/pom.xml", CREATED, "file", 1));
+
+        verify(workspaceRoot, times(2)).synchronize(anyVararg());
+        verify(workspaceRoot, never()).synchronize();
+    }
+
+    @Test
+    public void shouldNotCheckVersionsOfNotNumberedNotifications() throws Exception {
+        operation.apply(ENDPOINT, newUpdate("/project/src", CREATED, "folder", 0));
+        operation.apply(ENDPOINT, newUpdate("/project/pom.xml", CREATED, "file", 0));
+
+        verify(workspaceRoot, times(2)).synchronize(anyVararg());
+        verify(workspaceRoot, never()).synchronize();
+    }
+
+    private static ProjectTreeStateUpdateDto newUpdate(String path, FileWatcherEventType type, String itemType, long version) {
+        ProjectTreeStateUpdateDto update = mock(ProjectTreeStateUpdateDto.class);
+        when(update.getPath()).thenReturn(path);
+        when(update.getType()).thenReturn(type);
+        when(update.getItemType()).thenReturn(itemType);
+        when(update.getVersion()).thenReturn(version);
+        return update;
+    }
+}
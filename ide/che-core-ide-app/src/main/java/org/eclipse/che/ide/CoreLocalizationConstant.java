@@ -1169,12 +1169,18 @@ public interface CoreLocalizationConstant extends Messages {
     @Key("consoles.clearOutputsButton.tooltip")
     String consolesClearOutputsButtonTooltip();
 
+    @Key("consoles.findButton.tooltip")
+    String consolesFindButtonTooltip();
+
     @Key("consoles.wrapTextButton.tooltip")
     String consolesWrapTextButtonTooltip();
 
     @Key("consoles.autoScrollButton.tooltip")
     String consolesAutoScrollButtonTooltip();
 
+    @Key("consoles.outputTruncated")
+    String consolesOutputTruncated(String count);
+
     @Key("view.processes.command.title")
     String viewProcessesCommandTitle();
 
@@ -13,18 +13,23 @@ package org.eclipse.che.ide.console;
 import com.google.gwt.user.client.ui.AcceptsOneWidget;
 import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
+import com.google.inject.name.Named;
 import com.google.web.bindery.event.shared.EventBus;
 
 import org.eclipse.che.api.core.model.machine.Machine;
 import org.eclipse.che.api.machine.shared.dto.MachineProcessDto;
+import org.eclipse.che.api.machine.shared.dto.execagent.GetProcessLogsResponseDto;
 import org.eclipse.che.api.machine.shared.dto.execagent.ProcessKillResponseDto;
 import org.eclipse.che.api.machine.shared.dto.execagent.ProcessSubscribeResponseDto;
 import org.eclipse.che.api.machine.shared.dto.execagent.event.ProcessDiedEventDto;
 import org.eclipse.che.api.machine.shared.dto.execagent.event.ProcessStartedEventDto;
 import org.eclipse.che.api.machine.shared.dto.execagent.event.ProcessStdErrEventDto;
 import org.eclipse.che.api.machine.shared.dto.execagent.event.ProcessStdOutEventDto;
+import org.eclipse.che.api.promises.client.Function;
+import org.eclipse.che.api.promises.client.FunctionException;
 import org.eclipse.che.api.promises.client.Operation;
 import org.eclipse.che.api.promises.client.OperationException;
+import org.eclipse.che.api.promises.client.Promise;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.ide.api.command.CommandExecutor;
 import org.eclipse.che.ide.api.command.CommandImpl;
@@ -55,6 +60,7 @@ public class CommandOutputConsolePresenter implements CommandOutputConsole, Outp
     private final Machine                 machine;
     private final CommandExecutor         commandExecutor;
     private final ExecAgentCommandManager execAgentCommandManager;
+    private final int                     maxLines;
 
     private int            pid;
     private boolean        finished;
@@ -74,11 +80,13 @@ public class CommandOutputConsolePresenter implements CommandOutputConsole, Outp
                                          MacroProcessor macroProcessor,
                                          EventBus eventBus,
                                          ExecAgentCommandManager execAgentCommandManager,
+                                         @Named("che.ide.console.max_lines") int maxLines,
                                          @Assisted CommandImpl command,
                                          @Assisted Machine machine) {
         this.view = view;
         this.resources = resources;
         this.execAgentCommandManager = execAgentCommandManager;
+        this.maxLines = maxLines;
         this.command = command;
         this.machine = machine;
         this.eventBus = eventBus;
@@ -296,4 +304,34 @@ public class CommandOutputConsolePresenter implements CommandOutputConsole, Outp
         return view.getText();
     }
 
+    /**
+     * Returns <code>true</code> if the oldest lines of the output have been dropped from the console,
+     * so {@link #getText()} doesn't return the whole output.
+     */
+    public boolean isOutputTruncated() {
+        return view.getDroppedLinesCount() > 0;
+    }
+
+    /**
+     * Reads the whole output of the process from the process logs.
+     *
+     * @return
+     *          promise with the output
+     */
+    public Promise<String> getFullText() {
+        long lines = view.getDroppedLinesCount() + maxLines;
+        int limit = (int)Math.min(Integer.MAX_VALUE, lines);
+        return execAgentCommandManager.getProcessLogs(machine.getId(), pid, null, null, limit, 0)
+                                      .then(new Function<List<GetProcessLogsResponseDto>, String>() {
+                                          @Override
+                                          public String apply(List<GetProcessLogsResponseDto> logs) throws FunctionException {
+                                              StringBuilder text = new StringBuilder();
+                                              for (GetProcessLogsResponseDto log : logs) {
+                                                  text.append(log.getText()).append("\r\n");
+                                              }
+                                              return text.toString();
+                                          }
+                                      });
+    }
+
 }
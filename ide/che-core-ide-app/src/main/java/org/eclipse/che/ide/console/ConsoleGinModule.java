@@ -12,14 +12,23 @@ package org.eclipse.che.ide.console;
 
 import com.google.gwt.inject.client.AbstractGinModule;
 import com.google.gwt.inject.client.assistedinject.GinFactoryModuleBuilder;
+import com.google.inject.Provides;
+import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 
 import org.eclipse.che.ide.api.outputconsole.OutputConsole;
+import org.eclipse.che.ide.api.preferences.PreferencesManager;
 
 /**
  * GIN module for configuring command consoles.
  */
 public class ConsoleGinModule extends AbstractGinModule {
+
+    /** Preference which limits the number of lines kept by a console. */
+    public static final String MAX_LINES_PREFERENCE = "che.ide.console.max_lines";
+
+    private static final int DEFAULT_MAX_LINES = 10000;
+
     @Override
     protected void configure() {
         bind(OutputConsoleView.class).to(OutputConsoleViewImpl.class);
@@ -28,4 +37,21 @@ public class ConsoleGinModule extends AbstractGinModule {
                         .implement(OutputConsole.class, Names.named("default"), DefaultOutputConsole.class)
                         .build(CommandConsoleFactory.class));
     }
+
+    /** Provides the max number of lines kept by a console, it may be changed with the user preference. */
+    @Provides
+    @Named(MAX_LINES_PREFERENCE)
+    protected int provideMaxLines(PreferencesManager preferencesManager) {
+        final String value = preferencesManager.getValue(MAX_LINES_PREFERENCE);
+        if (value != null) {
+            try {
+                final int maxLines = Integer.parseInt(value.trim());
+                if (maxLines > 0) {
+                    return maxLines;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return DEFAULT_MAX_LINES;
+    }
 }
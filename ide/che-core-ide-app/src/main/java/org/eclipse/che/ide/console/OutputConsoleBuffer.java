@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.console;
+
+/**
+ * Bounded buffer of the console lines.
+ * <p/>
+ * When the buffer is full the oldest lines are dropped, so memory used by the console doesn't grow
+ * with the output of long running commands. Number of the dropped lines is kept, so the rest of the
+ * output may be requested from the process logs.
+ */
+class OutputConsoleBuffer {
+    private final String[] lines;
+    private final String[] colors;
+
+    private int  start;
+    private int  size;
+    private long dropped;
+
+    OutputConsoleBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.lines = new String[capacity];
+        this.colors = new String[capacity];
+    }
+
+    /** Adds line to the end of the buffer, the oldest line is dropped if the buffer is full. */
+    void add(String line, String color) {
+        int index;
+        if (size == lines.length) {
+            index = start;
+            start = (start + 1) % lines.length;
+            dropped++;
+        } else {
+            index = (start + size) % lines.length;
+            size++;
+        }
+        lines[index] = line;
+        colors[index] = color;
+    }
+
+    /** Replaces the last line, e.g. when the previous line ends with carriage return. */
+    void replaceLast(String line, String color) {
+        if (size == 0) {
+            add(line, color);
+            return;
+        }
+        int index = (start + size - 1) % lines.length;
+        lines[index] = line;
+        colors[index] = color;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return lines.length;
+    }
+
+    /** Returns number of the lines dropped from the buffer since it was cleared. */
+    long getDropped() {
+        return dropped;
+    }
+
+    String getLine(int index) {
+        return lines[toArrayIndex(index)];
+    }
+
+    String getColor(int index) {
+        return colors[toArrayIndex(index)];
+    }
+
+    /**
+     * Finds the line which contains the given text ignoring case.
+     *
+     * @param text
+     *         text to search for
+     * @param from
+     *         index of the line to start search from
+     * @param forward
+     *         search direction
+     * @return index of the found line or -1 if there is no such line
+     */
+    int find(String text, int from, boolean forward) {
+        if (text == null || text.isEmpty() || size == 0) {
+            return -1;
+        }
+        String query = text.toLowerCase();
+        int step = forward ? 1 : -1;
+        for (int i = Math.max(0, Math.min(from, size - 1)); i >= 0 && i < size; i += step) {
+            String line = lines[toArrayIndex(i)];
+            if (line != null && line.toLowerCase().contains(query)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Returns all the lines of the buffer separated with CRLF. */
+    String getText() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            text.append(getLine(i)).append("\r\n");
+        }
+        return text.toString();
+    }
+
+    void clear() {
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = null;
+            colors[i] = null;
+        }
+        start = 0;
+        size = 0;
+        dropped = 0;
+    }
+
+    private int toArrayIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return (start + index) % lines.length;
+    }
+}
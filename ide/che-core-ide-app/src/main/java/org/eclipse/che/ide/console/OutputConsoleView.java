@@ -67,6 +67,15 @@ public interface OutputConsoleView extends View<OutputConsoleView.ActionDelegate
      */
     String getText();
 
+    /**
+     * Returns number of the oldest lines which have been dropped from the console to keep its size bounded.
+     * Such lines are not included into {@link #getText()}.
+     *
+     * @return
+     *         number of the dropped lines
+     */
+    long getDroppedLinesCount();
+
     /**
      * Hides command title and command label.
      */
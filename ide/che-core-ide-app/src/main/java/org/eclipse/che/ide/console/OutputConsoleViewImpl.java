@@ -11,30 +11,35 @@
 package org.eclipse.che.ide.console;
 
 import com.google.common.base.Strings;
+import com.google.gwt.animation.client.AnimationScheduler;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
-import com.google.gwt.dom.client.Node;
-import com.google.gwt.dom.client.NodeList;
-import com.google.gwt.dom.client.PreElement;
+import com.google.gwt.dom.client.Style;
 import com.google.gwt.event.dom.client.ClickEvent;
 import com.google.gwt.event.dom.client.ClickHandler;
+import com.google.gwt.event.dom.client.KeyCodes;
+import com.google.gwt.event.dom.client.KeyDownEvent;
+import com.google.gwt.event.dom.client.KeyDownHandler;
 import com.google.gwt.event.dom.client.ScrollEvent;
 import com.google.gwt.event.dom.client.ScrollHandler;
 import com.google.gwt.regexp.shared.MatchResult;
 import com.google.gwt.regexp.shared.RegExp;
-import com.google.gwt.safehtml.shared.SafeHtml;
+import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 import com.google.gwt.uibinder.client.UiBinder;
 import com.google.gwt.uibinder.client.UiField;
-import com.google.gwt.user.client.DOM;
+import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.ui.Anchor;
 import com.google.gwt.user.client.ui.Composite;
 import com.google.gwt.user.client.ui.DockLayoutPanel;
 import com.google.gwt.user.client.ui.FlowPanel;
 import com.google.gwt.user.client.ui.Label;
 import com.google.gwt.user.client.ui.ScrollPanel;
+import com.google.gwt.user.client.ui.TextBox;
 import com.google.gwt.user.client.ui.Widget;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 
 import org.eclipse.che.ide.CoreLocalizationConstant;
 import org.eclipse.che.ide.FontAwesome;
@@ -52,6 +57,10 @@ import static org.eclipse.che.ide.ui.menu.PositionController.VerticalAlign.BOTTO
 
 /**
  * View representation of output console.
+ * <p/>
+ * Printed lines are kept in the bounded {@link OutputConsoleBuffer} and only the lines which are
+ * visible in the scroll area are rendered. Rendering is performed at most once per animation frame,
+ * no matter how many lines have been printed in between.
  *
  * @author Artem Zatsarynnyi
  * @author Vitaliy Guliy
@@ -69,6 +78,12 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
 
     private static final OutputConsoleViewUiBinder UI_BINDER = GWT.create(OutputConsoleViewUiBinder.class);
 
+    /** Number of the lines rendered above and below the visible area to make scrolling smooth. */
+    private static final int OVERSCAN_LINES = 20;
+
+    /** Height of the line used until the real one is measured, see <code>consoleLineHeight</code> in style.css. */
+    private static final int DEFAULT_LINE_HEIGHT = 13;
+
     private ActionDelegate delegate;
 
     @UiField
@@ -92,6 +107,9 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
     @UiField
     FlowPanel consoleLines;
 
+    @UiField
+    FlowPanel visibleLines;
+
     @UiField
     Anchor previewUrlLabel;
 
@@ -107,6 +125,12 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
     @UiField
     FlowPanel downloadOutputsButton;
 
+    @UiField
+    FlowPanel findButton;
+
+    @UiField
+    TextBox findBox;
+
     @UiField
     FlowPanel wrapTextButton;
 
@@ -122,15 +146,49 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
     /** Scroll to the bottom immediately when view become visible. */
     private boolean followScheduled = false;
 
+    private final OutputConsoleBuffer      buffer;
+    private final CoreLocalizationConstant localization;
+
+    /**
+     * Whether the lines are wrapped. Wrapped lines have different heights, so all of them are rendered,
+     * but the rows are updated incrementally: rows of the new lines are appended, rows of the dropped lines are removed.
+     */
+    private boolean wrap;
+
+    /** Lines are numbered from the start of the output, so the numbers are not changed when the oldest lines are dropped. */
+    private long renderedFrom;
+    private long renderedTo;
+
+    /** Number of the first line replaced since the last rendering or -1. */
+    private long firstReplacedLine = -1;
+
+    /** All the rows are rendered again on the next rendering in the wrap mode. */
+    private boolean rerenderRequired = true;
+
+    /** Rendering is requested for the next animation frame. */
+    private boolean renderScheduled;
+
+    /** Height of the line in pixels, it is measured when the view becomes visible. */
+    private int     lineHeight = DEFAULT_LINE_HEIGHT;
+    private boolean lineHeightMeasured;
+
+    /** Number of the line found by the last search or -1. */
+    private long highlightedLine = -1;
+
     @Inject
     public OutputConsoleViewImpl(MachineResources resources,
-                                 CoreLocalizationConstant localization) {
+                                 CoreLocalizationConstant localization,
+                                 @Named("che.ide.console.max_lines") int maxLines) {
+        this.localization = localization;
+        this.buffer = new OutputConsoleBuffer(maxLines);
+
         initWidget(UI_BINDER.createAndBindUi(this));
 
         reRunProcessButton.add(new SVGImage(resources.reRunIcon()));
         stopProcessButton.add(new SVGImage(resources.stopIcon()));
         clearOutputsButton.add(new SVGImage(resources.clearOutputsIcon()));
         downloadOutputsButton.getElement().setInnerHTML(FontAwesome.DOWNLOAD);
+        findButton.getElement().setInnerHTML(FontAwesome.SEARCH);
 
         wrapTextButton.add(new SVGImage(resources.lineWrapIcon()));
         scrollToBottomButton.add(new SVGImage(resources.scrollToBottomIcon()));
@@ -173,6 +231,34 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
             }
         }, ClickEvent.getType());
 
+        findButton.addDomHandler(new ClickHandler() {
+            @Override
+            public void onClick(ClickEvent event) {
+                findBox.setVisible(!findBox.isVisible());
+                if (findBox.isVisible()) {
+                    findBox.selectAll();
+                    findBox.setFocus(true);
+                }
+            }
+        }, ClickEvent.getType());
+
+        findBox.addKeyDownHandler(new KeyDownHandler() {
+            @Override
+            public void onKeyDown(KeyDownEvent event) {
+                if (event.getNativeKeyCode() == KeyCodes.KEY_ENTER) {
+                    event.preventDefault();
+                    // Enter finds the next line, Shift+Enter the previous one
+                    if (find(findBox.getValue(), !event.isShiftKeyDown())) {
+                        findBox.getElement().removeAttribute("notFound");
+                    } else {
+                        findBox.getElement().setAttribute("notFound", "");
+                    }
+                } else if (event.getNativeKeyCode() == KeyCodes.KEY_ESCAPE) {
+                    findBox.setVisible(false);
+                }
+            }
+        });
+
         wrapTextButton.addDomHandler(new ClickHandler() {
             @Override
             public void onClick(ClickEvent clickEvent) {
@@ -206,6 +292,11 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
                        MIDDLE,
                        localization.consolesClearOutputsButtonTooltip());
 
+        Tooltip.create((elemental.dom.Element)findButton.getElement(),
+                       BOTTOM,
+                       MIDDLE,
+                       localization.consolesFindButtonTooltip());
+
         Tooltip.create((elemental.dom.Element)wrapTextButton.getElement(),
                        BOTTOM,
                        MIDDLE,
@@ -234,22 +325,29 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
 
     @Override
     public void wrapText(boolean wrap) {
+        this.wrap = wrap;
+        rerenderRequired = true;
         if (wrap) {
             consoleLines.getElement().setAttribute("wrap", "");
         } else {
             consoleLines.getElement().removeAttribute("wrap");
         }
+        scheduleRender();
     }
 
     @Override
     public void enableAutoScroll(boolean enable) {
         followOutput = enable;
-        followOutput();
+        render();
     }
 
     @Override
     public void clearConsole() {
-        consoleLines.getElement().setInnerHTML("");
+        buffer.clear();
+        carriageReturn = false;
+        highlightedLine = -1;
+        rerenderRequired = true;
+        render();
     }
 
     @Override
@@ -318,59 +416,73 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
     }
 
     @Override
-    public void print(final String text, boolean carriageReturn, String color) {
+    public void print(String text, boolean carriageReturn, String color) {
         if (this.carriageReturn) {
-            Node lastChild = consoleLines.getElement().getLastChild();
-            if (lastChild != null) {
-                lastChild.removeFromParent();
+            buffer.replaceLast(text, color);
+            long replaced = buffer.getDropped() + buffer.size() - 1;
+            if (firstReplacedLine == -1 || replaced < firstReplacedLine) {
+                firstReplacedLine = replaced;
             }
+        } else {
+            buffer.add(text, color);
         }
 
         this.carriageReturn = carriageReturn;
 
-        final SafeHtml colorOutput = new SafeHtml() {
-            @Override
-            public String asString() {
-
-                if (Strings.isNullOrEmpty(text)) {
-                    return " ";
-                }
-
-                for (final Pair<RegExp, String> pair : output2Color) {
-                    final MatchResult matcher = pair.first.exec(text);
-
-                    if (matcher != null) {
-                        return text.replaceAll(matcher.getGroup(1),
-                                               "<span style=\"color: " + pair.second + "\">" + matcher.getGroup(1) + "</span>");
-                    }
-                }
-
-                return text;
-            }
-        };
-
-        PreElement pre = DOM.createElement("pre").cast();
-        pre.setInnerSafeHtml(colorOutput);
-        if (color != null) {
-            pre.getStyle().setColor(color);
-        }
-        consoleLines.getElement().appendChild(pre);
-
-        followOutput();
+        scheduleRender();
     }
 
     @Override
     public String getText() {
-        String text = "";
-        NodeList<Node> nodes = consoleLines.getElement().getChildNodes();
+        return buffer.getText();
+    }
+
+    @Override
+    public long getDroppedLinesCount() {
+        return buffer.getDropped();
+    }
 
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Node node = nodes.getItem(i);
-            Element element = node.cast();
-            text += element.getInnerText() + "\r\n";
+    /**
+     * Finds the next line which contains the given text ignoring case, highlights it and scrolls the console to it.
+     *
+     * @return <code>true</code> if the line is found
+     */
+    private boolean find(String text, boolean forward) {
+        long current = highlightedLine - buffer.getDropped();
+        int from;
+        if (highlightedLine == -1 || current < 0) {
+            // nothing is found yet or the found line is already dropped
+            from = forward ? 0 : buffer.size() - 1;
+        } else {
+            from = (int)current + (forward ? 1 : -1);
+        }
+        int found = buffer.find(text, from, forward);
+        if (found == -1) {
+            return false;
         }
 
-        return text;
+        long previous = highlightedLine;
+        highlightedLine = buffer.getDropped() + found;
+        followOutput = false;
+        if (delegate != null) {
+            delegate.onOutputScrolled(false);
+        }
+        if (!wrap) {
+            scrollPanel.setVerticalScrollPosition(getRowOf(found) * lineHeight);
+            render();
+        } else {
+            render();
+            Element previousRow = getRenderedRow(previous);
+            if (previousRow != null) {
+                previousRow.removeAttribute("highlighted");
+            }
+            Element row = getRenderedRow(highlightedLine);
+            if (row != null) {
+                row.setAttribute("highlighted", "");
+                row.scrollIntoView();
+            }
+        }
+        return true;
     }
 
     @Override
@@ -395,6 +507,201 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
         if (delegate != null) {
             delegate.onOutputScrolled(followOutput);
         }
+
+        if (!wrap) {
+            scheduleRender();
+        }
+    }
+
+    /** Requests rendering of the visible lines in the next animation frame. */
+    private void scheduleRender() {
+        if (renderScheduled) {
+            return;
+        }
+        renderScheduled = true;
+        AnimationScheduler.get().requestAnimationFrame(new AnimationScheduler.AnimationCallback() {
+            @Override
+            public void execute(double timestamp) {
+                render();
+            }
+        });
+    }
+
+    /**
+     * Renders the visible lines.
+     * <p/>
+     * The container of the lines gets the height of all the buffered lines, so the scroll bar
+     * reflects the whole output, while the rendered lines are shifted to the visible area.
+     */
+    private void render() {
+        renderScheduled = false;
+
+        if (wrap) {
+            renderWrapped();
+            followOutput();
+            return;
+        }
+
+        int rows = buffer.size() + getNoticeRows();
+        int viewportHeight = scrollPanel.getElement().getClientHeight();
+        if (viewportHeight == 0) {
+            // view is not visible yet, render enough lines to fill the window
+            viewportHeight = Window.getClientHeight();
+        }
+        int scrollTop = followOutput ? Math.max(0, rows * lineHeight - viewportHeight) : scrollPanel.getVerticalScrollPosition();
+
+        int first = Math.max(0, scrollTop / lineHeight - OVERSCAN_LINES);
+        int last = Math.min(rows, (scrollTop + viewportHeight) / lineHeight + 1 + OVERSCAN_LINES);
+
+        consoleLines.getElement().getStyle().setHeight(rows * lineHeight, Style.Unit.PX);
+        visibleLines.getElement().getStyle().setTop(first * lineHeight, Style.Unit.PX);
+
+        StringBuilder html = new StringBuilder();
+        for (int row = first; row < last; row++) {
+            if (row < getNoticeRows()) {
+                html.append("<pre notice>").append(SafeHtmlUtils.htmlEscape(getNoticeText())).append("</pre>");
+            } else {
+                appendRow(html, row - getNoticeRows());
+            }
+        }
+        visibleLines.getElement().setInnerHTML(html.toString());
+
+        if (!lineHeightMeasured && visibleLines.getElement().getFirstChildElement() != null) {
+            int measured = visibleLines.getElement().getFirstChildElement().getOffsetHeight();
+            if (measured > 0) {
+                lineHeightMeasured = true;
+                if (measured != lineHeight) {
+                    lineHeight = measured;
+                    scheduleRender();
+                }
+            }
+        }
+
+        followOutput();
+    }
+
+    /**
+     * Updates the rows of all the buffered lines, only the rows of the lines which are printed,
+     * replaced or dropped since the last rendering are touched.
+     */
+    private void renderWrapped() {
+        Element container = visibleLines.getElement();
+        long first = buffer.getDropped();
+        long end = first + buffer.size();
+
+        if (rerenderRequired || renderedTo <= first) {
+            consoleLines.getElement().getStyle().clearHeight();
+            visibleLines.getElement().getStyle().clearTop();
+            container.setInnerHTML("");
+            renderedFrom = first;
+            renderedTo = first;
+            firstReplacedLine = -1;
+            rerenderRequired = false;
+        }
+
+        // rows of the dropped lines
+        for (; renderedFrom < first; renderedFrom++) {
+            Element row = container.getFirstChildElement();
+            if (row != null && row.hasAttribute("notice")) {
+                row = row.getNextSiblingElement();
+            }
+            if (row != null) {
+                row.removeFromParent();
+            }
+        }
+
+        // rows of the replaced lines are rendered again
+        if (firstReplacedLine != -1) {
+            for (; renderedTo > Math.max(firstReplacedLine, renderedFrom); renderedTo--) {
+                container.getLastChild().removeFromParent();
+            }
+            firstReplacedLine = -1;
+        }
+
+        if (renderedTo < end) {
+            StringBuilder html = new StringBuilder();
+            for (long line = renderedTo; line < end; line++) {
+                appendRow(html, (int)(line - first));
+            }
+            Element rows = Document.get().createDivElement();
+            rows.setInnerHTML(html.toString());
+            while (rows.getFirstChild() != null) {
+                container.appendChild(rows.getFirstChild());
+            }
+            renderedTo = end;
+        }
+
+        Element notice = container.getFirstChildElement();
+        boolean hasNotice = notice != null && notice.hasAttribute("notice");
+        if (buffer.getDropped() == 0) {
+            if (hasNotice) {
+                notice.removeFromParent();
+            }
+        } else {
+            if (!hasNotice) {
+                notice = Document.get().createPreElement();
+                notice.setAttribute("notice", "");
+                container.insertFirst(notice);
+            }
+            notice.setInnerText(getNoticeText());
+        }
+    }
+
+    /** Appends the row of the line with the given index in the buffer. */
+    private void appendRow(StringBuilder html, int index) {
+        long line = buffer.getDropped() + index;
+        html.append("<pre line=\"").append(line).append('"');
+        if (line == highlightedLine) {
+            html.append(" highlighted");
+        }
+        String color = buffer.getColor(index);
+        if (color != null) {
+            html.append(" style=\"color: ").append(SafeHtmlUtils.htmlEscape(color)).append('"');
+        }
+        html.append('>').append(colorize(buffer.getLine(index))).append("</pre>");
+    }
+
+    private String getNoticeText() {
+        return localization.consolesOutputTruncated(String.valueOf(buffer.getDropped()));
+    }
+
+    /** Returns number of the rows used to notify about the dropped lines. */
+    private int getNoticeRows() {
+        return buffer.getDropped() > 0 ? 1 : 0;
+    }
+
+    private int getRowOf(int line) {
+        return line + getNoticeRows();
+    }
+
+    private Element getRenderedRow(long line) {
+        Element row = visibleLines.getElement().getFirstChildElement();
+        String index = String.valueOf(line);
+        while (row != null) {
+            if (index.equals(row.getAttribute("line"))) {
+                return row;
+            }
+            row = row.getNextSiblingElement();
+        }
+        return null;
+    }
+
+    /** Highlights the known kinds of the output, e.g. <code>[ERROR]</code>. */
+    private String colorize(String text) {
+        if (Strings.isNullOrEmpty(text)) {
+            return " ";
+        }
+
+        for (final Pair<RegExp, String> pair : output2Color) {
+            final MatchResult matcher = pair.first.exec(text);
+
+            if (matcher != null) {
+                return text.replaceAll(matcher.getGroup(1),
+                                       "<span style=\"color: " + pair.second + "\">" + matcher.getGroup(1) + "</span>");
+            }
+        }
+
+        return text;
     }
 
     /**
@@ -425,8 +732,7 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
                     }
 
                     if (scrollPanel.getElement().getOffsetParent() != null) {
-                        scrollPanel.scrollToBottom();
-                        scrollPanel.scrollToLeft();
+                        scheduleRender();
                         followScheduled = false;
                         return false;
                     }
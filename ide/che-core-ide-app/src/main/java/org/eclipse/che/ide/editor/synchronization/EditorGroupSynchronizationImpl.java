@@ -210,7 +210,9 @@ public class EditorGroupSynchronizationImpl implements EditorGroupSynchronizatio
 
         EditorWithAutoSave editorWithAutoSave = (EditorWithAutoSave)editor;
         if (editorWithAutoSave == groupLeaderEditor) {
-            editorWithAutoSave.enableAutoSave();
+            if (editorWithAutoSave.isAutoSaveAllowed()) {
+                editorWithAutoSave.enableAutoSave();
+            }
             return;
         }
 
@@ -1363,10 +1363,31 @@ public class ProcessesPanelPresenter extends BasePresenter implements ProcessesP
     public void onDownloadOutput(OutputConsole console) {
         String id = consoleCommands.get(console);
 
-        String fileName = appContext.getWorkspace().getNamespace() + "-" + appContext.getWorkspace().getConfig().getName() +
-                          " " + DateTimeFormat.getFormat("yyyy-MM-dd HH:mm:ss").format(new Date()) +
-                          ".log";
-        download(fileName, getText(id));
+        final String fileName = appContext.getWorkspace().getNamespace() + "-" + appContext.getWorkspace().getConfig().getName() +
+                                " " + DateTimeFormat.getFormat("yyyy-MM-dd HH:mm:ss").format(new Date()) +
+                                ".log";
+        final String text = getText(id);
+
+        if (console instanceof CommandOutputConsolePresenter && ((CommandOutputConsolePresenter)console).isOutputTruncated()) {
+            // console keeps only the last lines of the output, get the whole one from the process logs
+            ((CommandOutputConsolePresenter)console).getFullText()
+                                                     .then(new Operation<String>() {
+                                                         @Override
+                                                         public void apply(String fullText) throws OperationException {
+                                                             download(fileName, fullText);
+                                                         }
+                                                     })
+                                                     .catchError(new Operation<PromiseError>() {
+                                                         @Override
+                                                         public void apply(PromiseError error) throws OperationException {
+                                                             Log.error(getClass(), "Unable to get the process logs. " + error.getMessage());
+                                                             download(fileName, text);
+                                                         }
+                                                     });
+            return;
+        }
+
+        download(fileName, text);
     }
 
     /**
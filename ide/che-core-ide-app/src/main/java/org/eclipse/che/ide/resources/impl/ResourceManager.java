@@ -12,6 +12,7 @@ package org.eclipse.che.ide.resources.impl;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Optional;
+import com.google.gwt.http.client.URL;
 import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
 import com.google.web.bindery.event.shared.EventBus;
@@ -31,6 +32,7 @@ import org.eclipse.che.api.workspace.shared.dto.NewProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.ProjectProblemDto;
 import org.eclipse.che.api.workspace.shared.dto.SourceStorageDto;
+import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.ide.api.app.AppContext;
 import org.eclipse.che.ide.api.editor.EditorAgent;
 import org.eclipse.che.ide.api.editor.EditorPartPresenter;
@@ -42,6 +44,7 @@ import org.eclipse.che.ide.api.project.ProjectServiceClient;
 import org.eclipse.che.ide.api.project.QueryExpression;
 import org.eclipse.che.ide.api.project.type.ProjectTypeRegistry;
 import org.eclipse.che.ide.api.resources.Container;
+import org.eclipse.che.ide.api.resources.ExternalResourceDelta;
 import org.eclipse.che.ide.api.resources.File;
 import org.eclipse.che.ide.api.resources.Folder;
 import org.eclipse.che.ide.api.resources.Project;
@@ -1004,6 +1007,11 @@ public final class ResourceManager {
         final Optional<Resource> toRemove = store.getResource(delta.getFromPath());
         store.dispose(delta.getFromPath(), true);
 
+        final int resourceType = getResourceType(delta);
+        if (resourceType != 0 && delta.getToPath().segmentCount() > 1) {
+            return addExternalResource(delta.getToPath(), resourceType, toRemove.orNull());
+        }
+
         return findResourceForExternalOperation(delta.getToPath(), true).thenPromise(resource -> {
 
             if (resource.isPresent() && toRemove.isPresent()) {
@@ -1040,6 +1048,11 @@ public final class ResourceManager {
             });
         }
 
+        final int resourceType = getResourceType(delta);
+        if (resourceType != 0) {
+            return addExternalResource(delta.getToPath(), resourceType, null);
+        }
+
         return findResourceForExternalOperation(delta.getToPath(), true).thenPromise(resource -> {
             if (resource.isPresent()) {
                 Resource intercepted = resource.get();
@@ -1055,6 +1068,61 @@ public final class ResourceManager {
         });
     }
 
+    /**
+     * Registers the resource of the known type without requesting it from the server.
+     * <p/>
+     * Nothing is requested if the parent container isn't loaded, the resource will be loaded together with
+     * the parent. If the parent is loaded but its children aren't, they are loaded all at once.
+     *
+     * @param path
+     *         location of the added resource
+     * @param resourceType
+     *         {@link Resource#FILE} or {@link Resource#FOLDER}
+     * @param movedFrom
+     *         the resource which has been moved to the given location or {@code null}
+     */
+    private Promise<Void> addExternalResource(final Path path, int resourceType, @Nullable final Resource movedFrom) {
+        final Optional<Resource> parent = store.getResource(path.parent());
+        final Optional<Resource[]> siblings = store.get(path.parent());
+
+        if (!parent.isPresent() || !(parent.get() instanceof Container) || !siblings.isPresent() || siblings.get().length == 0) {
+            if (movedFrom != null) {
+                eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(movedFrom, REMOVED | DERIVED)));
+            }
+
+            if (parent.isPresent() && parent.get() instanceof Container) {
+                return getRemoteResources((Container)parent.get(), DEPTH_ONE, true).then((Function<Resource[], Void>)ignored -> null);
+            }
+
+            return promises.resolve(null);
+        }
+
+        if (store.getResource(path).isPresent()) {
+            // resource has been already registered, e.g. it is created by the client itself
+            return promises.resolve(null);
+        }
+
+        final Resource resource = resourceType == FILE ? resourceFactory.newFileImpl(path, getContentUrl(path), this)
+                                                       : resourceFactory.newFolderImpl(path, this);
+        store.register(resource);
+
+        if (movedFrom != null) {
+            eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource, movedFrom, ADDED | MOVED_FROM | MOVED_TO | DERIVED)));
+        } else {
+            eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource, ADDED | DERIVED)));
+        }
+
+        return promises.resolve(null);
+    }
+
+    private int getResourceType(ResourceDelta delta) {
+        return delta instanceof ExternalResourceDelta ? ((ExternalResourceDelta)delta).getResourceType() : 0;
+    }
+
+    private String getContentUrl(Path path) {
+        return devMachine.getWsAgentBaseUrl() + "/project/file" + URL.encode(path.toString());
+    }
+
     private Promise<Void> onExternalDeltaUpdated(final ResourceDelta delta) {
         if (delta.getToPath().segmentCount() == 0) {
             workspaceRoot.synchronize();
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.console;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class OutputConsoleBufferTest {
+
+    @Test
+    public void shouldDropOldestLinesWhenBufferIsFull() throws Exception {
+        OutputConsoleBuffer buffer = new OutputConsoleBuffer(3);
+
+        for (int i = 0; i < 5; i++) {
+            buffer.add("line" + i, null);
+        }
+
+        assertEquals(3, buffer.size());
+        assertEquals(2, buffer.getDropped());
+        assertEquals("line2", buffer.getLine(0));
+        assertEquals("line4", buffer.getLine(2));
+        assertEquals("line2\r\nline3\r\nline4\r\n", buffer.getText());
+    }
+
+    @Test
+    public void shouldReplaceLastLine() throws Exception {
+        OutputConsoleBuffer buffer = new OutputConsoleBuffer(2);
+        buffer.add("first", null);
+        buffer.add("progress 10%", null);
+
+        buffer.replaceLast("progress 20%", "red");
+
+        assertEquals(2, buffer.size());
+        assertEquals("progress 20%", buffer.getLine(1));
+        assertEquals("red", buffer.getColor(1));
+        assertNull(buffer.getColor(0));
+    }
+
+    @Test
+    public void shouldFindLinesInBothDirectionsIgnoringCase() throws Exception {
+        OutputConsoleBuffer buffer = new OutputConsoleBuffer(2);
+        buffer.add("[ERROR] dropped", null);
+        buffer.add("[INFO] build", null);
+        buffer.add("[ERROR] compilation failure", null);
+        buffer.add("[INFO] done", null);
+
+        assertEquals(0, buffer.find("error", 0, true));
+        assertEquals(-1, buffer.find("error", 1, true));
+        assertEquals(0, buffer.find("ERROR", 1, false));
+        assertEquals(-1, buffer.find("dropped", 0, true));
+    }
+
+    @Test
+    public void shouldResetDroppedLinesOnClear() throws Exception {
+        OutputConsoleBuffer buffer = new OutputConsoleBuffer(1);
+        buffer.add("a", null);
+        buffer.add("b", null);
+
+        buffer.clear();
+
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.getDropped());
+        assertEquals("", buffer.getText());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldNotReturnLineOutOfBuffer() throws Exception {
+        OutputConsoleBuffer buffer = new OutputConsoleBuffer(2);
+        buffer.add("a", null);
+
+        buffer.getLine(1);
+    }
+}
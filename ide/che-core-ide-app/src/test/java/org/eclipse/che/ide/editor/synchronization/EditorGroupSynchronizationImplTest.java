@@ -79,6 +79,9 @@ public class EditorGroupSynchronizationImplTest {
 
         when(((EditorWithAutoSave)openedEditor1).isAutoSaveEnabled()).thenReturn(true);
         when(((EditorWithAutoSave)openedEditor2).isAutoSaveEnabled()).thenReturn(true);
+        when(((EditorWithAutoSave)activeEditor).isAutoSaveAllowed()).thenReturn(true);
+        when(((EditorWithAutoSave)openedEditor1).isAutoSaveAllowed()).thenReturn(true);
+        when(((EditorWithAutoSave)openedEditor2).isAutoSaveAllowed()).thenReturn(true);
 
         when(editorAgent.getActiveEditor()).thenReturn(activeEditor);
         when(document.getDocumentHandle()).thenReturn(documentHandle);
@@ -164,4 +167,15 @@ public class EditorGroupSynchronizationImplTest {
         verify(((EditorWithAutoSave)openedEditor1)).disableAutoSave();
         verify(((EditorWithAutoSave)openedEditor2)).disableAutoSave();
     }
+
+    @Test
+    public void shouldNotEnableAutoSaveForActiveEditorIfItIsNotAllowed() {
+        EditorPartPresenter editor = mock(EditorPartPresenter.class, withSettings().extraInterfaces(TextEditor.class, EditorWithAutoSave.class));
+        when(((TextEditor)editor).getDocument()).thenReturn(document);
+        editorGroupSynchronization.addEditor(editor);
+
+        editorGroupSynchronization.onActiveEditorChanged(editor);
+
+        verify(((EditorWithAutoSave)editor), never()).enableAutoSave();
+    }
 }
@@ -896,6 +896,12 @@ public class OrionEditorPresenter extends AbstractEditorPresenter implements Tex
         return autoSave != null && autoSave.isAutoSaveEnabled();
     }
 
+    @Override
+    public boolean isAutoSaveAllowed() {
+        ReconcilerWithAutoSave autoSave = getAutoSave();
+        return autoSave != null && autoSave.isAutoSaveAllowed();
+    }
+
     private ReconcilerWithAutoSave getAutoSave() {
         Reconciler reconciler = getConfiguration().getReconciler();
 
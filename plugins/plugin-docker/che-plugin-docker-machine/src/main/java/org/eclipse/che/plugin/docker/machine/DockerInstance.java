@@ -31,7 +31,6 @@ import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.DockerConnectorProvider;
 import org.eclipse.che.plugin.docker.client.Exec;
 import org.eclipse.che.plugin.docker.client.LogMessage;
-import org.eclipse.che.plugin.docker.client.ProgressLineFormatterImpl;
 import org.eclipse.che.plugin.docker.client.params.CommitParams;
 import org.eclipse.che.plugin.docker.client.params.CreateExecParams;
 import org.eclipse.che.plugin.docker.client.params.GetResourceParams;
@@ -213,17 +212,17 @@ public class DockerInstance extends AbstractInstance {
                                               .withTag(LATEST_TAG);
 
             final String fullRepo = pushParams.getFullRepo();
+            final SnapshotPushProgressMonitor progressMonitor = new SnapshotPushProgressMonitor(outputConsumer);
+            final long startTime = System.currentTimeMillis();
+            progressMonitor.writeLine("[DOCKER] Saving snapshot of the machine");
             commitContainer(fullRepo, LATEST_TAG);
             //TODO fix this workaround. Docker image is not visible after commit when using swarm
             Thread.sleep(2000);
-            final ProgressLineFormatterImpl lineFormatter = new ProgressLineFormatterImpl();
-            final String digest = docker.push(pushParams,
-                                              progressMonitor -> {
-                                                  try {
-                                                      outputConsumer.writeLine(lineFormatter.format(progressMonitor));
-                                                  } catch (IOException ignored) {
-                                                  }
-                                              });
+            final String digest = docker.push(pushParams, progressMonitor);
+            progressMonitor.writeLine(format("[DOCKER] Snapshot is pushed to the registry in %d s, %d of %d layers were already there",
+                                             (System.currentTimeMillis() - startTime) / 1000,
+                                             progressMonitor.getReusedLayers(),
+                                             progressMonitor.getLayers()));
             docker.removeImage(RemoveImageParams.create(fullRepo).withForce(false));
             return new DockerMachineSource(image).withRegistry(registry).withDigest(digest).withTag(LATEST_TAG);
         } catch (IOException ioEx) {
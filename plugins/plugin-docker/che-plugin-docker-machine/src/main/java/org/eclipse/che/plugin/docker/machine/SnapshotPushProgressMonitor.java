@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import org.eclipse.che.api.core.util.LineConsumer;
+import org.eclipse.che.plugin.docker.client.MessageFormatter;
+import org.eclipse.che.plugin.docker.client.ProgressLineFormatterImpl;
+import org.eclipse.che.plugin.docker.client.ProgressMonitor;
+import org.eclipse.che.plugin.docker.client.json.ProgressStatus;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes progress of the snapshot push to the machine log.
+ *
+ * <p>Transfer progress of each layer is written at most once per {@link #PROGRESS_INTERVAL_MS},
+ * other statuses are written as is. Layers which are already present in the registry
+ * are not pushed by docker, they are counted so the summary shows how many layers were reused.
+ */
+class SnapshotPushProgressMonitor implements ProgressMonitor {
+    static final long PROGRESS_INTERVAL_MS = 1000;
+
+    private final LineConsumer                    output;
+    private final MessageFormatter<ProgressStatus> formatter;
+    private final Map<String, Long>               lastProgressTime;
+    private final Set<String>                     layers;
+    private final Set<String>                     reusedLayers;
+
+    SnapshotPushProgressMonitor(LineConsumer output) {
+        this.output = output;
+        this.formatter = new ProgressLineFormatterImpl();
+        this.lastProgressTime = new HashMap<>();
+        this.layers = new HashSet<>();
+        this.reusedLayers = new HashSet<>();
+    }
+
+    @Override
+    public synchronized void updateProgress(ProgressStatus status) {
+        final String layer = status.getId();
+        if (layer != null && status.getStatus() != null) {
+            final String text = status.getStatus();
+            if (text.startsWith("Layer already exists") || text.startsWith("Mounted from")) {
+                layers.add(layer);
+                reusedLayers.add(layer);
+            } else if (text.startsWith("Pushed")) {
+                layers.add(layer);
+            } else if (status.getProgress() != null) {
+                final long now = System.currentTimeMillis();
+                final Long last = lastProgressTime.get(layer);
+                if (last != null && now - last < PROGRESS_INTERVAL_MS) {
+                    return;
+                }
+                lastProgressTime.put(layer, now);
+            }
+        }
+        writeLine(formatter.format(status));
+    }
+
+    /** Returns the number of the pushed layers including the reused ones. */
+    synchronized int getLayers() {
+        return layers.size();
+    }
+
+    /** Returns the number of the layers which were already present in the registry. */
+    synchronized int getReusedLayers() {
+        return reusedLayers.size();
+    }
+
+    void writeLine(String line) {
+        try {
+            output.writeLine(line);
+        } catch (IOException ignored) {
+        }
+    }
+}
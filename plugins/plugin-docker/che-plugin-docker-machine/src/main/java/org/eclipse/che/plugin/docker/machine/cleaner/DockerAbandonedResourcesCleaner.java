@@ -11,29 +11,45 @@
 package org.eclipse.che.plugin.docker.machine.cleaner;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.environment.server.CheEnvironmentEngine;
 import org.eclipse.che.api.workspace.server.WorkspaceRuntimes;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.che.commons.schedule.ScheduleRate;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.DockerConnectorProvider;
+import org.eclipse.che.plugin.docker.client.MessageProcessor;
+import org.eclipse.che.plugin.docker.client.exception.ContainerNotFoundException;
+import org.eclipse.che.plugin.docker.client.exception.NetworkNotFoundException;
 import org.eclipse.che.plugin.docker.client.json.ContainerListEntry;
+import org.eclipse.che.plugin.docker.client.json.Event;
 import org.eclipse.che.plugin.docker.client.json.Filters;
 import org.eclipse.che.plugin.docker.client.json.network.Network;
+import org.eclipse.che.plugin.docker.client.params.GetEventsParams;
+import org.eclipse.che.plugin.docker.client.params.ListContainersParams;
 import org.eclipse.che.plugin.docker.client.params.network.GetNetworksParams;
 import org.eclipse.che.plugin.docker.machine.DockerContainerNameGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Named;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -47,6 +63,18 @@ import static org.eclipse.che.plugin.docker.machine.DockerContainerNameGenerator
  * Job for periodically clean up abandoned docker containers and networks created by CHE.
  * Also, logs active containers list.
  *
+ * <p>Between periodical reconciliations cleaner listens to docker events stream
+ * and keeps in memory the set of containers and networks which belong to CHE,
+ * so abandoned resources are removed as soon as they are detected instead of
+ * waiting for the next full scan. Full reconciliation asks docker to filter
+ * resources by name on the daemon side, so non-CHE containers of the host are
+ * not transferred and checked at all. Removal of abandoned resources is performed
+ * in parallel with concurrency limited by {@code che.docker.cleanup_parallelism}.
+ *
+ * <p>Events of the old docker API versions contain neither actor attributes nor
+ * network events, so names of the containers unknown to cleaner are got with
+ * container inspection, while networks are tracked by the periodical reconciliation only.
+ *
  * @author Alexander Andrienko
  * @author Mykola Morhun
  */
@@ -55,25 +83,44 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
 
     private static final Logger LOG = LoggerFactory.getLogger(DockerAbandonedResourcesCleaner.class);
 
-    private static final Filters           NETWORK_FILTERS          = new Filters().withFilter("type", "custom");
-    private static final GetNetworksParams GET_NETWORKS_PARAMS      = GetNetworksParams.create().withFilters(NETWORK_FILTERS);
-    private static final String            WORKSPACE_ID_REGEX_GROUP = "workspaceId";
-    private static final String            CHE_NETWORK_REGEX        = "^(?<" + WORKSPACE_ID_REGEX_GROUP + ">workspace[a-z\\d]{16})_[a-z\\d]{16}$";
-    private static final Pattern           CHE_NETWORK_PATTERN      = Pattern.compile(CHE_NETWORK_REGEX);
+    /** Docker matches names filter as a substring, all the CHE containers and networks names start with workspace id. */
+    private static final String               CHE_RESOURCE_NAME_FILTER = "workspace";
+    private static final Filters              NETWORK_FILTERS          = new Filters().withFilter("type", "custom")
+                                                                                      .withFilter("name", CHE_RESOURCE_NAME_FILTER);
+    private static final GetNetworksParams    GET_NETWORKS_PARAMS      = GetNetworksParams.create().withFilters(NETWORK_FILTERS);
+    private static final ListContainersParams LIST_CONTAINERS_PARAMS   =
+            ListContainersParams.create()
+                                .withAll(true)
+                                .withFilters(new Filters().withFilter("name", CHE_RESOURCE_NAME_FILTER));
+    private static final String               WORKSPACE_ID_REGEX_GROUP = "workspaceId";
+    private static final String               CHE_NETWORK_REGEX        = "^(?<" + WORKSPACE_ID_REGEX_GROUP + ">workspace[a-z\\d]{16})_[a-z\\d]{16}$";
+    private static final Pattern              CHE_NETWORK_PATTERN      = Pattern.compile(CHE_NETWORK_REGEX);
+    private static final long                 MIN_EVENTS_RETRY_DELAY_MS = TimeUnit.SECONDS.toMillis(1);
+    private static final long                 MAX_EVENTS_RETRY_DELAY_MS = TimeUnit.MINUTES.toMillis(1);
 
     // TODO replace with WorkspaceManager
-    private final CheEnvironmentEngine         environmentEngine;
-    private final DockerConnector              dockerConnector;
-    private final DockerContainerNameGenerator nameGenerator;
-    private final WorkspaceRuntimes            runtimes;
-    private final Set<String>                  additionalNetworks;
+    private final CheEnvironmentEngine           environmentEngine;
+    private final DockerConnector                dockerConnector;
+    private final DockerContainerNameGenerator   nameGenerator;
+    private final WorkspaceRuntimes              runtimes;
+    private final Set<String>                    additionalNetworks;
+    private final ExecutorService                removalExecutor;
+    private final ExecutorService                eventsExecutor;
+    /** CHE containers known by cleaner, container id -> parsed container name. */
+    private final Map<String, ContainerNameInfo> cheContainers;
+    /** CHE networks known by cleaner, network id -> id of workspace network belongs to. */
+    private final Map<String, String>            cheNetworks;
+
+    private volatile long    lastProcessedEventDate = 0;
+    private volatile boolean eventReceived;
 
     @Inject
     public DockerAbandonedResourcesCleaner(CheEnvironmentEngine environmentEngine,
                                            DockerConnectorProvider dockerConnectorProvider,
                                            DockerContainerNameGenerator nameGenerator,
                                            WorkspaceRuntimes workspaceRuntimes,
-                                           @Named("machine.docker.networks") Set<Set<String>> additionalNetworks) {
+                                           @Named("machine.docker.networks") Set<Set<String>> additionalNetworks,
+                                           @Named("che.docker.cleanup_parallelism") int cleanupParallelism) {
         this.environmentEngine = environmentEngine;
         this.dockerConnector = dockerConnectorProvider.get();
         this.nameGenerator = nameGenerator;
@@ -81,6 +128,19 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
         this.additionalNetworks = additionalNetworks.stream()
                                                     .flatMap(Set::stream)
                                                     .collect(toSet());
+        this.cheContainers = new ConcurrentHashMap<>();
+        this.cheNetworks = new ConcurrentHashMap<>();
+        this.removalExecutor = Executors.newFixedThreadPool(cleanupParallelism,
+                                                            new ThreadFactoryBuilder().setNameFormat("DockerResourcesCleaner-%d")
+                                                                                      .setUncaughtExceptionHandler(
+                                                                                              LoggingUncaughtExceptionHandler.getInstance())
+                                                                                      .setDaemon(true)
+                                                                                      .build());
+        this.eventsExecutor = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("DockerResourcesCleanerEvents-%d")
+                                          .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                                          .setDaemon(true)
+                                          .build());
     }
 
     @ScheduleRate(periodParameterName = "che.docker.cleanup_period_min",
@@ -94,22 +154,28 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
 
     /**
      * Cleans up CHE docker containers which don't tracked by API any more.
+     * Also refreshes the set of CHE containers known by cleaner.
      */
     @VisibleForTesting
     void cleanContainers() {
         List<String> activeContainers = new ArrayList<>();
+        List<CompletableFuture<Void>> removals = new ArrayList<>();
         try {
-            for (ContainerListEntry container : dockerConnector.listContainers()) {
+            for (ContainerListEntry container : dockerConnector.listContainers(LIST_CONTAINERS_PARAMS)) {
                 String containerName = container.getNames()[0];
                 Optional<ContainerNameInfo> optional = nameGenerator.parse(containerName);
                 if (optional.isPresent()) {
+                    cheContainers.put(container.getId(), optional.get());
                     try {
                         // container is orphaned if not found exception is thrown
                         environmentEngine.getMachine(optional.get().getWorkspaceId(),
                                                      optional.get().getMachineId());
                         activeContainers.add(containerName);
                     } catch (NotFoundException e) {
-                        cleanUpContainer(container);
+                        removals.add(CompletableFuture.runAsync(() -> cleanUpContainer(container.getId(),
+                                                                                       containerName,
+                                                                                       container.getStatus()),
+                                                                removalExecutor));
                     } catch (Exception e) {
                         LOG.error(format("Failed to check activity for container with name '%s'. Cause: %s",
                                          containerName, e.getLocalizedMessage()), e);
@@ -121,14 +187,12 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
         } catch (Exception e) {
             LOG.error("Failed to clean up inactive containers", e);
         }
+        awaitRemovals(removals);
         LOG.info("List containers registered in the api: " + activeContainers);
     }
 
-    private void cleanUpContainer(ContainerListEntry container) {
-        String containerId = container.getId();
-        String containerName = container.getNames()[0];
-
-        killContainer(containerId, containerName, container.getStatus());
+    private void cleanUpContainer(String containerId, String containerName, String containerStatus) {
+        killContainer(containerId, containerName, containerStatus);
         removeContainer(containerId, containerName);
     }
 
@@ -146,6 +210,7 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
     private void removeContainer(String containerId, String containerName) {
         try {
             dockerConnector.removeContainer(create(containerId).withForce(true).withRemoveVolumes(true));
+            cheContainers.remove(containerId);
             LOG.warn("Unused container with 'id': '{}' and 'name': '{}' was removed", containerId, containerName);
         } catch (IOException e) {
             LOG.error(format("Failed to delete unused container with 'id': '%s' and 'name': '%s'", containerId, containerName), e);
@@ -158,9 +223,11 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
      * for example, force stop che, restart docker, turn off PC, etc.
      * A network is considered abandoned when it doesn't contain a container.
      * To do this job more efficiently, it should be invoked after cleaning of abandoned containers.
+     * Also refreshes the set of CHE networks known by cleaner.
      */
     @VisibleForTesting
     void cleanNetworks() {
+        List<CompletableFuture<Void>> removals = new ArrayList<>();
         try {
             List<Network> customNetworks = dockerConnector.getNetworks(GET_NETWORKS_PARAMS);
             // This workaround is added because of docker bug which returns null instead of empty list
@@ -169,20 +236,214 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
                 return;
             }
 
+            // networks removed since the previous reconciliation are forgotten,
+            // network events which would remove them are not sent by the old docker API versions
+            Set<String> existingNetworks = new HashSet<>();
+            for (Network network : customNetworks) {
+                existingNetworks.add(network.getId());
+            }
+            cheNetworks.keySet().retainAll(existingNetworks);
+
             for (Network network : customNetworks) {
                 Matcher cheNetworkMatcher = CHE_NETWORK_PATTERN.matcher(network.getName());
-                if (cheNetworkMatcher.matches() && network.getContainers().isEmpty() && !additionalNetworks.contains(network.getName()) &&
-                    !runtimes.hasRuntime(cheNetworkMatcher.group(WORKSPACE_ID_REGEX_GROUP))) {
-                    try {
-                        dockerConnector.removeNetwork(network.getId());
-                    } catch (IOException e) {
-                        LOG.warn("Failed to remove abandoned network: " + network.getName(), e);
+                if (cheNetworkMatcher.matches() && !additionalNetworks.contains(network.getName())) {
+                    String workspaceId = cheNetworkMatcher.group(WORKSPACE_ID_REGEX_GROUP);
+                    cheNetworks.put(network.getId(), workspaceId);
+                    if (network.getContainers().isEmpty() && !runtimes.hasRuntime(workspaceId)) {
+                        removals.add(CompletableFuture.runAsync(() -> removeNetwork(network.getId(), network.getName()),
+                                                                removalExecutor));
                     }
                 }
             }
         } catch (IOException e) {
             LOG.error("Failed to get list of docker networks", e);
         }
+        awaitRemovals(removals);
+    }
+
+    private void removeNetwork(String networkId, String networkName) {
+        try {
+            dockerConnector.removeNetwork(networkId);
+            cheNetworks.remove(networkId);
+        } catch (IOException e) {
+            LOG.warn("Failed to remove abandoned network: " + networkName, e);
+        }
+    }
+
+    private void awaitRemovals(List<CompletableFuture<Void>> removals) {
+        try {
+            CompletableFuture.allOf(removals.toArray(new CompletableFuture[removals.size()])).join();
+        } catch (Exception e) {
+            LOG.error("Failed to wait for abandoned docker resources removal", e);
+        }
+    }
+
+    @PostConstruct
+    private void subscribeToEvents() {
+        eventsExecutor.execute(() -> {
+            long retryDelay = MIN_EVENTS_RETRY_DELAY_MS;
+            while (!eventsExecutor.isShutdown()) {
+                eventReceived = false;
+                try {
+                    dockerConnector.getEvents(GetEventsParams.create()
+                                                             .withSinceSecond(lastProcessedEventDate)
+                                                             .withFilters(new Filters().withFilter("event", "create", "die", "destroy")),
+                                              new EventsProcessor());
+                } catch (IOException e) {
+                    // usually connection timeout
+                    LOG.debug(e.getLocalizedMessage(), e);
+                }
+                // stream which is closed right away, e.g. when docker is not available, must not be reopened in a busy loop
+                retryDelay = eventReceived ? MIN_EVENTS_RETRY_DELAY_MS : Math.min(retryDelay * 2, MAX_EVENTS_RETRY_DELAY_MS);
+                try {
+                    Thread.sleep(retryDelay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    @VisibleForTesting
+    void shutdown() {
+        eventsExecutor.shutdownNow();
+        removalExecutor.shutdownNow();
+    }
+
+    /**
+     * Handles docker event, updates known CHE resources and
+     * removes the resource if it is abandoned.
+     */
+    @VisibleForTesting
+    void handleEvent(Event event) {
+        if (event.getType() == null || "container".equals(event.getType())) {
+            handleContainerEvent(event);
+        } else if ("network".equals(event.getType())) {
+            handleNetworkEvent(event);
+        }
+        lastProcessedEventDate = event.getTime();
+    }
+
+    private void handleContainerEvent(Event event) {
+        String containerId = event.getId();
+        if (containerId == null || event.getStatus() == null) {
+            return;
+        }
+        switch (event.getStatus()) {
+            case "create":
+                String containerName = getActorAttribute(event, "name");
+                if (containerName != null) {
+                    nameGenerator.parse(containerName).ifPresent(info -> cheContainers.put(containerId, info));
+                }
+                break;
+            case "die":
+                // container may be unknown if its create event has no name attribute
+                // or it is created while events stream is reopened, such a container is inspected
+                removalExecutor.execute(() -> getCheContainer(containerId).ifPresent(info -> {
+                    // workspace runtime exists while its machines are being started or stopped,
+                    // so such containers are managed by API and must not be touched here
+                    if (!runtimes.hasRuntime(info.getWorkspaceId())) {
+                        cleanUpContainerIfAbandoned(containerId, info);
+                    }
+                }));
+                break;
+            case "destroy":
+                ContainerNameInfo removed = cheContainers.remove(containerId);
+                if (removed != null && !runtimes.hasRuntime(removed.getWorkspaceId())) {
+                    cheNetworks.entrySet()
+                               .stream()
+                               .filter(entry -> entry.getValue().equals(removed.getWorkspaceId()))
+                               .forEach(entry -> removalExecutor.execute(() -> removeNetworkIfAbandoned(entry.getKey())));
+                }
+                break;
+            default:
+                // we don't care about other event types
+        }
+    }
+
+    private void handleNetworkEvent(Event event) {
+        if (event.getActor() == null || event.getAction() == null) {
+            return;
+        }
+        String networkId = event.getActor().getId();
+        switch (event.getAction()) {
+            case "create":
+                String networkName = getActorAttribute(event, "name");
+                if (networkName != null && !additionalNetworks.contains(networkName)) {
+                    Matcher cheNetworkMatcher = CHE_NETWORK_PATTERN.matcher(networkName);
+                    if (cheNetworkMatcher.matches()) {
+                        cheNetworks.put(networkId, cheNetworkMatcher.group(WORKSPACE_ID_REGEX_GROUP));
+                    }
+                }
+                break;
+            case "destroy":
+                cheNetworks.remove(networkId);
+                break;
+            default:
+                // we don't care about other event types
+        }
+    }
+
+    private Optional<ContainerNameInfo> getCheContainer(String containerId) {
+        ContainerNameInfo info = cheContainers.get(containerId);
+        if (info != null) {
+            return Optional.of(info);
+        }
+        try {
+            Optional<ContainerNameInfo> optional = nameGenerator.parse(dockerConnector.inspectContainer(containerId).getName());
+            optional.ifPresent(parsed -> cheContainers.put(containerId, parsed));
+            return optional;
+        } catch (ContainerNotFoundException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            LOG.warn(format("Failed to inspect container with id '%s'. Cause: %s", containerId, e.getLocalizedMessage()));
+            return Optional.empty();
+        }
     }
 
+    private void cleanUpContainerIfAbandoned(String containerId, ContainerNameInfo info) {
+        try {
+            environmentEngine.getMachine(info.getWorkspaceId(), info.getMachineId());
+        } catch (NotFoundException e) {
+            // container is dead so it doesn't need to be killed
+            removeContainer(containerId, info.toString());
+        } catch (Exception e) {
+            LOG.error(format("Failed to check activity for container with id '%s'. Cause: %s",
+                             containerId, e.getLocalizedMessage()), e);
+        }
+    }
+
+    private void removeNetworkIfAbandoned(String networkId) {
+        try {
+            Network network = dockerConnector.inspectNetwork(networkId);
+            if (network.getContainers().isEmpty()) {
+                removeNetwork(networkId, network.getName());
+            }
+        } catch (NetworkNotFoundException e) {
+            cheNetworks.remove(networkId);
+        } catch (IOException e) {
+            LOG.warn("Failed to inspect network: " + networkId, e);
+        }
+    }
+
+    private static String getActorAttribute(Event event, String attribute) {
+        if (event.getActor() == null || event.getActor().getAttributes() == null) {
+            return null;
+        }
+        return event.getActor().getAttributes().get(attribute);
+    }
+
+    private class EventsProcessor implements MessageProcessor<Event> {
+        @Override
+        public void process(Event message) {
+            eventReceived = true;
+            try {
+                handleEvent(message);
+            } catch (Exception e) {
+                LOG.error(format("Failed to process docker event '%s'. Cause: %s", message, e.getLocalizedMessage()), e);
+            }
+        }
+    }
 }
@@ -14,18 +14,27 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.workspace.Workspace;
 import org.eclipse.che.api.workspace.server.WorkspaceFilesCleaner;
+import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
 import org.eclipse.che.plugin.docker.machine.local.node.provider.LocalWorkspaceFolderPathProvider;
+import org.slf4j.Logger;
 
 import java.io.File;
 import java.io.IOException;
 
 import static java.lang.System.getenv;
 import static org.eclipse.che.commons.lang.IoUtil.deleteRecursive;
+import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Local implementation of the {@link WorkspaceFilesCleaner}.
+ * <p/>
+ * Workspace folder is resolved by the workspace name, files are cleaned up asynchronously
+ * after the workspace removal, so the folder is kept if a workspace with the same name
+ * has been created in the meantime.
  *
  * @author Alexander Andrienko
  * @author Igor Vinokur
@@ -33,23 +42,42 @@ import static org.eclipse.che.commons.lang.IoUtil.deleteRecursive;
 @Singleton
 public class LocalWorkspaceFilesCleaner implements WorkspaceFilesCleaner {
 
+    private static final Logger LOG = getLogger(LocalWorkspaceFilesCleaner.class);
+
     private final LocalWorkspaceFolderPathProvider workspaceFolderPathProvider;
+    private final WorkspaceDao                     workspaceDao;
 
     @Inject(optional = true)
     @Named("host.projects.root")
     private String hostProjectsFolder;
 
     @Inject
-    public LocalWorkspaceFilesCleaner(LocalWorkspaceFolderPathProvider workspaceFolderPathProvider) {
+    public LocalWorkspaceFilesCleaner(LocalWorkspaceFolderPathProvider workspaceFolderPathProvider, WorkspaceDao workspaceDao) {
         this.workspaceFolderPathProvider = workspaceFolderPathProvider;
+        this.workspaceDao = workspaceDao;
     }
 
     @Override
-    public void clear(Workspace workspace) throws IOException {
+    public void clear(Workspace workspace) throws IOException, ServerException {
+        if (isFolderInUse(workspace)) {
+            LOG.info("Files of removed workspace '{}' are kept, its folder is used by the workspace with the same name '{}'",
+                     workspace.getId(),
+                     workspace.getConfig().getName());
+            return;
+        }
         String workspacePath = workspaceFolderPathProvider.getPathByName(workspace.getConfig().getName());
         if (!workspacePath.equals(hostProjectsFolder)) {
             // Remove the workspace folder located in the Che instance docker container.
-            deleteRecursive(new File(workspacePath.replace(getenv("CHE_INSTANCE"), "")));
+            final String cheInstance = getenv("CHE_INSTANCE");
+            deleteRecursive(new File(cheInstance == null ? workspacePath : workspacePath.replace(cheInstance, "")));
+        }
+    }
+
+    private boolean isFolderInUse(Workspace workspace) throws ServerException {
+        try {
+            return !workspaceDao.get(workspace.getConfig().getName(), workspace.getNamespace()).getId().equals(workspace.getId());
+        } catch (NotFoundException e) {
+            return false;
         }
     }
 }
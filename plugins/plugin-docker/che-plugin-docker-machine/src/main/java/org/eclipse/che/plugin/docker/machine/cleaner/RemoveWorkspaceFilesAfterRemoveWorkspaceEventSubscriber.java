@@ -11,61 +11,37 @@
 package org.eclipse.che.plugin.docker.machine.cleaner;
 
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Singleton;
 
-import org.eclipse.che.api.core.ServerException;
-import org.eclipse.che.api.core.model.workspace.Workspace;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
-import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
-import org.eclipse.che.api.workspace.server.WorkspaceFilesCleaner;
+import org.eclipse.che.api.workspace.server.WorkspaceFilesCleanupQueue;
 import org.eclipse.che.api.workspace.server.event.WorkspaceRemovedEvent;
-import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
-import java.io.IOException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * Listener for remove workspace files after {@code WorkspaceRemovedEvent}.
+ * Files are removed asynchronously by the {@link WorkspaceFilesCleanupQueue}.
  *
  * @author Alexander Andrienko
  */
 @Singleton
 public class RemoveWorkspaceFilesAfterRemoveWorkspaceEventSubscriber implements EventSubscriber<WorkspaceRemovedEvent> {
 
-    private static final Logger LOG = LoggerFactory.getLogger(RemoveWorkspaceFilesAfterRemoveWorkspaceEventSubscriber.class);
-
-    private final WorkspaceFilesCleaner workspaceFilesCleaner;
-    private final ExecutorService       executor;
-    private final EventService          eventService;
+    private final WorkspaceFilesCleanupQueue cleanupQueue;
+    private final EventService               eventService;
 
     @Inject
-    public RemoveWorkspaceFilesAfterRemoveWorkspaceEventSubscriber(EventService eventService, WorkspaceFilesCleaner workspaceFilesCleaner) {
-        this.workspaceFilesCleaner = workspaceFilesCleaner;
+    public RemoveWorkspaceFilesAfterRemoveWorkspaceEventSubscriber(EventService eventService, WorkspaceFilesCleanupQueue cleanupQueue) {
+        this.cleanupQueue = cleanupQueue;
         this.eventService = eventService;
-        executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("RemoveWorkspaceFilesAfterRemoveWorkspaceEventSubscriber-%d")
-                                                                           .setUncaughtExceptionHandler(
-                                                                                   LoggingUncaughtExceptionHandler.getInstance())
-                                                                           .setDaemon(true)
-                                                                           .build());
     }
 
     @Override
     public void onEvent(WorkspaceRemovedEvent event) {
-        executor.execute(ThreadLocalPropagateContext.wrap(() -> {
-            Workspace workspace = event.getWorkspace();
-            try {
-                workspaceFilesCleaner.clear(workspace);
-            } catch (IOException | ServerException e) {
-                LOG.error("Failed to remove workspace files for workspace with id: '{}'. Cause: '{}'", workspace.getId(), e.getMessage());
-            }
-        }));
+        cleanupQueue.add(event.getWorkspace());
     }
 
     @PostConstruct
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import org.eclipse.che.api.core.util.LineConsumer;
+import org.eclipse.che.plugin.docker.client.json.ProgressStatus;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests of {@link SnapshotPushProgressMonitor}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class SnapshotPushProgressMonitorTest {
+
+    @Mock
+    private LineConsumer output;
+
+    private SnapshotPushProgressMonitor monitor;
+
+    @BeforeMethod
+    public void setUp() {
+        monitor = new SnapshotPushProgressMonitor(output);
+    }
+
+    @Test
+    public void shouldWriteTransferProgressOfLayerNotMoreOftenThanInterval() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            monitor.updateProgress(status("layer1", "Pushing", "[=>    ] " + i + " MB/10 MB"));
+        }
+        monitor.updateProgress(status("layer2", "Pushing", "[=>    ] 1 MB/10 MB"));
+
+        verify(output, times(2)).writeLine(anyString());
+    }
+
+    @Test
+    public void shouldWriteStatusesWithoutProgress() throws Exception {
+        monitor.updateProgress(status("layer1", "Preparing", null));
+        monitor.updateProgress(status("layer1", "Waiting", null));
+        monitor.updateProgress(status("layer1", "Pushed", null));
+
+        verify(output, times(3)).writeLine(anyString());
+    }
+
+    @Test
+    public void shouldCountReusedLayers() throws Exception {
+        monitor.updateProgress(status("layer1", "Layer already exists", null));
+        monitor.updateProgress(status("layer2", "Mounted from machine_snapshot_abc", null));
+        monitor.updateProgress(status("layer3", "Pushed", null));
+
+        assertEquals(monitor.getLayers(), 3);
+        assertEquals(monitor.getReusedLayers(), 2);
+    }
+
+    private static ProgressStatus status(String id, String status, String progress) {
+        final ProgressStatus progressStatus = new ProgressStatus();
+        progressStatus.setId(id);
+        progressStatus.setStatus(status);
+        progressStatus.setProgress(progress);
+        return progressStatus;
+    }
+}
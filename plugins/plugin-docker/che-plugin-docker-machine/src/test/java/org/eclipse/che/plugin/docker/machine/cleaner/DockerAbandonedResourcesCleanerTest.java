@@ -17,14 +17,21 @@ import org.eclipse.che.api.machine.server.spi.Instance;
 import org.eclipse.che.api.workspace.server.WorkspaceRuntimes;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.DockerConnectorProvider;
+import org.eclipse.che.plugin.docker.client.exception.ContainerNotFoundException;
+import org.eclipse.che.plugin.docker.client.exception.NetworkNotFoundException;
+import org.eclipse.che.plugin.docker.client.json.Actor;
+import org.eclipse.che.plugin.docker.client.json.ContainerInfo;
 import org.eclipse.che.plugin.docker.client.json.ContainerListEntry;
+import org.eclipse.che.plugin.docker.client.json.Event;
 import org.eclipse.che.plugin.docker.client.json.network.ContainerInNetwork;
 import org.eclipse.che.plugin.docker.client.json.network.Network;
+import org.eclipse.che.plugin.docker.client.params.ListContainersParams;
 import org.eclipse.che.plugin.docker.client.params.RemoveContainerParams;
 import org.eclipse.che.plugin.docker.machine.DockerContainerNameGenerator;
 import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
@@ -40,6 +47,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
 import static java.util.Optional.of;
 import static org.eclipse.che.plugin.docker.machine.DockerContainerNameGenerator.ContainerNameInfo;
 import static org.mockito.Matchers.any;
@@ -49,6 +57,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -76,6 +85,8 @@ public class DockerAbandonedResourcesCleanerTest {
     private static final String containerName3 = "containerName3";
     private static final String containerId3   = "containerId3";
 
+    private static final int CLEANUP_PARALLELISM = 2;
+
     private static final String EXITED_STATUS  = "exited";
     private static final String RUNNING_STATUS = "Up 6 hour ago";
 
@@ -150,14 +161,15 @@ public class DockerAbandonedResourcesCleanerTest {
                                                           dockerConnectorProvider,
                                                           nameGenerator,
                                                           workspaceRuntimes,
-                                                          additionalNetworks));
+                                                          additionalNetworks,
+                                                          CLEANUP_PARALLELISM));
 
         when(environmentEngine.getMachine(workspaceId1, machineId1)).thenReturn(instance);
         when(environmentEngine.getMachine(workspaceId2, machineId2)).thenThrow(new NotFoundException("test"));
         when(machineImpl1.getId()).thenReturn(machineId1);
         when(machineImpl1.getWorkspaceId()).thenReturn(workspaceId1);
 
-        when(dockerConnector.listContainers()).thenReturn(asList(container1, container2, container3));
+        when(dockerConnector.listContainers(any(ListContainersParams.class))).thenReturn(asList(container1, container2, container3));
 
         when(container1.getNames()).thenReturn(new String[] {containerName1});
         when(container1.getStatus()).thenReturn(RUNNING_STATUS);
@@ -199,6 +211,11 @@ public class DockerAbandonedResourcesCleanerTest {
         when(additionalNetwork.getContainers()).thenReturn(additionalNetworkContainers);
     }
 
+    @AfterMethod
+    public void tearDown() {
+        cleaner.shutdown();
+    }
+
     @Test
     public void cleanerShouldRunCleanOfContainerAndThenCleanOfNetworks() {
         // when
@@ -212,7 +229,7 @@ public class DockerAbandonedResourcesCleanerTest {
     @Test
     public void cleanerShouldRunCleanNetworksEvenIfCleanOfContainersFailed() throws IOException {
         // given
-        when(dockerConnector.listContainers()).thenThrow(new IOException("Error while fetching docker containers list"));
+        when(dockerConnector.listContainers(any(ListContainersParams.class))).thenThrow(new IOException("Error while fetching docker containers list"));
 
         // when
         cleaner.run();
@@ -347,7 +364,8 @@ public class DockerAbandonedResourcesCleanerTest {
                                                           dockerConnectorProvider,
                                                           nameGenerator,
                                                           workspaceRuntimes,
-                                                          additionalNetworks));
+                                                          additionalNetworks,
+                                                          CLEANUP_PARALLELISM));
         networks.add(additionalNetwork);
 
         // when
@@ -367,7 +385,8 @@ public class DockerAbandonedResourcesCleanerTest {
                                                           dockerConnectorProvider,
                                                           nameGenerator,
                                                           workspaceRuntimes,
-                                                          additionalNetworks));
+                                                          additionalNetworks,
+                                                          CLEANUP_PARALLELISM));
 
         when(additionalNetwork.getName()).thenReturn(additionalNetworkName);
         networks.add(additionalNetwork);
@@ -427,4 +446,137 @@ public class DockerAbandonedResourcesCleanerTest {
         verify(dockerConnector).removeNetwork(abandonedNetworkId);
     }
 
+    @Test
+    public void shouldRemoveDiedContainerWhichIsNotTrackedByApi() throws Exception {
+        // given
+        when(workspaceRuntimes.hasRuntime(workspaceId2)).thenReturn(false);
+        cleaner.handleEvent(new Event().withType("container")
+                                       .withStatus("create")
+                                       .withId(containerId2)
+                                       .withActor(new Actor().withId(containerId2)
+                                                             .withAttributes(singletonMap("name", containerName2))));
+
+        // when
+        cleaner.handleEvent(new Event().withType("container").withStatus("die").withId(containerId2));
+
+        // then
+        verify(dockerConnector, timeout(1000)).removeContainer(RemoveContainerParams.create(containerId2)
+                                                                                    .withForce(true)
+                                                                                    .withRemoveVolumes(true));
+        verify(dockerConnector, never()).killContainer(anyString());
+    }
+
+    @Test
+    public void shouldNotRemoveDiedContainerIfWorkspaceHasRuntime() throws Exception {
+        // given
+        when(workspaceRuntimes.hasRuntime(workspaceId2)).thenReturn(true);
+        cleaner.handleEvent(new Event().withType("container")
+                                       .withStatus("create")
+                                       .withId(containerId2)
+                                       .withActor(new Actor().withId(containerId2)
+                                                             .withAttributes(singletonMap("name", containerName2))));
+
+        // when
+        cleaner.handleEvent(new Event().withType("container").withStatus("die").withId(containerId2));
+
+        // then
+        verify(workspaceRuntimes, timeout(1000)).hasRuntime(workspaceId2);
+        verify(environmentEngine, never()).getMachine(anyString(), anyString());
+        verify(dockerConnector, never()).removeContainer(Matchers.anyObject());
+    }
+
+    @Test
+    public void shouldNotRemoveDiedContainerWhichIsNotCheContainer() throws Exception {
+        // given
+        ContainerInfo containerInfo = new ContainerInfo();
+        containerInfo.setName("/notCheContainer");
+        when(dockerConnector.inspectContainer(containerId2)).thenReturn(containerInfo);
+        when(nameGenerator.parse("/notCheContainer")).thenReturn(Optional.empty());
+
+        // when
+        cleaner.handleEvent(new Event().withType("container").withStatus("die").withId(containerId2));
+
+        // then
+        verify(dockerConnector, timeout(1000)).inspectContainer(containerId2);
+        verify(environmentEngine, never()).getMachine(anyString(), anyString());
+        verify(dockerConnector, never()).removeContainer(Matchers.anyObject());
+    }
+
+    @Test
+    public void shouldRemoveEmptyWorkspaceNetworkWhenLastContainerOfStoppedWorkspaceIsDestroyed() throws Exception {
+        // given
+        when(containerNameInfo2.getWorkspaceId()).thenReturn(abandonedNetworkName.substring(0, 25));
+        when(dockerConnector.inspectNetwork(abandonedNetworkId)).thenReturn(abandonedNetwork);
+        cleaner.handleEvent(new Event().withType("network")
+                                       .withAction("create")
+                                       .withActor(new Actor().withId(abandonedNetworkId)
+                                                             .withAttributes(singletonMap("name", abandonedNetworkName))));
+        cleaner.handleEvent(new Event().withType("container")
+                                       .withStatus("create")
+                                       .withId(containerId2)
+                                       .withActor(new Actor().withId(containerId2)
+                                                             .withAttributes(singletonMap("name", containerName2))));
+
+        // when
+        cleaner.handleEvent(new Event().withType("container").withStatus("destroy").withId(containerId2));
+
+        // then
+        verify(dockerConnector, timeout(1000)).removeNetwork(abandonedNetworkId);
+    }
+
+    @Test
+    public void shouldInspectDiedContainerIfCreateEventHasNoActorAttributes() throws Exception {
+        // given
+        // events of the old docker API versions have no actor
+        ContainerInfo containerInfo = new ContainerInfo();
+        containerInfo.setName(containerName2);
+        when(dockerConnector.inspectContainer(containerId2)).thenReturn(containerInfo);
+        when(workspaceRuntimes.hasRuntime(workspaceId2)).thenReturn(false);
+        cleaner.handleEvent(new Event().withStatus("create").withId(containerId2));
+
+        // when
+        cleaner.handleEvent(new Event().withStatus("die").withId(containerId2));
+
+        // then
+        verify(dockerConnector, timeout(1000)).removeContainer(RemoveContainerParams.create(containerId2)
+                                                                                    .withForce(true)
+                                                                                    .withRemoveVolumes(true));
+    }
+
+    @Test
+    public void shouldNotRemoveDiedContainerWhichIsAlreadyRemoved() throws Exception {
+        // given
+        when(dockerConnector.inspectContainer(containerId2)).thenThrow(new ContainerNotFoundException("test"));
+
+        // when
+        cleaner.handleEvent(new Event().withStatus("die").withId(containerId2));
+
+        // then
+        verify(dockerConnector, timeout(1000)).inspectContainer(containerId2);
+        verify(environmentEngine, never()).getMachine(anyString(), anyString());
+        verify(dockerConnector, never()).removeContainer(Matchers.anyObject());
+    }
+
+    @Test
+    public void shouldForgetNetworkWhichIsRemovedWithoutNetworkEvent() throws Exception {
+        // given
+        when(containerNameInfo2.getWorkspaceId()).thenReturn(abandonedNetworkName.substring(0, 25));
+        when(dockerConnector.inspectNetwork(abandonedNetworkId)).thenThrow(new NetworkNotFoundException("test"));
+        cleaner.handleEvent(new Event().withType("network")
+                                       .withAction("create")
+                                       .withActor(new Actor().withId(abandonedNetworkId)
+                                                             .withAttributes(singletonMap("name", abandonedNetworkName))));
+        cleaner.handleEvent(new Event().withType("container")
+                                       .withStatus("create")
+                                       .withId(containerId2)
+                                       .withActor(new Actor().withId(containerId2)
+                                                             .withAttributes(singletonMap("name", containerName2))));
+
+        // when
+        cleaner.handleEvent(new Event().withType("container").withStatus("destroy").withId(containerId2));
+
+        // then
+        verify(dockerConnector, timeout(1000)).inspectNetwork(abandonedNetworkId);
+        verify(dockerConnector, never()).removeNetwork(anyString());
+    }
 }
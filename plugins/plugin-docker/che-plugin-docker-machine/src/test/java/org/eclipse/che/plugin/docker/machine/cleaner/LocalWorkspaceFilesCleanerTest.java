@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine.cleaner;
+
+import com.google.common.io.Files;
+
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.model.workspace.Workspace;
+import org.eclipse.che.api.core.model.workspace.WorkspaceConfig;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.plugin.docker.machine.local.node.provider.LocalWorkspaceFolderPathProvider;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for {@link LocalWorkspaceFilesCleaner}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class LocalWorkspaceFilesCleanerTest {
+
+    @Mock
+    private LocalWorkspaceFolderPathProvider workspaceFolderPathProvider;
+    @Mock
+    private WorkspaceDao                     workspaceDao;
+    @Mock
+    private Workspace                        workspace;
+    @Mock
+    private WorkspaceConfig                  config;
+
+    private File                       workspaceFolder;
+    private LocalWorkspaceFilesCleaner cleaner;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        workspaceFolder = Files.createTempDir();
+        when(workspace.getId()).thenReturn("workspace123");
+        when(workspace.getNamespace()).thenReturn("user");
+        when(workspace.getConfig()).thenReturn(config);
+        when(config.getName()).thenReturn("ws");
+        when(workspaceFolderPathProvider.getPathByName("ws")).thenReturn(workspaceFolder.getAbsolutePath());
+
+        cleaner = new LocalWorkspaceFilesCleaner(workspaceFolderPathProvider, workspaceDao);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        IoUtil.deleteRecursive(workspaceFolder);
+    }
+
+    @Test
+    public void shouldRemoveFolderOfRemovedWorkspace() throws Exception {
+        when(workspaceDao.get("ws", "user")).thenThrow(new NotFoundException("test"));
+
+        cleaner.clear(workspace);
+
+        assertFalse(workspaceFolder.exists());
+    }
+
+    @Test
+    public void shouldKeepFolderWhenWorkspaceWithSameNameIsCreatedAfterRemoval() throws Exception {
+        final WorkspaceImpl recreated = mock(WorkspaceImpl.class);
+        when(recreated.getId()).thenReturn("workspace234");
+        when(workspaceDao.get("ws", "user")).thenReturn(recreated);
+
+        cleaner.clear(workspace);
+
+        assertTrue(workspaceFolder.exists());
+        verify(workspaceFolderPathProvider, never()).getPathByName(anyString());
+    }
+}
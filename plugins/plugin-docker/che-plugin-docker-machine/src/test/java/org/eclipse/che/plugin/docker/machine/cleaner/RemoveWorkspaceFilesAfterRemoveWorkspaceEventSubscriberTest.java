@@ -12,7 +12,7 @@ package org.eclipse.che.plugin.docker.machine.cleaner;
 
 import org.eclipse.che.api.core.model.workspace.Workspace;
 import org.eclipse.che.api.core.notification.EventService;
-import org.eclipse.che.api.workspace.server.WorkspaceFilesCleaner;
+import org.eclipse.che.api.workspace.server.WorkspaceFilesCleanupQueue;
 import org.eclipse.che.api.workspace.server.event.WorkspaceRemovedEvent;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -20,7 +20,6 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
-import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,7 +34,7 @@ public class RemoveWorkspaceFilesAfterRemoveWorkspaceEventSubscriberTest {
     @Mock
     private EventService          eventService;
     @Mock
-    private WorkspaceFilesCleaner workspaceFilesCleaner;
+    private WorkspaceFilesCleanupQueue cleanupQueue;
 
     @Mock
     private WorkspaceRemovedEvent event;
@@ -47,7 +46,7 @@ public class RemoveWorkspaceFilesAfterRemoveWorkspaceEventSubscriberTest {
     @BeforeMethod
     public void setUp() {
         removeWorkspaceFilesAfterRemoveWorkspaceEventSubscriber =
-                new RemoveWorkspaceFilesAfterRemoveWorkspaceEventSubscriber(eventService, workspaceFilesCleaner);
+                new RemoveWorkspaceFilesAfterRemoveWorkspaceEventSubscriber(eventService, cleanupQueue);
     }
 
     @Test
@@ -58,12 +57,11 @@ public class RemoveWorkspaceFilesAfterRemoveWorkspaceEventSubscriberTest {
     }
 
     @Test
-    public void workspaceShouldBeCleaned() throws Exception {
+    public void workspaceShouldBeQueuedForCleanup() throws Exception {
         when(event.getWorkspace()).thenReturn(workspace);
 
         removeWorkspaceFilesAfterRemoveWorkspaceEventSubscriber.onEvent(event);
 
-        verify(event, timeout(2000)).getWorkspace();
-        verify(workspaceFilesCleaner, timeout(2000)).clear(workspace);
+        verify(cleanupQueue).add(workspace);
     }
 }
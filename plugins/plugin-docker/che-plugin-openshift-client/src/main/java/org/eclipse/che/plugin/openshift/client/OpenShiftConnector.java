@@ -24,6 +24,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -97,6 +98,7 @@ import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import io.fabric8.kubernetes.api.model.extensions.Deployment;
 import io.fabric8.kubernetes.api.model.extensions.DeploymentBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.openshift.api.model.ImageStream;
 import io.fabric8.openshift.api.model.ImageStreamTag;
 import io.fabric8.openshift.client.DefaultOpenShiftClient;
@@ -122,21 +124,25 @@ public class OpenShiftConnector extends DockerConnector {
     private static final int CHE_TERMINAL_AGENT_PORT                     = 4411;
     private static final String DOCKER_PROTOCOL_PORT_DELIMITER           = "/";
     private static final String OPENSHIFT_SERVICE_TYPE_NODE_PORT         = "NodePort";
-    private static final int OPENSHIFT_WAIT_POD_DELAY                    = 1000;
-    private static final int OPENSHIFT_WAIT_POD_TIMEOUT                  = 240;
-    private static final int OPENSHIFT_IMAGESTREAM_WAIT_DELAY            = 2000;
-    private static final int OPENSHIFT_IMAGESTREAM_MAX_WAIT_COUNT        = 30;
+    private static final long OPENSHIFT_WAIT_POD_TIMEOUT_MS               = 240_000;
+    private static final long OPENSHIFT_IMAGESTREAM_WAIT_TIMEOUT_MS      = 60_000;
+    static final long         EVENTS_MIN_RETRY_DELAY_MS                  = 1_000;
+    static final long         EVENTS_MAX_RETRY_DELAY_MS                  = 60_000;
     private static final String OPENSHIFT_POD_STATUS_RUNNING             = "Running";
     private static final String OPENSHIFT_DEPLOYMENT_LABEL               = "deployment";
     private static final String OPENSHIFT_IMAGE_PULL_POLICY_IFNOTPRESENT = "IfNotPresent";
     private static final Long UID_ROOT                                   = Long.valueOf(0);
     private static final Long UID_USER                                   = Long.valueOf(1000);
 
-    private final OpenShiftClient openShiftClient;
-    private final String          openShiftCheProjectName;
-    private final String          openShiftCheServiceAccount;
-    private final int             openShiftLivenessProbeDelay;
-    private final int             openShiftLivenessProbeTimeout;
+    private final OpenShiftClient           openShiftClient;
+    private final OpenShiftNamespaceWatcher namespaceWatcher;
+    private final String                    openShiftCheProjectName;
+    private final String                    openShiftCheServiceAccount;
+    private final int                       openShiftLivenessProbeDelay;
+    private final int                       openShiftLivenessProbeTimeout;
+
+    /** Delay before the next watch of the events if the previous one failed or was closed right after opening. */
+    private volatile long eventsRetryDelayMs = EVENTS_MIN_RETRY_DELAY_MS;
 
     @Inject
     public OpenShiftConnector(DockerConnectorConfiguration connectorConfiguration,
@@ -147,6 +153,29 @@ public class OpenShiftConnector extends DockerConnector {
                               @Named("che.openshift.serviceaccountname") String openShiftCheServiceAccount,
                               @Named("che.openshift.liveness.probe.delay") int openShiftLivenessProbeDelay,
                               @Named("che.openshift.liveness.probe.timeout") int openShiftLivenessProbeTimeout) {
+        this(connectorConfiguration,
+             connectionFactory,
+             authResolver,
+             dockerApiVersionPathPrefixProvider,
+             openShiftCheProjectName,
+             openShiftCheServiceAccount,
+             openShiftLivenessProbeDelay,
+             openShiftLivenessProbeTimeout,
+             new DefaultOpenShiftClient());
+    }
+
+    /**
+     * Creates connector which uses given OpenShift client, e.g. the client of the fabric8 mock server.
+     */
+    OpenShiftConnector(DockerConnectorConfiguration connectorConfiguration,
+                       DockerConnectionFactory connectionFactory,
+                       DockerRegistryAuthResolver authResolver,
+                       DockerApiVersionPathPrefixProvider dockerApiVersionPathPrefixProvider,
+                       String openShiftCheProjectName,
+                       String openShiftCheServiceAccount,
+                       int openShiftLivenessProbeDelay,
+                       int openShiftLivenessProbeTimeout,
+                       OpenShiftClient openShiftClient) {
 
         super(connectorConfiguration, connectionFactory, authResolver, dockerApiVersionPathPrefixProvider);
         this.openShiftCheProjectName = openShiftCheProjectName;
@@ -154,7 +183,14 @@ public class OpenShiftConnector extends DockerConnector {
         this.openShiftLivenessProbeDelay = openShiftLivenessProbeDelay;
         this.openShiftLivenessProbeTimeout = openShiftLivenessProbeTimeout;
 
-        this.openShiftClient = new DefaultOpenShiftClient();
+        this.openShiftClient = openShiftClient;
+        this.namespaceWatcher = new OpenShiftNamespaceWatcher(openShiftClient, openShiftCheProjectName);
+    }
+
+    /** Closes the watches of the namespace, threads waiting for the events are released. */
+    @PreDestroy
+    public void stop() {
+        namespaceWatcher.close();
     }
 
     /**
@@ -481,24 +517,22 @@ public class OpenShiftConnector extends DockerConnector {
         }
 
         // Wait for Image metadata to be obtained.
-        ImageStream createdImageStream;
-        for (int waitCount = 0; waitCount < OPENSHIFT_IMAGESTREAM_MAX_WAIT_COUNT; waitCount++) {
-            try {
-                Thread.sleep(OPENSHIFT_IMAGESTREAM_WAIT_DELAY);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-
-            createdImageStream = openShiftClient.imageStreams()
-                                                .inNamespace(openShiftCheProjectName)
-                                                .withName(imageStreamName)
-                                                .get();
-
-            if (createdImageStream != null
-                    && createdImageStream.getStatus().getDockerImageRepository() != null) {
+        try {
+            boolean created = namespaceWatcher.waitForImageStream(imageStreamName, OPENSHIFT_IMAGESTREAM_WAIT_TIMEOUT_MS, () -> {
+                ImageStream createdImageStream = openShiftClient.imageStreams()
+                                                                .inNamespace(openShiftCheProjectName)
+                                                                .withName(imageStreamName)
+                                                                .get();
+                return createdImageStream != null
+                       && createdImageStream.getStatus() != null
+                       && !isNullOrEmpty(createdImageStream.getStatus().getDockerImageRepository());
+            });
+            if (created) {
                 LOG.info(String.format("Created ImageStream %s.", imageStreamName));
                 return;
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
 
         throw new OpenShiftException(String.format("Failed to create ImageStream %s.",
@@ -603,8 +637,50 @@ public class OpenShiftConnector extends DockerConnector {
         return repo; // Return value not used.
     }
 
+    /**
+     * Translates terminations of the containers of the workspace pods into {@code oom} and {@code die} events.
+     * Events which happened before the call are not delivered, so {@code since} and {@code until} parameters
+     * are ignored. Like {@link DockerConnector#getEvents(GetEventsParams, MessageProcessor)} the method blocks
+     * until the underlying watch is closed.
+     *
+     * <p> Callers re-open the events stream in a loop, so if the watch fails or is closed right after opening,
+     * e.g. OpenShift API is not available, the method returns only after a delay, which is doubled on each
+     * such failure up to {@link #EVENTS_MAX_RETRY_DELAY_MS}.
+     */
     @Override
-    public void getEvents(final GetEventsParams params, MessageProcessor<Event> messageProcessor) {}
+    public void getEvents(final GetEventsParams params, MessageProcessor<Event> messageProcessor) throws IOException {
+        Filters filters = params.getFilters();
+        List<String> statuses = filters == null ? null : filters.getFilter("event");
+        long startTime = System.currentTimeMillis();
+        try {
+            namespaceWatcher.processContainerEvents(event -> {
+                if (statuses == null || statuses.contains(event.getStatus())) {
+                    messageProcessor.process(event);
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (KubernetesClientException e) {
+            backOffIfWatchFailed(startTime);
+            throw new OpenShiftException(e.getLocalizedMessage());
+        }
+        backOffIfWatchFailed(startTime);
+    }
+
+    private void backOffIfWatchFailed(long watchStartTime) {
+        if (System.currentTimeMillis() - watchStartTime >= EVENTS_MAX_RETRY_DELAY_MS) {
+            eventsRetryDelayMs = EVENTS_MIN_RETRY_DELAY_MS;
+            return;
+        }
+        long delay = eventsRetryDelayMs;
+        eventsRetryDelayMs = Math.min(delay * 2, EVENTS_MAX_RETRY_DELAY_MS);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
     /**
      * Gets the ImageStreamTag corresponding to a given tag name (i.e. without the repository)
@@ -829,6 +905,7 @@ public class OpenShiftConnector extends DockerConnector {
      */
     private ImageStreamTag createImageStreamTag(String sourceImageWithTag,
                                                 String imageStreamTagName) throws IOException {
+        String imageStreamName = imageStreamTagName.split(":")[0];
         try {
             openShiftClient.imageStreamTags()
                            .inNamespace(openShiftCheProjectName)
@@ -844,19 +921,20 @@ public class OpenShiftConnector extends DockerConnector {
                            .endTag()
                            .done();
 
-            // Wait for image metadata to be pulled
-            for (int waitCount = 0; waitCount < OPENSHIFT_IMAGESTREAM_MAX_WAIT_COUNT; waitCount++) {
-                Thread.sleep(OPENSHIFT_IMAGESTREAM_WAIT_DELAY);
-                ImageStreamTag createdTag = openShiftClient.imageStreamTags()
-                                                           .inNamespace(openShiftCheProjectName)
-                                                           .withName(imageStreamTagName)
-                                                           .get();
-                if (createdTag != null) {
-                    LOG.info(String.format("Created ImageStreamTag %s in namespace %s",
-                                           createdTag.getMetadata().getName(),
-                                           openShiftCheProjectName));
-                    return createdTag;
-                }
+            // Wait for image metadata to be pulled, tags are part of the image stream so changes of the stream are awaited
+            ImageStreamTag[] createdTag = new ImageStreamTag[1];
+            boolean created = namespaceWatcher.waitForImageStream(imageStreamName, OPENSHIFT_IMAGESTREAM_WAIT_TIMEOUT_MS, () -> {
+                createdTag[0] = openShiftClient.imageStreamTags()
+                                               .inNamespace(openShiftCheProjectName)
+                                               .withName(imageStreamTagName)
+                                               .get();
+                return createdTag[0] != null;
+            });
+            if (created) {
+                LOG.info(String.format("Created ImageStreamTag %s in namespace %s",
+                                       createdTag[0].getMetadata().getName(),
+                                       openShiftCheProjectName));
+                return createdTag[0];
             }
 
             throw new ImageNotFoundException(String.format("Image %s not found.", sourceImageWithTag));
@@ -956,16 +1034,10 @@ public class OpenShiftConnector extends DockerConnector {
 
         // Wait for all pods to terminate before returning.
         try {
-            for (int waitCount = 0; waitCount < OPENSHIFT_WAIT_POD_TIMEOUT; waitCount++) {
-                List<Pod> pods = openShiftClient.pods()
-                                                .inNamespace(openShiftCheProjectName)
-                                                .withLabel(OPENSHIFT_DEPLOYMENT_LABEL, deploymentName)
-                                                .list()
-                                                .getItems();
-                if (pods.size() == 0) {
-                    return;
-                }
-                Thread.sleep(OPENSHIFT_WAIT_POD_DELAY);
+            boolean terminated = namespaceWatcher.waitForPods(deploymentName, OPENSHIFT_WAIT_POD_TIMEOUT_MS,
+                                                              () -> getPodsOfDeployment(deploymentName).isEmpty());
+            if (terminated) {
+                return;
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -1022,45 +1094,50 @@ public class OpenShiftConnector extends DockerConnector {
     }
 
     private String waitAndRetrieveContainerID(String deploymentName) throws IOException {
-        for (int i = 0; i < OPENSHIFT_WAIT_POD_TIMEOUT; i++) {
-            try {
-                Thread.sleep(OPENSHIFT_WAIT_POD_DELAY);
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt();
+        Pod[] runningPod = new Pod[1];
+        try {
+            boolean running = namespaceWatcher.waitForPods(deploymentName, OPENSHIFT_WAIT_POD_TIMEOUT_MS, () -> {
+                List<Pod> pods = getPodsOfDeployment(deploymentName);
+                if (pods.size() > 1) {
+                    throw new OpenShiftException(String.format("Multiple pods with deployment name %s found",
+                                                               deploymentName));
+                }
+                // pod may be not created by the deployment yet
+                if (pods.size() == 1 && OPENSHIFT_POD_STATUS_RUNNING.equals(pods.get(0).getStatus().getPhase())) {
+                    runningPod[0] = pods.get(0);
+                    return true;
+                }
+                return false;
+            });
+            if (!running) {
+                return null;
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
 
-            List<Pod> pods = openShiftClient.pods()
-                                .inNamespace(this.openShiftCheProjectName)
-                                .withLabel(OPENSHIFT_DEPLOYMENT_LABEL, deploymentName)
-                                .list()
-                                .getItems();
-
-            if (pods.size() < 1) {
-                throw new OpenShiftException(String.format("Pod with deployment name %s not found",
-                                                           deploymentName));
-            } else if (pods.size() > 1) {
-                throw new OpenShiftException(String.format("Multiple pods with deployment name %s found",
-                                                           deploymentName));
-            }
+        Pod pod = runningPod[0];
+        String containerID = pod.getStatus().getContainerStatuses().get(0).getContainerID();
+        String normalizedID = KubernetesStringUtils.normalizeContainerID(containerID);
+        openShiftClient.pods()
+                       .inNamespace(openShiftCheProjectName)
+                       .withName(pod.getMetadata().getName())
+                       .edit()
+                       .editMetadata()
+                           .addToLabels(CHE_CONTAINER_IDENTIFIER_LABEL_KEY,
+                                        KubernetesStringUtils.getLabelFromContainerID(normalizedID))
+                       .endMetadata()
+                       .done();
+        return normalizedID;
+    }
 
-            Pod pod = pods.get(0);
-            String status = pod.getStatus().getPhase();
-            if (OPENSHIFT_POD_STATUS_RUNNING.equals(status)) {
-                String containerID = pod.getStatus().getContainerStatuses().get(0).getContainerID();
-                String normalizedID = KubernetesStringUtils.normalizeContainerID(containerID);
-                openShiftClient.pods()
-                               .inNamespace(openShiftCheProjectName)
-                               .withName(pod.getMetadata().getName())
-                               .edit()
-                               .editMetadata()
-                                   .addToLabels(CHE_CONTAINER_IDENTIFIER_LABEL_KEY,
-                                                KubernetesStringUtils.getLabelFromContainerID(normalizedID))
-                               .endMetadata()
-                               .done();
-                return normalizedID;
-            }
-        }
-        return null;
+    private List<Pod> getPodsOfDeployment(String deploymentName) {
+        return openShiftClient.pods()
+                              .inNamespace(openShiftCheProjectName)
+                              .withLabel(OPENSHIFT_DEPLOYMENT_LABEL, deploymentName)
+                              .list()
+                              .getItems();
     }
 
     /**
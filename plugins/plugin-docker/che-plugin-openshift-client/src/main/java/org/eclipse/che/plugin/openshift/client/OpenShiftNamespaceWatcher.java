@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.openshift.client;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.che.plugin.docker.client.MessageProcessor;
+import org.eclipse.che.plugin.docker.client.json.Event;
+import org.eclipse.che.plugin.openshift.client.kubernetes.KubernetesStringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.api.model.ContainerStateTerminated;
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.openshift.api.model.ImageStream;
+import io.fabric8.openshift.client.OpenShiftClient;
+
+/**
+ * Watches pods and image streams of the OpenShift namespace.
+ *
+ * <p> A single watch per resource kind is shared by all the workspaces of the namespace. Watch
+ * events are used to wake up threads waiting for pods and image streams to become ready instead of
+ * polling the API with a fixed delay, and terminations of the pod containers are translated into
+ * docker-like {@code oom} and {@code die} events.
+ *
+ * <p> Watch events only trigger re-check of the condition, so waiting is still correct if some event
+ * is missed, e.g. while the watch is reconnecting, the condition is re-checked at least every
+ * {@link #RECHECK_DELAY_MS} anyway.
+ */
+public class OpenShiftNamespaceWatcher {
+    private static final Logger LOG = LoggerFactory.getLogger(OpenShiftNamespaceWatcher.class);
+
+    static final long RECHECK_DELAY_MS = 10_000;
+
+    private static final String POD_KEY_PREFIX          = "pod:";
+    private static final String IMAGE_STREAM_KEY_PREFIX = "imagestream:";
+    private static final String DEPLOYMENT_LABEL        = "deployment";
+    private static final String OOM_KILLED_REASON       = "OOMKilled";
+
+    /** Condition which is checked against the OpenShift API. */
+    public interface Condition {
+        boolean test() throws IOException;
+    }
+
+    private final OpenShiftClient               openShiftClient;
+    private final String                        namespace;
+    private final Map<String, Set<Semaphore>>   waiters;
+    private final List<MessageProcessor<Event>> eventProcessors;
+    /** Containers which termination has been already reported. */
+    private final Set<String>                   terminatedContainers;
+
+    private Watch          podWatch;
+    private Watch          imageStreamWatch;
+    private CountDownLatch podWatchClosed;
+    private boolean        closed;
+
+    public OpenShiftNamespaceWatcher(OpenShiftClient openShiftClient, String namespace) {
+        this.openShiftClient = openShiftClient;
+        this.namespace = namespace;
+        this.waiters = new ConcurrentHashMap<>();
+        this.eventProcessors = new CopyOnWriteArrayList<>();
+        this.terminatedContainers = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Waits until the condition on the pods of the deployment is met.
+     *
+     * @return {@code true} if the condition is met and {@code false} if timeout is reached
+     */
+    public boolean waitForPods(String deploymentName, long timeoutMs, Condition condition) throws IOException,
+                                                                                                  InterruptedException {
+        startPodWatch();
+        return waitFor(POD_KEY_PREFIX + deploymentName, timeoutMs, condition);
+    }
+
+    /**
+     * Waits until the condition on the image stream is met.
+     *
+     * @return {@code true} if the condition is met and {@code false} if timeout is reached
+     */
+    public boolean waitForImageStream(String imageStreamName, long timeoutMs, Condition condition) throws IOException,
+                                                                                                          InterruptedException {
+        startImageStreamWatch();
+        return waitFor(IMAGE_STREAM_KEY_PREFIX + imageStreamName, timeoutMs, condition);
+    }
+
+    /**
+     * Delivers {@code oom} and {@code die} events of the containers of the namespace to the processor
+     * until the watch is closed or the thread is interrupted.
+     */
+    public void processContainerEvents(MessageProcessor<Event> processor) throws InterruptedException {
+        // processor is registered before the watch is started, so the events of the new watch are not missed
+        eventProcessors.add(processor);
+        try {
+            startPodWatch().await();
+        } finally {
+            eventProcessors.remove(processor);
+        }
+    }
+
+    /**
+     * Closes the watches, threads waiting for container events are released.
+     * Watches are not opened again after that, events are not delivered anymore.
+     */
+    public synchronized void close() {
+        closed = true;
+        if (podWatch != null) {
+            podWatch.close();
+            podWatch = null;
+        }
+        if (podWatchClosed != null) {
+            podWatchClosed.countDown();
+        }
+        if (imageStreamWatch != null) {
+            imageStreamWatch.close();
+            imageStreamWatch = null;
+        }
+    }
+
+    private boolean waitFor(String key, long timeoutMs, Condition condition) throws IOException, InterruptedException {
+        Semaphore changes = new Semaphore(0);
+        // register before the first check, so changes made in between are not missed
+        waiters.compute(key, (k, semaphores) -> {
+            Set<Semaphore> result = semaphores == null ? ConcurrentHashMap.newKeySet() : semaphores;
+            result.add(changes);
+            return result;
+        });
+        try {
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            while (!condition.test()) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                changes.tryAcquire(Math.min(remaining, RECHECK_DELAY_MS), TimeUnit.MILLISECONDS);
+                changes.drainPermits();
+            }
+            return true;
+        } finally {
+            waiters.computeIfPresent(key, (k, semaphores) -> {
+                semaphores.remove(changes);
+                return semaphores.isEmpty() ? null : semaphores;
+            });
+        }
+    }
+
+    private void signal(String key) {
+        Set<Semaphore> semaphores = waiters.get(key);
+        if (semaphores != null) {
+            semaphores.forEach(Semaphore::release);
+        }
+    }
+
+    private synchronized CountDownLatch startPodWatch() {
+        if (closed) {
+            return new CountDownLatch(0);
+        }
+        if (podWatch == null) {
+            podWatchClosed = new CountDownLatch(1);
+            podWatch = watchPods(new PodWatcher(podWatchClosed));
+        }
+        return podWatchClosed;
+    }
+
+    private synchronized void startImageStreamWatch() {
+        if (imageStreamWatch == null && !closed) {
+            imageStreamWatch = watchImageStreams(new ImageStreamWatcher());
+        }
+    }
+
+    Watch watchPods(Watcher<Pod> watcher) {
+        return openShiftClient.pods().inNamespace(namespace).watch(watcher);
+    }
+
+    Watch watchImageStreams(Watcher<ImageStream> watcher) {
+        return openShiftClient.imageStreams().inNamespace(namespace).watch(watcher);
+    }
+
+    private synchronized void podWatchClosed(CountDownLatch closed) {
+        if (podWatchClosed == closed) {
+            podWatch = null;
+        }
+        closed.countDown();
+    }
+
+    private synchronized void imageStreamWatchClosed() {
+        imageStreamWatch = null;
+    }
+
+    void onPodEvent(Watcher.Action action, Pod pod) {
+        Map<String, String> labels = pod.getMetadata() == null ? null : pod.getMetadata().getLabels();
+        if (labels != null && labels.containsKey(DEPLOYMENT_LABEL)) {
+            signal(POD_KEY_PREFIX + labels.get(DEPLOYMENT_LABEL));
+        }
+        if (pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+            return;
+        }
+        for (ContainerStatus status : pod.getStatus().getContainerStatuses()) {
+            if (status.getContainerID() == null) {
+                continue;
+            }
+            String containerId = KubernetesStringUtils.normalizeContainerID(status.getContainerID());
+            ContainerStateTerminated terminated = status.getState() == null ? null : status.getState().getTerminated();
+            if ((terminated != null || action == Watcher.Action.DELETED) && terminatedContainers.add(containerId)) {
+                long time = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+                if (terminated != null && OOM_KILLED_REASON.equals(terminated.getReason())) {
+                    dispatch(newEvent("oom", containerId, time));
+                }
+                dispatch(newEvent("die", containerId, time));
+            }
+            if (action == Watcher.Action.DELETED) {
+                // container never comes back, so there is no need to remember it any longer
+                terminatedContainers.remove(containerId);
+            }
+        }
+    }
+
+    void onImageStreamEvent(ImageStream imageStream) {
+        if (imageStream.getMetadata() != null) {
+            signal(IMAGE_STREAM_KEY_PREFIX + imageStream.getMetadata().getName());
+        }
+    }
+
+    private void dispatch(Event event) {
+        for (MessageProcessor<Event> processor : eventProcessors) {
+            try {
+                processor.process(event);
+            } catch (RuntimeException e) {
+                LOG.error(e.getLocalizedMessage(), e);
+            }
+        }
+    }
+
+    private static Event newEvent(String status, String containerId, long time) {
+        return new Event().withStatus(status)
+                          .withAction(status)
+                          .withType("container")
+                          .withId(containerId)
+                          .withTime(time);
+    }
+
+    private class PodWatcher implements Watcher<Pod> {
+        private final CountDownLatch closed;
+
+        PodWatcher(CountDownLatch closed) {
+            this.closed = closed;
+        }
+
+        @Override
+        public void eventReceived(Action action, Pod pod) {
+            onPodEvent(action, pod);
+        }
+
+        @Override
+        public void onClose(KubernetesClientException cause) {
+            if (cause != null) {
+                LOG.warn("Watch of pods in namespace {} has been closed: {}", namespace, cause.getLocalizedMessage());
+            }
+            podWatchClosed(closed);
+        }
+    }
+
+    private class ImageStreamWatcher implements Watcher<ImageStream> {
+        @Override
+        public void eventReceived(Action action, ImageStream imageStream) {
+            onImageStreamEvent(imageStream);
+        }
+
+        @Override
+        public void onClose(KubernetesClientException cause) {
+            if (cause != null) {
+                LOG.warn("Watch of image streams in namespace {} has been closed: {}", namespace, cause.getLocalizedMessage());
+            }
+            imageStreamWatchClosed();
+        }
+    }
+}
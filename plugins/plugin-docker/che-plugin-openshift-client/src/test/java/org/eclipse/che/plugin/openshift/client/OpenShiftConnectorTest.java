@@ -13,20 +13,36 @@ package org.eclipse.che.plugin.openshift.client;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.che.plugin.docker.client.DockerApiVersionPathPrefixProvider;
 import org.eclipse.che.plugin.docker.client.DockerConnectorConfiguration;
 import org.eclipse.che.plugin.docker.client.DockerRegistryAuthResolver;
 import org.eclipse.che.plugin.docker.client.connection.DockerConnectionFactory;
 import org.eclipse.che.plugin.docker.client.json.ContainerConfig;
+import org.eclipse.che.plugin.docker.client.json.Event;
+import org.eclipse.che.plugin.docker.client.json.Filters;
 import org.eclipse.che.plugin.docker.client.params.CreateContainerParams;
+import org.eclipse.che.plugin.docker.client.params.GetEventsParams;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.openshift.client.server.mock.OpenShiftServer;
+
 @Listeners(MockitoTestNGListener.class)
 public class OpenShiftConnectorTest {
     private static final String[] CONTAINER_ENV_VARIABLES = {"CHE_WORKSPACE_ID=abcd1234"};
@@ -34,6 +50,7 @@ public class OpenShiftConnectorTest {
     private static final String   CHE_DEFAULT_OPENSHIFT_SERVICEACCOUNT = "cheserviceaccount";
     private static final int      OPENSHIFT_LIVENESS_PROBE_DELAY = 300;
     private static final int      OPENSHIFT_LIVENESS_PROBE_TIMEOUT = 1;
+    private static final String   CONTAINER_ID = "0123456789abcdef";
 
     @Mock
     private DockerConnectorConfiguration       dockerConnectorConfiguration;
@@ -71,4 +88,104 @@ public class OpenShiftConnectorTest {
         //Then
         assertEquals(workspaceID, expectedWorkspaceID);
     }
+
+    @Test
+    public void shouldTranslateTerminationOfPodContainerIntoDieEvent() throws Exception {
+        OpenShiftServer server = new OpenShiftServer(false);
+        server.before();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            server.expect()
+                  .withPath("/api/v1/namespaces/" + CHE_DEFAULT_OPENSHIFT_PROJECT_NAME + "/pods?watch=true")
+                  .andUpgradeToWebSocket()
+                  .open()
+                  .waitFor(100).andEmit(new WatchEvent(createTerminatedPod("OOMKilled"), "MODIFIED"))
+                  .waitFor(60_000).andEmit(new WatchEvent(createTerminatedPod("Error"), "DELETED"))
+                  .done()
+                  .once();
+            openShiftConnector = new OpenShiftConnector(dockerConnectorConfiguration,
+                                                        dockerConnectionFactory,
+                                                        authManager,
+                                                        dockerApiVersionPathPrefixProvider,
+                                                        CHE_DEFAULT_OPENSHIFT_PROJECT_NAME,
+                                                        CHE_DEFAULT_OPENSHIFT_SERVICEACCOUNT,
+                                                        OPENSHIFT_LIVENESS_PROBE_DELAY,
+                                                        OPENSHIFT_LIVENESS_PROBE_TIMEOUT,
+                                                        server.getOpenshiftClient());
+            List<Event> events = new CopyOnWriteArrayList<>();
+            CountDownLatch received = new CountDownLatch(1);
+
+            Future<?> processing = executor.submit(() -> {
+                openShiftConnector.getEvents(GetEventsParams.create().withFilters(new Filters().withFilter("event", "die")),
+                                             event -> {
+                                                 events.add(event);
+                                                 received.countDown();
+                                             });
+                return null;
+            });
+            assertTrue(received.await(10, TimeUnit.SECONDS));
+            // stop closes the watch, so the connector returns
+            openShiftConnector.stop();
+            processing.get(OpenShiftConnector.EVENTS_MIN_RETRY_DELAY_MS + 10_000, TimeUnit.MILLISECONDS);
+
+            assertEquals(events.size(), 1);
+            assertEquals(events.get(0).getStatus(), "die");
+            assertEquals(events.get(0).getId(), CONTAINER_ID);
+        } finally {
+            if (openShiftConnector != null) {
+                openShiftConnector.stop();
+            }
+            executor.shutdownNow();
+            server.after();
+        }
+    }
+
+    @Test
+    public void shouldDelayReturnFromEventsWhenWatchIsClosedRightAway() throws Exception {
+        OpenShiftServer server = new OpenShiftServer(false);
+        server.before();
+        try {
+            // no expectation for the watch, so it fails right after opening
+            openShiftConnector = new OpenShiftConnector(dockerConnectorConfiguration,
+                                                        dockerConnectionFactory,
+                                                        authManager,
+                                                        dockerApiVersionPathPrefixProvider,
+                                                        CHE_DEFAULT_OPENSHIFT_PROJECT_NAME,
+                                                        CHE_DEFAULT_OPENSHIFT_SERVICEACCOUNT,
+                                                        OPENSHIFT_LIVENESS_PROBE_DELAY,
+                                                        OPENSHIFT_LIVENESS_PROBE_TIMEOUT,
+                                                        server.getOpenshiftClient());
+            long start = System.currentTimeMillis();
+
+            try {
+                openShiftConnector.getEvents(GetEventsParams.create(), event -> {});
+            } catch (IOException ignored) {
+                // watch may fail to open as well
+            }
+
+            assertTrue(System.currentTimeMillis() - start >= OpenShiftConnector.EVENTS_MIN_RETRY_DELAY_MS);
+        } finally {
+            openShiftConnector.stop();
+            server.after();
+        }
+    }
+
+    private static Pod createTerminatedPod(String terminationReason) {
+        return new PodBuilder().withNewMetadata()
+                                   .withName("che-ws-abcd1234-1-xyz")
+                                   .addToLabels("deployment", "che-ws-abcd1234")
+                               .endMetadata()
+                               .withNewStatus()
+                                   .withPhase("Failed")
+                                   .addNewContainerStatus()
+                                       .withContainerID("docker://" + CONTAINER_ID)
+                                       .withNewState()
+                                           .withNewTerminated()
+                                               .withReason(terminationReason)
+                                           .endTerminated()
+                                       .endState()
+                                   .endContainerStatus()
+                               .endStatus()
+                               .build();
+    }
 }
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.openshift.client;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.che.plugin.docker.client.json.Event;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.openshift.api.model.ImageStream;
+import io.fabric8.openshift.client.OpenShiftClient;
+
+public class OpenShiftNamespaceWatcherTest {
+    private static final String DEPLOYMENT   = "che-ws-abcd1234";
+    private static final String CONTAINER_ID = "0123456789abcdef";
+
+    private OpenShiftNamespaceWatcher watcher;
+    private ExecutorService           executor;
+    private List<Event>               events;
+    private CountDownLatch            podWatchStarted;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        executor = Executors.newSingleThreadExecutor();
+        events = new CopyOnWriteArrayList<>();
+        podWatchStarted = new CountDownLatch(1);
+        watcher = new OpenShiftNamespaceWatcher(mock(OpenShiftClient.class), "eclipse-che") {
+            @Override
+            Watch watchPods(Watcher<Pod> podWatcher) {
+                podWatchStarted.countDown();
+                return mock(Watch.class);
+            }
+
+            @Override
+            Watch watchImageStreams(Watcher<ImageStream> imageStreamWatcher) {
+                return mock(Watch.class);
+            }
+        };
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        watcher.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldTranslateTerminationOfContainerIntoDieEvent() throws Exception {
+        Future<?> processing = startProcessingEvents();
+
+        watcher.onPodEvent(Watcher.Action.MODIFIED, createPod("Error"));
+        watcher.onPodEvent(Watcher.Action.MODIFIED, createPod("Error"));
+        watcher.close();
+        processing.get(5, TimeUnit.SECONDS);
+
+        assertEquals(events.size(), 1);
+        assertEquals(events.get(0).getStatus(), "die");
+        assertEquals(events.get(0).getId(), CONTAINER_ID);
+    }
+
+    @Test
+    public void shouldSendOomEventBeforeDieEventWhenContainerIsOomKilled() throws Exception {
+        Future<?> processing = startProcessingEvents();
+
+        watcher.onPodEvent(Watcher.Action.MODIFIED, createPod("OOMKilled"));
+        watcher.close();
+        processing.get(5, TimeUnit.SECONDS);
+
+        assertEquals(events.size(), 2);
+        assertEquals(events.get(0).getStatus(), "oom");
+        assertEquals(events.get(1).getStatus(), "die");
+    }
+
+    @Test
+    public void shouldRecheckConditionWhenPodOfDeploymentIsChanged() throws Exception {
+        AtomicBoolean running = new AtomicBoolean();
+        CountDownLatch checked = new CountDownLatch(1);
+        Future<Boolean> waiting = executor.submit(() -> watcher.waitForPods(DEPLOYMENT, 60_000, () -> {
+            checked.countDown();
+            return running.get();
+        }));
+
+        // waiter is registered before the first check
+        assertTrue(checked.await(5, TimeUnit.SECONDS));
+        running.set(true);
+        watcher.onPodEvent(Watcher.Action.MODIFIED, createPod(null));
+
+        // condition is re-checked on the event, not after the periodic recheck delay
+        assertTrue(waiting.get(OpenShiftNamespaceWatcher.RECHECK_DELAY_MS / 2, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void shouldReturnFalseWhenConditionIsNotMetInTime() throws Exception {
+        assertFalse(watcher.waitForPods(DEPLOYMENT, 100, () -> false));
+    }
+
+    @Test
+    public void shouldNotDeliverEventsAfterClose() throws Exception {
+        watcher.close();
+
+        watcher.processContainerEvents(events::add);
+
+        assertEquals(podWatchStarted.getCount(), 1);
+        assertTrue(events.isEmpty());
+    }
+
+    private Future<?> startProcessingEvents() throws InterruptedException {
+        Future<?> processing = executor.submit(() -> {
+            watcher.processContainerEvents(events::add);
+            return null;
+        });
+        // processor is registered before the watch is started
+        assertTrue(podWatchStarted.await(5, TimeUnit.SECONDS));
+        return processing;
+    }
+
+    private static Pod createPod(String terminationReason) {
+        PodBuilder builder = new PodBuilder();
+        builder.withNewMetadata()
+                   .withName(DEPLOYMENT + "-1-xyz")
+                   .addToLabels("deployment", DEPLOYMENT)
+               .endMetadata();
+        if (terminationReason == null) {
+            return builder.withNewStatus()
+                              .withPhase("Running")
+                              .addNewContainerStatus()
+                                  .withContainerID("docker://" + CONTAINER_ID)
+                              .endContainerStatus()
+                          .endStatus()
+                          .build();
+        }
+        return builder.withNewStatus()
+                          .withPhase("Failed")
+                          .addNewContainerStatus()
+                              .withContainerID("docker://" + CONTAINER_ID)
+                              .withNewState()
+                                  .withNewTerminated()
+                                      .withReason(terminationReason)
+                                  .endTerminated()
+                              .endState()
+                          .endContainerStatus()
+                      .endStatus()
+                      .build();
+    }
+}
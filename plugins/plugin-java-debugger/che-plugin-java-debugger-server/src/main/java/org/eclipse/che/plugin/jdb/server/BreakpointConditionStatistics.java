@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import com.google.inject.Singleton;
+
+import org.eclipse.che.plugin.jdb.server.dto.BreakpointConditionStatisticsDto;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * Collects evaluations of the breakpoint conditions made by all the java debug sessions,
+ * separately for each condition set at each breakpoint location.
+ * <p/>
+ * Conditions are evaluated on the server and VM is resumed if condition is false, so these
+ * evaluations are not visible to the client in any other way.
+ */
+@Singleton
+public class BreakpointConditionStatistics {
+    private final ConcurrentMap<ConditionKey, ConditionStatistics> conditions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns statistics of the given condition of the breakpoint at the given location,
+     * the same instance is returned for the same condition each time the breakpoint is set.
+     *
+     * @param className
+     *         fully qualified name of the class where the breakpoint is set
+     * @param lineNumber
+     *         line number of the breakpoint
+     * @param condition
+     *         condition expression of the breakpoint
+     */
+    public ConditionStatistics forCondition(String className, int lineNumber, String condition) {
+        return conditions.computeIfAbsent(new ConditionKey(className, lineNumber, condition), ConditionStatistics::new);
+    }
+
+    /** Returns snapshot of the statistics collected for each condition. */
+    public List<BreakpointConditionStatisticsDto> getStatistics() {
+        return conditions.values()
+                         .stream()
+                         .map(ConditionStatistics::toDto)
+                         .collect(toList());
+    }
+
+    /** Evaluations of a single breakpoint condition. */
+    public static class ConditionStatistics {
+        private final ConditionKey key;
+        private final AtomicLong   evaluations       = new AtomicLong();
+        private final AtomicLong   hits              = new AtomicLong();
+        private final AtomicLong   evaluationTime    = new AtomicLong();
+        private final AtomicLong   maxEvaluationTime = new AtomicLong();
+
+        private ConditionStatistics(ConditionKey key) {
+            this.key = key;
+        }
+
+        /**
+         * Adds single evaluation of the condition.
+         *
+         * @param hit
+         *         whether condition is true, so breakpoint is hit
+         * @param timeNanos
+         *         time of the evaluation in nanoseconds
+         */
+        public void add(boolean hit, long timeNanos) {
+            evaluations.incrementAndGet();
+            if (hit) {
+                hits.incrementAndGet();
+            }
+            evaluationTime.addAndGet(timeNanos);
+            maxEvaluationTime.accumulateAndGet(timeNanos, Math::max);
+        }
+
+        private BreakpointConditionStatisticsDto toDto() {
+            return newDto(BreakpointConditionStatisticsDto.class).withClassName(key.className)
+                                                                 .withLineNumber(key.lineNumber)
+                                                                 .withCondition(key.condition)
+                                                                 .withEvaluations(evaluations.get())
+                                                                 .withHits(hits.get())
+                                                                 .withEvaluationTimeMs(NANOSECONDS.toMillis(evaluationTime.get()))
+                                                                 .withMaxEvaluationTimeMs(NANOSECONDS.toMillis(maxEvaluationTime.get()));
+        }
+    }
+
+    private static final class ConditionKey {
+        private final String className;
+        private final int    lineNumber;
+        private final String condition;
+
+        private ConditionKey(String className, int lineNumber, String condition) {
+            this.className = className;
+            this.lineNumber = lineNumber;
+            this.condition = condition;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ConditionKey)) {
+                return false;
+            }
+            final ConditionKey that = (ConditionKey)obj;
+            return lineNumber == that.lineNumber
+                   && Objects.equals(className, that.className)
+                   && Objects.equals(condition, that.condition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(className, lineNumber, condition);
+        }
+    }
+}
@@ -62,6 +62,7 @@ import org.eclipse.che.plugin.jdb.server.exceptions.DebuggerAbsentInformationExc
 import org.eclipse.che.plugin.jdb.server.expression.Evaluator;
 import org.eclipse.che.plugin.jdb.server.expression.ExpressionException;
 import org.eclipse.che.plugin.jdb.server.expression.ExpressionParser;
+import org.eclipse.che.plugin.jdb.server.expression.MemberCache;
 import org.eclipse.che.plugin.jdb.server.utils.JavaDebuggerUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,9 +96,13 @@ public class JavaDebugger implements EventsHandler, Debugger {
     private static final Logger            LOG          = LoggerFactory.getLogger(JavaDebugger.class);
     private static final JavaDebuggerUtils debuggerUtil = new JavaDebuggerUtils();
 
-    private final String           host;
-    private final int              port;
-    private final DebuggerCallback debuggerCallback;
+    private static final String CONDITION_PARSER     = "org.eclipse.che.ide.java.debug.condition.expression.parser";
+    private static final String CONDITION_STATISTICS = "org.eclipse.che.ide.java.debug.condition.statistics";
+
+    private final String                        host;
+    private final int                           port;
+    private final DebuggerCallback              debuggerCallback;
+    private final BreakpointConditionStatistics conditionStatistics;
 
     /**
      * A mapping of source file names to breakpoints. This mapping is used to set
@@ -108,6 +113,12 @@ public class JavaDebugger implements EventsHandler, Debugger {
     /** Stores ClassPrepareRequests to prevent making duplicate class prepare requests. */
     private final ConcurrentMap<String, ClassPrepareRequest> classPrepareRequests = new ConcurrentHashMap<>();
 
+    /** Values of static final fields, they don't change so they are reused by all the suspends of the session. */
+    private final Map<com.sun.jdi.Field, com.sun.jdi.Value> constants = new ConcurrentHashMap<>();
+
+    /** Fields and methods of the types resolved by the evaluations of the expressions during the session. */
+    private final MemberCache members = new MemberCache();
+
     /** Target Java VM representation. */
     private VirtualMachine  vm;
     private EventsCollector eventsCollector;
@@ -126,13 +137,19 @@ public class JavaDebugger implements EventsHandler, Debugger {
      *         the host where JVM running
      * @param port
      *         the Java Debug Wire Protocol (JDWP) port
+     * @param conditionStatistics
+     *         collects evaluations of the breakpoint conditions
      * @throws DebuggerException
      *         when connection to Java VM is not established
      */
-    JavaDebugger(String host, int port, DebuggerCallback debuggerCallback) throws DebuggerException {
+    JavaDebugger(String host,
+                 int port,
+                 DebuggerCallback debuggerCallback,
+                 BreakpointConditionStatistics conditionStatistics) throws DebuggerException {
         this.host = host;
         this.port = port;
         this.debuggerCallback = debuggerCallback;
+        this.conditionStatistics = conditionStatistics;
         connect();
     }
 
@@ -253,7 +270,9 @@ public class JavaDebugger implements EventsHandler, Debugger {
             String expression = breakpoint.getCondition();
             if (!(expression == null || expression.isEmpty())) {
                 ExpressionParser parser = ExpressionParser.newInstance(expression);
-                breakPointRequest.putProperty("org.eclipse.che.ide.java.debug.condition.expression.parser", parser);
+                breakPointRequest.putProperty(CONDITION_PARSER, parser);
+                breakPointRequest.putProperty(CONDITION_STATISTICS,
+                                              conditionStatistics.forCondition(className, lineNumber, expression));
             }
             breakPointRequest.setEnabled(true);
         } catch (NativeMethodException | IllegalThreadStateException | InvalidRequestStateException e) {
@@ -564,11 +583,14 @@ public class JavaDebugger implements EventsHandler, Debugger {
     private boolean processBreakPointEvent(com.sun.jdi.event.BreakpointEvent event) throws DebuggerException {
         setCurrentThread(event.thread());
         boolean hitBreakpoint;
-        ExpressionParser parser =
-                (ExpressionParser)event.request().getProperty("org.eclipse.che.ide.java.debug.condition.expression.parser");
+        ExpressionParser parser = (ExpressionParser)event.request().getProperty(CONDITION_PARSER);
         if (parser != null) {
+            // Condition is evaluated right here and VM is resumed if it is false, so client isn't bothered with such hits at all.
+            final long startTime = System.nanoTime();
             com.sun.jdi.Value result = evaluate(parser);
             hitBreakpoint = result instanceof com.sun.jdi.BooleanValue && ((com.sun.jdi.BooleanValue)result).value();
+            ((BreakpointConditionStatistics.ConditionStatistics)event.request().getProperty(CONDITION_STATISTICS))
+                    .add(hitBreakpoint, System.nanoTime() - startTime);
         } else {
             // If there is no expression.
             hitBreakpoint = true;
@@ -678,7 +700,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
     private com.sun.jdi.Value evaluate(ExpressionParser parser) throws DebuggerException {
         final long startTime = System.currentTimeMillis();
         try {
-            return parser.evaluate(new Evaluator(vm, getCurrentThread()));
+            return parser.evaluate(new Evaluator(vm, getCurrentThread(), members));
         } catch (ExpressionException e) {
             throw new DebuggerException(e.getMessage(), e);
         } finally {
@@ -701,7 +723,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
             return stackFrame;
         }
         try {
-            stackFrame = new JdiStackFrameImpl(getCurrentThread().frame(0));
+            stackFrame = new JdiStackFrameImpl(getCurrentThread().frame(0), constants);
         } catch (IncompatibleThreadStateException e) {
             throw new DebuggerException("Thread is not suspended. ", e);
         }
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.jdb.server;
 
+import com.google.inject.Inject;
+
 import org.eclipse.che.api.debugger.server.Debugger;
 import org.eclipse.che.api.debugger.server.DebuggerFactory;
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
@@ -25,6 +27,13 @@ public class JavaDebuggerFactory implements DebuggerFactory {
 
     private static final String TYPE = "jdb";
 
+    private final BreakpointConditionStatistics conditionStatistics;
+
+    @Inject
+    public JavaDebuggerFactory(BreakpointConditionStatistics conditionStatistics) {
+        this.conditionStatistics = conditionStatistics;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -53,6 +62,6 @@ public class JavaDebuggerFactory implements DebuggerFactory {
             throw new DebuggerException("Unknown port property format: " + portProp);
         }
 
-        return new JavaDebugger(host, port, debuggerCallback);
+        return new JavaDebugger(host, port, debuggerCallback, conditionStatistics);
     }
 }
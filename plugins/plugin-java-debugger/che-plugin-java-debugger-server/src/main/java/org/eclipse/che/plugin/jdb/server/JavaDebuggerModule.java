@@ -15,6 +15,7 @@ import com.google.inject.multibindings.Multibinder;
 
 import org.eclipse.che.api.debugger.server.DebuggerFactory;
 import org.eclipse.che.inject.DynaModule;
+import org.eclipse.che.plugin.jdb.server.rest.BreakpointConditionService;
 
 /**
  * @author Anatoliy Bazko
@@ -25,5 +26,6 @@ public class JavaDebuggerModule extends AbstractModule {
     @Override
     protected void configure() {
         Multibinder.newSetBinder(binder(), DebuggerFactory.class).addBinding().to(JavaDebuggerFactory.class);
+        bind(BreakpointConditionService.class);
     }
 }
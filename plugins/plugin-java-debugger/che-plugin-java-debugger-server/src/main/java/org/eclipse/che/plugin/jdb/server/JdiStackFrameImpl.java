@@ -18,21 +18,42 @@ import com.sun.jdi.NativeMethodException;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.StackFrame;
+import com.sun.jdi.Value;
 
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 import org.eclipse.che.plugin.jdb.server.exceptions.DebuggerAbsentInformationException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-/** @author andrew00x */
+/**
+ * Values of the fields and local variables of the frame are fetched from the target VM
+ * in bulk, with a single request per object, instead of a request per value.
+ *
+ * @author andrew00x
+ */
 public class JdiStackFrameImpl implements JdiStackFrame {
     private final StackFrame         stackFrame;
+    private final Map<Field, Value>  constants;
     private       JdiField[]         fields;
     private       JdiLocalVariable[] localVariables;
 
     public JdiStackFrameImpl(StackFrame stackFrame) {
+        this(stackFrame, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * @param constants
+     *         values of static final fields of initialized classes, the values can't change so they are
+     *         shared between the frames of the debug session and fetched only once
+     */
+    public JdiStackFrameImpl(StackFrame stackFrame, Map<Field, Value> constants) {
         this.stackFrame = stackFrame;
+        this.constants = constants;
     }
 
     @Override
@@ -42,18 +63,21 @@ public class JdiStackFrameImpl implements JdiStackFrame {
                 ObjectReference object = stackFrame.thisObject();
                 if (object == null) {
                     ReferenceType type = stackFrame.location().declaringType();
-                    List<Field> fs = stackFrame.location().declaringType().allFields();
+                    List<Field> fs = type.allFields();
+                    Map<Field, Value> values = getStaticValues(type, fs);
                     fields = new JdiField[fs.size()];
                     int i = 0;
                     for (Field f : fs) {
-                        fields[i++] = new JdiFieldImpl(f, type);
+                        fields[i++] = values.containsKey(f) ? new JdiFieldImpl(f, type, values.get(f))
+                                                            : new JdiFieldImpl(f, type);
                     }
                 } else {
                     List<Field> fs = object.referenceType().allFields();
+                    Map<Field, Value> values = getValues(object, fs);
                     fields = new JdiField[fs.size()];
                     int i = 0;
                     for (Field f : fs) {
-                        fields[i++] = new JdiFieldImpl(f, object);
+                        fields[i++] = new JdiFieldImpl(f, object, values.get(f));
                     }
                 }
 
@@ -83,10 +107,11 @@ public class JdiStackFrameImpl implements JdiStackFrame {
         if (localVariables == null) {
             try {
                 List<LocalVariable> targetVariables = stackFrame.visibleVariables();
+                Map<LocalVariable, Value> values = stackFrame.getValues(targetVariables);
                 localVariables = new JdiLocalVariable[targetVariables.size()];
                 int i = 0;
                 for (LocalVariable var : targetVariables) {
-                    localVariables[i++] = new JdiLocalVariableImpl(stackFrame, var);
+                    localVariables[i++] = new JdiLocalVariableImpl(stackFrame, var, values.get(var));
                 }
             } catch (AbsentInformationException e) {
                 throw new DebuggerAbsentInformationException(e.getMessage(), e);
@@ -97,6 +122,62 @@ public class JdiStackFrameImpl implements JdiStackFrame {
         return localVariables;
     }
 
+    /** Fetches values of the fields of the object, constants are taken from the cache when possible. */
+    private Map<Field, Value> getValues(ObjectReference object, List<Field> fs) {
+        Map<Field, Value> values = new HashMap<>();
+        List<Field> toFetch = new ArrayList<>(fs.size());
+        for (Field f : fs) {
+            Value constant = constants.get(f);
+            if (constant != null) {
+                values.put(f, constant);
+            } else {
+                toFetch.add(f);
+            }
+        }
+        if (!toFetch.isEmpty()) {
+            Map<Field, Value> fetched = object.getValues(toFetch);
+            values.putAll(fetched);
+            cacheConstants(fetched);
+        }
+        return values;
+    }
+
+    /**
+     * Fetches values of the static fields of the type, frame of the static method has no access to instance fields
+     * so their values are not fetched.
+     */
+    private Map<Field, Value> getStaticValues(ReferenceType type, List<Field> fs) {
+        Map<Field, Value> values = new HashMap<>();
+        List<Field> toFetch = new ArrayList<>(fs.size());
+        for (Field f : fs) {
+            if (!f.isStatic()) {
+                continue;
+            }
+            Value constant = constants.get(f);
+            if (constant != null) {
+                values.put(f, constant);
+            } else {
+                toFetch.add(f);
+            }
+        }
+        if (!toFetch.isEmpty()) {
+            Map<Field, Value> fetched = type.getValues(toFetch);
+            values.putAll(fetched);
+            cacheConstants(fetched);
+        }
+        return values;
+    }
+
+    private void cacheConstants(Map<Field, Value> values) {
+        for (Map.Entry<Field, Value> entry : values.entrySet()) {
+            Field f = entry.getKey();
+            // value of the static final field may be changed until initialization of the class is completed
+            if (entry.getValue() != null && f.isStatic() && f.isFinal() && f.declaringType().isInitialized()) {
+                constants.put(f, entry.getValue());
+            }
+        }
+    }
+
     @Override
     public JdiLocalVariable getLocalVariableByName(String name) throws DebuggerException {
         if (name == null) {
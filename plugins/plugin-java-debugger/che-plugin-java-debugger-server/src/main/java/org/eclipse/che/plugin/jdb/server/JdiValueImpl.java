@@ -21,6 +21,7 @@ import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /** @author andrew00x */
 public class JdiValueImpl implements JdiValue {
@@ -46,20 +47,22 @@ public class JdiValueImpl implements JdiValue {
                 variables = new JdiVariable[0];
             } else {
                 if (isArray()) {
-                    ArrayReference array = (ArrayReference)value;
-                    int length = array.length();
-                    variables = new JdiVariable[length];
-                    for (int i = 0; i < length; i++) {
-                        variables[i] = new JdiArrayElementImpl(i, array.getValue(i));
+                    // all the elements are fetched with a single request
+                    List<Value> elements = ((ArrayReference)value).getValues();
+                    variables = new JdiVariable[elements.size()];
+                    for (int i = 0; i < variables.length; i++) {
+                        variables[i] = new JdiArrayElementImpl(i, elements.get(i));
                     }
                 } else {
                     ObjectReference object = (ObjectReference)value;
                     ReferenceType type = object.referenceType();
                     List<Field> fields = type.allFields();
+                    // values of all the fields are fetched with a single request
+                    Map<Field, Value> values = object.getValues(fields);
                     variables = new JdiVariable[fields.size()];
                     int i = 0;
                     for (Field f : fields) {
-                        variables[i++] = new JdiFieldImpl(f, object);
+                        variables[i++] = new JdiFieldImpl(f, object, values.get(f));
                     }
                     // See JdiFieldImpl#compareTo(JdiFieldImpl).
                     Arrays.sort(variables);
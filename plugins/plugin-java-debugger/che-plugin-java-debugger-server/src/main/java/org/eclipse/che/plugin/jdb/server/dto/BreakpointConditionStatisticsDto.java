@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Statistics of the evaluations of the condition of a single java breakpoint.
+ */
+@DTO
+public interface BreakpointConditionStatisticsDto {
+    /** Returns fully qualified name of the class where the breakpoint is set. */
+    String getClassName();
+
+    void setClassName(String className);
+
+    BreakpointConditionStatisticsDto withClassName(String className);
+
+    /** Returns line number of the breakpoint. */
+    int getLineNumber();
+
+    void setLineNumber(int lineNumber);
+
+    BreakpointConditionStatisticsDto withLineNumber(int lineNumber);
+
+    /** Returns condition expression of the breakpoint. */
+    String getCondition();
+
+    void setCondition(String condition);
+
+    BreakpointConditionStatisticsDto withCondition(String condition);
+
+    /** Returns number of the condition evaluations. */
+    long getEvaluations();
+
+    void setEvaluations(long evaluations);
+
+    BreakpointConditionStatisticsDto withEvaluations(long evaluations);
+
+    /** Returns number of the evaluations after which the breakpoint was hit. */
+    long getHits();
+
+    void setHits(long hits);
+
+    BreakpointConditionStatisticsDto withHits(long hits);
+
+    /** Returns total time of the condition evaluations in milliseconds. */
+    long getEvaluationTimeMs();
+
+    void setEvaluationTimeMs(long evaluationTimeMs);
+
+    BreakpointConditionStatisticsDto withEvaluationTimeMs(long evaluationTimeMs);
+
+    /** Returns the longest time of a single condition evaluation in milliseconds. */
+    long getMaxEvaluationTimeMs();
+
+    void setMaxEvaluationTimeMs(long maxEvaluationTimeMs);
+
+    BreakpointConditionStatisticsDto withMaxEvaluationTimeMs(long maxEvaluationTimeMs);
+}
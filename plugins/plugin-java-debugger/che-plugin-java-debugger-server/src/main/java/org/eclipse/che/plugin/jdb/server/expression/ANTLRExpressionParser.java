@@ -15,15 +15,19 @@ import com.sun.jdi.Value;
 import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.CommonTokenStream;
 import org.antlr.runtime.RecognitionException;
+import org.antlr.runtime.tree.CommonTree;
 import org.antlr.runtime.tree.CommonTreeNodeStream;
 
 /**
  * ANTLR based implementation of ExpressionParser.
+ * <p/>
+ * Expression is parsed once, the tree is reused by all the evaluations so the same instance may be
+ * evaluated many times, e.g. as condition of the breakpoint, and concurrently.
  *
  * @author andrew00x
  */
 public final class ANTLRExpressionParser extends ExpressionParser {
-    private CommonTreeNodeStream nodes;
+    private volatile CommonTree tree;
 
     public ANTLRExpressionParser(String expression) {
         super(expression);
@@ -32,22 +36,22 @@ public final class ANTLRExpressionParser extends ExpressionParser {
     @Override
     public Value evaluate(Evaluator ev) {
         try {
-            if (nodes == null) {
-                parse();
-            } else {
-                nodes.reset();
-            }
-            JavaTreeParser walker = new JavaTreeParser(nodes, ev);
+            JavaTreeParser walker = new JavaTreeParser(new CommonTreeNodeStream(getTree()), ev);
             return walker.evaluate();
         } catch (RecognitionException e) {
             throw new ExpressionException(e.getMessage(), e);
         }
     }
 
-    private void parse() throws RecognitionException {
-        JavaLexer lexer = new JavaLexer(new ANTLRStringStream(getExpression()));
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        JavaParser parser = new JavaParser(tokens);
-        nodes = new CommonTreeNodeStream(parser.expression().getTree());
+    private CommonTree getTree() throws RecognitionException {
+        CommonTree result = tree;
+        if (result == null) {
+            JavaLexer lexer = new JavaLexer(new ANTLRStringStream(getExpression()));
+            CommonTokenStream tokens = new CommonTokenStream(lexer);
+            JavaParser parser = new JavaParser(tokens);
+            // parsing is idempotent, so there is no harm if the tree is built twice by concurrent evaluations
+            tree = result = (CommonTree)parser.expression().getTree();
+        }
+        return result;
     }
 }
@@ -69,10 +69,20 @@ public class Evaluator {
 
     private final VirtualMachine  vm;
     private final ThreadReference thread;
+    private final MemberCache     members;
 
     public Evaluator(VirtualMachine vm, ThreadReference thread) {
+        this(vm, thread, new MemberCache());
+    }
+
+    /**
+     * @param members
+     *         cache of the fields and methods of the types, may be shared between evaluations in the same debug session
+     */
+    public Evaluator(VirtualMachine vm, ThreadReference thread, MemberCache members) {
         this.vm = vm;
         this.thread = thread;
+        this.members = members;
     }
 
     private static boolean isPrimitive(Type type) {
@@ -241,7 +251,7 @@ public class Evaluator {
         ExpressionValue value = null;
         try {
             ObjectReference object = (ObjectReference)parent;
-            Field field = object.referenceType().fieldByName(name);
+            Field field = members.fieldByName(object.referenceType(), name);
             if (field != null) {
                 value = new InstanceValue(object, field);
             }
@@ -391,7 +401,7 @@ public class Evaluator {
         }
         ObjectReference object = (ObjectReference)value;
         ReferenceType type = object.referenceType();
-        List<Method> methods = type.methodsByName(name);
+        List<Method> methods = members.methodsByName(type, name);
         Method method = findMethod(methods, arguments);
         if (method == null) {
             throw new ExpressionException("No method with name " + name + " matched to specified arguments for " + type.name());
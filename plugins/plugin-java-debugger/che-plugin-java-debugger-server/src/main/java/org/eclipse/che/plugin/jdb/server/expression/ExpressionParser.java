@@ -10,8 +10,16 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.jdb.server.expression;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.concurrent.ExecutionException;
+
 /** @author andrew00x */
 public abstract class ExpressionParser {
+    /** Parsers by expression text, the same conditions and watch expressions are evaluated over and over again. */
+    private static final Cache<String, ExpressionParser> PARSERS = CacheBuilder.newBuilder().maximumSize(256).build();
+
     private final String expression;
 
     protected ExpressionParser(String expression) {
@@ -23,11 +31,17 @@ public abstract class ExpressionParser {
      *
      * @param expression
      *         Java language expression
-     * @return concrete implementation of ExpressionParser
+     * @return concrete implementation of ExpressionParser, parsers are cached by expression so the same
+     * instance may be returned for the same expression
      */
     public static ExpressionParser newInstance(String expression) {
-        // At the moment create instance of ANTLRExpressionParser directly.
-        return new ANTLRExpressionParser(expression);
+        try {
+            // At the moment create instance of ANTLRExpressionParser directly.
+            return PARSERS.get(expression, () -> new ANTLRExpressionParser(expression));
+        } catch (ExecutionException e) {
+            // constructor of the parser doesn't throw checked exceptions
+            throw new IllegalStateException(e.getCause());
+        }
     }
 
     /**
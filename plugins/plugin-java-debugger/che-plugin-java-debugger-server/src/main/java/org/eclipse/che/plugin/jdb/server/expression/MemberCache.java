@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.expression;
+
+import com.sun.jdi.Field;
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Visible fields and methods of the types of the target VM indexed by name.
+ * <p/>
+ * Each lookup of the member by name is a request to the target VM, when the same expression is evaluated
+ * many times, e.g. as condition of the breakpoint, members of the type are fetched only once per debug session.
+ */
+public class MemberCache {
+    private final Map<ReferenceType, Members> members = new ConcurrentHashMap<>();
+
+    /**
+     * Returns visible field of the type with the given name or {@code null} if there is no such field.
+     *
+     * @see ReferenceType#fieldByName(String)
+     */
+    public Field fieldByName(ReferenceType type, String name) {
+        return getMembers(type).fields.get(name);
+    }
+
+    /**
+     * Returns visible methods of the type with the given name.
+     *
+     * @see ReferenceType#methodsByName(String)
+     */
+    public List<Method> methodsByName(ReferenceType type, String name) {
+        return getMembers(type).methods.getOrDefault(name, Collections.emptyList());
+    }
+
+    private Members getMembers(ReferenceType type) {
+        return members.computeIfAbsent(type, Members::new);
+    }
+
+    private static class Members {
+        final Map<String, Field>        fields  = new HashMap<>();
+        final Map<String, List<Method>> methods = new HashMap<>();
+
+        Members(ReferenceType type) {
+            for (Field field : type.visibleFields()) {
+                // fields of the type itself come first, they shadow fields of its supertypes with the same name
+                fields.putIfAbsent(field.name(), field);
+            }
+            for (Method method : type.visibleMethods()) {
+                methods.computeIfAbsent(method.name(), name -> new ArrayList<>()).add(method);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.rest;
+
+import com.google.inject.Inject;
+
+import org.eclipse.che.plugin.jdb.server.BreakpointConditionStatistics;
+import org.eclipse.che.plugin.jdb.server.dto.BreakpointConditionStatisticsDto;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import java.util.List;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+
+/**
+ * Service which provides statistics of each breakpoint condition evaluated by the java debugger.
+ */
+@Path("java/debugger/conditions")
+public class BreakpointConditionService {
+
+    @Inject
+    private BreakpointConditionStatistics conditionStatistics;
+
+    @GET
+    @Path("statistics")
+    @Produces(APPLICATION_JSON)
+    public List<BreakpointConditionStatisticsDto> getStatistics() {
+        return conditionStatistics.getStatistics();
+    }
+}
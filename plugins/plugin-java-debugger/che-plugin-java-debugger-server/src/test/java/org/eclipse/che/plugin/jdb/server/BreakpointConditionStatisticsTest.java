@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import org.eclipse.che.plugin.jdb.server.BreakpointConditionStatistics.ConditionStatistics;
+import org.eclipse.che.plugin.jdb.server.dto.BreakpointConditionStatisticsDto;
+import org.testng.annotations.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests {@link BreakpointConditionStatistics}.
+ */
+public class BreakpointConditionStatisticsTest {
+
+    @Test
+    public void shouldCollectEvaluationsOfEachConditionSeparately() throws Exception {
+        BreakpointConditionStatistics conditionStatistics = new BreakpointConditionStatistics();
+        ConditionStatistics first = conditionStatistics.forCondition("com.HelloWorld", 10, "i > 5");
+        ConditionStatistics second = conditionStatistics.forCondition("com.HelloWorld", 20, "i > 5");
+
+        first.add(false, MILLISECONDS.toNanos(2));
+        first.add(true, MILLISECONDS.toNanos(5));
+        conditionStatistics.forCondition("com.HelloWorld", 10, "i > 5").add(false, MILLISECONDS.toNanos(3));
+        second.add(true, MILLISECONDS.toNanos(1));
+
+        List<BreakpointConditionStatisticsDto> statistics = conditionStatistics.getStatistics();
+        statistics.sort(Comparator.comparingInt(BreakpointConditionStatisticsDto::getLineNumber));
+        assertEquals(statistics.size(), 2);
+        assertEquals(statistics.get(0).getClassName(), "com.HelloWorld");
+        assertEquals(statistics.get(0).getLineNumber(), 10);
+        assertEquals(statistics.get(0).getCondition(), "i > 5");
+        assertEquals(statistics.get(0).getEvaluations(), 3);
+        assertEquals(statistics.get(0).getHits(), 1);
+        assertEquals(statistics.get(0).getEvaluationTimeMs(), 10);
+        assertEquals(statistics.get(0).getMaxEvaluationTimeMs(), 5);
+        assertEquals(statistics.get(1).getLineNumber(), 20);
+        assertEquals(statistics.get(1).getEvaluations(), 1);
+        assertEquals(statistics.get(1).getHits(), 1);
+    }
+}
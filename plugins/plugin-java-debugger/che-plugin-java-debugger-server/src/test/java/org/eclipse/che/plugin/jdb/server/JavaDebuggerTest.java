@@ -295,7 +295,8 @@ public class JavaDebuggerTest {
                                                            fileWatcherNotificationHandler,
                                                            fileTreeWatcher,
                                                            workspaceHolder,
-                                                           mock(FileWatcherManager.class));
+                                                           mock(FileWatcherManager.class),
+                                                           4);
 
         ResourcesPlugin resourcesPlugin =
                 new ResourcesPlugin("target/index",
@@ -314,7 +315,7 @@ public class JavaDebuggerTest {
         events = new ArrayBlockingQueue<>(10);
         Map<String, String> connectionProperties = ImmutableMap.of("host", "localhost",
                                                                    "port", System.getProperty("debug.port"));
-        JavaDebuggerFactory factory = new JavaDebuggerFactory();
+        JavaDebuggerFactory factory = new JavaDebuggerFactory(new BreakpointConditionStatistics());
         debugger = factory.create(connectionProperties, events::add);
     }
 
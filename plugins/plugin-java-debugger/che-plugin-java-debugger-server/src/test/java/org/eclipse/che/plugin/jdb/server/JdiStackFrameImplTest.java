@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import com.sun.jdi.Field;
+import com.sun.jdi.LocalVariable;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.StackFrame;
+import com.sun.jdi.Value;
+
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+@Listeners(MockitoTestNGListener.class)
+public class JdiStackFrameImplTest {
+
+    @Mock
+    private StackFrame      stackFrame;
+    @Mock
+    private ObjectReference object;
+    @Mock
+    private ReferenceType   type;
+    @Mock
+    private Field           instanceField;
+    @Mock
+    private Field           constantField;
+    @Mock
+    private Value           instanceValue;
+    @Mock
+    private Value           constantValue;
+
+    private Map<Field, Value> constants;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        constants = new ConcurrentHashMap<>();
+        when(stackFrame.thisObject()).thenReturn(object);
+        when(object.referenceType()).thenReturn(type);
+        when(type.allFields()).thenReturn(asList(instanceField, constantField));
+        when(instanceField.name()).thenReturn("field");
+        when(constantField.name()).thenReturn("CONSTANT");
+        when(constantField.isStatic()).thenReturn(true);
+        when(constantField.isFinal()).thenReturn(true);
+        when(constantField.declaringType()).thenReturn(type);
+        when(type.isInitialized()).thenReturn(true);
+        when(instanceValue.toString()).thenReturn("instance");
+        when(constantValue.toString()).thenReturn("constant");
+    }
+
+    @Test
+    public void shouldFetchValuesOfAllFieldsWithSingleRequest() throws Exception {
+        Map<Field, Value> values = new HashMap<>();
+        values.put(instanceField, instanceValue);
+        values.put(constantField, constantValue);
+        when(object.getValues(asList(instanceField, constantField))).thenReturn(values);
+
+        JdiField[] fields = new JdiStackFrameImpl(stackFrame, constants).getFields();
+
+        assertEquals(fields.length, 2);
+        assertEquals(fields[0].getValue().getAsString(), "constant");
+        assertEquals(fields[1].getValue().getAsString(), "instance");
+        verify(object, never()).getValue(any(Field.class));
+        assertEquals(constants.get(constantField), constantValue);
+    }
+
+    @Test
+    public void shouldReuseValuesOfConstantsFetchedOnPreviousSuspend() throws Exception {
+        constants.put(constantField, constantValue);
+        when(object.getValues(singletonList(instanceField))).thenReturn(singletonMap(instanceField, instanceValue));
+
+        JdiField[] fields = new JdiStackFrameImpl(stackFrame, constants).getFields();
+
+        assertEquals(fields[0].getValue().getAsString(), "constant");
+        verify(object).getValues(singletonList(instanceField));
+    }
+
+    @Test
+    public void shouldFetchValuesOfAllLocalVariablesWithSingleRequest() throws Exception {
+        LocalVariable variable = mock(LocalVariable.class);
+        when(stackFrame.visibleVariables()).thenReturn(singletonList(variable));
+        when(stackFrame.getValues(singletonList(variable))).thenReturn(singletonMap(variable, instanceValue));
+
+        JdiLocalVariable[] variables = new JdiStackFrameImpl(stackFrame, constants).getLocalVariables();
+
+        assertEquals(variables[0].getValue().getAsString(), "instance");
+        verify(stackFrame, never()).getValue(any(LocalVariable.class));
+        verify(stackFrame).getValues(anyList());
+    }
+
+    private static <K> Map<K, Value> singletonMap(K key, Value value) {
+        Map<K, Value> map = new HashMap<>();
+        map.put(key, value);
+        return map;
+    }
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.expression;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Tests {@link ExpressionParser}.
+ */
+public class ExpressionParserTest {
+
+    @Test
+    public void shouldReuseParserOfTheSameExpression() throws Exception {
+        assertSame(ExpressionParser.newInstance("i > 10"), ExpressionParser.newInstance("i > 10"));
+    }
+
+    @Test
+    public void shouldNotReuseParserOfDifferentExpression() throws Exception {
+        assertNotSame(ExpressionParser.newInstance("i > 10"), ExpressionParser.newInstance("i > 20"));
+    }
+}
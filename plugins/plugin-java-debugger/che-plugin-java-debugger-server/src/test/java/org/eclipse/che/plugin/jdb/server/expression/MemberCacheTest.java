@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.expression;
+
+import com.sun.jdi.Field;
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+@Listeners(MockitoTestNGListener.class)
+public class MemberCacheTest {
+
+    @Mock
+    private ReferenceType type;
+    @Mock
+    private Field         field;
+    @Mock
+    private Field         superField;
+    @Mock
+    private Method        method;
+    @Mock
+    private Method        overloaded;
+
+    private MemberCache members;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        members = new MemberCache();
+        when(field.name()).thenReturn("field");
+        when(method.name()).thenReturn("method");
+        when(overloaded.name()).thenReturn("method");
+        when(type.visibleFields()).thenReturn(singletonList(field));
+        when(type.visibleMethods()).thenReturn(asList(method, overloaded));
+    }
+
+    @Test
+    public void shouldFetchMembersOfTypeOnlyOnce() throws Exception {
+        assertSame(members.fieldByName(type, "field"), field);
+        assertSame(members.fieldByName(type, "field"), field);
+        assertEquals(members.methodsByName(type, "method"), asList(method, overloaded));
+
+        verify(type, times(1)).visibleFields();
+        verify(type, times(1)).visibleMethods();
+    }
+
+    @Test
+    public void shouldReturnNothingForUnknownMembers() throws Exception {
+        assertNull(members.fieldByName(type, "unknown"));
+        assertTrue(members.methodsByName(type, "unknown").isEmpty());
+    }
+
+    @Test
+    public void shouldReturnFieldOfTypeItselfWhenSupertypeHasFieldWithSameName() throws Exception {
+        when(superField.name()).thenReturn("field");
+        when(type.visibleFields()).thenReturn(asList(field, superField));
+
+        assertSame(members.fieldByName(type, "field"), field);
+    }
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.jdt.core.resources;
+
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Workspace root delta which holds changes of several resources.
+ * <p/>
+ * Changes of the same resource are coalesced in the order they happened:
+ * a resource created and then deleted is not reported at all, a resource created and
+ * then updated is reported as added, repeated updates are reported once, etc.
+ * Moved or renamed resource is reported as removed from the old path and added to the new one.
+ */
+public class BatchResourceDeltaImpl extends ResourceDeltaImpl {
+
+    private final ResourceDeltaImpl[] children;
+
+    public BatchResourceDeltaImpl(File workspace, List<ProjectItemModifiedEvent> events) {
+        super(workspace, "/", CHANGED);
+        Map<String, Integer> changes = new LinkedHashMap<>();
+        for (ProjectItemModifiedEvent event : events) {
+            switch (event.getType()) {
+                case MOVED:
+                case RENAMED:
+                    if (event.getOldPath() != null) {
+                        apply(changes, event.getOldPath(), REMOVED);
+                    }
+                    apply(changes, event.getPath(), ADDED);
+                    break;
+                default:
+                    apply(changes, event.getPath(), toKind(event.getType()));
+            }
+        }
+        List<ResourceDeltaImpl> deltas = new ArrayList<>(changes.size());
+        for (Map.Entry<String, Integer> entry : changes.entrySet()) {
+            int kind = entry.getValue();
+            deltas.add(new ResourceDeltaImpl(workspace, entry.getKey(), kind == CHANGED ? CHANGED | CONTENT : kind));
+        }
+        this.children = deltas.toArray(new ResourceDeltaImpl[deltas.size()]);
+    }
+
+    private static void apply(Map<String, Integer> changes, String path, int kind) {
+        Integer merged = merge(changes.get(path), kind);
+        if (merged == null) {
+            changes.remove(path);
+        } else {
+            changes.put(path, merged);
+        }
+    }
+
+    /**
+     * Returns kind of the resulting change or {@code null} if changes cancel each other.
+     */
+    private static Integer merge(Integer previous, int next) {
+        if (next == NO_CHANGE) {
+            return previous;
+        }
+        if (previous == null) {
+            return next;
+        }
+        switch (previous) {
+            case ADDED:
+                if (next == REMOVED) {
+                    // resource appeared and disappeared within the batch
+                    return null;
+                }
+                // content changes of just added resource are part of the addition
+                return next == CHANGED ? ADDED : next;
+            case REMOVED:
+                // resource was replaced
+                return next == ADDED ? CHANGED : next;
+            default:
+                return next;
+        }
+    }
+
+    private static int toKind(ProjectItemModifiedEvent.EventType type) {
+        switch (type) {
+            case UPDATED:
+                return CHANGED;
+            case CREATED:
+                return ADDED;
+            case DELETED:
+                return REMOVED;
+            default:
+                return NO_CHANGE;
+        }
+    }
+
+    /**
+     * Returns number of coalesced resource changes in this delta.
+     */
+    public int size() {
+        return children.length;
+    }
+
+    @Override
+    public void accept(IResourceDeltaVisitor visitor, int memberFlags) throws CoreException {
+        for (ResourceDeltaImpl child : children) {
+            child.accept(visitor, memberFlags);
+        }
+    }
+
+    @Override
+    public ResourceDeltaImpl[] getAffectedChildren() {
+        return children;
+    }
+
+    @Override
+    public ResourceDeltaImpl[] getAffectedChildren(int kindMask) {
+        return getAffectedChildren(kindMask, 0);
+    }
+
+    @Override
+    public ResourceDeltaImpl[] getAffectedChildren(int kindMask, int memberFlags) {
+        List<ResourceDeltaImpl> affected = new ArrayList<>();
+        for (ResourceDeltaImpl child : children) {
+            if ((child.getKind() & kindMask) != 0) {
+                affected.add(child);
+            }
+        }
+        return affected.toArray(new ResourceDeltaImpl[affected.size()]);
+    }
+
+    @Override
+    public IResource getResource() {
+        return ResourcesPlugin.getWorkspace().getRoot();
+    }
+}
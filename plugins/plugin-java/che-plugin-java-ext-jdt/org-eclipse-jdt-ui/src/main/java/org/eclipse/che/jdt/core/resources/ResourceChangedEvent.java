@@ -19,6 +19,7 @@ import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceDelta;
 
 import java.io.File;
+import java.util.List;
 
 /**
  * @author Evgen Vidolob
@@ -28,6 +29,15 @@ public class ResourceChangedEvent implements IResourceChangeEvent {
 
     private ResourceDeltaImpl resourceDelta;
 
+    /**
+     * Creates event which contains coalesced changes of all the given project items.
+     *
+     * @see BatchResourceDeltaImpl
+     */
+    public ResourceChangedEvent(File workspace, List<ProjectItemModifiedEvent> events) {
+        resourceDelta = new BatchResourceDeltaImpl(workspace, events);
+    }
+
     public ResourceChangedEvent(File workspace, ProjectItemModifiedEvent event) {
         resourceDelta = new ResourceDeltaImpl(workspace, event);
 
@@ -57,6 +57,19 @@ public class ResourceDeltaImpl implements IResourceDelta {
 
     }
 
+    public ResourceDeltaImpl(File workspace, String path, int status) {
+        this.workspace = workspace;
+        this.path = path;
+        this.status = status;
+    }
+
+    /**
+     * Returns workspace relative path of the changed resource.
+     */
+    public String getPath() {
+        return path;
+    }
+
     @Override
     public File getFile() {
         return new File(workspace, path);
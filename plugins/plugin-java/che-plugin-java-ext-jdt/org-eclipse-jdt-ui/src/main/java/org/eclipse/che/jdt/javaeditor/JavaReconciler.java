@@ -35,6 +35,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -107,6 +108,27 @@ public class JavaReconciler {
         return result;
     }
 
+    /**
+     * Reconciles the working copy which is kept opened between reconciles,
+     * content of the working copy buffer is reconciled instead of the content of the file.
+     *
+     * @param workingCopy
+     *         working copy of the compilation unit
+     */
+    public ReconcileResult reconcile(ICompilationUnit workingCopy) throws JavaModelException {
+        CompilationUnit unit = workingCopy.reconcile(AST.JLS8, true, null, null);
+
+        ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
+        if (unit == null) {
+            result.setProblems(Collections.emptyList());
+            result.setHighlightedPositions(Collections.emptyList());
+        } else {
+            result.setProblems(convertProblems(Arrays.asList(unit.getProblems())));
+            result.setHighlightedPositions(semanticHighlighting.reconcileSemanticHighlight(unit));
+        }
+        return result;
+    }
+
     private List<Problem> convertProblems(List<IProblem> problems) {
         List<Problem> result = new ArrayList<>(problems.size());
         for (IProblem problem : problems) {
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.internal.core.index.IndexLocation;
+import org.eclipse.jdt.internal.core.search.processing.IJob;
+import org.eclipse.jdt.internal.core.search.processing.JobManager;
+import org.eclipse.jdt.internal.core.util.Util;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Indexes a set of independent libraries as a single job of the {@link IndexManager}.
+ * <p/>
+ * Each library is indexed with the regular {@link AddJarFileToIndex} request, but requests are executed
+ * concurrently by the indexing executor of the index manager. Libraries which have a pre-built index
+ * in the {@link SharedIndexCache} reuse that index instead of being indexed.
+ * Since all the libraries are processed inside of one job, clients waiting for the index manager
+ * to become ready still wait until all the libraries are indexed.
+ */
+class IndexLibrariesJob implements IJob {
+    private final IProject                project;
+    private final IPath[]                 libraries;
+    private final IndexManager            manager;
+    private final List<IJob>              requests;
+    private volatile boolean              isCancelled;
+
+    IndexLibrariesJob(IProject project, IPath[] libraries, IndexManager manager) {
+        this.project = project;
+        this.libraries = libraries;
+        this.manager = manager;
+        this.requests = new ArrayList<>(libraries.length);
+    }
+
+    @Override
+    public boolean belongsTo(String jobFamily) {
+        return project != null && jobFamily.equals(project.getName());
+    }
+
+    @Override
+    public void cancel() {
+        isCancelled = true;
+        synchronized (requests) {
+            for (IJob request : requests) {
+                request.cancel();
+            }
+        }
+    }
+
+    @Override
+    public void ensureReadyToRun() {
+        // nothing to prepare, libraries are checked by each request
+    }
+
+    @Override
+    public boolean execute(IProgressMonitor progressMonitor) {
+        if (isCancelled || progressMonitor != null && progressMonitor.isCanceled()) return COMPLETE;
+
+        ExecutorService executor = manager.getLibrariesIndexingExecutor();
+        List<Future<Boolean>> results = new ArrayList<>(libraries.length);
+        for (IPath library : libraries) {
+            results.add(executor.submit(() -> indexLibrary(library, progressMonitor)));
+        }
+
+        boolean complete = COMPLETE;
+        for (Future<Boolean> result : results) {
+            try {
+                complete &= result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                return FAILED;
+            } catch (ExecutionException e) {
+                if (JobManager.VERBOSE) {
+                    Util.verbose("-> failed to index library in " + this, System.err); //$NON-NLS-1$
+                    e.printStackTrace();
+                }
+                complete = FAILED;
+            }
+        }
+        return complete;
+    }
+
+    private boolean indexLibrary(IPath library, IProgressMonitor progressMonitor) {
+        if (isCancelled) return COMPLETE;
+
+        URL sharedIndex = manager.getSharedIndexCache().lookup(library);
+        IndexLocation indexLocation = sharedIndex == null ? null : IndexLocation.createIndexLocation(sharedIndex);
+        IJob request = createRequest(library, indexLocation);
+        synchronized (requests) {
+            requests.add(request);
+        }
+        // the same library may be already requested by a separate job, skip it then
+        if (manager.isJobWaiting(request)) return COMPLETE;
+        return request.execute(progressMonitor);
+    }
+
+    /** Creates the request which indexes a single library, or attaches its pre-built index if the location is given. */
+    IJob createRequest(IPath library, IndexLocation indexLocation) {
+        return new AddJarFileToIndex(library, indexLocation, manager, false);
+    }
+
+    @Override
+    public String getJobFamily() {
+        return project == null ? "" : project.getName(); //$NON-NLS-1$
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IndexLibrariesJob)) return false;
+        return Arrays.equals(libraries, ((IndexLibrariesJob)o).libraries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(libraries);
+    }
+
+    @Override
+    public String toString() {
+        return "indexing " + libraries.length + " libraries of " + getJobFamily(); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+}
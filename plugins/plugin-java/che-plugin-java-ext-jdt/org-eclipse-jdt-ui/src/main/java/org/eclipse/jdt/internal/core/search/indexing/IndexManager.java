@@ -53,8 +53,12 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.CRC32;
 
 public class IndexManager extends JobManager implements IIndexConstants {
@@ -67,6 +71,10 @@ public class IndexManager extends JobManager implements IIndexConstants {
     // should JDT manage (update, delete as needed) pre-built indexes?
     public static final  String            MANAGE_PRODUCT_INDEXES_PROPERTY      = "jdt.core.manageProductIndexes"; //$NON-NLS-1$
     private static final boolean           IS_MANAGING_PRODUCT_INDEXES_PROPERTY = Boolean.getBoolean(MANAGE_PRODUCT_INDEXES_PROPERTY);
+    // how many libraries may be indexed concurrently
+    public static final  String            INDEXING_THREADS_PROPERTY            = "che.jdt.indexing.threads"; //$NON-NLS-1$
+    private static final int               INDEXING_THREADS                     =
+            Integer.getInteger(INDEXING_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
     // Debug
     public static        boolean           DEBUG                                = false;
     // key = containerPath, value = indexLocation path
@@ -91,9 +99,18 @@ public class IndexManager extends JobManager implements IIndexConstants {
     private SimpleLookupTable participantsContainers = null;
     private boolean           participantUpdated     = false;
     private String indexLocation;
+    // pre-built indexes of libraries shared between workspaces
+    private final SharedIndexCache sharedIndexCache;
+    // executes indexing of independent libraries, created lazily
+    private ExecutorService librariesIndexingExecutor;
 
     public IndexManager(String indexLocation) {
+        this(indexLocation, SharedIndexCache.fromSystemProperties());
+    }
+
+    IndexManager(String indexLocation, SharedIndexCache sharedIndexCache) {
         this.indexLocation = indexLocation;
+        this.sharedIndexCache = sharedIndexCache;
         indexNamesMapFile = new File(getSavedIndexesDirectory(), "indexNamesMap.txt");
         savedIndexNamesFile = new File(getSavedIndexesDirectory(), "savedIndexNames.txt");
         participantIndexNamesFile = new File(getSavedIndexesDirectory(), "participantsIndexNames.txt");
@@ -416,7 +433,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
                         // non jar files indexes (i.e. containing sources) need to be rebuilt.
                         // see bug https://bugs.eclipse.org/bugs/show_bug.cgi?id=286379
                         File indexFile = index.getIndexFile();
-                        if (indexFile.exists()) {
+                        if (indexFile.exists() && !this.sharedIndexCache.isShared(indexFile)) {
                             if (DEBUG)
                                 Util.verbose("Change in javaLikeNames - removing index file for " + containerPath); //$NON-NLS-1$
                             indexFile.delete();
@@ -577,10 +594,23 @@ public class IndexManager extends JobManager implements IIndexConstants {
             // NOTE: force to resolve CP variables before calling indexer - 19303, so that initializers
             // will be run in the current thread.
             IClasspathEntry[] entries = javaProject.getResolvedClasspath();
+            List<IPath> libraries = new ArrayList<>();
             for (int i = 0; i < entries.length; i++) {
                 IClasspathEntry entry = entries[i];
-                if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY)
-                    indexLibrary(entry.getPath(), project, ((ClasspathEntry)entry).getLibraryIndexLocation());
+                if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+                    URL indexURL = ((ClasspathEntry)entry).getLibraryIndexLocation();
+                    if (indexURL != null || INDEXING_THREADS <= 1) {
+                        indexLibrary(entry.getPath(), project, indexURL);
+                    } else {
+                        libraries.add(entry.getPath());
+                    }
+                }
+            }
+            // libraries without explicit index location are independent and indexed concurrently
+            if (!libraries.isEmpty()) {
+                IndexLibrariesJob request = new IndexLibrariesJob(project, libraries.toArray(new IPath[libraries.size()]), this);
+                if (!isJobWaiting(request))
+                    request(request);
             }
         } catch (JavaModelException e) { // cannot retrieve classpath info
         }
@@ -610,6 +640,13 @@ public class IndexManager extends JobManager implements IIndexConstants {
             }
         }
 //        if (JavaCore.getPlugin() == null) return;
+        if (indexFile == null && !updateIndex && this.sharedIndexCache.isEnabled()) {
+            // look up the shared index in background, computing the library digest may take a while
+            IndexLibrariesJob request = new IndexLibrariesJob(requestingProject, new IPath[]{path}, this);
+            if (!isJobWaiting(request))
+                request(request);
+            return;
+        }
         IndexRequest request = null;
         boolean forceIndexUpdate = IS_MANAGING_PRODUCT_INDEXES_PROPERTY && updateIndex;
 //        Object target = JavaModel.getTarget(path, true);
@@ -683,6 +720,53 @@ public class IndexManager extends JobManager implements IIndexConstants {
         if (idlingTime > 1000 && this.needToSave) saveIndexes();
     }
 
+    /**
+     * Returns the executor which indexes independent libraries concurrently.
+     */
+    synchronized ExecutorService getLibrariesIndexingExecutor() {
+        if (this.librariesIndexingExecutor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.librariesIndexingExecutor = Executors.newFixedThreadPool(INDEXING_THREADS, runnable -> {
+                Thread thread = new Thread(runnable, processName() + " - libraries " + threadNumber.incrementAndGet()); //$NON-NLS-1$
+                thread.setDaemon(true);
+                thread.setPriority(Thread.NORM_PRIORITY - 1);
+                return thread;
+            });
+        }
+        return this.librariesIndexingExecutor;
+    }
+
+    SharedIndexCache getSharedIndexCache() {
+        return this.sharedIndexCache;
+    }
+
+    private boolean isShared(IndexLocation indexLocation) {
+        return indexLocation != null && this.sharedIndexCache.isShared(indexLocation.getIndexFile());
+    }
+
+    /**
+     * Shared indexes are never deleted or overwritten, so the library which index must be built
+     * gets its own index location instead of the shared one.
+     */
+    private synchronized IndexLocation toWritableLocation(IPath containerPath, IndexLocation indexLocation) {
+        if (!isShared(indexLocation)) return indexLocation;
+        if (JobManager.VERBOSE)
+            Util.verbose("-> not overwriting shared index: " + indexLocation + " path: " + containerPath); //$NON-NLS-1$ //$NON-NLS-2$
+        this.indexes.removeKey(indexLocation);
+        this.indexLocations.put(containerPath, null);
+        return computeIndexLocation(containerPath);
+    }
+
+    public void shutdown() {
+        super.shutdown();
+        synchronized (this) {
+            if (this.librariesIndexingExecutor != null) {
+                this.librariesIndexingExecutor.shutdownNow();
+                this.librariesIndexingExecutor = null;
+            }
+        }
+    }
+
     /**
      * Name of the background process
      */
@@ -712,6 +796,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
         Object target = JavaModelManager.getTarget(containerPath, true);
         if (target == null) return;
 
+        indexLocation = toWritableLocation(containerPath, indexLocation);
         if (JobManager.VERBOSE)
             Util.verbose("-> request to rebuild index: " + indexLocation + " path: " + containerPath); //$NON-NLS-1$ //$NON-NLS-2$
 
@@ -745,6 +830,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
             IndexLocation indexLocation = computeIndexLocation(containerPath);
             Index index = getIndex(indexLocation);
             ReadWriteMonitor monitor = index == null ? null : index.monitor;
+            indexLocation = toWritableLocation(containerPath, indexLocation);
 
             if (JobManager.VERBOSE)
                 Util.verbose("-> recreating index: " + indexLocation + " for path: " + containerPathString); //$NON-NLS-1$ //$NON-NLS-2$
@@ -789,7 +875,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
         if (this.indexStates.get(indexLocation) == REUSE_STATE) {
             indexLocation.close();
             this.indexLocations.put(containerPath, null);
-        } else if (indexFile != null && indexFile.exists()) {
+        } else if (indexFile != null && indexFile.exists() && !this.sharedIndexCache.isShared(indexFile)) {
             if (DEBUG)
                 Util.verbose("removing index file " + indexFile); //$NON-NLS-1$
             indexFile.delete();
@@ -822,7 +908,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
                 if (locations == null)
                     locations = new IndexLocation[max];
                 locations[count++] = indexLocation;
-                if (this.indexStates.get(indexLocation) == REUSE_STATE) {
+                if (this.indexStates.get(indexLocation) == REUSE_STATE || isShared(indexLocation)) {
                     indexLocation.close();
                 } else {
                     if (DEBUG)
@@ -931,10 +1017,14 @@ public class IndexManager extends JobManager implements IIndexConstants {
 
     public void saveIndex(Index index) throws IOException {
         // must have permission to write from the write monitor
-        if (index.hasChanged()) {
+        // shared indexes are read-only, changes of such index are kept in memory only
+        if (index.hasChanged() && !this.sharedIndexCache.isShared(index.getIndexFile())) {
             if (JobManager.VERBOSE)
                 Util.verbose("-> saving index " + index.getIndexLocation()); //$NON-NLS-1$
             index.save();
+            if (org.eclipse.jdt.internal.compiler.util.Util.isArchiveFileName(index.containerPath)) {
+                this.sharedIndexCache.store(new Path(index.containerPath), index.getIndexFile());
+            }
         }
         synchronized (this) {
             IPath containerPath = new Path(index.containerPath);
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.internal.core.search.processing.JobManager;
+import org.eclipse.jdt.internal.core.util.Util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content-addressed storage of pre-built library indexes which may be shared between workspaces.
+ * <p/>
+ * Index of a library is stored as {@code <sha1 of library file>.index}, so the same jar gets
+ * the same index regardless of its location in the file system. The storage is read-only
+ * by default, it is supposed to be pre-populated in the machine image or mounted as a shared volume.
+ * Population from the indexes built by this agent is enabled with
+ * {@link #POPULATE_PROPERTY} system property.
+ */
+class SharedIndexCache {
+    /** Directory of the shared indexes, cache is disabled when property is not set. */
+    static final String LOCATION_PROPERTY = "che.jdt.shared.index.dir";
+    /** Whether indexes built by this agent should be stored into the shared directory. */
+    static final String POPULATE_PROPERTY = "che.jdt.shared.index.populate";
+
+    private static final String INDEX_FILE_EXTENSION = ".index";
+    private static final char[] HEX_DIGITS           = "0123456789abcdef".toCharArray();
+
+    private final File                location;
+    private final boolean             populate;
+    /** Library path -> computed digest, digest is recomputed when library file is modified. */
+    private final Map<String, Digest> digests;
+
+    SharedIndexCache(String location, boolean populate) {
+        this.location = location == null ? null : new File(location);
+        this.populate = populate;
+        this.digests = new ConcurrentHashMap<>();
+    }
+
+    static SharedIndexCache fromSystemProperties() {
+        return new SharedIndexCache(System.getProperty(LOCATION_PROPERTY), Boolean.getBoolean(POPULATE_PROPERTY));
+    }
+
+    boolean isEnabled() {
+        return location != null && location.isDirectory();
+    }
+
+    /**
+     * Returns URL of the pre-built index for the given library
+     * or {@code null} if there is no such index in the cache.
+     */
+    URL lookup(IPath libraryPath) {
+        if (!isEnabled()) {
+            return null;
+        }
+        File indexFile = getIndexFile(libraryPath);
+        if (indexFile == null || !indexFile.isFile()) {
+            return null;
+        }
+        try {
+            if (JobManager.VERBOSE)
+                Util.verbose("-> reusing shared index " + indexFile + " for " + libraryPath); //$NON-NLS-1$ //$NON-NLS-2$
+            return indexFile.toURI().toURL();
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the index of the given library into the cache if population is enabled
+     * and cache doesn't contain index for this library yet.
+     */
+    void store(IPath libraryPath, File indexFile) {
+        if (!populate || !isEnabled() || indexFile == null || isShared(indexFile)) {
+            return;
+        }
+        File target = getIndexFile(libraryPath);
+        if (target == null || target.exists()) {
+            return;
+        }
+        try {
+            // copy to a temporary file first so other agents never see partially written index
+            File tmp = File.createTempFile(target.getName(), ".tmp", location);
+            try {
+                Files.copy(indexFile.toPath(), tmp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp.toPath());
+            }
+        } catch (IOException e) {
+            if (JobManager.VERBOSE) {
+                Util.verbose("-> failed to store shared index for " + libraryPath, System.err); //$NON-NLS-1$
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Returns true if the given index file belongs to the shared cache,
+     * such files must not be modified or deleted.
+     */
+    boolean isShared(File indexFile) {
+        return location != null && indexFile != null && location.equals(indexFile.getParentFile());
+    }
+
+    private File getIndexFile(IPath libraryPath) {
+        File library = libraryPath.toFile();
+        if (!library.isFile()) {
+            return null;
+        }
+        String key = library.getAbsolutePath();
+        Digest digest = digests.get(key);
+        if (digest == null || digest.lastModified != library.lastModified() || digest.length != library.length()) {
+            try {
+                digest = new Digest(library.lastModified(), library.length(), sha1(library));
+            } catch (IOException e) {
+                return null;
+            }
+            digests.put(key, digest);
+        }
+        return new File(location, digest.sha1 + INDEX_FILE_EXTENSION);
+    }
+
+    private static String sha1(File file) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new FileInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+        }
+        byte[] hash = messageDigest.digest();
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    private static class Digest {
+        final long   lastModified;
+        final long   length;
+        final String sha1;
+
+        Digest(long lastModified, long length, String sha1) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.sha1 = sha1;
+        }
+    }
+}
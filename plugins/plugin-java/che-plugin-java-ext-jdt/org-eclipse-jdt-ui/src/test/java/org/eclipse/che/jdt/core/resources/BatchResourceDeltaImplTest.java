@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.jdt.core.resources;
+
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType;
+import org.eclipse.core.resources.IResourceDelta;
+import org.junit.Test;
+
+import java.io.File;
+
+import static java.util.Arrays.asList;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.CREATED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.DELETED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.MOVED;
+import static org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent.EventType.UPDATED;
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Tests {@link BatchResourceDeltaImpl}.
+ */
+public class BatchResourceDeltaImplTest {
+    private static final File WORKSPACE = new File("/projects");
+
+    @Test
+    public void shouldDropResourceWhichIsAddedAndRemovedWithinBatch() throws Exception {
+        BatchResourceDeltaImpl delta = new BatchResourceDeltaImpl(WORKSPACE, asList(event(CREATED, "/p/A.java"),
+                                                                                    event(UPDATED, "/p/A.java"),
+                                                                                    event(DELETED, "/p/A.java")));
+
+        assertThat(delta.size()).isEqualTo(0);
+        assertThat(delta.getAffectedChildren()).isEmpty();
+    }
+
+    @Test
+    public void shouldReportMovedAndThenChangedResourceAsRemovedAndAdded() throws Exception {
+        BatchResourceDeltaImpl delta = new BatchResourceDeltaImpl(WORKSPACE, asList(moved("/p/A.java", "/p/B.java"),
+                                                                                    event(UPDATED, "/p/B.java")));
+
+        ResourceDeltaImpl[] children = delta.getAffectedChildren();
+        assertThat(children).hasSize(2);
+        assertThat(children[0].getPath()).isEqualTo("/p/A.java");
+        assertThat(children[0].getKind()).isEqualTo(IResourceDelta.REMOVED);
+        assertThat(children[1].getPath()).isEqualTo("/p/B.java");
+        assertThat(children[1].getKind()).isEqualTo(IResourceDelta.ADDED);
+    }
+
+    @Test
+    public void shouldReportChangedAndThenMovedResourceAsRemovedAndAdded() throws Exception {
+        BatchResourceDeltaImpl delta = new BatchResourceDeltaImpl(WORKSPACE, asList(event(UPDATED, "/p/A.java"),
+                                                                                    moved("/p/A.java", "/p/B.java")));
+
+        assertThat(delta.getAffectedChildren(IResourceDelta.REMOVED)).hasSize(1);
+        assertThat(delta.getAffectedChildren(IResourceDelta.ADDED)).hasSize(1);
+        assertThat(delta.getAffectedChildren(IResourceDelta.CHANGED)).isEmpty();
+    }
+
+    @Test
+    public void shouldReportRepeatedUpdatesAsSingleContentChange() throws Exception {
+        BatchResourceDeltaImpl delta = new BatchResourceDeltaImpl(WORKSPACE, asList(event(UPDATED, "/p/A.java"),
+                                                                                    event(UPDATED, "/p/A.java")));
+
+        ResourceDeltaImpl[] children = delta.getAffectedChildren();
+        assertThat(children).hasSize(1);
+        assertThat(children[0].getKind()).isEqualTo(IResourceDelta.CHANGED);
+        assertThat(children[0].getFlags() & IResourceDelta.CONTENT).isEqualTo(IResourceDelta.CONTENT);
+    }
+
+    @Test
+    public void shouldReportReplacedResourceAsChanged() throws Exception {
+        BatchResourceDeltaImpl delta = new BatchResourceDeltaImpl(WORKSPACE, asList(event(DELETED, "/p/A.java"),
+                                                                                    event(CREATED, "/p/A.java")));
+
+        ResourceDeltaImpl[] children = delta.getAffectedChildren();
+        assertThat(children).hasSize(1);
+        assertThat(children[0].getKind()).isEqualTo(IResourceDelta.CHANGED);
+    }
+
+    private static ProjectItemModifiedEvent event(EventType type, String path) {
+        return new ProjectItemModifiedEvent(type, "workspace", "/p", path, false);
+    }
+
+    private static ProjectItemModifiedEvent moved(String oldPath, String path) {
+        return new ProjectItemModifiedEvent(MOVED, "workspace", "/p", path, false, oldPath);
+    }
+}
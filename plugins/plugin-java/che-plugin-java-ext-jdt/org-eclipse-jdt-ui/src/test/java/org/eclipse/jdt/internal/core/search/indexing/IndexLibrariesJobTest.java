@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.internal.core.index.IndexLocation;
+import org.eclipse.jdt.internal.core.search.processing.IJob;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Tests {@link IndexLibrariesJob}.
+ */
+public class IndexLibrariesJobTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ExecutorService  executor;
+    private SharedIndexCache sharedIndexCache;
+    private IndexManager     manager;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(2);
+        sharedIndexCache = new SharedIndexCache(temporaryFolder.newFolder("shared").getPath(), true);
+        manager = new IndexManager(temporaryFolder.newFolder("indexes").getPath(), sharedIndexCache) {
+            @Override
+            synchronized ExecutorService getLibrariesIndexingExecutor() {
+                return executor;
+            }
+        };
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldIndexLibrariesConcurrently() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Map<IPath, Optional<IndexLocation>> indexed = new ConcurrentHashMap<>();
+        IndexLibrariesJob job = new IndexLibrariesJob(null, new IPath[]{library("a.jar", 1), library("b.jar", 2)}, manager) {
+            @Override
+            IJob createRequest(IPath library, IndexLocation indexLocation) {
+                return new TestRequest(() -> {
+                    bothStarted.countDown();
+                    // fails by timeout if libraries are indexed one after another
+                    if (!bothStarted.await(10, TimeUnit.SECONDS)) {
+                        return false;
+                    }
+                    indexed.put(library, Optional.ofNullable(indexLocation));
+                    return true;
+                });
+            }
+        };
+
+        assertThat(job.execute(null)).isTrue();
+        assertThat(indexed).hasSize(2);
+    }
+
+    @Test
+    public void shouldAttachSharedIndexOfLibraryInsteadOfIndexingIt() throws Exception {
+        IPath indexedBefore = library("indexed.jar", 1);
+        File index = temporaryFolder.newFile("indexed.index");
+        Files.write(index.toPath(), new byte[]{4, 5, 6});
+        sharedIndexCache.store(indexedBefore, index);
+        IPath sameContent = library("copy-of-indexed.jar", 1);
+        IPath notIndexed = library("not-indexed.jar", 2);
+        Map<IPath, Optional<IndexLocation>> indexed = new ConcurrentHashMap<>();
+        IndexLibrariesJob job = new IndexLibrariesJob(null, new IPath[]{sameContent, notIndexed}, manager) {
+            @Override
+            IJob createRequest(IPath library, IndexLocation indexLocation) {
+                return new TestRequest(() -> {
+                    indexed.put(library, Optional.ofNullable(indexLocation));
+                    return true;
+                });
+            }
+        };
+
+        assertThat(job.execute(null)).isTrue();
+
+        assertThat(sharedIndexCache.isShared(indexed.get(sameContent).get().getIndexFile())).isTrue();
+        assertThat(indexed.get(notIndexed).isPresent()).isFalse();
+    }
+
+    @Test
+    public void shouldFailWhenIndexingOfAnyLibraryFails() throws Exception {
+        IndexLibrariesJob job = new IndexLibrariesJob(null, new IPath[]{library("a.jar", 1), library("b.jar", 2)}, manager) {
+            @Override
+            IJob createRequest(IPath library, IndexLocation indexLocation) {
+                return new TestRequest(() -> !library.lastSegment().equals("b.jar"));
+            }
+        };
+
+        assertThat(job.execute(null)).isFalse();
+    }
+
+    private IPath library(String name, int content) throws Exception {
+        File file = temporaryFolder.newFile(name);
+        Files.write(file.toPath(), new byte[]{(byte)content});
+        return new Path(file.getPath());
+    }
+
+    private interface Indexing {
+        boolean run() throws Exception;
+    }
+
+    private static class TestRequest implements IJob {
+        private final Indexing indexing;
+
+        TestRequest(Indexing indexing) {
+            this.indexing = indexing;
+        }
+
+        @Override
+        public boolean belongsTo(String jobFamily) {
+            return false;
+        }
+
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public void ensureReadyToRun() {
+        }
+
+        @Override
+        public boolean execute(IProgressMonitor progress) {
+            try {
+                return indexing.run();
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        @Override
+        public String getJobFamily() {
+            return "test";
+        }
+    }
+}
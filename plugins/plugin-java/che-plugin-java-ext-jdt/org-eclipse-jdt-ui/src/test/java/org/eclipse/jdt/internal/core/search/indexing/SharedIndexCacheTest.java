@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.eclipse.core.runtime.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Tests {@link SharedIndexCache}.
+ */
+public class SharedIndexCacheTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File sharedDir;
+    private File library;
+    private File index;
+
+    @Before
+    public void setUp() throws Exception {
+        sharedDir = temporaryFolder.newFolder("shared");
+        library = write(temporaryFolder.newFolder("project1"), "lib.jar", new byte[]{1, 2, 3});
+        index = write(temporaryFolder.newFolder("indexes"), "123.index", new byte[]{4, 5, 6});
+    }
+
+    @Test
+    public void shouldFindStoredIndexOfLibraryWithSameContentInAnotherLocation() throws Exception {
+        SharedIndexCache cache = new SharedIndexCache(sharedDir.getPath(), true);
+        cache.store(new Path(library.getPath()), index);
+
+        File copy = write(temporaryFolder.newFolder("project2"), "lib-copy.jar", new byte[]{1, 2, 3});
+        URL found = cache.lookup(new Path(copy.getPath()));
+
+        assertThat(found).isNotNull();
+        File sharedIndex = new File(found.toURI());
+        assertThat(cache.isShared(sharedIndex)).isTrue();
+        assertThat(Files.readAllBytes(sharedIndex.toPath())).isEqualTo(new byte[]{4, 5, 6});
+        assertThat(sharedDir.list()).hasSize(1);
+    }
+
+    @Test
+    public void shouldNotFindIndexWhenLibraryIsModified() throws Exception {
+        SharedIndexCache cache = new SharedIndexCache(sharedDir.getPath(), true);
+        cache.store(new Path(library.getPath()), index);
+
+        write(library.getParentFile(), library.getName(), new byte[]{1, 2, 3, 4});
+
+        assertThat(cache.lookup(new Path(library.getPath()))).isNull();
+    }
+
+    @Test
+    public void shouldNotStoreIndexWhenPopulationIsDisabled() throws Exception {
+        SharedIndexCache cache = new SharedIndexCache(sharedDir.getPath(), false);
+
+        cache.store(new Path(library.getPath()), index);
+
+        assertThat(cache.lookup(new Path(library.getPath()))).isNull();
+        assertThat(sharedDir.list()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotOverwriteStoredIndex() throws Exception {
+        SharedIndexCache cache = new SharedIndexCache(sharedDir.getPath(), true);
+        cache.store(new Path(library.getPath()), index);
+
+        File anotherIndex = write(index.getParentFile(), "456.index", new byte[]{7, 8, 9});
+        cache.store(new Path(library.getPath()), anotherIndex);
+
+        File sharedIndex = new File(cache.lookup(new Path(library.getPath())).toURI());
+        assertThat(Files.readAllBytes(sharedIndex.toPath())).isEqualTo(new byte[]{4, 5, 6});
+    }
+
+    @Test
+    public void shouldBeDisabledWhenDirectoryDoesNotExist() throws Exception {
+        SharedIndexCache cache = new SharedIndexCache(new File(sharedDir, "missing").getPath(), true);
+
+        cache.store(new Path(library.getPath()), index);
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.lookup(new Path(library.getPath()))).isNull();
+    }
+
+    @Test
+    public void shouldNotTreatIndexesOutsideOfSharedDirectoryAsShared() throws Exception {
+        SharedIndexCache cache = new SharedIndexCache(sharedDir.getPath(), true);
+
+        assertThat(cache.isShared(index)).isFalse();
+        assertThat(cache.isShared(new File(sharedDir, "123.index"))).isTrue();
+    }
+
+    private static File write(File dir, String name, byte[] content) throws Exception {
+        File file = new File(dir, name);
+        Files.write(file.toPath(), content);
+        return file;
+    }
+}
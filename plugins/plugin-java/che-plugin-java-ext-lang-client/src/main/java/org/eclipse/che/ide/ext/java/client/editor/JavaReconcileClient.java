@@ -14,29 +14,79 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import org.eclipse.che.ide.api.app.AppContext;
+import org.eclipse.che.ide.dto.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
+import org.eclipse.che.ide.ext.java.shared.dto.WorkingCopyUpdate;
+import org.eclipse.che.ide.jsonrpc.RequestHandlerConfigurator;
+import org.eclipse.che.ide.jsonrpc.RequestTransmitter;
 import org.eclipse.che.ide.rest.AsyncRequestCallback;
 import org.eclipse.che.ide.rest.AsyncRequestFactory;
 import org.eclipse.che.ide.rest.DtoUnmarshallerFactory;
 import org.eclipse.che.ide.util.loging.Log;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+
 /**
  * @author Evgen Vidolob
  */
 @Singleton
 public class JavaReconcileClient {
+    private static final String ENDPOINT_ID      = "ws-agent";
+    private static final String OPEN_METHOD      = "java:working-copy-open";
+    private static final String CHANGE_METHOD    = "java:working-copy-change";
+    private static final String CLOSE_METHOD     = "java:working-copy-close";
+    private static final String RECONCILE_METHOD = "event:java-reconcile";
+    private static final String RESYNC_METHOD    = "event:java-working-copy-resync";
 
     private final DtoUnmarshallerFactory dtoUnmarshallerFactory;
     private final AsyncRequestFactory    asyncRequestFactory;
-    private final AppContext appContext;
+    private final AppContext             appContext;
+    private final DtoFactory             dtoFactory;
+    private final RequestTransmitter     requestTransmitter;
+
+    private final Map<String, WorkingCopyCallback> workingCopyCallbacks = new HashMap<>();
+
+    private int editorCounter;
 
     @Inject
     public JavaReconcileClient(DtoUnmarshallerFactory dtoUnmarshallerFactory,
                                AppContext appContext,
-                               AsyncRequestFactory asyncRequestFactory) {
+                               AsyncRequestFactory asyncRequestFactory,
+                               DtoFactory dtoFactory,
+                               RequestTransmitter requestTransmitter) {
         this.appContext = appContext;
         this.dtoUnmarshallerFactory = dtoUnmarshallerFactory;
         this.asyncRequestFactory = asyncRequestFactory;
+        this.dtoFactory = dtoFactory;
+        this.requestTransmitter = requestTransmitter;
+    }
+
+    @Inject
+    public void configureReconcileHandler(RequestHandlerConfigurator configurator) {
+        configurator.newConfiguration()
+                    .methodName(RECONCILE_METHOD)
+                    .paramsAsDto(ReconcileResult.class)
+                    .noResult()
+                    .withOperation((endpointId, result) -> {
+                        WorkingCopyCallback callback = workingCopyCallbacks.get(result.getEditorId());
+                        if (callback != null) {
+                            callback.onReconcile(result);
+                        }
+                    });
+        configurator.newConfiguration()
+                    .methodName(RESYNC_METHOD)
+                    .paramsAsDto(WorkingCopyUpdate.class)
+                    .noResult()
+                    .withOperation((endpointId, update) -> {
+                        WorkingCopyCallback callback = workingCopyCallbacks.get(update.getEditorId());
+                        if (callback != null) {
+                            callback.onContentRequested();
+                        }
+                    });
     }
 
     public void reconcile(String projectPath, String fqn, final ReconcileCallback callback) {
@@ -55,7 +105,56 @@ public class JavaReconcileClient {
                            });
     }
 
+    /**
+     * Opens in-memory working copy of the java file on the server,
+     * callback receives the results of the reconciles of the working copy until it is closed.
+     *
+     * @param content
+     *         current content of the editor
+     * @return identifier of the editor which is used to change and close the working copy
+     */
+    public String openWorkingCopy(String projectPath, String fqn, String content, WorkingCopyCallback callback) {
+        String editorId = "java-editor-" + ++editorCounter;
+        workingCopyCallbacks.put(editorId, callback);
+        sendContent(editorId, projectPath, fqn, content);
+        return editorId;
+    }
+
+    /**
+     * Sends the whole content of the editor to the working copy, e.g. when the server
+     * {@link WorkingCopyCallback#onContentRequested() requests} it.
+     */
+    public void sendContent(String editorId, String projectPath, String fqn, String content) {
+        requestTransmitter.transmitOneToNone(ENDPOINT_ID, OPEN_METHOD, newUpdate(projectPath, fqn).withEditorId(editorId).withContent(content));
+    }
+
+    /** Sends the change of the editor content to the working copy. */
+    public void changeWorkingCopy(String editorId, String projectPath, String fqn, int offset, int length, String text) {
+        Change change = dtoFactory.createDto(Change.class).withOffset(offset).withLength(length).withText(text);
+        requestTransmitter.transmitOneToNone(ENDPOINT_ID,
+                                             CHANGE_METHOD,
+                                             newUpdate(projectPath, fqn).withEditorId(editorId).withChanges(singletonList(change)));
+    }
+
+    /** Closes the working copy for the editor with the given identifier. */
+    public void closeWorkingCopy(String editorId, String projectPath, String fqn) {
+        workingCopyCallbacks.remove(editorId);
+        requestTransmitter.transmitOneToNone(ENDPOINT_ID, CLOSE_METHOD, newUpdate(projectPath, fqn).withEditorId(editorId));
+    }
+
+    private WorkingCopyUpdate newUpdate(String projectPath, String fqn) {
+        return dtoFactory.createDto(WorkingCopyUpdate.class).withProjectPath(projectPath).withFqn(fqn);
+    }
+
     public interface ReconcileCallback {
         void onReconcile(ReconcileResult result);
     }
+
+    public interface WorkingCopyCallback extends ReconcileCallback {
+        /**
+         * Called when the server doesn't know the content of the editor, e.g. after the agent restart,
+         * the content has to be sent with {@link JavaReconcileClient#sendContent(String, String, String, String)}.
+         */
+        void onContentRequested();
+    }
 }
@@ -13,10 +13,12 @@ package org.eclipse.che.ide.ext.java.client.editor;
 import com.google.common.base.Optional;
 import com.google.inject.assistedinject.Assisted;
 import com.google.inject.assistedinject.AssistedInject;
+import com.google.web.bindery.event.shared.HandlerRegistration;
 
 import org.eclipse.che.ide.api.editor.EditorWithErrors;
 import org.eclipse.che.ide.api.editor.annotation.AnnotationModel;
 import org.eclipse.che.ide.api.editor.document.Document;
+import org.eclipse.che.ide.api.editor.events.DocumentChangeEvent;
 import org.eclipse.che.ide.api.editor.reconciler.DirtyRegion;
 import org.eclipse.che.ide.api.editor.reconciler.ReconcilingStrategy;
 import org.eclipse.che.ide.api.editor.text.Region;
@@ -53,6 +55,10 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingPro
 
     private EditorWithErrors            editorWithErrors;
     private ResolvingProjectStateHolder resolvingProjectStateHolder;
+    private HandlerRegistration         workingCopyRegistration;
+    private String                      workingCopyProjectPath;
+    private String                      workingCopyFqn;
+    private String                      workingCopyEditorId;
 
     @AssistedInject
     public JavaReconcilerStrategy(@Assisted @NotNull final TextEditor editor,
@@ -85,6 +91,8 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingPro
                 return;
             }
 
+            openWorkingCopy(project.get(), document);
+
             String projectType = project.get().getType();
             resolvingProjectStateHolder = resolvingProjectStateHolderRegistry.getResolvingProjectStateHolder(projectType);
             if (resolvingProjectStateHolder == null) {
@@ -98,9 +106,48 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingPro
         }
     }
 
+    /**
+     * Opens server side working copy of the file, after that the changes of the document are sent to the server
+     * and the server pushes reconcile results, so the file doesn't need to be saved to be reconciled.
+     */
+    private void openWorkingCopy(Project project, Document document) {
+        if (workingCopyRegistration != null || document.getDocumentHandle() == null) {
+            return;
+        }
+        workingCopyProjectPath = project.getLocation().toString();
+        workingCopyFqn = JavaUtil.resolveFQN(getFile());
+        workingCopyEditorId = client.openWorkingCopy(workingCopyProjectPath,
+                                                     workingCopyFqn,
+                                                     document.getContents(),
+                                                     new JavaReconcileClient.WorkingCopyCallback() {
+                                                         @Override
+                                                         public void onReconcile(ReconcileResult result) {
+                                                             handleReconcileResult(result);
+                                                         }
+
+                                                         @Override
+                                                         public void onContentRequested() {
+                                                             client.sendContent(workingCopyEditorId,
+                                                                                workingCopyProjectPath,
+                                                                                workingCopyFqn,
+                                                                                document.getContents());
+                                                         }
+                                                     });
+        workingCopyRegistration = document.getDocumentHandle().getDocEventBus().addHandler(DocumentChangeEvent.TYPE, event -> {
+            client.changeWorkingCopy(workingCopyEditorId,
+                                     workingCopyProjectPath,
+                                     workingCopyFqn,
+                                     event.getOffset(),
+                                     event.getRemoveCharCount(),
+                                     event.getText());
+        });
+    }
+
     @Override
     public void reconcile(final DirtyRegion dirtyRegion, final Region subRegion) {
-        parse();
+        if (workingCopyRegistration == null) {
+            parse();
+        }
     }
 
     void parse() {
@@ -116,18 +163,7 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingPro
                                  new JavaReconcileClient.ReconcileCallback() {
                                      @Override
                                      public void onReconcile(ReconcileResult result) {
-                                         if (resolvingProjectStateHolder != null && resolvingProjectStateHolder.getState() == IN_PROGRESS) {
-                                             disableReconciler(localizationConstant.codeAssistErrorMessageResolvingProject());
-                                             return;
-                                         } else {
-                                             codeAssistProcessor.enableCodeAssistant();
-                                         }
-
-                                         if (result == null) {
-                                             return;
-                                         }
-                                         doReconcile(result.getProblems());
-                                         highlighter.reconcile(result.getHighlightedPositions());
+                                         handleReconcileResult(result);
                                      }
                                  });
             } catch (RuntimeException e) {
@@ -139,9 +175,26 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingPro
     }
 
 
+    private void handleReconcileResult(ReconcileResult result) {
+        if (resolvingProjectStateHolder != null && resolvingProjectStateHolder.getState() == IN_PROGRESS) {
+            disableReconciler(localizationConstant.codeAssistErrorMessageResolvingProject());
+            return;
+        } else {
+            codeAssistProcessor.enableCodeAssistant();
+        }
+
+        if (result == null) {
+            return;
+        }
+        doReconcile(result.getProblems());
+        highlighter.reconcile(result.getHighlightedPositions());
+    }
+
     @Override
     public void reconcile(final Region partition) {
-        parse();
+        if (workingCopyRegistration == null) {
+            parse();
+        }
     }
 
     public VirtualFile getFile() {
@@ -202,6 +255,11 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingPro
         if (resolvingProjectStateHolder != null) {
             resolvingProjectStateHolder.removeResolvingProjectStateListener(this);
         }
+        if (workingCopyRegistration != null) {
+            workingCopyRegistration.removeHandler();
+            workingCopyRegistration = null;
+            client.closeWorkingCopy(workingCopyEditorId, workingCopyProjectPath, workingCopyFqn);
+        }
     }
 
     @Override
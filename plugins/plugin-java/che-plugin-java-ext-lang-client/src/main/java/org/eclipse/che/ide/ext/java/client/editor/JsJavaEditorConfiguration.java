@@ -24,6 +24,7 @@ import org.eclipse.che.ide.api.editor.partition.DocumentPositionMap;
 import org.eclipse.che.ide.api.editor.quickfix.QuickAssistProcessor;
 import org.eclipse.che.ide.api.editor.reconciler.Reconciler;
 import org.eclipse.che.ide.api.editor.reconciler.ReconcilerFactory;
+import org.eclipse.che.ide.api.editor.reconciler.ReconcilerWithAutoSave;
 import org.eclipse.che.ide.api.editor.texteditor.TextEditor;
 
 import java.util.HashMap;
@@ -115,6 +116,10 @@ public class JsJavaEditorConfiguration extends DefaultTextEditorConfiguration {
                                       final JavaReconcilerStrategy javaReconcilerStrategy) {
         final Reconciler reconciler = reconcilerFactory.create(DEFAULT_PARTITIONING, getPartitioner());
         reconciler.addReconcilingStrategy(DEFAULT_CONTENT_TYPE, javaReconcilerStrategy);
+        if (reconciler instanceof ReconcilerWithAutoSave) {
+            // java files are reconciled from the server side working copies, they are saved only on explicit save
+            ((ReconcilerWithAutoSave)reconciler).disallowAutoSave();
+        }
         return reconciler;
     }
 }
@@ -17,6 +17,10 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
 import org.eclipse.che.ide.api.editor.EditorInput;
 import org.eclipse.che.ide.api.editor.annotation.AnnotationModel;
 import org.eclipse.che.ide.api.editor.document.Document;
+import org.eclipse.che.ide.api.editor.document.DocumentEventBus;
+import org.eclipse.che.ide.api.editor.document.DocumentHandle;
+import org.eclipse.che.ide.api.editor.reconciler.DirtyRegion;
+import org.eclipse.che.ide.api.editor.text.Region;
 import org.eclipse.che.ide.api.editor.texteditor.TextEditor;
 import org.eclipse.che.ide.api.resources.Container;
 import org.eclipse.che.ide.api.resources.File;
@@ -155,4 +159,45 @@ public class JavaReconcilerStrategyTest {
         verify(codeAssistProcessor, never()).disableCodeAssistant(anyString());
         verify(highlighter).reconcile(eq(positions));
     }
+
+    @Test
+    public void shouldReconcileWorkingCopyInsteadOfSavedFile() throws Exception {
+        Document document = mock(Document.class);
+        DocumentHandle documentHandle = mock(DocumentHandle.class);
+        when(document.getDocumentHandle()).thenReturn(documentHandle);
+        when(documentHandle.getDocEventBus()).thenReturn(mock(DocumentEventBus.class));
+        when(document.getContents()).thenReturn("class TestClass {}");
+        when(client.openWorkingCopy(anyString(), anyString(), anyString(), any(JavaReconcileClient.WorkingCopyCallback.class)))
+                .thenReturn("java-editor-1");
+
+        javaReconcilerStrategy.setDocument(document);
+        javaReconcilerStrategy.reconcile(mock(DirtyRegion.class), mock(Region.class));
+
+        verify(client).openWorkingCopy(anyString(), anyString(), eq("class TestClass {}"), any(JavaReconcileClient.WorkingCopyCallback.class));
+        verify(client, never()).reconcile(anyString(), anyString(), any(JavaReconcileClient.ReconcileCallback.class));
+
+        javaReconcilerStrategy.closeReconciler();
+
+        verify(client).closeWorkingCopy(eq("java-editor-1"), anyString(), anyString());
+    }
+
+    @Test
+    public void shouldSendContentOfEditorWhenServerRequestsIt() throws Exception {
+        Document document = mock(Document.class);
+        DocumentHandle documentHandle = mock(DocumentHandle.class);
+        when(document.getDocumentHandle()).thenReturn(documentHandle);
+        when(documentHandle.getDocEventBus()).thenReturn(mock(DocumentEventBus.class));
+        when(document.getContents()).thenReturn("class TestClass {}");
+        when(client.openWorkingCopy(anyString(), anyString(), anyString(), any(JavaReconcileClient.WorkingCopyCallback.class)))
+                .thenReturn("java-editor-1");
+        javaReconcilerStrategy.setDocument(document);
+        ArgumentCaptor<JavaReconcileClient.WorkingCopyCallback> callbackCaptor =
+                ArgumentCaptor.forClass(JavaReconcileClient.WorkingCopyCallback.class);
+        verify(client).openWorkingCopy(anyString(), anyString(), anyString(), callbackCaptor.capture());
+        when(document.getContents()).thenReturn("class TestClass { int i; }");
+
+        callbackCaptor.getValue().onContentRequested();
+
+        verify(client).sendContent(eq("java-editor-1"), anyString(), anyString(), eq("class TestClass { int i; }"));
+    }
 }
@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.eclipse.che.api.core.jsonrpc.RequestHandlerConfigurator;
+import org.eclipse.che.api.core.jsonrpc.RequestTransmitter;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.core.websocket.WebSocketSessionClosedEvent;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
+import org.eclipse.che.ide.ext.java.shared.dto.WorkingCopyUpdate;
+import org.eclipse.che.jdt.javaeditor.JavaReconciler;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singleton;
+import static org.eclipse.che.dto.server.DtoFactory.cloneDto;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * Keeps in-memory working copies of the java files opened in the editors.
+ * <p/>
+ * Editor sends the content of the file when it is opened and then only the text changes, changes
+ * are applied to the buffer of the working copy and the working copy is reconciled when there
+ * are no more changes during {@code che.java.reconcile.delay_ms}, result of the reconcile is pushed
+ * to the editors. Working copy is never committed, the file is written by the editor on explicit save.
+ * <p/>
+ * The same file may be shown in several editors, e.g. split editors which replay the changes of each other
+ * or editors of different browser tabs, so the buffer follows only one of them - the editor which sent
+ * its content last, changes of the other editors are ignored. When the working copy isn't known to the agent,
+ * e.g. after restart, or the followed editor is closed, the editor is asked to send its content again.
+ * Working copies of the endpoint are closed when its WEB SOCKET session is closed.
+ */
+@Singleton
+public class JavaWorkingCopyManager {
+    private static final Logger LOG = LoggerFactory.getLogger(JavaWorkingCopyManager.class);
+
+    private static final String OPEN_METHOD      = "java:working-copy-open";
+    private static final String CHANGE_METHOD    = "java:working-copy-change";
+    private static final String CLOSE_METHOD     = "java:working-copy-close";
+    private static final String RECONCILE_METHOD = "event:java-reconcile";
+    private static final String RESYNC_METHOD    = "event:java-working-copy-resync";
+
+    private final JavaReconciler               reconciler;
+    private final RequestTransmitter           transmitter;
+    private final EventService                 eventService;
+    private final long                         reconcileDelayMs;
+    private final ScheduledExecutorService     executor;
+    private final Map<String, WorkingCopyInfo> workingCopies;
+
+    private final EventSubscriber<WebSocketSessionClosedEvent> sessionClosedSubscriber = event -> closeAll(event.getEndpointId());
+
+    @Inject
+    public JavaWorkingCopyManager(JavaReconciler reconciler,
+                                  RequestTransmitter transmitter,
+                                  EventService eventService,
+                                  @Named("che.java.reconcile.delay_ms") long reconcileDelayMs) {
+        this.reconciler = reconciler;
+        this.transmitter = transmitter;
+        this.eventService = eventService;
+        this.reconcileDelayMs = reconcileDelayMs;
+        this.workingCopies = new HashMap<>();
+        this.executor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("JavaWorkingCopyReconciler-%d")
+                                          .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                                          .setDaemon(true)
+                                          .build());
+    }
+
+    @Inject
+    public void configureHandlers(RequestHandlerConfigurator configurator) {
+        configurator.newConfiguration()
+                    .methodName(OPEN_METHOD)
+                    .paramsAsDto(WorkingCopyUpdate.class)
+                    .noResult()
+                    .withConsumer(this::open);
+        configurator.newConfiguration()
+                    .methodName(CHANGE_METHOD)
+                    .paramsAsDto(WorkingCopyUpdate.class)
+                    .noResult()
+                    .withConsumer(this::change);
+        configurator.newConfiguration()
+                    .methodName(CLOSE_METHOD)
+                    .paramsAsDto(WorkingCopyUpdate.class)
+                    .noResult()
+                    .withConsumer(this::close);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        eventService.subscribe(sessionClosedSubscriber, WebSocketSessionClosedEvent.class);
+    }
+
+    /**
+     * Opens working copy of the file for the editor of the given endpoint, or joins the editor to already opened one.
+     * The buffer of the working copy follows the editor which sends its content.
+     */
+    public void open(String endpointId, WorkingCopyUpdate update) {
+        WorkingCopyInfo info;
+        synchronized (workingCopies) {
+            info = workingCopies.get(key(update));
+            if (info == null) {
+                ICompilationUnit unit = findCompilationUnit(update.getProjectPath(), update.getFqn());
+                if (unit == null) {
+                    return;
+                }
+                try {
+                    unit.becomeWorkingCopy(null);
+                } catch (JavaModelException e) {
+                    LOG.error("Can't open working copy of " + update.getFqn() + " in project " + update.getProjectPath(), e);
+                    return;
+                }
+                info = new WorkingCopyInfo(update.getProjectPath(), update.getFqn(), unit);
+                workingCopies.put(key(update), info);
+            }
+            info.editors.computeIfAbsent(endpointId, id -> ConcurrentHashMap.newKeySet()).add(update.getEditorId());
+        }
+        synchronized (info) {
+            if (update.getContent() != null || info.sourceEditorId == null) {
+                info.sourceEndpointId = endpointId;
+                info.sourceEditorId = update.getEditorId();
+            }
+            if (update.getContent() != null) {
+                try {
+                    info.unit.getBuffer().setContents(update.getContent());
+                } catch (JavaModelException e) {
+                    LOG.error(e.getMessage(), e);
+                }
+            }
+            applyChanges(info, update);
+        }
+    }
+
+    /**
+     * Applies changes of the editor to the working copy if the working copy follows this editor.
+     * If the working copy isn't opened for the editor, the editor is asked to send its content.
+     */
+    public void change(String endpointId, WorkingCopyUpdate update) {
+        WorkingCopyInfo info;
+        synchronized (workingCopies) {
+            info = workingCopies.get(key(update));
+            if (info == null || !info.hasEditor(endpointId, update.getEditorId())) {
+                // the agent was restarted or the session of the endpoint was closed, changes can't be applied without content
+                LOG.debug("Working copy of {} is not opened for editor {}", update.getFqn(), update.getEditorId());
+                requestContent(endpointId, update.getEditorId(), update.getProjectPath(), update.getFqn());
+                return;
+            }
+        }
+        synchronized (info) {
+            if (!info.isSource(endpointId, update.getEditorId())) {
+                // the same change is sent by all the synchronized editors of the file, only one of them is followed
+                return;
+            }
+            applyChanges(info, update);
+        }
+    }
+
+    /** Closes working copy for the editor, working copy is discarded when it is closed in all the editors. */
+    public void close(String endpointId, WorkingCopyUpdate update) {
+        synchronized (workingCopies) {
+            WorkingCopyInfo info = workingCopies.get(key(update));
+            if (info != null && update.getEditorId() != null) {
+                detachEditors(key(update), info, endpointId, singleton(update.getEditorId()));
+            }
+        }
+    }
+
+    /** Closes working copies for all the editors of the given endpoint. */
+    public void closeAll(String endpointId) {
+        synchronized (workingCopies) {
+            for (Map.Entry<String, WorkingCopyInfo> entry : new ArrayList<>(workingCopies.entrySet())) {
+                Set<String> editorIds = entry.getValue().editors.get(endpointId);
+                if (editorIds != null) {
+                    detachEditors(entry.getKey(), entry.getValue(), endpointId, new HashSet<>(editorIds));
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        eventService.unsubscribe(sessionClosedSubscriber, WebSocketSessionClosedEvent.class);
+        executor.shutdownNow();
+    }
+
+    /** Must be called holding the lock of the working copies. */
+    private void detachEditors(String key, WorkingCopyInfo info, String endpointId, Collection<String> editorIds) {
+        Set<String> endpointEditors = info.editors.get(endpointId);
+        if (endpointEditors != null) {
+            endpointEditors.removeAll(editorIds);
+            if (endpointEditors.isEmpty()) {
+                info.editors.remove(endpointId);
+            }
+        }
+        synchronized (info) {
+            if (info.editors.isEmpty()) {
+                workingCopies.remove(key);
+                if (info.scheduledReconcile != null) {
+                    info.scheduledReconcile.cancel(false);
+                }
+                try {
+                    info.unit.discardWorkingCopy();
+                } catch (JavaModelException e) {
+                    LOG.error(e.getMessage(), e);
+                }
+            } else if (endpointId.equals(info.sourceEndpointId) && editorIds.contains(info.sourceEditorId)) {
+                // the other editors may have different content, e.g. in other browser tab, so follow one of them from its content
+                info.sourceEndpointId = null;
+                info.sourceEditorId = null;
+                Map.Entry<String, Set<String>> next = info.editors.entrySet().iterator().next();
+                requestContent(next.getKey(), next.getValue().iterator().next(), info.projectPath, info.fqn);
+            }
+        }
+    }
+
+    private void requestContent(String endpointId, String editorId, String projectPath, String fqn) {
+        transmitter.transmitOneToNone(endpointId,
+                                      RESYNC_METHOD,
+                                      newDto(WorkingCopyUpdate.class).withProjectPath(projectPath)
+                                                                     .withFqn(fqn)
+                                                                     .withEditorId(editorId));
+    }
+
+    private void applyChanges(WorkingCopyInfo info, WorkingCopyUpdate update) {
+        if (update.getChanges() != null && !update.getChanges().isEmpty()) {
+            try {
+                IBuffer buffer = info.unit.getBuffer();
+                for (Change change : update.getChanges()) {
+                    buffer.replace(change.getOffset(), change.getLength(), change.getText() == null ? "" : change.getText());
+                }
+            } catch (JavaModelException | RuntimeException e) {
+                LOG.error("Can't apply changes to working copy of " + info.fqn, e);
+            }
+        }
+        if (info.scheduledReconcile != null) {
+            info.scheduledReconcile.cancel(false);
+        }
+        info.scheduledReconcile = executor.schedule(() -> reconcile(info), reconcileDelayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void reconcile(WorkingCopyInfo info) {
+        ReconcileResult result;
+        Map<String, Set<String>> editors = new HashMap<>();
+        synchronized (info) {
+            if (!info.unit.isWorkingCopy()) {
+                return;
+            }
+            try {
+                result = reconciler.reconcile(info.unit);
+            } catch (JavaModelException e) {
+                LOG.error("Can't reconcile working copy of " + info.fqn + " in project " + info.projectPath, e);
+                return;
+            }
+            info.editors.forEach((endpointId, editorIds) -> editors.put(endpointId, new HashSet<>(editorIds)));
+        }
+        editors.forEach((endpointId, editorIds) -> {
+            for (String editorId : editorIds) {
+                transmitter.transmitOneToNone(endpointId,
+                                              RECONCILE_METHOD,
+                                              cloneDto(result).withProjectPath(info.projectPath)
+                                                              .withFqn(info.fqn)
+                                                              .withEditorId(editorId));
+            }
+        });
+    }
+
+    ICompilationUnit findCompilationUnit(String projectPath, String fqn) {
+        IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectPath);
+        try {
+            IType type = javaProject.findType(fqn);
+            if (type == null || type.isBinary()) {
+                return null;
+            }
+            return type.getCompilationUnit();
+        } catch (JavaModelException e) {
+            LOG.error("Can't find type " + fqn + " in project " + projectPath, e);
+            return null;
+        }
+    }
+
+    private static String key(WorkingCopyUpdate update) {
+        return update.getProjectPath() + ':' + update.getFqn();
+    }
+
+    private static class WorkingCopyInfo {
+        final String                   projectPath;
+        final String                   fqn;
+        final ICompilationUnit         unit;
+        /** Identifiers of the editors which show the working copy, grouped by the endpoints of the editors. */
+        final Map<String, Set<String>> editors;
+
+        ScheduledFuture<?> scheduledReconcile;
+        /** The editor whose changes are applied to the buffer. */
+        String             sourceEndpointId;
+        String             sourceEditorId;
+
+        WorkingCopyInfo(String projectPath, String fqn, ICompilationUnit unit) {
+            this.projectPath = projectPath;
+            this.fqn = fqn;
+            this.unit = unit;
+            this.editors = new ConcurrentHashMap<>();
+        }
+
+        boolean hasEditor(String endpointId, String editorId) {
+            Set<String> editorIds = editors.get(endpointId);
+            return editorId != null && editorIds != null && editorIds.contains(editorId);
+        }
+
+        boolean isSource(String endpointId, String editorId) {
+            return Objects.equals(sourceEndpointId, endpointId) && Objects.equals(sourceEditorId, editorId);
+        }
+    }
+}
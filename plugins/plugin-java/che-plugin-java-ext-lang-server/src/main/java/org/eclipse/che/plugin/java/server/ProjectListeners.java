@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.java.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -22,11 +23,16 @@ import org.eclipse.che.api.project.server.ProjectCreatedEvent;
 import org.eclipse.che.api.project.server.ProjectRegistry;
 import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
 import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.ide.ext.java.shared.dto.JavaModelUpdateStatistics;
+import org.eclipse.che.jdt.core.resources.BatchResourceDeltaImpl;
 import org.eclipse.che.jdt.core.resources.ResourceChangedEvent;
+import org.eclipse.che.jdt.core.resources.ResourceDeltaImpl;
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
 import org.eclipse.core.filebuffers.ITextFileBufferManager;
 import org.eclipse.core.filebuffers.LocationKind;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
@@ -34,26 +40,67 @@ import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
 /**
+ * Forwards changes of java projects items into the java model.
+ * <p/>
+ * Changes which happen within {@code che.java.resource_changes.batch_window_ms} are coalesced
+ * and delivered to the java model as a single multi-resource delta, so operations which touch many files,
+ * e.g. git checkout, don't trigger delta processing per file. Zero window disables batching.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
 public class ProjectListeners {
     private static final Logger LOG = LoggerFactory.getLogger(ProjectListeners.class);
 
-    private final File                workspace;
-    private final ProjectRegistry     projectRegistry;
-    private final ProjectTypeRegistry projectTypeRegistry;
+    private final File                           workspace;
+    private final ProjectRegistry                projectRegistry;
+    private final ProjectTypeRegistry            projectTypeRegistry;
+    private final long                           batchWindowMs;
+    private final ScheduledExecutorService       executor;
+    private final List<ProjectItemModifiedEvent> pendingEvents;
+    private final AtomicLong                     batches;
+    private final AtomicLong                     events;
+    private final AtomicLong                     resourceChanges;
+    private final AtomicLong                     deltaProcessingTime;
+    private final AtomicLong                     buffersRevertTime;
+    private final AtomicLong                     maxBatchTime;
+
+    private boolean flushScheduled;
 
     @Inject
     public ProjectListeners(@Named("che.user.workspaces.storage") String workspacePath,
+                            @Named("che.java.resource_changes.batch_window_ms") long batchWindowMs,
                             EventService eventService,
                             ProjectRegistry projectRegistry,
                             ProjectTypeRegistry projectTypeRegistry) {
         this.projectRegistry = projectRegistry;
         this.projectTypeRegistry = projectTypeRegistry;
+        this.batchWindowMs = batchWindowMs;
+        this.pendingEvents = new ArrayList<>();
+        this.batches = new AtomicLong();
+        this.events = new AtomicLong();
+        this.resourceChanges = new AtomicLong();
+        this.deltaProcessingTime = new AtomicLong();
+        this.buffersRevertTime = new AtomicLong();
+        this.maxBatchTime = new AtomicLong();
+        this.executor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("JavaModelDeltaProcessor-%d")
+                                          .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                                          .setDaemon(true)
+                                          .build());
         workspace = new File(workspacePath);
         eventService.subscribe(new ProjectCreated());
         eventService.subscribe(new EventSubscriber<ProjectItemModifiedEvent>() {
@@ -65,28 +112,84 @@ public class ProjectListeners {
     }
 
     public void handleEvent(ProjectItemModifiedEvent event) {
-        final String eventPath = event.getPath();
         if (!isJavaProject(event.getProject())) {
             return;
         }
+        if (batchWindowMs <= 0) {
+            processEvents(singletonList(event));
+            return;
+        }
+        synchronized (pendingEvents) {
+            pendingEvents.add(event);
+            if (!flushScheduled) {
+                flushScheduled = true;
+                executor.schedule(this::flushPendingEvents, batchWindowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /** Returns statistics of the java model updates made since the start. */
+    public JavaModelUpdateStatistics getStatistics() {
+        return newDto(JavaModelUpdateStatistics.class).withBatches(batches.get())
+                                                      .withEvents(events.get())
+                                                      .withResourceChanges(resourceChanges.get())
+                                                      .withDeltaProcessingTimeMs(deltaProcessingTime.get())
+                                                      .withBuffersRevertTimeMs(buffersRevertTime.get())
+                                                      .withMaxBatchTimeMs(maxBatchTime.get());
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void flushPendingEvents() {
+        List<ProjectItemModifiedEvent> events;
+        synchronized (pendingEvents) {
+            events = new ArrayList<>(pendingEvents);
+            pendingEvents.clear();
+            flushScheduled = false;
+        }
+        processEvents(events);
+    }
+
+    private void processEvents(List<ProjectItemModifiedEvent> batch) {
+        final long start = System.currentTimeMillis();
+        final ResourceChangedEvent resourceChangedEvent = new ResourceChangedEvent(workspace, batch);
+        final BatchResourceDeltaImpl delta = (BatchResourceDeltaImpl)resourceChangedEvent.getDelta();
+        events.addAndGet(batch.size());
+        if (delta.size() == 0) {
+            // all the changes cancelled each other
+            return;
+        }
         try {
-            JavaModelManager.getJavaModelManager().deltaState.resourceChanged(
-                    new ResourceChangedEvent(workspace, event));
+            JavaModelManager.getJavaModelManager().deltaState.resourceChanged(resourceChangedEvent);
         } catch (Throwable t) {
             //catch all exceptions that may be happened
-            LOG.error("Can't update java model in " + eventPath, t);
+            LOG.error("Can't update java model for " + delta.size() + " changed resources", t);
         }
-        if (event.getType() == ProjectItemModifiedEvent.EventType.UPDATED) {
-            ITextFileBufferManager manager = FileBuffers.getTextFileBufferManager();
-            ITextFileBuffer fileBuffer = manager.getTextFileBuffer(new Path(eventPath), LocationKind.IFILE);
+        final long deltaProcessed = System.currentTimeMillis();
+
+        ITextFileBufferManager manager = FileBuffers.getTextFileBufferManager();
+        for (ResourceDeltaImpl child : delta.getAffectedChildren(IResourceDelta.CHANGED)) {
+            ITextFileBuffer fileBuffer = manager.getTextFileBuffer(new Path(child.getPath()), LocationKind.IFILE);
             if (fileBuffer != null) {
                 try {
                     fileBuffer.revert(new NullProgressMonitor());
                 } catch (CoreException e) {
-                    LOG.error("Can't read file content: " + eventPath, e);
+                    LOG.error("Can't read file content: " + child.getPath(), e);
                 }
             }
         }
+        final long end = System.currentTimeMillis();
+        batches.incrementAndGet();
+        resourceChanges.addAndGet(delta.size());
+        deltaProcessingTime.addAndGet(deltaProcessed - start);
+        buffersRevertTime.addAndGet(end - deltaProcessed);
+        maxBatchTime.accumulateAndGet(end - start, Math::max);
+        LOG.debug("Java model updated with {} resource changes coalesced from {} events: delta processing took {} ms, " +
+                  "file buffers revert took {} ms",
+                  delta.size(), batch.size(), deltaProcessed - start, end - deltaProcessed);
     }
 
     private class ProjectCreated implements EventSubscriber<ProjectCreatedEvent> {
@@ -18,10 +18,12 @@ import com.google.inject.name.Named;
 import org.eclipse.che.JavadocUrlProvider;
 import org.eclipse.che.inject.DynaModule;
 import org.eclipse.che.jdt.rest.UrlContextProvider;
+import org.eclipse.che.plugin.java.server.JavaWorkingCopyManager;
 import org.eclipse.che.plugin.java.server.ProjectListeners;
 import org.eclipse.che.plugin.java.server.refactoring.RefactoringManager;
 import org.eclipse.che.plugin.java.server.rest.CodeAssistService;
 import org.eclipse.che.plugin.java.server.rest.CompilerSetupService;
+import org.eclipse.che.plugin.java.server.rest.JavaModelUpdatesService;
 import org.eclipse.che.plugin.java.server.rest.JavaNavigationService;
 import org.eclipse.che.plugin.java.server.rest.JavaReconcileService;
 import org.eclipse.che.plugin.java.server.rest.JavadocService;
@@ -46,6 +48,7 @@ public class JdtGuiceModule extends AbstractModule {
         bind(JavadocService.class);
         bind(JavaNavigationService.class);
         bind(JavaReconcileService.class);
+        bind(JavaModelUpdatesService.class);
         bind(CodeAssistService.class);
         bind(JdtExceptionMapper.class);
         bind(CompilerSetupService.class);
@@ -53,6 +56,7 @@ public class JdtGuiceModule extends AbstractModule {
         bind(JavaPlugin.class).asEagerSingleton();
         bind(FileBuffersPlugin.class).asEagerSingleton();
         bind(ProjectListeners.class).asEagerSingleton();
+        bind(JavaWorkingCopyManager.class).asEagerSingleton();
         bind(RefactoringManager.class).asEagerSingleton();
         bind(RefactoringService.class);
         bind(SearchService.class);
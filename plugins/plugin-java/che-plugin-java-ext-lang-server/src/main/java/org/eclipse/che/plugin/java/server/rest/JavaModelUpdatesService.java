@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.rest;
+
+import com.google.inject.Inject;
+
+import org.eclipse.che.ide.ext.java.shared.dto.JavaModelUpdateStatistics;
+import org.eclipse.che.plugin.java.server.ProjectListeners;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+
+/**
+ * Service which provides statistics of the java model updates caused by the changes of the project items.
+ */
+@Path("java/model-updates")
+public class JavaModelUpdatesService {
+
+    @Inject
+    private ProjectListeners projectListeners;
+
+    @GET
+    @Path("statistics")
+    @Produces(APPLICATION_JSON)
+    public JavaModelUpdateStatistics getStatistics() {
+        return projectListeners.getStatistics();
+    }
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import org.eclipse.che.api.core.jsonrpc.RequestTransmitter;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.websocket.WebSocketSessionClosedEvent;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
+import org.eclipse.che.ide.ext.java.shared.dto.WorkingCopyUpdate;
+import org.eclipse.che.jdt.javaeditor.JavaReconciler;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests {@link JavaWorkingCopyManager}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class JavaWorkingCopyManagerTest {
+    private static final String PROJECT          = "/project";
+    private static final String FQN              = "org.eclipse.Test";
+    private static final String RECONCILE_METHOD = "event:java-reconcile";
+    private static final String RESYNC_METHOD    = "event:java-working-copy-resync";
+
+    @Mock
+    private JavaReconciler     reconciler;
+    @Mock
+    private RequestTransmitter transmitter;
+    @Mock
+    private ICompilationUnit   unit;
+    @Mock
+    private IBuffer            buffer;
+
+    private EventService           eventService;
+    private JavaWorkingCopyManager manager;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        when(unit.getBuffer()).thenReturn(buffer);
+        when(unit.isWorkingCopy()).thenReturn(true);
+        when(reconciler.reconcile(unit)).thenAnswer(invocation -> newDto(ReconcileResult.class));
+
+        eventService = new EventService();
+        manager = new JavaWorkingCopyManager(reconciler, transmitter, eventService, 100) {
+            @Override
+            ICompilationUnit findCompilationUnit(String projectPath, String fqn) {
+                return unit;
+            }
+        };
+        manager.subscribe();
+    }
+
+    @Test
+    public void shouldApplyContentAndChangesOfEditorToWorkingCopy() throws Exception {
+        manager.open("endpoint", newUpdate("editor-1").withContent("class Test {}"));
+        Change change = newDto(Change.class).withOffset(6).withLength(4).withText("Changed");
+        manager.change("endpoint", newUpdate("editor-1").withChanges(singletonList(change)));
+
+        verify(unit).becomeWorkingCopy(null);
+        verify(buffer).setContents("class Test {}");
+        verify(buffer).replace(6, 4, "Changed");
+    }
+
+    @Test
+    public void shouldPushReconcileResultToEachEditorOfTheSameEndpoint() throws Exception {
+        manager.open("endpoint", newUpdate("editor-1").withContent("class Test {}"));
+        manager.open("endpoint", newUpdate("editor-2").withContent("class Test {}"));
+
+        ArgumentCaptor<ReconcileResult> captor = ArgumentCaptor.forClass(ReconcileResult.class);
+        verify(transmitter, timeout(2000).atLeast(2)).transmitOneToNone(eq("endpoint"), eq(RECONCILE_METHOD), captor.capture());
+        Set<String> editors = captor.getAllValues().stream().map(ReconcileResult::getEditorId).collect(Collectors.toSet());
+        assertTrue(editors.contains("editor-1"));
+        assertTrue(editors.contains("editor-2"));
+        ReconcileResult result = captor.getValue();
+        assertEquals(result.getProjectPath(), PROJECT);
+        assertEquals(result.getFqn(), FQN);
+        // both editors share the working copy
+        verify(unit).becomeWorkingCopy(null);
+    }
+
+    @Test
+    public void shouldDiscardWorkingCopyWhenItIsClosedInAllTheEditors() throws Exception {
+        manager.open("endpoint1", newUpdate("editor-1").withContent("class Test {}"));
+        manager.open("endpoint2", newUpdate("editor-1").withContent("class Test {}"));
+
+        manager.close("endpoint1", newUpdate("editor-1"));
+        verify(unit, never()).discardWorkingCopy();
+
+        manager.close("endpoint2", newUpdate("editor-1"));
+        verify(unit).discardWorkingCopy();
+    }
+
+    @Test
+    public void shouldApplyChangesOfSynchronizedEditorsOfTheSameFileOnlyOnce() throws Exception {
+        manager.open("endpoint", newUpdate("editor-1").withContent("class Test {}"));
+        manager.open("endpoint", newUpdate("editor-2").withContent("class Test {}"));
+        Change change = newDto(Change.class).withOffset(6).withLength(4).withText("Changed");
+
+        // change typed in one of the split editors is replayed in the other one, so both of them send it
+        manager.change("endpoint", newUpdate("editor-1").withChanges(singletonList(change)));
+        manager.change("endpoint", newUpdate("editor-2").withChanges(singletonList(change)));
+
+        verify(buffer, times(1)).replace(6, 4, "Changed");
+    }
+
+    @Test
+    public void shouldRequestContentOfAnotherEditorWhenFollowedEditorIsClosed() throws Exception {
+        manager.open("endpoint1", newUpdate("editor-1").withContent("class Test {}"));
+        manager.open("endpoint2", newUpdate("editor-1").withContent("class Test { int i; }"));
+
+        manager.close("endpoint2", newUpdate("editor-1"));
+
+        verify(transmitter).transmitOneToNone(eq("endpoint1"), eq(RESYNC_METHOD), argThat(isUpdateOf("editor-1")));
+        verify(unit, never()).discardWorkingCopy();
+    }
+
+    @Test
+    public void shouldRequestContentWhenWorkingCopyIsNotOpened() throws Exception {
+        Change change = newDto(Change.class).withOffset(0).withLength(0).withText("class Test {}");
+
+        manager.change("endpoint", newUpdate("editor-1").withChanges(singletonList(change)));
+
+        verify(buffer, never()).replace(anyInt(), anyInt(), anyString());
+        verify(transmitter).transmitOneToNone(eq("endpoint"), eq(RESYNC_METHOD), argThat(isUpdateOf("editor-1")));
+    }
+
+    @Test
+    public void shouldDiscardWorkingCopiesOfEndpointWhenItsSessionIsClosed() throws Exception {
+        manager.open("endpoint", newUpdate("editor-1").withContent("class Test {}"));
+        manager.open("endpoint", newUpdate("editor-2").withContent("class Test {}"));
+
+        eventService.publish(new WebSocketSessionClosedEvent("endpoint"));
+
+        verify(unit).discardWorkingCopy();
+        verify(transmitter, never()).transmitOneToNone(anyString(), eq(RESYNC_METHOD), any());
+    }
+
+    private static ArgumentMatcher<WorkingCopyUpdate> isUpdateOf(String editorId) {
+        return new ArgumentMatcher<WorkingCopyUpdate>() {
+            @Override
+            public boolean matches(Object argument) {
+                WorkingCopyUpdate update = (WorkingCopyUpdate)argument;
+                return editorId.equals(update.getEditorId()) && PROJECT.equals(update.getProjectPath()) && FQN.equals(update.getFqn());
+            }
+        };
+    }
+
+    private static WorkingCopyUpdate newUpdate(String editorId) {
+        return newDto(WorkingCopyUpdate.class).withProjectPath(PROJECT).withFqn(FQN).withEditorId(editorId);
+    }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ext.java.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * DTO represents statistics of the java model updates caused by the changes of the project items.
+ */
+@DTO
+public interface JavaModelUpdateStatistics {
+
+    /** Returns number of batches of changes delivered to the java model. */
+    long getBatches();
+
+    void setBatches(long batches);
+
+    JavaModelUpdateStatistics withBatches(long batches);
+
+    /** Returns number of received project item events. */
+    long getEvents();
+
+    void setEvents(long events);
+
+    JavaModelUpdateStatistics withEvents(long events);
+
+    /** Returns number of resource changes the events were coalesced to. */
+    long getResourceChanges();
+
+    void setResourceChanges(long resourceChanges);
+
+    JavaModelUpdateStatistics withResourceChanges(long resourceChanges);
+
+    /** Returns total time of the java model delta processing in milliseconds. */
+    long getDeltaProcessingTimeMs();
+
+    void setDeltaProcessingTimeMs(long deltaProcessingTimeMs);
+
+    JavaModelUpdateStatistics withDeltaProcessingTimeMs(long deltaProcessingTimeMs);
+
+    /** Returns total time of the file buffers revert in milliseconds. */
+    long getBuffersRevertTimeMs();
+
+    void setBuffersRevertTimeMs(long buffersRevertTimeMs);
+
+    JavaModelUpdateStatistics withBuffersRevertTimeMs(long buffersRevertTimeMs);
+
+    /** Returns the longest processing time of a single batch in milliseconds. */
+    long getMaxBatchTimeMs();
+
+    void setMaxBatchTimeMs(long maxBatchTimeMs);
+
+    JavaModelUpdateStatistics withMaxBatchTimeMs(long maxBatchTimeMs);
+}
@@ -29,4 +29,25 @@ public interface ReconcileResult {
 
     void setHighlightedPositions(List<HighlightedPosition> positions);
 
+    /** Returns path of the project of the reconciled working copy, set only for results pushed by the server. */
+    String getProjectPath();
+
+    void setProjectPath(String projectPath);
+
+    ReconcileResult withProjectPath(String projectPath);
+
+    /** Returns fully qualified name of the reconciled type, set only for results pushed by the server. */
+    String getFqn();
+
+    void setFqn(String fqn);
+
+    ReconcileResult withFqn(String fqn);
+
+    /** Returns identifier of the editor the result is pushed to, set only for results pushed by the server. */
+    String getEditorId();
+
+    void setEditorId(String editorId);
+
+    ReconcileResult withEditorId(String editorId);
+
 }
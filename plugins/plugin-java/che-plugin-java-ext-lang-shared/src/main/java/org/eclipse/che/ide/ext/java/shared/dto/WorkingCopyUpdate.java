@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ext.java.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+import java.util.List;
+
+/**
+ * DTO represents the changes of the java file opened in the editor
+ * which are applied to the in-memory working copy of the compilation unit.
+ */
+@DTO
+public interface WorkingCopyUpdate {
+
+    /** Returns path of the project the file belongs to. */
+    String getProjectPath();
+
+    void setProjectPath(String projectPath);
+
+    WorkingCopyUpdate withProjectPath(String projectPath);
+
+    /** Returns fully qualified name of the top level type of the file. */
+    String getFqn();
+
+    void setFqn(String fqn);
+
+    WorkingCopyUpdate withFqn(String fqn);
+
+    /** Returns identifier of the editor, unique within the endpoint, results of the reconcile are pushed with it. */
+    String getEditorId();
+
+    void setEditorId(String editorId);
+
+    WorkingCopyUpdate withEditorId(String editorId);
+
+    /**
+     * Returns whole content of the file, content is sent when the working copy is opened
+     * and replaces the content of the working copy buffer.
+     */
+    String getContent();
+
+    void setContent(String content);
+
+    WorkingCopyUpdate withContent(String content);
+
+    /** Returns text changes to apply to the working copy buffer in the order they were made in the editor. */
+    List<Change> getChanges();
+
+    void setChanges(List<Change> changes);
+
+    WorkingCopyUpdate withChanges(List<Change> changes);
+}
@@ -114,7 +114,8 @@ public abstract class BaseTest {
                                             fileWatcherNotificationHandler,
                                             fileTreeWatcher,
                                             new TestWorkspaceHolder(new ArrayList<>()),
-                                            mock(FileWatcherManager.class));
+                                            mock(FileWatcherManager.class),
+                                            4);
 
         ResourcesPlugin plugin = new ResourcesPlugin("target/index", wsPath, () -> projectRegistry, () -> projectManager);
 
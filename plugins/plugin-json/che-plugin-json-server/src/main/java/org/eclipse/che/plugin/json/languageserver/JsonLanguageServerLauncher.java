@@ -57,6 +57,12 @@ public class JsonLanguageServerLauncher extends LanguageServerLauncherTemplate {
         return Files.exists(launchScript);
     }
 
+    /** Documents are validated against their schemas only, so a single server serves the documents of all the projects. */
+    @Override
+    public boolean isMultiRootSupported() {
+        return true;
+    }
+
     protected LanguageServer connectToLanguageServer(final Process languageServerProcess, LanguageClient client) {
         Launcher<LanguageServer> launcher = Launcher.createLauncher(client, LanguageServer.class,
                                                                     languageServerProcess.getInputStream(),
@@ -50,6 +50,8 @@ public class LanguageServerCodeAssistProcessor implements CodeAssistProcessor {
     private final FuzzyMatches              fuzzyMatches;
     private final LatestCompletionResult    latestCompletionResult;
     private       String                    lastErrorMessage;
+    /** Identifier of the latest completion request, responses to the previous requests are ignored. */
+    private       int                       latestRequestId;
 
     @Inject
     public LanguageServerCodeAssistProcessor(TextDocumentServiceClient documentServiceClient,
@@ -81,9 +83,14 @@ public class LanguageServerCodeAssistProcessor implements CodeAssistProcessor {
             // no need to send new completion request
             computeProposals(currentWord, offset - latestCompletionResult.getOffset(), callback);
         } else {
+            final int requestId = ++latestRequestId;
             documentServiceClient.completion(documentPosition).then(new Operation<ExtendedCompletionList>() {
                 @Override
                 public void apply(ExtendedCompletionList list) throws OperationException {
+                    if (list == null || requestId != latestRequestId) {
+                        // response to the superseded request must not replace the result of the newer one
+                        return;
+                    }
                     latestCompletionResult.update(documentId, offset, currentWord, list);
                     computeProposals(currentWord, 0, callback);
                 }
@@ -55,9 +55,21 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
     private String  mavenServerPath;
     private File    localRepository;
 
+    /** Additional maven server processes, the first process of the pool is wrapped by this manager itself. */
+    private final List<PooledProcess> pooledProcesses;
+
+    public MavenServerManager(String mavenServerPath) {
+        this(mavenServerPath, 1);
+    }
+
     @Inject
-    public MavenServerManager(@Named("che.maven.server.path") String mavenServerPath) {
+    public MavenServerManager(@Named("che.maven.server.path") String mavenServerPath,
+                              @Named("che.maven.server.pool_size") int poolSize) {
         this.mavenServerPath = mavenServerPath;
+        this.pooledProcesses = new ArrayList<>();
+        for (int i = 1; i < poolSize; i++) {
+            pooledProcesses.add(new PooledProcess(i));
+        }
 
         client = new RmiClient<MavenRemoteServer>(MavenRemoteServer.class) {
             @Override
@@ -89,14 +101,34 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
         };
     }
 
+    /**
+     * Returns the number of maven server processes which may be used simultaneously.
+     */
+    public int getPoolSize() {
+        return pooledProcesses.size() + 1;
+    }
+
     public MavenServerWrapper createMavenServer() {
+        return createMavenServer(0);
+    }
+
+    /**
+     * Creates maven server in the process with given index.
+     *
+     * @param processIndex
+     *         index of the process in the pool, must be less than {@link #getPoolSize()}
+     */
+    public MavenServerWrapper createMavenServer(int processIndex) {
+        if (processIndex < 0 || processIndex >= getPoolSize()) {
+            throw new IllegalArgumentException("Maven server process index is out of range: " + processIndex);
+        }
         return new MavenServerWrapper() {
             @Override
             protected MavenServer create() throws RemoteException {
                 MavenSettings mavenSettings = new MavenSettings();
                 //TODO add more user settings
                 mavenSettings.setMavenHome(new File(System.getenv("M2_HOME")));
-                mavenSettings.setUserSettings(new File(System.getProperty("user.home"), ".m2/settings.xml"));
+                mavenSettings.setUserSettings(getUserSettings());
                 // Setting Global maven setting
                 // for more maven info settings visit https://maven.apache.org/settings.html
                 mavenSettings.setGlobalSettings(new File(System.getenv("M2_HOME"), "conf/settings.xml"));
@@ -104,11 +136,18 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
                 if (localRepository != null) {
                     mavenSettings.setLocalRepository(localRepository);
                 }
-                return MavenServerManager.this.getOrCreateWrappedObject().createServer(mavenSettings);
+                return getRemoteServer(processIndex).createServer(mavenSettings);
             }
         };
     }
 
+    /**
+     * Returns user maven settings file which is used by the maven servers, the file may not exist.
+     */
+    public File getUserSettings() {
+        return new File(System.getProperty("user.home"), ".m2/settings.xml");
+    }
+
     /**
      * For test use only. Sets the path to local maven repository
      *
@@ -125,17 +164,39 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
     @PreDestroy
     public void shutdown() {
         client.stopAll(false);
+        pooledProcesses.forEach(PooledProcess::cleanUp);
         cleanUp();
+        unexportCallbacks();
+    }
+
+    private MavenRemoteServer getRemoteServer(int processIndex) throws RemoteException {
+        if (processIndex == 0) {
+            return getOrCreateWrappedObject();
+        }
+        return pooledProcesses.get(processIndex - 1).getOrCreateWrappedObject();
     }
 
     @Override
     protected MavenRemoteServer create() throws RemoteException {
+        return acquireServer("");
+    }
+
+    private MavenRemoteServer acquireServer(String processKey) throws RemoteException {
         MavenRemoteServer server;
         try {
-            server = client.acquire(this, "");
+            // rmi client starts separate process for each key
+            server = client.acquire(this, processKey);
         } catch (Exception e) {
             throw new RemoteException("Can't start maven server", e);
         }
+        exportCallbacks();
+
+        server.configure(rmiLogger, rmiDownloadListener);
+
+        return server;
+    }
+
+    private synchronized void exportCallbacks() throws RemoteException {
         if (!loggerExported) {
             Remote loggerRemote = UnicastRemoteObject.exportObject(rmiLogger, 0);
             if (!(loggerExported = loggerRemote != null)) {
@@ -148,16 +209,9 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
                 throw new RemoteException("Can't export download listener");
             }
         }
-
-        server.configure(rmiLogger, rmiDownloadListener);
-
-        return server;
     }
 
-    @Override
-    protected synchronized void cleanUp() {
-        super.cleanUp();
-
+    private synchronized void unexportCallbacks() {
         if (loggerExported) {
             try {
                 UnicastRemoteObject.unexportObject(rmiLogger, true);
@@ -227,6 +281,30 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
         T perform() throws RemoteException;
     }
 
+    private class PooledProcess extends RmiObjectWrapper<MavenRemoteServer> {
+        private final int index;
+
+        PooledProcess(int index) {
+            this.index = index;
+        }
+
+        @Override
+        protected MavenRemoteServer create() throws RemoteException {
+            return acquireServer(String.valueOf(index));
+        }
+
+        // overridden to make these methods accessible for the manager
+        @Override
+        protected synchronized MavenRemoteServer getOrCreateWrappedObject() throws RemoteException {
+            return super.getOrCreateWrappedObject();
+        }
+
+        @Override
+        protected synchronized void cleanUp() {
+            super.cleanUp();
+        }
+    }
+
     private class RmiLogger extends RmiObject implements MavenServerLogger {
 
         @Override
@@ -13,8 +13,10 @@ package org.eclipse.che.plugin.maven.server;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -31,6 +33,9 @@ public class MavenWrapperManager {
     private final MavenServerManager    serverManager;
     private final Map<ServerType, MavenServerWrapper> cache = new HashMap<>();
     private final Set<MavenServerWrapper> usedServers = new HashSet<>();
+    /** Resolve servers, one per maven server process. */
+    private final List<MavenServerWrapper> resolveServers = new ArrayList<>();
+    private int nextProcess;
 
 
     @Inject
@@ -39,6 +44,9 @@ public class MavenWrapperManager {
     }
 
     public synchronized MavenServerWrapper getMavenServer(ServerType type) {
+        if (type == ServerType.RESOLVE) {
+            return getResolveServer();
+        }
         MavenServerWrapper wrapper = cache.get(type);
         if (wrapper == null) {
             wrapper = serverManager.createMavenServer();
@@ -54,6 +62,30 @@ public class MavenWrapperManager {
         return wrapper;
     }
 
+    /**
+     * Returns not used resolve server, projects may be resolved concurrently
+     * by as many servers as there are maven server processes.
+     */
+    private MavenServerWrapper getResolveServer() {
+        for (MavenServerWrapper wrapper : resolveServers) {
+            if (!usedServers.contains(wrapper)) {
+                usedServers.add(wrapper);
+                return wrapper;
+            }
+        }
+
+        if (resolveServers.size() < serverManager.getPoolSize()) {
+            MavenServerWrapper wrapper = serverManager.createMavenServer(resolveServers.size());
+            resolveServers.add(wrapper);
+            usedServers.add(wrapper);
+            return wrapper;
+        }
+
+        //need to warn here
+        nextProcess = (nextProcess + 1) % serverManager.getPoolSize();
+        return serverManager.createMavenServer(nextProcess);
+    }
+
     public synchronized void release(MavenServerWrapper wrapper) {
         if (usedServers.contains(wrapper)) {
             wrapper.reset();
@@ -11,17 +11,21 @@
 package org.eclipse.che.plugin.maven.server.core;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
 import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * @author Evgen Vidolob
@@ -32,20 +36,45 @@ public class MavenExecutorService {
     private static final Logger LOG = LoggerFactory.getLogger(MavenExecutorService.class);
 
     private final ExecutorService service;
+    private final ExecutorService resolveService;
 
     public MavenExecutorService() {
+        this(1);
+    }
+
+    /**
+     * @param resolvePoolSize
+     *         maximum number of projects which are resolved simultaneously,
+     *         it makes no sense to make it bigger than the number of maven server processes
+     */
+    @Inject
+    public MavenExecutorService(@Named("che.maven.server.pool_size") int resolvePoolSize) {
         ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat("Maven Executor - %d")
                                                                 .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
                                                                 .build();
         service = Executors.newFixedThreadPool(1, threadFactory);
+        ThreadFactory resolveThreadFactory = new ThreadFactoryBuilder().setNameFormat("Maven Resolver - %d")
+                                                                       .setUncaughtExceptionHandler(
+                                                                               LoggingUncaughtExceptionHandler.getInstance())
+                                                                       .build();
+        resolveService = Executors.newFixedThreadPool(Math.max(1, resolvePoolSize), resolveThreadFactory);
     }
 
     public void submit(Runnable task) {
         service.execute(task);
     }
 
+    /**
+     * Runs resolution of a single project in the pool of resolver threads.
+     * Tasks which are submitted with {@link #submit(Runnable)} may wait for the result.
+     */
+    public <T> CompletableFuture<T> submitResolve(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, resolveService);
+    }
+
     @PreDestroy
     public void shutdown() throws InterruptedException {
+        resolveService.shutdownNow();
         // Tell threads to finish off.
         service.shutdown(); // Disable new tasks from being submitted
         try {
@@ -21,17 +21,22 @@ import org.eclipse.che.maven.server.MavenTerminal;
 import org.eclipse.che.plugin.maven.server.MavenServerManager;
 import org.eclipse.che.plugin.maven.server.MavenServerWrapper;
 import org.eclipse.che.plugin.maven.server.MavenWrapperManager;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelReaderResult;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProjectModifications;
+import org.eclipse.che.plugin.maven.server.core.project.MavenResolutionCache;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
 
+import java.io.File;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +71,7 @@ public class MavenProjectManager {
     private final MavenTerminal         terminal;
     private final MavenProgressNotifier mavenNotifier;
     private final Provider<IWorkspace>  workspaceProvider;
+    private final MavenResolutionCache  resolutionCache;
 
     private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
     private final Lock                   readLock      = readWriteLock.readLock();
@@ -73,17 +79,27 @@ public class MavenProjectManager {
 
     private final MavenProjectListener dispatcher;
 
-    @Inject
     public MavenProjectManager(MavenWrapperManager wrapperManager,
                                MavenServerManager serverManager,
                                MavenTerminal terminal,
                                MavenProgressNotifier mavenNotifier,
                                EclipseWorkspaceProvider workspaceProvider) {
+        this(wrapperManager, serverManager, terminal, mavenNotifier, workspaceProvider, MavenResolutionCache.disabled());
+    }
+
+    @Inject
+    public MavenProjectManager(MavenWrapperManager wrapperManager,
+                               MavenServerManager serverManager,
+                               MavenTerminal terminal,
+                               MavenProgressNotifier mavenNotifier,
+                               EclipseWorkspaceProvider workspaceProvider,
+                               MavenResolutionCache resolutionCache) {
         this.wrapperManager = wrapperManager;
         this.serverManager = serverManager;
         this.terminal = terminal;
         this.mavenNotifier = mavenNotifier;
         this.workspaceProvider = workspaceProvider;
+        this.resolutionCache = resolutionCache;
         mavenWorkspaceCache = new MavenWorkspaceCache();
         keyToProjectMap = new HashMap<>();
         projectToMavenProjectMap = new HashMap<>();
@@ -113,12 +129,29 @@ public class MavenProjectManager {
     }
 
     public void resolveMavenProject(IProject project, MavenProject mavenProject) {
+        String projectPath = project.getFullPath().toOSString();
+        String cacheKey = null;
+        if (resolutionCache.isEnabled()) {
+            cacheKey = resolutionCache.computeKey(collectWorkspacePoms(mavenProject),
+                                                  getWorkspaceProjectKeys(),
+                                                  mavenProject.getActiveProfiles(),
+                                                  mavenProject.getInactiveProfiles());
+            MavenModelReaderResult stored = resolutionCache.restore(projectPath, cacheKey);
+            if (stored != null) {
+                MavenProjectModifications modifications = mavenProject.setResolvedModel(stored);
+                dispatcher.projectResolved(mavenProject, modifications);
+                return;
+            }
+        }
+
         MavenServerWrapper mavenServer = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE);
         try {
 
             mavenNotifier.setText("Resolving project: " + mavenProject.getName());
             mavenServer.customize(copyWorkspaceCache(), terminal, mavenNotifier, false, true);
-            MavenProjectModifications modifications = mavenProject.resolve(project, mavenServer, serverManager);
+            MavenModelReaderResult result = mavenProject.resolveModel(project, mavenServer, serverManager);
+            MavenProjectModifications modifications = mavenProject.setResolvedModel(result);
+            resolutionCache.store(projectPath, cacheKey, result);
             dispatcher.projectResolved(mavenProject, modifications);
 
         } finally {
@@ -127,6 +160,88 @@ public class MavenProjectManager {
 
     }
 
+    /**
+     * Returns poms of the workspace projects which affect the model of given project,
+     * pom of the project itself goes first.
+     */
+    private List<File> collectWorkspacePoms(MavenProject mavenProject) {
+        readLock.lock();
+        try {
+            Set<MavenProject> visited = new LinkedHashSet<>();
+            Deque<MavenProject> queue = new LinkedList<>();
+            queue.add(mavenProject);
+            while (!queue.isEmpty()) {
+                MavenProject current = queue.poll();
+                if (visited.add(current)) {
+                    queue.addAll(getWorkspaceDependencies(current));
+                }
+            }
+            return visited.stream()
+                          .map(MavenProject::getPomFile)
+                          .filter(Objects::nonNull)
+                          .collect(Collectors.toList());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private Set<MavenKey> getWorkspaceProjectKeys() {
+        readLock.lock();
+        try {
+            return new HashSet<>(keyToProjectMap.keySet());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Finds the projects from the given collection which must be resolved before each project of the collection:
+     * its parent and modules it depends on.
+     *
+     * @return map of the project to the projects it depends on
+     */
+    public Map<MavenProject, Set<MavenProject>> findResolveDependencies(Collection<MavenProject> projects) {
+        readLock.lock();
+        try {
+            Map<MavenProject, Set<MavenProject>> result = new HashMap<>();
+            for (MavenProject project : projects) {
+                Set<MavenProject> dependencies = getWorkspaceDependencies(project);
+                dependencies.retainAll(projects);
+                result.put(project, dependencies);
+            }
+            return result;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    // must be called under read lock
+    private Set<MavenProject> getWorkspaceDependencies(MavenProject project) {
+        Set<MavenProject> result = new HashSet<>();
+        MavenProject parent = moduleToParentMap.get(project);
+        if (parent != null) {
+            result.add(parent);
+        }
+        if (project.getParentKey() != null) {
+            parent = keyToProjectMap.get(project.getParentKey());
+            if (parent != null) {
+                result.add(parent);
+            }
+        }
+        List<MavenArtifact> dependencies = project.getDependencies();
+        if (dependencies != null) {
+            for (MavenArtifact artifact : dependencies) {
+                MavenProject dependency =
+                        keyToProjectMap.get(new MavenKey(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion()));
+                if (dependency != null) {
+                    result.add(dependency);
+                }
+            }
+        }
+        result.remove(project);
+        return result;
+    }
+
 
     public void update(List<IProject> projects, boolean recursive) {
         if (projects.isEmpty()) {
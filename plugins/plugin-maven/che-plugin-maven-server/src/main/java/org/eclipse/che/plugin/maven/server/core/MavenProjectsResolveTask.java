@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Resolves a group of projects, independent projects are resolved in parallel
+ * while each project waits for its parent and the workspace modules it depends on.
+ * <p/>
+ * The task which follows resolution of a project, e.g. update of its classpath, is performed
+ * by the thread which performs this task, one project after another, the dependencies of
+ * a project are always processed before the project itself.
+ */
+public class MavenProjectsResolveTask implements MavenProjectTask {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenProjectsResolveTask.class);
+
+    private final Collection<MavenProject>                      projects;
+    private final MavenProjectManager                           projectManager;
+    private final MavenExecutorService                          executorService;
+    private final Consumer<MavenProject>                        afterTask;
+    private final Map<MavenProject, CompletableFuture<Boolean>> scheduled;
+    private final List<MavenProject>                            order;
+
+    private Map<MavenProject, Set<MavenProject>> dependencies;
+
+    public MavenProjectsResolveTask(Collection<MavenProject> projects,
+                                    MavenProjectManager projectManager,
+                                    MavenExecutorService executorService,
+                                    Consumer<MavenProject> afterTask) {
+        this.projects = projects;
+        this.projectManager = projectManager;
+        this.executorService = executorService;
+        this.afterTask = afterTask;
+        this.scheduled = new HashMap<>();
+        this.order = new ArrayList<>(projects.size());
+    }
+
+    @Override
+    public void perform() {
+        dependencies = projectManager.findResolveDependencies(projects);
+        for (MavenProject project : projects) {
+            schedule(project, new HashSet<>());
+        }
+        for (MavenProject project : order) {
+            if (scheduled.get(project).join()) {
+                try {
+                    afterTask.accept(project);
+                } catch (RuntimeException e) {
+                    LOG.error(e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private CompletableFuture<Boolean> schedule(MavenProject project, Set<MavenProject> visiting) {
+        CompletableFuture<Boolean> future = scheduled.get(project);
+        if (future != null) {
+            return future;
+        }
+        visiting.add(project);
+        List<CompletableFuture<Boolean>> before = new ArrayList<>();
+        for (MavenProject dependency : dependencies.getOrDefault(project, Collections.emptySet())) {
+            // edge which closes a cycle is ignored
+            if (!visiting.contains(dependency)) {
+                before.add(schedule(dependency, visiting));
+            }
+        }
+        visiting.remove(project);
+
+        future = CompletableFuture.allOf(before.toArray(new CompletableFuture[before.size()]))
+                                  .thenCompose(ignored -> executorService.submitResolve(() -> resolve(project)));
+        scheduled.put(project, future);
+        // dependencies are added to the order before the project
+        order.add(project);
+        return future;
+    }
+
+    private boolean resolve(MavenProject project) {
+        try {
+            new MavenProjectResolveTask(project, projectManager, null).perform();
+            return true;
+        } catch (Throwable throwable) {
+            // failure of one project must not prevent resolution of its dependents
+            LOG.error(throwable.getMessage(), throwable);
+            return false;
+        }
+    }
+}
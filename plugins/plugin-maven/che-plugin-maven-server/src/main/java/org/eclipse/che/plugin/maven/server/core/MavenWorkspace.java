@@ -64,6 +64,7 @@ public class MavenWorkspace {
     private final Provider<ProjectRegistry> projectRegistryProvider;
     private final MavenCommunication        communication;
     private final ClasspathManager          classpathManager;
+    private final MavenExecutorService      executorService;
 
     private MavenTaskExecutor resolveExecutor;
     private MavenTaskExecutor classPathExecutor;
@@ -84,6 +85,7 @@ public class MavenWorkspace {
         this.communication = communication;
         this.classpathManager = classpathManager;
         this.manager = manager;
+        this.executorService = executorService;
         resolveExecutor = new MavenTaskExecutor(executorService, notifier);
         eventService.subscribe(new EventSubscriber<ProjectDeletedEvent>() {
             @Override
@@ -154,14 +156,14 @@ public class MavenWorkspace {
         Set<MavenProject> needResolve = new HashSet<>(projectsToResolve);
         projectsToResolve.clear();
 
-        for (MavenProject mavenProject : needResolve) {
-
-            resolveExecutor.submitTask(new MavenProjectResolveTask(mavenProject, manager, () -> {
-                addSourcesFromBuildHelperPlugin(mavenProject);
-                classpathManager.updateClasspath(mavenProject);
-            }));
+        if (needResolve.isEmpty()) {
+            return;
         }
 
+        resolveExecutor.submitTask(new MavenProjectsResolveTask(needResolve, manager, executorService, mavenProject -> {
+            addSourcesFromBuildHelperPlugin(mavenProject);
+            classpathManager.updateClasspath(mavenProject);
+        }));
     }
 
     private void updateJavaProject(MavenProject project) {
@@ -14,6 +14,7 @@ import org.eclipse.che.maven.data.MavenKey;
 import org.eclipse.che.maven.data.MavenModel;
 import org.eclipse.che.maven.data.MavenProjectProblem;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Set;
 
@@ -22,7 +23,9 @@ import java.util.Set;
  *
  * @author Evgen Vidolob
  */
-public class MavenModelReaderResult {
+public class MavenModelReaderResult implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final MavenModel                mavenModel;
     private final List<String>              activeProfiles;
     private final List<String>              inactiveProfiles;
@@ -32,6 +32,7 @@ import org.jdom.Element;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -114,6 +115,20 @@ public class MavenProject {
         return info.plugins;
     }
 
+    /**
+     * Returns profiles which are activated for the project resolution.
+     */
+    public List<String> getActiveProfiles() {
+        return info.activeProfiles == null ? Collections.emptyList() : info.activeProfiles;
+    }
+
+    /**
+     * Returns profiles which are deactivated for the project resolution.
+     */
+    public List<String> getInactiveProfiles() {
+        return info.inactiveProfiles == null ? Collections.emptyList() : info.inactiveProfiles;
+    }
+
     public List<MavenProjectProblem> getProblems() {
         synchronized (info) {
             if (info.problemsCache == null) {
@@ -161,11 +176,29 @@ public class MavenProject {
      * @return the modification types that applied to this project
      */
     public MavenProjectModifications resolve(IProject project, MavenServerWrapper mavenServer, MavenServerManager serverManager) {
-        MavenModelReader reader = new MavenModelReader();
+        return setResolvedModel(resolveModel(project, mavenServer, serverManager));
+    }
 
-        MavenModelReaderResult modelReaderResult =
-                reader.resolveMavenProject(getPom(project), mavenServer, info.activeProfiles, info.inactiveProfiles, serverManager);
+    /**
+     * Invoke maven to build project model, unlike {@link #resolve(IProject, MavenServerWrapper, MavenServerManager)}
+     * the model is not applied to this project.
+     *
+     * @param project     to resolve
+     * @param mavenServer the maven server
+     * @return the result of the resolution
+     */
+    public MavenModelReaderResult resolveModel(IProject project, MavenServerWrapper mavenServer, MavenServerManager serverManager) {
+        MavenModelReader reader = new MavenModelReader();
+        return reader.resolveMavenProject(getPom(project), mavenServer, info.activeProfiles, info.inactiveProfiles, serverManager);
+    }
 
+    /**
+     * Applies model which is built by maven resolution to this project.
+     *
+     * @param modelReaderResult result of {@link #resolveModel(IProject, MavenServerWrapper, MavenServerManager)}
+     * @return the modification types that applied to this project
+     */
+    public MavenProjectModifications setResolvedModel(MavenModelReaderResult modelReaderResult) {
         return setModel(modelReaderResult, modelReaderResult.getProblems().isEmpty(), false);
     }
 
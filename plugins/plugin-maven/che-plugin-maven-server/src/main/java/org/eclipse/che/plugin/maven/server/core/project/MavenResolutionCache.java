@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core.project;
+
+import com.google.common.base.Suppliers;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.eclipse.che.commons.xml.XMLTreeException;
+import org.eclipse.che.ide.maven.tools.Dependency;
+import org.eclipse.che.ide.maven.tools.DependencyManagement;
+import org.eclipse.che.ide.maven.tools.Model;
+import org.eclipse.che.ide.maven.tools.Parent;
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.plugin.maven.server.MavenServerManager;
+import org.eclipse.che.plugin.maven.server.MavenServerWrapper;
+import org.eclipse.che.plugin.maven.server.MavenWrapperManager;
+import org.eclipse.che.plugin.maven.server.core.classpath.MavenLocalRepositoryUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * Persistent storage of resolved maven project models.
+ * <p/>
+ * Model is stored under the hash of the inputs of the effective pom: pom of the project itself,
+ * poms of its parents and workspace dependencies, poms of the SNAPSHOT parents and imported boms
+ * which are not in the workspace as they are in the local repository, active and inactive profiles
+ * and user maven settings. Stored model is used only for the first resolution of the project
+ * after agent start, any further resolution invokes maven, so changes of remote snapshots
+ * are picked up as before.
+ */
+@Singleton
+public class MavenResolutionCache {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenResolutionCache.class);
+
+    private static final String CACHE_FILE_EXTENSION = ".model";
+    /** Must be changed when serialized form of the model is changed. */
+    private static final int     FORMAT_VERSION       = 1;
+    private static final String  SNAPSHOT             = "SNAPSHOT";
+    private static final Pattern PROPERTY             = Pattern.compile("\\$\\{([^}]+)}");
+
+    private final File           cacheDir;
+    private final Supplier<File> localRepository;
+    private final File           userSettings;
+    private final Set<String>    restoredProjects;
+
+    /**
+     * @param cacheDir
+     *         directory of stored models, cache is disabled when it is {@code null}
+     * @param wrapperManager
+     *         provides maven server which is asked for the local repository it uses, on the first use
+     * @param serverManager
+     *         provides user maven settings file of the maven servers
+     */
+    @Inject
+    public MavenResolutionCache(@Named("che.maven.resolution_cache.dir") String cacheDir,
+                                MavenWrapperManager wrapperManager,
+                                MavenServerManager serverManager) {
+        this(cacheDir, Suppliers.memoize(() -> getLocalRepository(wrapperManager))::get, serverManager.getUserSettings());
+    }
+
+    MavenResolutionCache(String cacheDir, Supplier<File> localRepository, File userSettings) {
+        this.cacheDir = isNullOrEmpty(cacheDir) ? null : new File(cacheDir);
+        this.localRepository = localRepository;
+        this.userSettings = userSettings;
+        this.restoredProjects = ConcurrentHashMap.newKeySet();
+    }
+
+    /** Returns cache which neither stores nor restores models. */
+    public static MavenResolutionCache disabled() {
+        return new MavenResolutionCache(null, () -> null, null);
+    }
+
+    private static File getLocalRepository(MavenWrapperManager wrapperManager) {
+        MavenServerWrapper mavenServer = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.DOWNLOAD);
+        try {
+            return mavenServer.getLocalRepository();
+        } catch (RuntimeException e) {
+            LOG.warn("Can't get local repository of the maven server, models with SNAPSHOT parents or boms won't be cached");
+            LOG.debug(e.getMessage(), e);
+            return null;
+        } finally {
+            wrapperManager.release(mavenServer);
+        }
+    }
+
+    public boolean isEnabled() {
+        return cacheDir != null;
+    }
+
+    /**
+     * Computes key of the project model.
+     *
+     * @param poms
+     *         workspace poms which affect model of the project, pom of the project itself must be the first one
+     * @param workspaceProjects
+     *         keys of the workspace projects, parents and boms with these keys are not looked up in the local repository
+     * @param activeProfiles
+     *         profiles which are explicitly activated for the project
+     * @param inactiveProfiles
+     *         profiles which are explicitly deactivated for the project
+     * @return key of the model, or {@code null} if the model can't be cached
+     * as some of its SNAPSHOT inputs are not found in the local repository
+     */
+    public String computeKey(List<File> poms,
+                             Set<MavenKey> workspaceProjects,
+                             Collection<String> activeProfiles,
+                             Collection<String> inactiveProfiles) {
+        Hasher hasher = Hashing.sha1().newHasher().putInt(FORMAT_VERSION);
+        try {
+            Set<MavenKey> externalSnapshots = new LinkedHashSet<>();
+            for (File pom : poms) {
+                hasher.putString(pom.getAbsolutePath(), StandardCharsets.UTF_8);
+                hasher.putBytes(Files.readAllBytes(pom.toPath()));
+                if (!collectExternalSnapshots(pom, workspaceProjects, externalSnapshots)) {
+                    return null;
+                }
+            }
+            File repository = externalSnapshots.isEmpty() ? null : localRepository.get();
+            if (!externalSnapshots.isEmpty() && repository == null) {
+                LOG.debug("Local repository of the maven server is unknown, maven project model is not cached");
+                return null;
+            }
+            for (MavenKey snapshot : externalSnapshots) {
+                File pom = MavenLocalRepositoryUtil.getFileForArtifact(repository,
+                                                                       snapshot.getGroupId(),
+                                                                       snapshot.getArtifactId(),
+                                                                       snapshot.getVersion(),
+                                                                       null,
+                                                                       "pom");
+                if (!pom.isFile()) {
+                    LOG.debug("SNAPSHOT {} is not found in the local repository, maven project model is not cached", snapshot);
+                    return null;
+                }
+                hasher.putString(pom.getAbsolutePath(), StandardCharsets.UTF_8);
+                hasher.putBytes(Files.readAllBytes(pom.toPath()));
+            }
+            hasher.putString("active:" + String.join(",", activeProfiles), StandardCharsets.UTF_8);
+            hasher.putString("inactive:" + String.join(",", inactiveProfiles), StandardCharsets.UTF_8);
+            if (userSettings != null && userSettings.isFile()) {
+                hasher.putBytes(Files.readAllBytes(userSettings.toPath()));
+            }
+        } catch (IOException | XMLTreeException e) {
+            LOG.debug("Can't compute key of the maven project model", e);
+            return null;
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Adds the SNAPSHOT parent and the SNAPSHOT boms imported by the given pom which are not in the workspace.
+     *
+     * @return {@code false} if version of any of them can't be evaluated
+     */
+    private static boolean collectExternalSnapshots(File pom, Set<MavenKey> workspaceProjects, Set<MavenKey> result) throws IOException {
+        Model model = Model.readFrom(pom);
+        Map<String, String> properties = new HashMap<>(model.getProperties());
+        Parent parent = model.getParent();
+        if (parent != null) {
+            properties.put("project.parent.version", parent.getVersion());
+            properties.putIfAbsent("project.version", parent.getVersion());
+            if (!addIfExternalSnapshot(parent.getGroupId(), parent.getArtifactId(), parent.getVersion(), workspaceProjects, result)) {
+                return false;
+            }
+        }
+        if (model.getVersion() != null) {
+            properties.put("project.version", model.getVersion());
+        }
+        DependencyManagement dependencyManagement = model.getDependencyManagement();
+        if (dependencyManagement == null) {
+            return true;
+        }
+        for (Dependency dependency : dependencyManagement.getDependencies()) {
+            if ("import".equals(dependency.getScope())) {
+                if (!addIfExternalSnapshot(interpolate(dependency.getGroupId(), properties),
+                                           interpolate(dependency.getArtifactId(), properties),
+                                           interpolate(dependency.getVersion(), properties),
+                                           workspaceProjects,
+                                           result)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean addIfExternalSnapshot(String groupId,
+                                                 String artifactId,
+                                                 String version,
+                                                 Set<MavenKey> workspaceProjects,
+                                                 Set<MavenKey> result) {
+        if (groupId == null || artifactId == null || version == null || version.contains("${")) {
+            return false;
+        }
+        MavenKey key = new MavenKey(groupId, artifactId, version);
+        if (version.endsWith(SNAPSHOT) && !workspaceProjects.contains(key)) {
+            result.add(key);
+        }
+        return true;
+    }
+
+    private static String interpolate(String value, Map<String, String> properties) {
+        if (value == null) {
+            return null;
+        }
+        Matcher matcher = PROPERTY.matcher(value);
+        StringBuffer sb = new StringBuffer();
+        while (matcher.find()) {
+            String property = properties.get(matcher.group(1));
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(property != null ? property : matcher.group()));
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Returns stored model of the project, or {@code null} if there is no stored model for the given key,
+     * if any of the resolved artifacts is not available anymore or the project was already resolved after agent start.
+     *
+     * @param projectPath
+     *         workspace path of the project
+     * @param key
+     *         key computed by {@link #computeKey(List, Set, Collection, Collection)}
+     */
+    public MavenModelReaderResult restore(String projectPath, String key) {
+        if (!isEnabled() || key == null || !restoredProjects.add(projectPath)) {
+            return null;
+        }
+        File file = new File(cacheDir, key + CACHE_FILE_EXTENSION);
+        if (!file.isFile()) {
+            return null;
+        }
+        MavenModelReaderResult result;
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            result = (MavenModelReaderResult)in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOG.warn("Can't read stored model of maven project {}, it will be resolved again", projectPath);
+            LOG.debug(e.getMessage(), e);
+            deleteQuietly(file);
+            return null;
+        }
+        for (MavenArtifact dependency : result.getMavenModel().getDependencies()) {
+            if (dependency.isResolved() && (dependency.getFile() == null || !dependency.getFile().exists())) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Stores successfully resolved model of the project under the given key.
+     */
+    public void store(String projectPath, String key, MavenModelReaderResult result) {
+        restoredProjects.add(projectPath);
+        if (!isEnabled() || key == null || !result.getProblems().isEmpty()) {
+            return;
+        }
+        if (!cacheDir.isDirectory() && !cacheDir.mkdirs()) {
+            LOG.warn("Can't create maven resolution cache directory {}", cacheDir);
+            return;
+        }
+        File target = new File(cacheDir, key + CACHE_FILE_EXTENSION);
+        try {
+            File tmp = File.createTempFile(key, ".tmp", cacheDir);
+            try {
+                try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                    out.writeObject(result);
+                }
+                Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp.toPath());
+            }
+        } catch (IOException e) {
+            LOG.warn("Can't store model of maven project {}", projectPath);
+            LOG.debug(e.getMessage(), e);
+        }
+    }
+
+    private static void deleteQuietly(File file) {
+        if (!file.delete()) {
+            LOG.debug("Can't delete {}", file);
+        }
+    }
+}
@@ -149,7 +149,7 @@ public abstract class BaseTest {
 
         pm = new ProjectManager(vfsProvider, projectTypeRegistry, projectRegistry, projectHandlerRegistry,
                                 importerRegistry, fileWatcherNotificationHandler, fileTreeWatcher,
-                                new TestWorkspaceHolder(new ArrayList<>()), mock(FileWatcherManager.class));
+                                new TestWorkspaceHolder(new ArrayList<>()), mock(FileWatcherManager.class), 4);
 
         plugin = new ResourcesPlugin("target/index", wsPath, () -> projectRegistry, () -> pm);
 
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.eclipse.core.resources.IProject;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests {@link MavenProjectsResolveTask}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class MavenProjectsResolveTaskTest {
+
+    @Mock
+    private MavenProjectManager projectManager;
+
+    private MavenExecutorService executorService;
+    private MavenProject         parent;
+    private MavenProject         moduleA;
+    private MavenProject         moduleB;
+
+    @BeforeMethod
+    public void setUp() {
+        executorService = new MavenExecutorService(2);
+        parent = createProject();
+        moduleA = createProject();
+        moduleB = createProject();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void shouldResolveIndependentProjectsInParallel() throws Exception {
+        setDependencies(Collections.emptyMap());
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            bothStarted.countDown();
+            // fails by timeout if projects are resolved one after another
+            assertTrue(bothStarted.await(10, TimeUnit.SECONDS));
+            return null;
+        }).when(projectManager).resolveMavenProject(any(IProject.class), any(MavenProject.class));
+        List<MavenProject> processed = new CopyOnWriteArrayList<>();
+
+        new MavenProjectsResolveTask(Arrays.asList(moduleA, moduleB), projectManager, executorService, processed::add).perform();
+
+        assertEquals(bothStarted.getCount(), 0);
+        assertEquals(processed.size(), 2);
+    }
+
+    @Test
+    public void shouldResolveAndProcessDependenciesBeforeProject() throws Exception {
+        Map<MavenProject, Set<MavenProject>> dependencies = new HashMap<>();
+        dependencies.put(moduleA, Collections.singleton(parent));
+        dependencies.put(moduleB, new HashSet<>(Arrays.asList(parent, moduleA)));
+        setDependencies(dependencies);
+        List<MavenProject> resolved = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> resolved.add((MavenProject)invocation.getArguments()[1]))
+                .when(projectManager).resolveMavenProject(any(IProject.class), any(MavenProject.class));
+        List<MavenProject> processed = new CopyOnWriteArrayList<>();
+        List<Thread> processingThreads = new CopyOnWriteArrayList<>();
+
+        new MavenProjectsResolveTask(Arrays.asList(moduleB, moduleA, parent), projectManager, executorService, project -> {
+            processed.add(project);
+            processingThreads.add(Thread.currentThread());
+        }).perform();
+
+        assertEquals(resolved, Arrays.asList(parent, moduleA, moduleB));
+        assertEquals(processed, Arrays.asList(parent, moduleA, moduleB));
+        assertEquals(processingThreads, Collections.nCopies(3, Thread.currentThread()));
+    }
+
+    @Test
+    public void shouldResolveDependentProjectWhenResolutionOfDependencyFailed() throws Exception {
+        setDependencies(Collections.singletonMap(moduleA, Collections.singleton(parent)));
+        doThrow(new RuntimeException("resolution failed")).when(projectManager).resolveMavenProject(any(IProject.class), eq(parent));
+        List<MavenProject> processed = new CopyOnWriteArrayList<>();
+
+        new MavenProjectsResolveTask(Arrays.asList(moduleA, parent), projectManager, executorService, processed::add).perform();
+
+        assertEquals(processed, Collections.singletonList(moduleA));
+    }
+
+    private void setDependencies(Map<MavenProject, Set<MavenProject>> dependencies) {
+        when(projectManager.findResolveDependencies(any())).thenReturn(dependencies);
+    }
+
+    private static MavenProject createProject() {
+        IProject project = mock(IProject.class);
+        when(project.exists()).thenReturn(true);
+        MavenProject mavenProject = mock(MavenProject.class);
+        when(mavenProject.getProject()).thenReturn(project);
+        return mavenProject;
+    }
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core.project;
+
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.maven.data.MavenModel;
+import org.eclipse.che.maven.data.MavenProjectProblem;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class MavenResolutionCacheTest {
+
+    private File                 root;
+    private File                 localRepository;
+    private File                 pom;
+    private File                 dependencyFile;
+    private MavenResolutionCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("maven-resolution-cache").toFile();
+        pom = new File(root, "pom.xml");
+        Files.write(pom.toPath(), "<project/>".getBytes(StandardCharsets.UTF_8));
+        dependencyFile = new File(root, "dependency.jar");
+        Files.write(dependencyFile.toPath(), new byte[] {1, 2, 3});
+        localRepository = new File(root, "repository");
+        cache = newCache();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        Files.walk(root.toPath())
+             .sorted(Collections.reverseOrder())
+             .map(Path::toFile)
+             .forEach(File::delete);
+    }
+
+    @Test
+    public void shouldRestoreStoredModel() throws Exception {
+        String key = computeKey(pom);
+
+        cache.store("/project", key, createResult(Collections.emptyList()));
+
+        MavenModelReaderResult restored = newCache().restore("/project", key);
+        assertNotNull(restored);
+        assertEquals(restored.getMavenModel().getMavenKey(), new MavenKey("org.eclipse.che", "test", "1.0"));
+        assertEquals(restored.getMavenModel().getDependencies().get(0).getFile(), dependencyFile);
+    }
+
+    @Test
+    public void shouldRestoreModelOnlyOnce() throws Exception {
+        String key = computeKey(pom);
+        newCache().store("/project", key, createResult(Collections.emptyList()));
+
+        assertNotNull(cache.restore("/project", key));
+        assertNull(cache.restore("/project", key));
+    }
+
+    @Test
+    public void shouldChangeKeyWhenPomIsChanged() throws Exception {
+        String key = computeKey(pom);
+
+        Files.write(pom.toPath(), "<project><packaging>pom</packaging></project>".getBytes(StandardCharsets.UTF_8));
+
+        assertNotEquals(computeKey(pom), key);
+    }
+
+    @Test
+    public void shouldChangeKeyWhenUserSettingsOfMavenServerAreChanged() throws Exception {
+        String key = computeKey(pom);
+
+        writePom(new File(root, "settings.xml"), "<settings><offline>true</offline></settings>");
+
+        assertNotEquals(computeKey(pom), key);
+    }
+
+    @Test
+    public void shouldNotRestoreModelWhenResolvedArtifactIsRemoved() throws Exception {
+        String key = computeKey(pom);
+        newCache().store("/project", key, createResult(Collections.emptyList()));
+
+        Files.delete(dependencyFile.toPath());
+
+        assertNull(cache.restore("/project", key));
+    }
+
+    @Test
+    public void shouldNotStoreModelWithProblems() throws Exception {
+        String key = computeKey(pom);
+        List<MavenProjectProblem> problems = new ArrayList<>();
+        problems.add(MavenProjectProblem.newStructureProblem(pom.getPath(), "problem"));
+        newCache().store("/project", key, createResult(problems));
+
+        assertNull(cache.restore("/project", key));
+    }
+
+    @Test
+    public void shouldChangeKeyWhenProfilesAreChanged() throws Exception {
+        String key = computeKey(pom);
+
+        assertNotEquals(cache.computeKey(Collections.singletonList(pom),
+                                         Collections.emptySet(),
+                                         Collections.singletonList("dev"),
+                                         Collections.emptyList()),
+                        key);
+        assertNotEquals(cache.computeKey(Collections.singletonList(pom),
+                                         Collections.emptySet(),
+                                         Collections.emptyList(),
+                                         Collections.singletonList("dev")),
+                        key);
+    }
+
+    @Test
+    public void shouldChangeKeyWhenSnapshotParentFromLocalRepositoryIsChanged() throws Exception {
+        writePom(pom, "<project><parent><groupId>org.eclipse.che</groupId><artifactId>parent</artifactId>" +
+                      "<version>1.0-SNAPSHOT</version></parent><artifactId>test</artifactId></project>");
+        File parentPom = installPom("parent", "1.0-SNAPSHOT", "<project/>");
+        String key = computeKey(pom);
+
+        writePom(parentPom, "<project><packaging>pom</packaging></project>");
+
+        assertNotNull(key);
+        assertNotEquals(computeKey(pom), key);
+    }
+
+    @Test
+    public void shouldChangeKeyWhenImportedSnapshotBomFromLocalRepositoryIsChanged() throws Exception {
+        writePom(pom, "<project><groupId>org.eclipse.che</groupId><artifactId>test</artifactId><version>1.0-SNAPSHOT</version>" +
+                      "<dependencyManagement><dependencies><dependency><groupId>org.eclipse.che</groupId>" +
+                      "<artifactId>bom</artifactId><version>${project.version}</version><type>pom</type>" +
+                      "<scope>import</scope></dependency></dependencies></dependencyManagement></project>");
+        File bom = installPom("bom", "1.0-SNAPSHOT", "<project/>");
+        String key = computeKey(pom);
+
+        writePom(bom, "<project><packaging>pom</packaging></project>");
+
+        assertNotNull(key);
+        assertNotEquals(computeKey(pom), key);
+    }
+
+    @Test
+    public void shouldNotComputeKeyWhenSnapshotParentIsNotInLocalRepository() throws Exception {
+        writePom(pom, "<project><parent><groupId>org.eclipse.che</groupId><artifactId>parent</artifactId>" +
+                      "<version>1.0-SNAPSHOT</version></parent><artifactId>test</artifactId></project>");
+
+        assertNull(computeKey(pom));
+    }
+
+    @Test
+    public void shouldNotLookUpWorkspaceSnapshotParentInLocalRepository() throws Exception {
+        writePom(pom, "<project><parent><groupId>org.eclipse.che</groupId><artifactId>parent</artifactId>" +
+                      "<version>1.0-SNAPSHOT</version></parent><artifactId>test</artifactId></project>");
+
+        assertNotNull(cache.computeKey(Collections.singletonList(pom),
+                                       Collections.singleton(new MavenKey("org.eclipse.che", "parent", "1.0-SNAPSHOT")),
+                                       Collections.emptyList(),
+                                       Collections.emptyList()));
+    }
+
+    private String computeKey(File pom) {
+        return cache.computeKey(Collections.singletonList(pom), Collections.emptySet(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    private File installPom(String artifactId, String version, String content) throws Exception {
+        File dir = new File(localRepository, "org/eclipse/che/" + artifactId + '/' + version);
+        assertTrue(dir.mkdirs());
+        File installed = new File(dir, artifactId + '-' + version + ".pom");
+        writePom(installed, content);
+        return installed;
+    }
+
+    private static void writePom(File pom, String content) throws Exception {
+        Files.write(pom.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private MavenModelReaderResult createResult(List<MavenProjectProblem> problems) {
+        MavenModel model = new MavenModel();
+        model.setMavenKey(new MavenKey("org.eclipse.che", "test", "1.0"));
+        List<MavenArtifact> dependencies = new ArrayList<>();
+        dependencies.add(new MavenArtifact("org.eclipse.che", "dependency", "1.0", "1.0", "jar", null, "compile", false, "jar",
+                                           dependencyFile, root, true, false));
+        model.setDependencies(dependencies);
+        return new MavenModelReaderResult(model, new ArrayList<>(), new ArrayList<>(), problems, new HashSet<>());
+    }
+
+    private MavenResolutionCache newCache() {
+        return new MavenResolutionCache(new File(root, "cache").getAbsolutePath(), () -> localRepository, new File(root, "settings.xml"));
+    }
+}
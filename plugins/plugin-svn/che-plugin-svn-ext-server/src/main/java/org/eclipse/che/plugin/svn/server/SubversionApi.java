@@ -11,6 +11,7 @@
 package org.eclipse.che.plugin.svn.server;
 
 import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.io.Files;
 import com.google.common.net.MediaType;
@@ -78,8 +79,11 @@ import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -97,15 +101,33 @@ public class SubversionApi {
 
     private static Logger LOG = LoggerFactory.getLogger(SubversionApi.class);
 
-    private final RepositoryUrlProvider repositoryUrlProvider;
-    private final SshScriptProvider     sshScriptProvider;
-    protected     LineConsumerFactory   svnOutputPublisherFactory;
+    /** Commands which don't change the working copy. */
+    private static final Set<String> READ_ONLY_COMMANDS = ImmutableSet.of("status", "info", "log", "diff", "list", "export",
+                                                                          "propget", "proplist");
+    /** Commands which change the repository URL of the working copy. */
+    private static final Set<String> URL_CHANGING_COMMANDS = ImmutableSet.of("switch", "checkout", "relocate");
+
+    private final RepositoryUrlProvider  repositoryUrlProvider;
+    private final SshScriptProvider      sshScriptProvider;
+    private final SubversionStatusCache  statusCache;
+    /** Repository URLs by the normalized working copy path, so {@code svn info} isn't executed before each command. */
+    private final Map<Path, String>      repositoryUrls;
+    protected     LineConsumerFactory    svnOutputPublisherFactory;
 
     @Inject
     public SubversionApi(RepositoryUrlProvider repositoryUrlProvider,
-                         SshScriptProvider sshScriptProvider) {
+                         SshScriptProvider sshScriptProvider,
+                         SubversionStatusCache statusCache) {
         this.repositoryUrlProvider = repositoryUrlProvider;
         this.sshScriptProvider = sshScriptProvider;
+        this.statusCache = statusCache;
+        this.repositoryUrls = new ConcurrentHashMap<>();
+    }
+
+    /** Creates API which doesn't cache statuses of the working copies. */
+    public SubversionApi(RepositoryUrlProvider repositoryUrlProvider,
+                         SshScriptProvider sshScriptProvider) {
+        this(repositoryUrlProvider, sshScriptProvider, null);
     }
 
     /**
@@ -154,7 +176,7 @@ public class SubversionApi {
 
         // Command Arguments
 
-        final CommandLineResult result = runCommand(null, args, projectPath, request.getPaths());
+        final CommandLineResult result = runCommand(null, "add", args, projectPath, request.getPaths());
 
         return DtoFactory.getInstance()
                          .createDto(CLIOutputResponse.class)
@@ -184,7 +206,7 @@ public class SubversionApi {
 
         cliArgs.add("revert");
 
-        final CommandLineResult result = runCommand(null, cliArgs, projectPath, addWorkingCopyPathIfNecessary(request.getPaths()));
+        final CommandLineResult result = runCommand(null, "revert", cliArgs, projectPath, addWorkingCopyPathIfNecessary(request.getPaths()));
 
         return DtoFactory.getInstance()
                          .createDto(CLIOutputResponse.class)
@@ -223,6 +245,7 @@ public class SubversionApi {
         cliArgs.add("copy");
 
         final CommandLineResult result = runCommand(null,
+                                                    "copy",
                                                     cliArgs,
                                                     projectPath,
                                                     Arrays.asList(request.getSource(), request.getDestination()),
@@ -266,6 +289,7 @@ public class SubversionApi {
         cliArgs.add("switch");
 
         CommandLineResult result = runCommand(null,
+                                              "switch",
                                               cliArgs,
                                               projectPath,
                                               singletonList(request.getLocation()),
@@ -309,6 +333,7 @@ public class SubversionApi {
         cliArgs.add(projectPath.getAbsolutePath());
 
         CommandLineResult result = runCommand(null,
+                                              "checkout",
                                               cliArgs,
                                               projectPath,
                                               request.getPaths(),
@@ -351,7 +376,7 @@ public class SubversionApi {
         cliArgs.add("-m");
         cliArgs.add(request.getMessage());
 
-        final CommandLineResult result = runCommand(null, cliArgs, projectPath,
+        final CommandLineResult result = runCommand(null, "commit", cliArgs, projectPath,
                                                     addWorkingCopyPathIfNecessary(request.getPaths()));
 
         return DtoFactory.getInstance().createDto(CLIOutputWithRevisionResponse.class)
@@ -381,7 +406,7 @@ public class SubversionApi {
         // Command Name
         cliArgs.add("remove");
 
-        final CommandLineResult result = runCommand(null, cliArgs, projectPath, request.getPaths());
+        final CommandLineResult result = runCommand(null, "remove", cliArgs, projectPath, request.getPaths());
 
         return DtoFactory.getInstance().createDto(CLIOutputResponse.class)
                          .withCommand(result.getCommandLine().toString())
@@ -419,8 +444,21 @@ public class SubversionApi {
         // Command Name
         cliArgs.add("status");
 
-        final CommandLineResult result = runCommand(null, cliArgs, projectPath,
-                                                    addWorkingCopyPathIfNecessary(request.getPaths()));
+        final List<String> paths = addWorkingCopyPathIfNecessary(request.getPaths());
+
+        // Remote status can't be cached as the repository changes are not tracked
+        final boolean cacheable = statusCache != null && !request.isShowUpdates();
+        final List<String> command = new ArrayList<>(cliArgs);
+        command.addAll(paths);
+
+        CommandLineResult result = cacheable ? statusCache.get(projectPath, command) : null;
+        if (result == null) {
+            final long generation = cacheable ? statusCache.getGeneration() : 0;
+            result = runCommand(null, "status", cliArgs, projectPath, paths);
+            if (cacheable) {
+                statusCache.put(projectPath, command, result, generation);
+            }
+        }
 
         return DtoFactory.getInstance().createDto(CLIOutputResponse.class)
                          .withCommand(result.getCommandLine().toString())
@@ -456,6 +494,7 @@ public class SubversionApi {
         uArgs.add("update");
 
         final CommandLineResult result = runCommand(null,
+                                                    "update",
                                                     uArgs,
                                                     projectPath,
                                                     addWorkingCopyPathIfNecessary(request.getPaths()),
@@ -488,7 +527,7 @@ public class SubversionApi {
         addOption(uArgs, "--revision", request.getRevision());
         uArgs.add("log");
 
-        final CommandLineResult result = runCommand(null, uArgs, projectPath, request.getPaths());
+        final CommandLineResult result = runCommand(null, "log", uArgs, projectPath, request.getPaths());
 
         return DtoFactory.getInstance().createDto(CLIOutputResponse.class)
                          .withCommand(result.getCommandLine().toString())
@@ -513,6 +552,7 @@ public class SubversionApi {
         }
 
         final CommandLineResult result = runCommand(null,
+                                                    lock ? "lock" : "unlock",
                                                     args,
                                                     projectPath,
                                                     request.getTargets(),
@@ -546,6 +586,7 @@ public class SubversionApi {
         uArgs.add("diff");
 
         final CommandLineResult result = runCommand(null,
+                                                    "diff",
                                                     uArgs,
                                                     projectPath,
                                                     request.getPaths(),
@@ -584,6 +625,7 @@ public class SubversionApi {
                                          : (projectUri + "/branches");
 
         final CommandLineResult result = runCommand(null,
+                                                    "list",
                                                     args,
                                                     new File(request.getProjectPath()),
                                                     singletonList(path),
@@ -625,6 +667,7 @@ public class SubversionApi {
                                                  : (projectUri + "/tags");
 
         final CommandLineResult result = runCommand(null,
+                                                    "list",
                                                     args,
                                                     new File(request.getProjectPath()),
                                                     singletonList(branchesPath),
@@ -654,6 +697,7 @@ public class SubversionApi {
         args.add("list");
 
         final CommandLineResult result = runCommand(null,
+                                                    "list",
                                                     args,
                                                     new File(request.getProjectPath()),
                                                     singletonList(request.getTargetPath()),
@@ -681,15 +725,21 @@ public class SubversionApi {
 
         Map<String, String> resolutions = request.getConflictResolutions();
 
+        // Paths with the same resolution are resolved by a single command
+        final Map<String, List<String>> pathsByResolution = new LinkedHashMap<>();
+        for (Map.Entry<String, String> resolution : resolutions.entrySet()) {
+            pathsByResolution.computeIfAbsent(resolution.getValue(), key -> new ArrayList<>()).add(resolution.getKey());
+        }
+
         List<CLIOutputResponse> results = new ArrayList<>();
-        for (String path : resolutions.keySet()) {
+        for (Map.Entry<String, List<String>> resolution : pathsByResolution.entrySet()) {
             final List<String> uArgs = defaultArgs();
 
             addDepth(uArgs, request.getDepth());
-            addOption(uArgs, "--accept", resolutions.get(path));
+            addOption(uArgs, "--accept", resolution.getKey());
             uArgs.add("resolve");
 
-            final CommandLineResult result = runCommand(null, uArgs, projectPath, Arrays.asList(path));
+            final CommandLineResult result = runCommand(null, "resolve", uArgs, projectPath, resolution.getValue());
 
             CLIOutputResponse outputResponse = DtoFactory.getInstance().createDto(CLIOutputResponse.class)
                                                          .withCommand(result.getCommandLine().toString())
@@ -736,7 +786,7 @@ public class SubversionApi {
 
         try {
             tempDir = Files.createTempDir();
-            final CommandLineResult result = runCommand(null, uArgs, project, Arrays.asList(path, tempDir.getAbsolutePath()));
+            final CommandLineResult result = runCommand(null, "export", uArgs, project, Arrays.asList(path, tempDir.getAbsolutePath()));
             if (result.getExitCode() != 0) {
                 LOG.warn("Svn export process finished with exit status {}", result.getExitCode());
                 throw new ServerException("Export failed");
@@ -800,6 +850,7 @@ public class SubversionApi {
         paths.add(request.getDestination());
 
         final CommandLineResult result = runCommand(null,
+                                                    "move",
                                                     cliArgs,
                                                     projectPath,
                                                     paths,
@@ -852,7 +903,7 @@ public class SubversionApi {
             uArgs.add(value);
         }
 
-        final CommandLineResult result = runCommand(null, uArgs, projectPath, Arrays.asList(request.getPath()));
+        final CommandLineResult result = runCommand(null, "propset", uArgs, projectPath, Arrays.asList(request.getPath()));
 
         return DtoFactory.getInstance().createDto(CLIOutputResponse.class)
                          .withCommand(result.getCommandLine().toString())
@@ -881,7 +932,7 @@ public class SubversionApi {
         uArgs.add("propdel");
         uArgs.add(request.getName());
 
-        final CommandLineResult result = runCommand(null, uArgs, projectPath, Arrays.asList(request.getPath()));
+        final CommandLineResult result = runCommand(null, "propdel", uArgs, projectPath, Arrays.asList(request.getPath()));
 
         return DtoFactory.getInstance().createDto(CLIOutputResponse.class)
                          .withCommand(result.getCommandLine().toString())
@@ -908,7 +959,7 @@ public class SubversionApi {
         uArgs.add("propget");
         uArgs.add(request.getName());
 
-        final CommandLineResult result = runCommand(null, uArgs, projectPath, Arrays.asList(request.getPath()));
+        final CommandLineResult result = runCommand(null, "propget", uArgs, projectPath, Arrays.asList(request.getPath()));
 
         return DtoFactory.getInstance()
                          .createDto(CLIOutputResponse.class)
@@ -934,7 +985,7 @@ public class SubversionApi {
 
         uArgs.add("proplist");
 
-        final CommandLineResult result = runCommand(null, uArgs, projectPath, Arrays.asList(request.getPath()));
+        final CommandLineResult result = runCommand(null, "proplist", uArgs, projectPath, Arrays.asList(request.getPath()));
 
         List<String> output;
         if (result.getStdout() != null && result.getStdout().size() > 0) {
@@ -1009,24 +1060,27 @@ public class SubversionApi {
     }
 
     private CommandLineResult runCommand(@Nullable Map<String, String> env,
+                                         String command,
                                          List<String> args,
                                          File projectPath,
                                          List<String> paths) throws SubversionException, UnauthorizedException {
         String repoUrl = getRepositoryUrl(projectPath.getAbsolutePath());
-        return runCommand(env, args, projectPath, paths, null, null, repoUrl);
+        return runCommand(env, command, args, projectPath, paths, null, null, repoUrl);
     }
 
     private CommandLineResult runCommand(@Nullable Map<String, String> env,
+                                         String command,
                                          List<String> args,
                                          File projectPath,
                                          List<String> paths,
                                          @Nullable String username,
                                          @Nullable String password) throws SubversionException, UnauthorizedException {
         String repoUrl = getRepositoryUrl(projectPath.getAbsolutePath());
-        return runCommand(env, args, projectPath, paths, username, password, repoUrl);
+        return runCommand(env, command, args, projectPath, paths, username, password, repoUrl);
     }
 
     private CommandLineResult runCommand(@Nullable Map<String, String> env,
+                                         String command,
                                          List<String> args,
                                          File projectPath,
                                          List<String> paths,
@@ -1073,6 +1127,9 @@ public class SubversionApi {
             if (sshEnvironment != null) {
                 sshEnvironment.cleanUp();
             }
+            if (!READ_ONLY_COMMANDS.contains(command)) {
+                workingCopyChanged(projectPath, URL_CHANGING_COMMANDS.contains(command));
+            }
         }
 
         if (result.getExitCode() != 0) {
@@ -1105,7 +1162,30 @@ public class SubversionApi {
     }
 
     public String getRepositoryUrl(final String projectPath) throws SubversionException {
-        return repositoryUrlProvider.getRepositoryUrl(projectPath);
+        final Path workingCopy = toWorkingCopyKey(new File(projectPath));
+        String url = repositoryUrls.get(workingCopy);
+        if (url == null) {
+            url = repositoryUrlProvider.getRepositoryUrl(projectPath);
+            if (!isNullOrEmpty(url)) {
+                repositoryUrls.put(workingCopy, url);
+            }
+        }
+        return url;
+    }
+
+    private static Path toWorkingCopyKey(File path) {
+        return path.toPath().toAbsolutePath().normalize();
+    }
+
+    private void workingCopyChanged(File projectPath, boolean urlChanged) {
+        if (urlChanged) {
+            // nested working copies are switched or relocated together with the changed one
+            final Path changed = toWorkingCopyKey(projectPath);
+            repositoryUrls.keySet().removeIf(workingCopy -> workingCopy.startsWith(changed));
+        }
+        if (statusCache != null) {
+            statusCache.invalidate(projectPath);
+        }
     }
 
     /**
@@ -1132,6 +1212,7 @@ public class SubversionApi {
         List<String> paths = new ArrayList<>();
         paths.add(request.getTarget());
         final CommandLineResult result = runCommand(null,
+                                                    "info",
                                                     args,
                                                     new File(request.getProjectPath()),
                                                     addWorkingCopyPathIfNecessary(paths),
@@ -1209,7 +1290,7 @@ public class SubversionApi {
         List<String> paths = new ArrayList<String>();
         paths.add(request.getTarget());
 
-        final CommandLineResult result = runCommand(null, cliArgs, projectPath, paths);
+        final CommandLineResult result = runCommand(null, "merge", cliArgs, projectPath, paths);
 
         return DtoFactory.getInstance().createDto(CLIOutputResponse.class)
                          .withCommand(result.getCommandLine().toString())
@@ -1225,7 +1306,7 @@ public class SubversionApi {
         // Command Name
         cliArgs.add("cleanup");
 
-        final CommandLineResult result = runCommand(null, cliArgs, projectPath, addWorkingCopyPathIfNecessary(request.getPaths()));
+        final CommandLineResult result = runCommand(null, "cleanup", cliArgs, projectPath, addWorkingCopyPathIfNecessary(request.getPaths()));
         return DtoFactory.getInstance()
                          .createDto(CLIOutputResponse.class)
                          .withCommand(result.getCommandLine().toString())
@@ -1240,7 +1321,7 @@ public class SubversionApi {
         addOption(uArgs, "--revision", request.getRevisionRange());
         uArgs.add("log");
 
-        final CommandLineResult result = runCommand(null, uArgs, projectPath, Arrays.asList(request.getPath()));
+        final CommandLineResult result = runCommand(null, "log", uArgs, projectPath, Arrays.asList(request.getPath()));
 
         final GetRevisionsResponse response = DtoFactory.getInstance().createDto(GetRevisionsResponse.class)
                                                         .withCommand(result.getCommandLine().toString())
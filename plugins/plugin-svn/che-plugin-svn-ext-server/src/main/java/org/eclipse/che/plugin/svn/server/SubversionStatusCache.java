@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.server;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
+import org.eclipse.che.api.vfs.watcher.FolderTreeWatcher;
+import org.eclipse.che.plugin.svn.server.upstream.CommandLineResult;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.file.Files.isDirectory;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Cache of the {@code svn status} results.
+ * <p/>
+ * Results are kept until the working copy is changed. Changes are detected by the file watcher, which
+ * watches the folders of the working copies including the {@code .svn} folder, so changes made by the
+ * svn client outside of the {@link SubversionApi} are detected as well. Cached results also expire
+ * after {@link #EXPIRE_AFTER_MS} in case some change is not reported by the file watcher.
+ * <p/>
+ * The folders of the working copies are watched by the {@link FolderTreeWatcher}.
+ */
+@Singleton
+public class SubversionStatusCache {
+    static final long EXPIRE_AFTER_MS = 60_000;
+
+    private static final String SVN_FOLDER  = ".svn";
+    private static final int    MAX_ENTRIES = 1_000;
+
+    private final Path                          root;
+    private final FolderTreeWatcher             watcher;
+    private final Cache<Key, CommandLineResult> statuses;
+    /** Incremented on each change of any working copy, protects from caching of stale results. */
+    private final AtomicLong                    generation;
+
+    @Inject
+    public SubversionStatusCache(FileWatcherManager fileWatcherManager, @Named("che.user.workspaces.storage") File root) {
+        this.root = root.toPath().normalize().toAbsolutePath();
+        this.watcher = new FolderTreeWatcher(fileWatcherManager, this.root, this::isWorkingCopyFolder, this::onChange, this::onChange);
+        this.statuses = CacheBuilder.newBuilder()
+                                    .maximumSize(MAX_ENTRIES)
+                                    .expireAfterWrite(EXPIRE_AFTER_MS, MILLISECONDS)
+                                    .build();
+        this.generation = new AtomicLong();
+    }
+
+    @PostConstruct
+    public void startWatcher() {
+        watcher.start();
+    }
+
+    @PreDestroy
+    public void stopWatcher() {
+        watcher.stop();
+    }
+
+    /**
+     * Returns the cached result of the status command or {@code null} if there is no such result.
+     *
+     * @param workingCopy
+     *         the working copy where the command is executed
+     * @param command
+     *         arguments of the command including paths
+     */
+    public CommandLineResult get(File workingCopy, List<String> command) {
+        return statuses.getIfPresent(new Key(workingCopy, command));
+    }
+
+    /** Returns the current generation, it must be obtained before execution of the command which result is cached. */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Caches the result of the status command if no working copy has been changed since the given generation.
+     *
+     * @param generation
+     *         generation obtained before execution of the command
+     */
+    public void put(File workingCopy, List<String> command, CommandLineResult result, long generation) {
+        if (this.generation.get() == generation) {
+            statuses.put(new Key(workingCopy, command), result);
+        }
+    }
+
+    /** Invalidates the cached statuses of the working copies which contain the given path or are contained in it. */
+    public void invalidate(File path) {
+        generation.incrementAndGet();
+        final Path changed = path.toPath().normalize().toAbsolutePath();
+        statuses.asMap().keySet().removeIf(key -> changed.startsWith(key.workingCopy) || key.workingCopy.startsWith(changed));
+    }
+
+    private void onChange(Path changed) {
+        invalidate(changed.toFile());
+    }
+
+    /** Folders of the working copies are watched, the {@code .svn} folder is watched too but not its sub-folders. */
+    private boolean isWorkingCopyFolder(Path path) {
+        if (!isDirectory(path)) {
+            return false;
+        }
+        final Path parent = path.getParent();
+        if (parent == null) {
+            return false;
+        }
+        for (Path ancestor : parent) {
+            if (SVN_FOLDER.equals(ancestor.toString())) {
+                return false;
+            }
+        }
+        if (SVN_FOLDER.equals(path.getFileName().toString())) {
+            return true;
+        }
+        for (Path folder = path; folder != null && folder.startsWith(root); folder = folder.getParent()) {
+            if (isDirectory(folder.resolve(SVN_FOLDER))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Key {
+        final Path         workingCopy;
+        final List<String> command;
+
+        Key(File workingCopy, List<String> command) {
+            this.workingCopy = workingCopy.toPath().normalize().toAbsolutePath();
+            this.command = command;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key)obj;
+            return workingCopy.equals(other.workingCopy) && command.equals(other.command);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(workingCopy, command);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.server;
+
+import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
+import org.eclipse.che.plugin.svn.server.upstream.CommandLineResult;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.nio.file.PathMatcher;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.eclipse.che.commons.lang.IoUtil.deleteRecursive;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SubversionStatusCacheTest {
+    private static final List<String> STATUS = Arrays.asList("--non-interactive", "status", ".");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private FileWatcherManager    fileWatcherManager;
+    private SubversionStatusCache cache;
+    private File                  workingCopy;
+    private CommandLineResult     result;
+    private PathMatcher           matcher;
+    private Consumer<String>      onCreate;
+    private Consumer<String>      onDelete;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        fileWatcherManager = mock(FileWatcherManager.class);
+        cache = new SubversionStatusCache(fileWatcherManager, temporaryFolder.getRoot());
+        workingCopy = temporaryFolder.newFolder("project");
+        result = mock(CommandLineResult.class);
+
+        cache.startWatcher();
+        ArgumentCaptor<PathMatcher> matcherCaptor = ArgumentCaptor.forClass(PathMatcher.class);
+        ArgumentCaptor<Consumer> createCaptor = ArgumentCaptor.forClass(Consumer.class);
+        ArgumentCaptor<Consumer> deleteCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(fileWatcherManager).registerByMatcher(matcherCaptor.capture(),
+                                                     createCaptor.capture(),
+                                                     any(Consumer.class),
+                                                     deleteCaptor.capture());
+        matcher = matcherCaptor.getValue();
+        onCreate = createCaptor.getValue();
+        onDelete = deleteCaptor.getValue();
+    }
+
+    @Test
+    public void shouldReturnCachedStatus() throws Exception {
+        cache.put(workingCopy, STATUS, result, cache.getGeneration());
+
+        assertSame(result, cache.get(workingCopy, STATUS));
+        assertNull(cache.get(workingCopy, Arrays.asList("--non-interactive", "status", "src")));
+    }
+
+    @Test
+    public void shouldInvalidateStatusWhenFileOfWorkingCopyIsChanged() throws Exception {
+        cache.put(workingCopy, STATUS, result, cache.getGeneration());
+
+        cache.invalidate(new File(workingCopy, "src/Main.java"));
+
+        assertNull(cache.get(workingCopy, STATUS));
+    }
+
+    @Test
+    public void shouldKeepStatusOfOtherWorkingCopies() throws Exception {
+        cache.put(workingCopy, STATUS, result, cache.getGeneration());
+
+        cache.invalidate(temporaryFolder.newFolder("other"));
+
+        assertSame(result, cache.get(workingCopy, STATUS));
+    }
+
+    @Test
+    public void shouldNotCacheStatusIfWorkingCopyIsChangedWhileStatusIsRead() throws Exception {
+        long generation = cache.getGeneration();
+
+        cache.invalidate(new File(workingCopy, "pom.xml"));
+        cache.put(workingCopy, STATUS, result, generation);
+
+        assertNull(cache.get(workingCopy, STATUS));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldWatchFolderCreatedInWorkingCopy() throws Exception {
+        assertTrue(new File(workingCopy, ".svn").mkdir());
+        cache.put(workingCopy, STATUS, result, cache.getGeneration());
+        assertTrue(new File(workingCopy, "lib/api").mkdirs());
+
+        onCreate.accept("/project/lib");
+
+        verify(fileWatcherManager).registerByPath(eq("/project/lib"), any(Consumer.class), any(Consumer.class), any(Consumer.class));
+        verify(fileWatcherManager).registerByPath(eq("/project/lib/api"), any(Consumer.class), any(Consumer.class), any(Consumer.class));
+        assertFalse(matcher.matches(new File(workingCopy, "lib").toPath()));
+        assertNull(cache.get(workingCopy, STATUS));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldStopWatchingRemovedFolder() throws Exception {
+        when(fileWatcherManager.registerByPath(anyString(), any(Consumer.class), any(Consumer.class), any(Consumer.class))).thenReturn(7);
+        assertTrue(new File(workingCopy, ".svn").mkdir());
+        assertTrue(new File(workingCopy, "lib").mkdir());
+        onCreate.accept("/project/lib");
+
+        deleteRecursive(new File(workingCopy, "lib"));
+        onDelete.accept("/project/lib");
+
+        verify(fileWatcherManager).unRegisterByPath(7);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldNotWatchFolderCreatedOutsideOfWorkingCopy() throws Exception {
+        assertTrue(new File(workingCopy, "lib").mkdir());
+
+        onCreate.accept("/project/lib");
+
+        verify(fileWatcherManager, never()).registerByPath(anyString(), any(Consumer.class), any(Consumer.class), any(Consumer.class));
+    }
+}
@@ -11,6 +11,7 @@
 package org.eclipse.che.api.agent;
 
 import org.eclipse.che.api.agent.server.WsAgentPingRequestFactory;
+import org.eclipse.che.api.agent.server.WsAgentReadinessRegistry;
 import org.eclipse.che.api.agent.server.launcher.AgentLauncher;
 import org.eclipse.che.api.agent.shared.model.Agent;
 import org.eclipse.che.api.core.ApiException;
@@ -33,12 +34,19 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import static com.google.common.base.MoreObjects.firstNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.eclipse.che.api.workspace.shared.Constants.WS_AGENT_PROCESS_NAME;
 
 /**
  * Starts ws agent in the machine and waits until ws agent sends notification about its start.
+ * <p/>
+ * Ws agent is pinged right after the notification is received, the agent is also pinged
+ * periodically in case the notification is lost, e.g. the agent can't reach the API.
  *
  * @author Alexander Garagatyi
  * @author Anatolii Bazko
@@ -52,6 +60,7 @@ public class WsAgentLauncher implements AgentLauncher {
 
     private final Provider<MachineProcessManager> machineProcessManagerProvider;
     private final WsAgentPingRequestFactory       wsAgentPingRequestFactory;
+    private final WsAgentReadinessRegistry        wsAgentReadinessRegistry;
     private final long                            wsAgentMaxStartTimeMs;
     private final long                            wsAgentPingDelayMs;
     private final String                          pingTimedOutErrorMessage;
@@ -60,12 +69,14 @@ public class WsAgentLauncher implements AgentLauncher {
     @Inject
     public WsAgentLauncher(Provider<MachineProcessManager> machineProcessManagerProvider,
                            WsAgentPingRequestFactory wsAgentPingRequestFactory,
+                           WsAgentReadinessRegistry wsAgentReadinessRegistry,
                            @Nullable @Named("machine.ws_agent.run_command") String wsAgentRunCommand,
                            @Named("che.workspace.agent.dev.max_start_time_ms") long wsAgentMaxStartTimeMs,
                            @Named("che.workspace.agent.dev.ping_delay_ms") long wsAgentPingDelayMs,
                            @Named("che.workspace.agent.dev.ping_timeout_error_msg") String pingTimedOutErrorMessage) {
         this.machineProcessManagerProvider = machineProcessManagerProvider;
         this.wsAgentPingRequestFactory = wsAgentPingRequestFactory;
+        this.wsAgentReadinessRegistry = wsAgentReadinessRegistry;
         this.wsAgentMaxStartTimeMs = wsAgentMaxStartTimeMs;
         this.wsAgentPingDelayMs = wsAgentPingDelayMs;
         this.pingTimedOutErrorMessage = pingTimedOutErrorMessage;
@@ -94,28 +105,43 @@ public class WsAgentLauncher implements AgentLauncher {
         String script = agent.getScript() + "\n" + firstNonNull(wsAgentRunCommand, DEFAULT_WS_AGENT_RUN_COMMAND);
 
         final String wsAgentPingUrl = wsAgentPingRequest.getUrl();
+        final String workspaceId = machine.getWorkspaceId();
+        // must be registered before the start, the agent may be faster than the first ping
+        CompletableFuture<Void> readiness = wsAgentReadinessRegistry.await(workspaceId);
         try {
             // for server side type of command mean nothing
             // but we will use it as marker on
             // client side for track this command
             CommandImpl command = new CommandImpl(getAgentId(), script, WS_AGENT_PROCESS_NAME);
 
-            machineProcessManagerProvider.get().exec(machine.getWorkspaceId(),
+            machineProcessManagerProvider.get().exec(workspaceId,
                                                      machine.getId(),
                                                      command,
-                                                     getWsAgentProcessOutputChannel(machine.getWorkspaceId()));
+                                                     getWsAgentProcessOutputChannel(workspaceId));
 
             final long pingStartTimestamp = System.currentTimeMillis();
             LOG.debug("Starts pinging ws agent. Workspace ID:{}. Url:{}. Timestamp:{}",
-                      machine.getWorkspaceId(),
+                      workspaceId,
                       wsAgentPingUrl,
                       pingStartTimestamp);
 
-            while (System.currentTimeMillis() - pingStartTimestamp < wsAgentMaxStartTimeMs) {
+            long timeLeft;
+            while ((timeLeft = wsAgentMaxStartTimeMs - (System.currentTimeMillis() - pingStartTimestamp)) > 0) {
                 if (pingWsAgent(wsAgentPingRequest)) {
+                    LOG.debug("Ws agent of workspace {} is started in {} ms",
+                              workspaceId,
+                              System.currentTimeMillis() - pingStartTimestamp);
                     return;
-                } else {
-                    Thread.sleep(wsAgentPingDelayMs);
+                }
+                if (readiness.isDone()) {
+                    // notification is received but the agent doesn't respond yet, wait for the next one
+                    wsAgentReadinessRegistry.remove(workspaceId, readiness);
+                    readiness = wsAgentReadinessRegistry.await(workspaceId);
+                }
+                try {
+                    readiness.get(Math.min(wsAgentPingDelayMs, timeLeft), MILLISECONDS);
+                } catch (TimeoutException | ExecutionException ignored) {
+                    // ping the agent anyway
                 }
             }
         } catch (BadRequestException | ServerException | NotFoundException e) {
@@ -123,10 +149,12 @@ public class WsAgentLauncher implements AgentLauncher {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new ServerException("Ws agent pinging is interrupted");
+        } finally {
+            wsAgentReadinessRegistry.remove(workspaceId, readiness);
         }
         LOG.error("Fail pinging ws agent with {} url in {} workspace in {} machine on {} node.",
                   wsAgentPingUrl,
-                  machine.getWorkspaceId(),
+                  workspaceId,
                   machine.getId(),
                   machine.getNode().getHost());
         throw new ServerException(pingTimedOutErrorMessage);
@@ -11,6 +11,7 @@
 package org.eclipse.che.api.agent;
 
 import org.eclipse.che.api.agent.server.WsAgentPingRequestFactory;
+import org.eclipse.che.api.agent.server.WsAgentReadinessRegistry;
 import org.eclipse.che.api.agent.shared.model.Agent;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.NotFoundException;
@@ -80,13 +81,17 @@ public class WsAgentLauncherTest {
     @Mock
     private Agent                     agent;
 
-    private HttpJsonRequest pingRequest;
-    private WsAgentLauncher wsAgentLauncher;
+    private HttpJsonRequest          pingRequest;
+    private WsAgentReadinessRegistry readinessRegistry;
+    private WsAgentLauncher          wsAgentLauncher;
 
     @BeforeMethod
     public void setUp() throws Exception {
+        readinessRegistry = new WsAgentReadinessRegistry();
         wsAgentLauncher = new WsAgentLauncher(() -> machineProcessManager,
-                                              wsAgentPingRequestFactory, null,
+                                              wsAgentPingRequestFactory,
+                                              readinessRegistry,
+                                              null,
                                               WS_AGENT_MAX_START_TIME_MS,
                                               WS_AGENT_PING_DELAY_MS,
                                               WS_AGENT_TIMED_OUT_MESSAGE
@@ -162,6 +167,41 @@ public class WsAgentLauncherTest {
         Mockito.verify(pingResponse).getResponseCode();
     }
 
+    @Test(timeOut = 5_000)
+    public void shouldPingWsAgentRightAfterNotificationAboutItsStart() throws Exception {
+        wsAgentLauncher = new WsAgentLauncher(() -> machineProcessManager,
+                                              wsAgentPingRequestFactory,
+                                              readinessRegistry,
+                                              null,
+                                              60_000,
+                                              60_000,
+                                              WS_AGENT_TIMED_OUT_MESSAGE);
+        Mockito.when(pingRequest.request()).thenThrow(new ServerException(""))
+               .thenReturn(pingResponse);
+        Mockito.when(machineProcessManager.exec(Matchers.anyString(),
+                                                Matchers.anyString(),
+                                                Matchers.any(Command.class),
+                                                Matchers.anyString()))
+               .then(invocation -> {
+                   readinessRegistry.notifyReady(WORKSPACE_ID);
+                   return null;
+               });
+
+        wsAgentLauncher.launch(machine, agent);
+
+        Mockito.verify(pingRequest, Mockito.times(2)).request();
+    }
+
+    @Test(expectedExceptions = ServerException.class,
+          expectedExceptionsMessageRegExp = WS_AGENT_TIMED_OUT_MESSAGE,
+          timeOut = 5_000)
+    public void shouldKeepPingingWsAgentIfItDoesNotRespondAfterNotification() throws Exception {
+        Mockito.when(pingRequest.request()).thenThrow(new ServerException(""));
+        readinessRegistry.await(WORKSPACE_ID).complete(null);
+
+        wsAgentLauncher.launch(machine, agent);
+    }
+
     @Test(expectedExceptions = ServerException.class, expectedExceptionsMessageRegExp = "Test exception")
     public void shouldThrowMachineExceptionIfMachineManagerExecInDevMachineThrowsNotFoundException() throws Exception {
         Mockito.when(machineProcessManager.exec(Matchers.anyString(),
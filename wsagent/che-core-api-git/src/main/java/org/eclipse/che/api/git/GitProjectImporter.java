@@ -40,6 +40,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -123,6 +124,14 @@ public class GitProjectImporter implements ProjectImporter {
             // If git repository contains more than one project need clone all repository but after cloning keep just
             // sub-project that is specified in parameter "keepDir".
             String keepDir = null;
+            // Paths which are checked out to the working tree in addition to "keepDir", all the other files
+            // are kept in the repository only. Unlike "keepDir", the project is not limited to these paths.
+            List<String> sparseCheckoutPaths = new ArrayList<>();
+            // Fetch only the branch which is imported, the branch must exist in the remote repository.
+            boolean singleBranch = false;
+            // Number of the latest commits to fetch, the whole history is fetched if the git implementation
+            // doesn't support shallow clones.
+            int depth = 0;
             // For factory and for our projects templates:
             // Keep all info related to the vcs. In case of Git: ".git" directory and ".gitignore" file.
             // Delete vcs info if false.
@@ -138,6 +147,22 @@ public class GitProjectImporter implements ProjectImporter {
                 startPoint = parameters.get("startPoint");
                 fetch = parameters.get("fetch");
                 keepDir = parameters.get("keepDir");
+                if (!isNullOrEmpty(parameters.get("sparseCheckoutPaths"))) {
+                    for (String path : parameters.get("sparseCheckoutPaths").split(",")) {
+                        if (!path.trim().isEmpty()) {
+                            sparseCheckoutPaths.add(path.trim());
+                        }
+                    }
+                }
+                // there is nothing to fetch when the branch is created from the start point
+                singleBranch = branch != null && startPoint == null && Boolean.parseBoolean(parameters.get("singleBranch"));
+                if (!isNullOrEmpty(parameters.get("depth"))) {
+                    try {
+                        depth = Integer.parseInt(parameters.get("depth"));
+                    } catch (NumberFormatException e) {
+                        throw new ServerException("Invalid depth of the clone: " + parameters.get("depth"));
+                    }
+                }
                 if (parameters.containsKey("keepVcs")) {
                     keepVcs = Boolean.parseBoolean(parameters.get("keepVcs"));
                 }
@@ -176,13 +201,24 @@ public class GitProjectImporter implements ProjectImporter {
             }
 
             if (keepDir != null) {
-                git.cloneWithSparseCheckout(keepDir, location);
-                if (branch != null) {
+                sparseCheckoutPaths.add(0, keepDir);
+            }
+            final CloneParams cloneParams = CloneParams.create(location)
+                                                       .withRemoteName("origin")
+                                                       .withRecursive(recursiveEnabled)
+                                                       .withDepth(depth)
+                                                       .withSparseCheckoutPaths(sparseCheckoutPaths);
+            if (singleBranch) {
+                cloneParams.withBranchesToFetch(Collections.singletonList("refs/heads/" + branch));
+            }
+            if (keepDir != null) {
+                git.clone(cloneParams);
+                if (branch != null && !singleBranch) {
                     git.checkout(CheckoutParams.create(branch));
                 }
             } else {
                 if (baseFolder.getChildren().size() == 0) {
-                    cloneRepository(git, "origin", location, recursiveEnabled);
+                    git.clone(cloneParams);
                     if (commitId != null) {
                         checkoutCommit(git, commitId);
                     } else if (fetch != null) {
@@ -195,6 +231,14 @@ public class GitProjectImporter implements ProjectImporter {
                         checkoutBranch(git, projectName, branch, startPoint);
                     }
                 } else {
+                    // sources are fetched into the existing folder, only the specified branch is fetched
+                    // unless the fetch refspec is given, and the existing files can't be checked out sparsely
+                    if (!sparseCheckoutPaths.isEmpty()) {
+                        throw new ServerException("Sparse checkout is not supported when the project folder is not empty");
+                    }
+                    if (singleBranch && fetch != null) {
+                        throw new ServerException("Single branch can't be fetched with the fetch refspec when the project folder is not empty");
+                    }
                     git.init(false);
                     addRemote(git, "origin", location);
                     if (commitId != null) {
@@ -244,12 +288,6 @@ public class GitProjectImporter implements ProjectImporter {
         }
     }
 
-    private void cloneRepository(GitConnection git, String remoteName, String url, boolean recursiveEnabled)
-            throws ServerException, UnauthorizedException, URISyntaxException {
-        final CloneParams params = CloneParams.create(url).withRemoteName(remoteName).withRecursive(recursiveEnabled);
-        git.clone(params);
-    }
-
     private void addRemote(GitConnection git, String name, String url) throws GitException {
         git.remoteAdd(RemoteAddParams.create(name, url));
     }
@@ -28,7 +28,9 @@ public class CloneParams {
     private String       remoteName;
     private String       username;
     private String       password;
+    private List<String> sparseCheckoutPaths;
     private int          timeout;
+    private int          depth;
     private boolean      recursive;
 
     private CloneParams() {
@@ -120,6 +122,31 @@ public class CloneParams {
         return this;
     }
 
+    /**
+     * Returns number of the latest commits to fetch, {@code 0} means the whole history.
+     * Implementations which don't support shallow clones fetch the whole history.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /** Returns {@link CloneParams} with specified number of the latest commits to fetch. */
+    public CloneParams withDepth(int depth) {
+        this.depth = depth;
+        return this;
+    }
+
+    /** Returns paths which are checked out to the working tree, all files are checked out if the list is empty. */
+    public List<String> getSparseCheckoutPaths() {
+        return sparseCheckoutPaths == null ? new ArrayList<>() : sparseCheckoutPaths;
+    }
+
+    /** Returns {@link CloneParams} with specified paths to check out to the working tree. */
+    public CloneParams withSparseCheckoutPaths(List<String> sparseCheckoutPaths) {
+        this.sparseCheckoutPaths = sparseCheckoutPaths;
+        return this;
+    }
+
     /** Returns user name for authentication. */
     public String getUsername() {
         return username;
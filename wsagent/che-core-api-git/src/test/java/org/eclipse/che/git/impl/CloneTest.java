@@ -18,7 +18,12 @@ import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.core.util.LineConsumerFactory;
 import org.eclipse.che.api.git.GitConnection;
 import org.eclipse.che.api.git.GitConnectionFactory;
+import org.eclipse.che.api.git.params.AddParams;
+import org.eclipse.che.api.git.params.CheckoutParams;
 import org.eclipse.che.api.git.params.CloneParams;
+import org.eclipse.che.api.git.params.CommitParams;
+import org.eclipse.che.api.git.shared.Branch;
+import org.eclipse.che.api.git.shared.StatusFormat;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -26,7 +31,13 @@ import org.testng.annotations.Test;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.List;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.api.git.shared.BranchListMode.LIST_REMOTE;
+import static org.eclipse.che.git.impl.GitTestUtil.CONTENT;
+import static org.eclipse.che.git.impl.GitTestUtil.addFile;
 import static org.eclipse.che.git.impl.GitTestUtil.cleanupTestRepo;
 import static org.eclipse.che.git.impl.GitTestUtil.connectToGitRepositoryWithContent;
 import static org.mockito.Matchers.anyString;
@@ -35,6 +46,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
 
 /**
  * @author Igor Vinokur
@@ -91,4 +104,52 @@ public class CloneTest {
         //then
         verify(lineConsumer, atLeastOnce()).writeLine(anyString());
     }
+
+    @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
+    public void testSparseCheckoutClone(GitConnectionFactory connectionFactory)
+            throws ServerException, IOException, UnauthorizedException, URISyntaxException {
+        //given
+        GitConnection remoteConnection = connectToGitRepositoryWithContent(connectionFactory, remoteRepo);
+        addFile(remoteConnection.getWorkingDir().toPath().resolve("module1"), "file1.txt", CONTENT);
+        addFile(remoteConnection.getWorkingDir().toPath().resolve("module2"), "file2.txt", CONTENT);
+        remoteConnection.add(AddParams.create(asList("module1", "module2")));
+        remoteConnection.commit(CommitParams.create("Add modules"));
+        GitConnection localConnection = connectionFactory.getConnection(localRepo.getAbsolutePath());
+
+        //when
+        localConnection.clone(CloneParams.create(remoteConnection.getWorkingDir().getAbsolutePath())
+                                         .withSparseCheckoutPaths(singletonList("module1")));
+
+        //then
+        assertTrue(new File(localRepo, "module1/file1.txt").exists());
+        assertFalse(new File(localRepo, "module2").exists());
+        assertFalse(new File(localRepo, "README.txt").exists());
+        assertTrue(localConnection.status(StatusFormat.SHORT).isClean());
+        assertEquals("master", localConnection.getCurrentBranch());
+    }
+
+    @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
+    public void testSingleBranchClone(GitConnectionFactory connectionFactory)
+            throws ServerException, IOException, UnauthorizedException, URISyntaxException {
+        //given
+        GitConnection remoteConnection = connectToGitRepositoryWithContent(connectionFactory, remoteRepo);
+        remoteConnection.branchCreate("feature", null);
+        remoteConnection.checkout(CheckoutParams.create("feature"));
+        addFile(remoteConnection, "feature.txt", CONTENT);
+        remoteConnection.add(AddParams.create(singletonList("feature.txt")));
+        remoteConnection.commit(CommitParams.create("Add feature"));
+        remoteConnection.checkout(CheckoutParams.create("master"));
+        GitConnection localConnection = connectionFactory.getConnection(localRepo.getAbsolutePath());
+
+        //when
+        localConnection.clone(CloneParams.create(remoteConnection.getWorkingDir().getAbsolutePath())
+                                         .withBranchesToFetch(singletonList("refs/heads/feature")));
+
+        //then
+        assertEquals("feature", localConnection.getCurrentBranch());
+        assertTrue(new File(localRepo, "feature.txt").exists());
+        List<Branch> remoteBranches = localConnection.branchList(LIST_REMOTE);
+        assertEquals(1, remoteBranches.size());
+        assertEquals("origin/feature", remoteBranches.get(0).getDisplayName());
+    }
 }
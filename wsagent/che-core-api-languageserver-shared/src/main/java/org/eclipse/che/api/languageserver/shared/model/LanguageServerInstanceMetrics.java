@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.languageserver.shared.model;
+
+/**
+ * State of a running language server instance.
+ */
+public class LanguageServerInstanceMetrics {
+
+    private String languageId;
+    /**
+     * Path of the project the server is initialized with or the projects root if the server is shared between all projects.
+     */
+    private String rootPath;
+    private long   startTime;
+    private long   initializationTimeMs;
+    private long   idleTimeMs;
+    private int    openDocuments;
+
+    public String getLanguageId() {
+        return languageId;
+    }
+
+    public void setLanguageId(String languageId) {
+        this.languageId = languageId;
+    }
+
+    public String getRootPath() {
+        return rootPath;
+    }
+
+    public void setRootPath(String rootPath) {
+        this.rootPath = rootPath;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(long startTime) {
+        this.startTime = startTime;
+    }
+
+    public long getInitializationTimeMs() {
+        return initializationTimeMs;
+    }
+
+    public void setInitializationTimeMs(long initializationTimeMs) {
+        this.initializationTimeMs = initializationTimeMs;
+    }
+
+    public long getIdleTimeMs() {
+        return idleTimeMs;
+    }
+
+    public void setIdleTimeMs(long idleTimeMs) {
+        this.idleTimeMs = idleTimeMs;
+    }
+
+    public int getOpenDocuments() {
+        return openDocuments;
+    }
+
+    public void setOpenDocuments(int openDocuments) {
+        this.openDocuments = openDocuments;
+    }
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.languageserver.shared.model;
+
+import java.util.List;
+
+/**
+ * Latency statistics of the requests of single LSP method sent to language servers.
+ */
+public class LanguageServerRequestMetrics {
+
+    private String     method;
+    /**
+     * Upper bounds of the latency buckets in milliseconds, the last bucket of the histogram is unbounded.
+     */
+    private List<Long> latencyBucketsMs;
+    /**
+     * Number of the requests in each latency bucket.
+     */
+    private List<Long> latencyHistogram;
+    private long       timeouts;
+    private long       failures;
+    private long       cancellations;
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public List<Long> getLatencyBucketsMs() {
+        return latencyBucketsMs;
+    }
+
+    public void setLatencyBucketsMs(List<Long> latencyBucketsMs) {
+        this.latencyBucketsMs = latencyBucketsMs;
+    }
+
+    public List<Long> getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    public void setLatencyHistogram(List<Long> latencyHistogram) {
+        this.latencyHistogram = latencyHistogram;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public void setTimeouts(long timeouts) {
+        this.timeouts = timeouts;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public void setFailures(long failures) {
+        this.failures = failures;
+    }
+
+    public long getCancellations() {
+        return cancellations;
+    }
+
+    public void setCancellations(long cancellations) {
+        this.cancellations = cancellations;
+    }
+}
@@ -22,6 +22,7 @@ import org.eclipse.che.api.languageserver.registry.LanguageServerRegistryImpl;
 import org.eclipse.che.api.languageserver.registry.ServerInitializer;
 import org.eclipse.che.api.languageserver.registry.ServerInitializerImpl;
 import org.eclipse.che.api.languageserver.service.LanguageRegistryService;
+import org.eclipse.che.api.languageserver.service.LanguageServerRequestExecutor;
 import org.eclipse.che.api.languageserver.service.TextDocumentService;
 import org.eclipse.che.api.languageserver.service.WorkspaceService;
 
@@ -31,6 +32,7 @@ public class LanguageServerModule extends AbstractModule {
     protected void configure() {
         bind(LanguageServerRegistry.class).to(LanguageServerRegistryImpl.class);
         bind(ServerInitializer.class).to(ServerInitializerImpl.class);
+        bind(LanguageServerRequestExecutor.class);
         bind(LanguageRegistryService.class);
         bind(TextDocumentService.class);
         bind(WorkspaceService.class);
@@ -31,4 +31,12 @@ public interface LanguageServerLauncher {
     LanguageDescription getLanguageDescription();
 
     boolean isAbleToLaunch();
+
+    /**
+     * Returns true if a single language server instance is able to serve all the projects of the workspace,
+     * such servers are launched once with the projects root folder as a root path.
+     */
+    default boolean isMultiRootSupported() {
+        return false;
+    }
 }
@@ -14,15 +14,31 @@ import org.eclipse.che.api.languageserver.exception.LanguageServerException;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.LanguageServer;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * @author Anatolii Bazko
  */
 public abstract class LanguageServerLauncherTemplate implements LanguageServerLauncher {
 
+    private final Map<LanguageServer, Process> processes = new ConcurrentHashMap<>();
+
     @Override
     public final LanguageServer launch(String projectPath, LanguageClient client) throws LanguageServerException {
         Process languageServerProcess = startLanguageServerProcess(projectPath);
-        return connectToLanguageServer(languageServerProcess, client);
+        LanguageServer server = connectToLanguageServer(languageServerProcess, client);
+        processes.put(server, languageServerProcess);
+        return server;
+    }
+
+    /**
+     * Forgets about the process of the language server which is shut down.
+     *
+     * @return process of the server or {@code null} if there is no such server
+     */
+    public Process removeProcess(LanguageServer server) {
+        return processes.remove(server);
     }
 
     abstract protected Process startLanguageServerProcess(String projectPath) throws LanguageServerException;
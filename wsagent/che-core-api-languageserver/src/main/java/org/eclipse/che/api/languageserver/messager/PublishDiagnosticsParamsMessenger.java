@@ -10,9 +10,13 @@
  *******************************************************************************/
 package org.eclipse.che.api.languageserver.messager;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.everrest.websockets.WSConnectionContext;
 import org.everrest.websockets.message.ChannelBroadcastMessage;
@@ -22,40 +26,233 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import javax.websocket.EncodeException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
+/**
+ * Delivers diagnostics published by language servers to the IDE clients.
+ * <p/>
+ * Language servers tend to re-publish diagnostics of many files on each keystroke, so diagnostics
+ * received within the window are coalesced per file and only the latest ones are sent, diagnostics
+ * which are equal to the previously sent ones are not sent at all. Diagnostics are sent only for the
+ * files opened in the editor, diagnostics of the other files are kept and may be fetched on demand.
+ */
 @Singleton
 public class PublishDiagnosticsParamsMessenger implements EventSubscriber<PublishDiagnosticsParams> {
     private final static Logger LOG = LoggerFactory.getLogger(PublishDiagnosticsParamsMessenger.class);
 
+    private static final String URI_PREFIX     = "file:///projects";
+    private static final String UNKNOWN_SERVER = "unknown";
+
     private final EventService eventService;
+    private final long         windowMs;
+
+    /** Latest not sent diagnostics by file path. */
+    private final Map<String, PublishDiagnosticsParams> pending;
+    /** Latest diagnostics by file path. */
+    private final Map<String, PublishDiagnosticsParams> diagnostics;
+    /** Hash of the last sent diagnostics by file path. */
+    private final Map<String, Integer>                  sentHashes;
+    /** Number of the editors the file is opened in. */
+    private final Map<String, Integer>                  openedFiles;
+    /** Language id of the server which published diagnostics of the file. */
+    private final Map<String, String>                   languages;
+    private final Map<String, ServerStatistics>         statistics;
+    private final AtomicBoolean                         flushScheduled;
+
+    private ScheduledExecutorService executor;
 
     @Inject
-    public PublishDiagnosticsParamsMessenger(EventService eventService) {
+    public PublishDiagnosticsParamsMessenger(EventService eventService,
+                                             @Named("che.languageserver.diagnostics.window_ms") long windowMs) {
         this.eventService = eventService;
+        this.windowMs = windowMs;
+        this.pending = new ConcurrentHashMap<>();
+        this.diagnostics = new ConcurrentHashMap<>();
+        this.sentHashes = new ConcurrentHashMap<>();
+        this.openedFiles = new ConcurrentHashMap<>();
+        this.languages = new ConcurrentHashMap<>();
+        this.statistics = new ConcurrentHashMap<>();
+        this.flushScheduled = new AtomicBoolean();
     }
 
     public void onEvent(final PublishDiagnosticsParams event) {
+        onEvent(UNKNOWN_SERVER, event);
+    }
+
+    /**
+     * Accepts diagnostics published by the language server.
+     *
+     * @param languageId
+     *         language id of the server which published diagnostics
+     */
+    public void onEvent(String languageId, PublishDiagnosticsParams event) {
+        event.setUri(removePrefix(event.getUri()));
+        languages.put(event.getUri(), languageId);
+        count(event.getUri(), stats -> stats.received);
+        pending.put(event.getUri(), event);
+        diagnostics.put(event.getUri(), event);
+        if (windowMs <= 0 || executor == null) {
+            flush();
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Must be called when the file is opened in the editor, latest diagnostics of the file are sent immediately.
+     * They are sent even if they are equal to the previously sent ones, since the editor may be opened
+     * by the reloaded client which doesn't have them.
+     *
+     * @param path
+     *         workspace path of the file
+     */
+    public void fileOpened(String path) {
+        openedFiles.merge(path, 1, Integer::sum);
+        PublishDiagnosticsParams latest = diagnostics.get(path);
+        if (latest != null) {
+            send(latest, true);
+        }
+    }
+
+    /**
+     * Must be called when the file is closed in the editor.
+     *
+     * @param path
+     *         workspace path of the file
+     */
+    public void fileClosed(String path) {
+        // the counter is removed when the file is closed in the last editor
+        Integer count = openedFiles.compute(path, (p, c) -> c == null || c <= 1 ? null : c - 1);
+        if (count == null) {
+            // client forgets diagnostics of the closed file
+            sentHashes.remove(path);
+        }
+    }
+
+    @VisibleForTesting
+    boolean isOpened(String path) {
+        return openedFiles.containsKey(path);
+    }
+
+    /**
+     * Returns latest diagnostics of the file or {@code null} if there are no diagnostics for the file.
+     *
+     * @param path
+     *         workspace path of the file
+     */
+    public PublishDiagnosticsParams getDiagnostics(String path) {
+        return diagnostics.get(path);
+    }
+
+    /**
+     * Returns numbers of received, sent, suppressed as unchanged and deferred as not opened diagnostics per language.
+     */
+    public Map<String, Map<String, Long>> getStatistics() {
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        statistics.forEach((languageId, serverStatistics) -> result.put(languageId, serverStatistics.toMap()));
+        return result;
+    }
+
+    @VisibleForTesting
+    void flush() {
+        flushScheduled.set(false);
+        List<String> paths = new ArrayList<>(pending.keySet());
+        for (String path : paths) {
+            PublishDiagnosticsParams params = pending.remove(path);
+            if (params == null) {
+                continue;
+            }
+            if (!openedFiles.containsKey(path)) {
+                if (params.getDiagnostics() == null || params.getDiagnostics().isEmpty()) {
+                    diagnostics.remove(path, params);
+                }
+                count(path, stats -> stats.deferred);
+                continue;
+            }
+            send(params, false);
+        }
+    }
+
+    private void send(PublishDiagnosticsParams params, boolean force) {
+        String path = params.getUri();
+        String json = new DtoServerImpls.PublishDiagnosticsParamsDto(params).toJson();
+        Integer hash = json.hashCode();
+        if (hash.equals(sentHashes.put(path, hash)) && !force) {
+            count(path, stats -> stats.suppressed);
+            return;
+        }
         try {
-            event.setUri(event.getUri().substring(16));
             final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
             bm.setChannel("languageserver/textDocument/publishDiagnostics");
-            bm.setBody(new DtoServerImpls.PublishDiagnosticsParamsDto(event).toJson());
+            bm.setBody(json);
             WSConnectionContext.sendMessage(bm);
+            count(path, stats -> stats.sent);
         } catch (EncodeException | IOException e) {
+            sentHashes.remove(path, hash);
             LOG.error(e.getMessage(), e);
         }
     }
 
+    private void count(String path, Function<ServerStatistics, AtomicLong> counter) {
+        String languageId = languages.getOrDefault(path, UNKNOWN_SERVER);
+        counter.apply(statistics.computeIfAbsent(languageId, id -> new ServerStatistics())).incrementAndGet();
+    }
+
+    private static String removePrefix(String uri) {
+        return uri.startsWith(URI_PREFIX) ? uri.substring(URI_PREFIX.length()) : uri;
+    }
+
     @PostConstruct
     public void subscribe() {
         eventService.subscribe(this);
+        if (windowMs > 0) {
+            executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("DiagnosticsPublisher-%d")
+                                                                                            .setUncaughtExceptionHandler(
+                                                                                                    LoggingUncaughtExceptionHandler
+                                                                                                            .getInstance())
+                                                                                            .setDaemon(true)
+                                                                                            .build());
+        }
     }
 
     @PreDestroy
     public void unsubscribe() {
         eventService.unsubscribe(this);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class ServerStatistics {
+        final long       since      = System.currentTimeMillis();
+        final AtomicLong received   = new AtomicLong();
+        final AtomicLong sent       = new AtomicLong();
+        final AtomicLong suppressed = new AtomicLong();
+        final AtomicLong deferred   = new AtomicLong();
+
+        Map<String, Long> toMap() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            long minutes = Math.max(1, TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis() - since));
+            result.put("received", received.get());
+            result.put("receivedPerMinute", received.get() / minutes);
+            result.put("sent", sent.get());
+            result.put("suppressed", suppressed.get());
+            result.put("deferred", deferred.get());
+            return result;
+        }
     }
 }
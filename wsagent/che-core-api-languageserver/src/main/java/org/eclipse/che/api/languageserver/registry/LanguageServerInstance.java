@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.languageserver.registry;
+
+import org.eclipse.che.api.languageserver.launcher.LanguageServerLauncher;
+import org.eclipse.che.api.languageserver.shared.model.LanguageServerInstanceMetrics;
+import org.eclipse.lsp4j.services.LanguageServer;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Running language server together with its usage statistics.
+ */
+public class LanguageServerInstance {
+    private final LanguageServer         server;
+    private final LanguageServerLauncher launcher;
+    private final String                 rootPath;
+    private final long                   startTime;
+    private final long                   initializationTime;
+    private final Set<String>            openDocuments;
+
+    private volatile long lastUsed;
+
+    LanguageServerInstance(LanguageServer server, LanguageServerLauncher launcher, String rootPath, long startTime) {
+        this.server = server;
+        this.launcher = launcher;
+        this.rootPath = rootPath;
+        this.startTime = startTime;
+        this.initializationTime = System.currentTimeMillis() - startTime;
+        this.lastUsed = System.currentTimeMillis();
+        this.openDocuments = ConcurrentHashMap.newKeySet();
+    }
+
+    public LanguageServer getServer() {
+        return server;
+    }
+
+    public LanguageServerLauncher getLauncher() {
+        return launcher;
+    }
+
+    /**
+     * Returns path of the project the server is initialized with or {@link LanguageServerRegistryImpl#PROJECT_FOLDER_PATH}
+     * if the server is shared between all projects.
+     */
+    public String getRootPath() {
+        return rootPath;
+    }
+
+    public long getLastUsed() {
+        return lastUsed;
+    }
+
+    void touch() {
+        lastUsed = System.currentTimeMillis();
+    }
+
+    void documentOpened(String fileUri) {
+        openDocuments.add(fileUri);
+    }
+
+    void documentClosed(String fileUri) {
+        openDocuments.remove(fileUri);
+    }
+
+    /**
+     * Returns {@code true} if some documents are opened in the server, such server is not shut down
+     * since the relaunched one would not know about the opened documents.
+     */
+    public boolean hasOpenDocuments() {
+        return !openDocuments.isEmpty();
+    }
+
+    public LanguageServerInstanceMetrics toMetrics() {
+        LanguageServerInstanceMetrics metrics = new LanguageServerInstanceMetrics();
+        metrics.setLanguageId(launcher.getLanguageDescription().getLanguageId());
+        metrics.setRootPath(rootPath);
+        metrics.setStartTime(startTime);
+        metrics.setInitializationTimeMs(initializationTime);
+        metrics.setIdleTimeMs(System.currentTimeMillis() - lastUsed);
+        metrics.setOpenDocuments(openDocuments.size());
+        return metrics;
+    }
+}
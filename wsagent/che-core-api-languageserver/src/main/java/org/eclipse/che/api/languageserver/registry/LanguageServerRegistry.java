@@ -35,4 +35,19 @@ public interface LanguageServerRegistry {
     List<LanguageDescription> getSupportedLanguages();
 
     Map<ProjectExtensionKey, LanguageServerDescription> getInitializedLanguages();
+
+    /**
+     * Returns launched and initialized servers.
+     */
+    List<LanguageServerInstance> getRunningServers();
+
+    /**
+     * Notifies that the document is opened in the server, the server which has open documents is not shut down.
+     */
+    void documentOpened(LanguageServer server, String fileUri);
+
+    /**
+     * Notifies that the document is closed in the server.
+     */
+    void documentClosed(LanguageServer server, String fileUri);
 }
@@ -10,38 +10,67 @@
  *******************************************************************************/
 package org.eclipse.che.api.languageserver.registry;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.languageserver.exception.LanguageServerException;
 import org.eclipse.che.api.languageserver.launcher.LanguageServerLauncher;
+import org.eclipse.che.api.languageserver.launcher.LanguageServerLauncherTemplate;
 import org.eclipse.che.api.languageserver.shared.ProjectExtensionKey;
 import org.eclipse.che.api.languageserver.shared.model.LanguageDescription;
+import org.eclipse.che.api.project.server.FileEntry;
 import org.eclipse.che.api.project.server.FolderEntry;
 import org.eclipse.che.api.project.server.ProjectManager;
+import org.eclipse.che.api.project.server.RegisteredProject;
 import org.eclipse.che.api.project.server.VirtualFileEntry;
 import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.commons.schedule.ScheduleRate;
 import org.eclipse.lsp4j.ServerCapabilities;
 import org.eclipse.lsp4j.services.LanguageServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.google.common.io.Files.getFileExtension;
 import static org.eclipse.che.api.languageserver.shared.ProjectExtensionKey.createProjectKey;
 
+/**
+ * Launches language servers on demand and manages their life cycle.
+ * <p/>
+ * Language server is launched per project, or once for all projects if the launcher supports multiple roots.
+ * Servers which are not used longer than the idle timeout are shut down, as well as the least recently
+ * used server when the maximum number of running servers is reached. Servers with open documents are
+ * never shut down, since the relaunched server wouldn't receive didOpen for them. Servers for the file
+ * types found in the workspace projects may be launched in background on agent start.
+ */
 @Singleton
 public class LanguageServerRegistryImpl implements LanguageServerRegistry, ServerInitializerObserver {
     public final static String PROJECT_FOLDER_PATH = "/projects";
 
+    private static final Logger LOG = LoggerFactory.getLogger(LanguageServerRegistryImpl.class);
+
     /**
      * Available {@link LanguageServerLauncher} by extension.
      */
@@ -52,17 +81,50 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry, Serve
      */
     private final ConcurrentHashMap<ProjectExtensionKey, LanguageServer> projectToServer;
 
+    /**
+     * Launched or being launched servers by root path and language id.
+     */
+    private final ConcurrentHashMap<ProjectExtensionKey, CompletableFuture<LanguageServerInstance>> instances;
+    private final ConcurrentHashMap<LanguageServer, LanguageServerInstance>                         serverToInstance;
+
     private final Provider<ProjectManager> projectManagerProvider;
     private final ServerInitializer        initializer;
+    private final int                      maxInstances;
+    private final long                     idleTimeoutMs;
+    private final boolean                  prewarm;
+
+    private ExecutorService prewarmExecutor;
 
-    @Inject
     public LanguageServerRegistryImpl(Set<LanguageServerLauncher> languageServerLaunchers,
                                       Provider<ProjectManager> projectManagerProvider,
                                       ServerInitializer initializer) {
+        this(languageServerLaunchers, projectManagerProvider, initializer, 0, 0, false);
+    }
+
+    /**
+     * @param maxInstances
+     *         maximum number of running language servers, 0 means unlimited
+     * @param idleTimeoutMin
+     *         time after which not used language server is shut down, 0 means never
+     * @param prewarm
+     *         whether language servers for the file types found in the projects should be launched on start
+     */
+    @Inject
+    public LanguageServerRegistryImpl(Set<LanguageServerLauncher> languageServerLaunchers,
+                                      Provider<ProjectManager> projectManagerProvider,
+                                      ServerInitializer initializer,
+                                      @Named("che.languageserver.max_instances") int maxInstances,
+                                      @Named("che.languageserver.idle_timeout_min") long idleTimeoutMin,
+                                      @Named("che.languageserver.prewarm") boolean prewarm) {
         this.projectManagerProvider = projectManagerProvider;
         this.initializer = initializer;
+        this.maxInstances = maxInstances;
+        this.idleTimeoutMs = TimeUnit.MINUTES.toMillis(idleTimeoutMin);
+        this.prewarm = prewarm;
         this.extensionToLauncher = new ConcurrentHashMap<>();
         this.projectToServer = new ConcurrentHashMap<>();
+        this.instances = new ConcurrentHashMap<>();
+        this.serverToInstance = new ConcurrentHashMap<>();
         this.initializer.addObserver(this);
 
         for (LanguageServerLauncher launcher : languageServerLaunchers) {
@@ -87,21 +149,258 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry, Serve
     protected LanguageServer findServer(String extension, String projectPath) throws LanguageServerException {
         ProjectExtensionKey projectKey = createProjectKey(projectPath, extension);
 
-        for (LanguageServerLauncher launcher : extensionToLauncher.get(extension)) {
-            if (!projectToServer.containsKey(projectKey)) {
-                synchronized (launcher) {
-                    if (!projectToServer.containsKey(projectKey)) {
-                        LanguageServer server = initializer.initialize(launcher, projectPath);
-                        projectToServer.put(projectKey, server);
+        LanguageServer server = projectToServer.get(projectKey);
+        if (server != null) {
+            touch(server);
+            return server;
+        }
+
+        List<LanguageServerLauncher> launchers = extensionToLauncher.get(extension);
+        if (launchers == null || launchers.isEmpty()) {
+            return null;
+        }
+
+        LanguageServerLauncher launcher = launchers.get(0);
+        String rootPath = launcher.isMultiRootSupported() ? PROJECT_FOLDER_PATH : projectPath;
+        LanguageServerInstance instance = launch(launcher, rootPath);
+        instance.touch();
+        projectToServer.putIfAbsent(projectKey, instance.getServer());
+        return instance.getServer();
+    }
+
+    /**
+     * Launches the server or waits until the server which is being launched by another thread is initialized,
+     * so initialization of one server doesn't block requests to the others.
+     */
+    private LanguageServerInstance launch(LanguageServerLauncher launcher, String rootPath) throws LanguageServerException {
+        ProjectExtensionKey instanceKey = createProjectKey(rootPath, launcher.getLanguageDescription().getLanguageId());
+        CompletableFuture<LanguageServerInstance> future = new CompletableFuture<>();
+        CompletableFuture<LanguageServerInstance> existing = instances.putIfAbsent(instanceKey, future);
+        if (existing != null) {
+            try {
+                return existing.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LanguageServerException("Interrupted while waiting for language server initialization", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof LanguageServerException) {
+                    throw (LanguageServerException)e.getCause();
+                }
+                throw new LanguageServerException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        evictIfLimitReached(instanceKey);
+        long startTime = System.currentTimeMillis();
+        try {
+            LanguageServer server = initializer.initialize(launcher, rootPath);
+            LanguageServerInstance instance = new LanguageServerInstance(server, launcher, rootPath, startTime);
+            serverToInstance.put(server, instance);
+            future.complete(instance);
+            return instance;
+        } catch (LanguageServerException | RuntimeException e) {
+            // let the next request try again
+            instances.remove(instanceKey, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void touch(LanguageServer server) {
+        LanguageServerInstance instance = serverToInstance.get(server);
+        if (instance != null) {
+            instance.touch();
+        }
+    }
+
+    @Override
+    public void documentOpened(LanguageServer server, String fileUri) {
+        LanguageServerInstance instance = serverToInstance.get(server);
+        if (instance != null) {
+            instance.documentOpened(fileUri);
+        }
+    }
+
+    @Override
+    public void documentClosed(LanguageServer server, String fileUri) {
+        LanguageServerInstance instance = serverToInstance.get(server);
+        if (instance != null) {
+            instance.documentClosed(fileUri);
+        }
+    }
+
+    private void evictIfLimitReached(ProjectExtensionKey launchingKey) {
+        if (maxInstances <= 0) {
+            return;
+        }
+        List<LanguageServerInstance> evicted = new ArrayList<>();
+        // servers are only detached under the lock, waiting for them to stop doesn't block the other launches
+        synchronized (instances) {
+            // the server which is being launched is already counted
+            int toEvict = instances.size() - maxInstances;
+            if (toEvict <= 0) {
+                return;
+            }
+            List<LanguageServerInstance> candidates = getRunningServers().stream()
+                                                                         .filter(instance -> !instance.hasOpenDocuments())
+                                                                         .collect(Collectors.toList());
+            candidates.sort(Comparator.comparingLong(LanguageServerInstance::getLastUsed));
+            for (LanguageServerInstance instance : candidates.subList(0, Math.min(toEvict, candidates.size()))) {
+                if (detach(instance)) {
+                    evicted.add(instance);
+                }
+            }
+            if (instances.size() > maxInstances) {
+                LOG.warn("Language server for {} is launched over the limit of {} servers", launchingKey.getProject(), maxInstances);
+            }
+        }
+        for (LanguageServerInstance instance : evicted) {
+            LOG.info("Maximum number of language servers {} is reached, shutting down least recently used {} on {}",
+                     maxInstances, instance.getLauncher().getLanguageDescription().getLanguageId(), instance.getRootPath());
+            terminate(instance);
+        }
+    }
+
+    /**
+     * Shuts down language servers which are not used longer than the idle timeout.
+     */
+    @ScheduleRate(initialDelay = 1, period = 1, unit = TimeUnit.MINUTES)
+    public void shutdownIdleServers() {
+        shutdownIdleServers(System.currentTimeMillis());
+    }
+
+    void shutdownIdleServers(long now) {
+        if (idleTimeoutMs <= 0) {
+            return;
+        }
+        for (LanguageServerInstance instance : getRunningServers()) {
+            if (now - instance.getLastUsed() > idleTimeoutMs && !instance.hasOpenDocuments() && detach(instance)) {
+                LOG.info("Shutting down idle language server {} on {}",
+                         instance.getLauncher().getLanguageDescription().getLanguageId(), instance.getRootPath());
+                terminate(instance);
+            }
+        }
+    }
+
+    /**
+     * Removes the server from the registry, so it is not used anymore.
+     * Returns {@code false} if the server is already removed by another thread.
+     */
+    private boolean detach(LanguageServerInstance instance) {
+        LanguageServer server = instance.getServer();
+        if (!serverToInstance.remove(server, instance)) {
+            return false;
+        }
+        instances.remove(createProjectKey(instance.getRootPath(), instance.getLauncher().getLanguageDescription().getLanguageId()));
+        projectToServer.entrySet().removeIf(entry -> entry.getValue() == server);
+        return true;
+    }
+
+    private void terminate(LanguageServerInstance instance) {
+        LanguageServer server = instance.getServer();
+        try {
+            initializer.shutdown(server);
+        } catch (RuntimeException e) {
+            LOG.warn("Error while shutting down language server on {}: {}", instance.getRootPath(), e.getMessage());
+        }
+        if (instance.getLauncher() instanceof LanguageServerLauncherTemplate) {
+            Process process = ((LanguageServerLauncherTemplate)instance.getLauncher()).removeProcess(server);
+            if (process != null) {
+                try {
+                    if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                        process.destroy();
                     }
+                } catch (InterruptedException e) {
+                    process.destroy();
+                    Thread.currentThread().interrupt();
                 }
             }
-            return projectToServer.get(projectKey);
         }
+    }
 
-        return null;
+    @Override
+    public List<LanguageServerInstance> getRunningServers() {
+        return instances.values()
+                        .stream()
+                        .filter(future -> future.isDone() && !future.isCompletedExceptionally())
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList());
     }
 
+    @PostConstruct
+    protected void startPrewarm() {
+        if (!prewarm) {
+            return;
+        }
+        prewarmExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("LanguageServerPrewarm-%d")
+                                                                                      .setUncaughtExceptionHandler(
+                                                                                              LoggingUncaughtExceptionHandler.getInstance())
+                                                                                      .setDaemon(true)
+                                                                                      .build());
+        prewarmExecutor.execute(this::prewarm);
+    }
+
+    /**
+     * Launches language servers for the file types found on the first two levels of the workspace projects.
+     */
+    private void prewarm() {
+        List<RegisteredProject> projects;
+        try {
+            projects = projectManagerProvider.get().getProjects();
+        } catch (ServerException e) {
+            LOG.warn("Can't get projects to pre-warm language servers: {}", e.getMessage());
+            return;
+        }
+        for (RegisteredProject project : projects) {
+            FolderEntry baseFolder = project.getBaseFolder();
+            if (project.getPath().lastIndexOf('/') != 0 || baseFolder == null) {
+                // only root projects, modules are served by the servers of their projects
+                continue;
+            }
+            Set<String> extensions = new HashSet<>();
+            try {
+                collectExtensions(baseFolder, extensions);
+                for (FolderEntry folder : baseFolder.getChildFolders()) {
+                    collectExtensions(folder, extensions);
+                }
+            } catch (ServerException e) {
+                LOG.debug(e.getMessage(), e);
+                continue;
+            }
+            Set<LanguageServerLauncher> launched = new HashSet<>();
+            for (String extension : extensions) {
+                List<LanguageServerLauncher> launchers = extensionToLauncher.get(extension);
+                if (launchers == null || launchers.isEmpty() || !launched.add(launchers.get(0))
+                    || !launchers.get(0).isAbleToLaunch()) {
+                    continue;
+                }
+                if (maxInstances > 0 && instances.size() >= maxInstances) {
+                    return;
+                }
+                try {
+                    findServer(extension, PROJECT_FOLDER_PATH + project.getPath());
+                } catch (LanguageServerException | RuntimeException e) {
+                    LOG.warn("Can't pre-warm language server for {}: {}", project.getPath(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void collectExtensions(FolderEntry folder, Set<String> extensions) throws ServerException {
+        for (FileEntry file : folder.getChildFiles()) {
+            String extension = getFileExtension(file.getName());
+            if (!extension.isEmpty()) {
+                extensions.add(extension);
+            }
+        }
+    }
+
+    @PreDestroy
+    protected void stopPrewarm() {
+        if (prewarmExecutor != null) {
+            prewarmExecutor.shutdownNow();
+        }
+    }
 
     @Override
     public List<LanguageDescription> getSupportedLanguages() {
@@ -118,6 +417,7 @@ public class LanguageServerRegistryImpl implements LanguageServerRegistry, Serve
         Map<LanguageServer, LanguageServerDescription> initializedServers = initializer.getInitializedServers();
         return projectToServer.entrySet()
                               .stream()
+                              .filter(e -> initializedServers.containsKey(e.getValue()))
                               .collect(Collectors.toMap(Map.Entry::getKey, e -> initializedServers.get(e.getValue())));
     }
 
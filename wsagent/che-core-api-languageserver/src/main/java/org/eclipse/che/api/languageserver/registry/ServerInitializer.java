@@ -31,4 +31,9 @@ public interface ServerInitializer extends ServerInitializerObservable {
      * Returns initialized servers.
      */
     Map<LanguageServer, LanguageServerDescription> getInitializedServers();
+
+    /**
+     * Shuts down the initialized {@link LanguageServer}.
+     */
+    void shutdown(LanguageServer server);
 }
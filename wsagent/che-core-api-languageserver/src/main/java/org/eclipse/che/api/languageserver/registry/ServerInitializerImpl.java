@@ -38,7 +38,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * @author Anatoliy Bazko
@@ -47,23 +50,35 @@ import java.util.concurrent.ExecutionException;
 public class ServerInitializerImpl implements ServerInitializer {
     private final static Logger LOG = LoggerFactory.getLogger(ServerInitializerImpl.class);
 
-    private static final int    PROCESS_ID  = getProcessId();
-    private static final String CLIENT_NAME = "EclipseChe";
+    private static final int    PROCESS_ID           = getProcessId();
+    private static final String CLIENT_NAME          = "EclipseChe";
+    /** Time given to the server to finish its shutdown before it is asked to exit. */
+    private static final long   SHUTDOWN_TIMEOUT_SEC = 5;
 
     private final List<ServerInitializerObserver> observers;
 
     private final ConcurrentHashMap<String, LanguageServer>                    languageIdToServers;
     private final ConcurrentHashMap<LanguageServer, LanguageServerDescription> serversToInitResult;
 
-    private LanguageClient languageClient;
+    private final PublishDiagnosticsParamsMessenger publishDiagnosticsParamsMessenger;
+    private final ShowMessageMessenger              showMessageMessenger;
 
     @Inject
     public ServerInitializerImpl(final PublishDiagnosticsParamsMessenger publishDiagnosticsParamsMessenger,
                                  final ShowMessageMessenger showMessageMessenger) {
-        this.observers = new ArrayList<>();
+        this.observers = new CopyOnWriteArrayList<>();
         this.languageIdToServers = new ConcurrentHashMap<>();
         this.serversToInitResult = new ConcurrentHashMap<>();
-        languageClient = new LanguageClient() {
+        this.publishDiagnosticsParamsMessenger = publishDiagnosticsParamsMessenger;
+        this.showMessageMessenger = showMessageMessenger;
+    }
+
+    /**
+     * Creates client for the language server, client knows language of the server so notifications
+     * of the different servers can be told apart.
+     */
+    protected LanguageClient createLanguageClient(String languageId) {
+        return new LanguageClient() {
 
             @Override
             public void telemetryEvent(Object object) {
@@ -83,7 +98,7 @@ public class ServerInitializerImpl implements ServerInitializer {
 
             @Override
             public void publishDiagnostics(PublishDiagnosticsParams diagnostics) {
-                publishDiagnosticsParamsMessenger.onEvent(diagnostics);
+                publishDiagnosticsParamsMessenger.onEvent(languageId, diagnostics);
             }
 
             @Override
@@ -122,18 +137,29 @@ public class ServerInitializerImpl implements ServerInitializer {
     public LanguageServer initialize(LanguageServerLauncher launcher, String projectPath) throws LanguageServerException {
         String languageId = launcher.getLanguageDescription().getLanguageId();
 
-        synchronized (launcher) {
-            LanguageServer server = languageIdToServers.get(languageId);
-            if (server != null) {
-                server = doInitialize(launcher, projectPath);
-            } else {
-                server = doInitialize(launcher, projectPath);
-                languageIdToServers.put(languageId, server);
-            }
-            onServerInitialized(server, serversToInitResult.get(server).getInitializeResult().getCapabilities(),
-                                launcher.getLanguageDescription(), projectPath);
-            return server;
+        // servers for different projects are initialized concurrently,
+        // registry takes care of not initializing the same server twice
+        LanguageServer server = doInitialize(launcher, projectPath);
+        languageIdToServers.putIfAbsent(languageId, server);
+        onServerInitialized(server, serversToInitResult.get(server).getInitializeResult().getCapabilities(),
+                            launcher.getLanguageDescription(), projectPath);
+        return server;
+    }
+
+    @Override
+    public void shutdown(LanguageServer server) {
+        LanguageServerDescription description = serversToInitResult.remove(server);
+        if (description != null) {
+            languageIdToServers.remove(description.getLanguageDescription().getLanguageId(), server);
+        }
+        try {
+            server.shutdown().get(SHUTDOWN_TIMEOUT_SEC, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOG.warn("Language server hasn't been shut down properly: {}", e.getMessage());
         }
+        server.exit();
     }
 
     @Override
@@ -147,7 +173,7 @@ public class ServerInitializerImpl implements ServerInitializer {
 
         LanguageServer server;
         try {
-            server = launcher.launch(projectPath, languageClient);
+            server = launcher.launch(projectPath, createLanguageClient(languageId));
         } catch (LanguageServerException e) {
             throw new LanguageServerException(
                     "Can't initialize Language Server " + languageId + " on " + projectPath + ". " + e.getMessage(), e);
@@ -194,9 +220,8 @@ public class ServerInitializerImpl implements ServerInitializer {
 
     @PreDestroy
     protected void shutdown() {
-        for (LanguageServer server : serversToInitResult.keySet()) {
-            server.shutdown();
-            server.exit();
+        for (LanguageServer server : new ArrayList<>(serversToInitResult.keySet())) {
+            shutdown(server);
         }
     }
 
@@ -15,10 +15,13 @@ import com.google.inject.Singleton;
 
 import org.eclipse.che.api.languageserver.exception.LanguageServerException;
 import org.eclipse.che.api.languageserver.registry.LanguageServerDescription;
+import org.eclipse.che.api.languageserver.registry.LanguageServerInstance;
 import org.eclipse.che.api.languageserver.registry.LanguageServerRegistry;
 import org.eclipse.che.api.languageserver.registry.LanguageServerRegistryImpl;
 import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls;
 import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.ExtendedInitializeResultDto;
+import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.LanguageServerInstanceMetricsDto;
+import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.LanguageServerRequestMetricsDto;
 import org.eclipse.che.api.languageserver.shared.ProjectExtensionKey;
 import org.eclipse.che.api.languageserver.shared.model.ExtendedInitializeResult;
 import org.eclipse.che.api.languageserver.shared.model.LanguageDescription;
@@ -38,11 +41,13 @@ import static java.util.stream.Collectors.toList;
 @Path("languageserver")
 public class LanguageRegistryService {
 
-    private final LanguageServerRegistry registry;
+    private final LanguageServerRegistry        registry;
+    private final LanguageServerRequestExecutor requestExecutor;
 
     @Inject
-    public LanguageRegistryService(LanguageServerRegistry registry) {
+    public LanguageRegistryService(LanguageServerRegistry registry, LanguageServerRequestExecutor requestExecutor) {
         this.registry = registry;
+        this.requestExecutor = requestExecutor;
     }
 
     @GET
@@ -75,6 +80,33 @@ public class LanguageRegistryService {
 
     }
 
+    /**
+     * Returns state of the running language servers: root path, initialization time, idle time and number of open documents.
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("servers")
+    public List<LanguageServerInstanceMetricsDto> getRunningServers() {
+        return registry.getRunningServers()
+                       .stream()
+                       .map(LanguageServerInstance::toMetrics)
+                       .map(LanguageServerInstanceMetricsDto::new)
+                       .collect(toList());
+    }
+
+    /**
+     * Returns latency histograms of the language server requests per LSP method.
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("metrics")
+    public List<LanguageServerRequestMetricsDto> getRequestMetrics() {
+        return requestExecutor.getMetrics()
+                              .stream()
+                              .map(LanguageServerRequestMetricsDto::new)
+                              .collect(toList());
+    }
+
     @POST
     @Path("initialize")
     public void initialize(@QueryParam("path") String path) throws LanguageServerException {
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.languageserver.service;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.eclipse.che.api.languageserver.exception.LanguageServerException;
+import org.eclipse.che.api.languageserver.shared.model.LanguageServerRequestMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Waits for the results of the requests sent to language servers.
+ * <p/>
+ * Language server request is never awaited longer than the configured timeout, so a slow or hung
+ * server can't occupy request threads of the agent. Request which is timed out or superseded by
+ * a newer request of the same kind for the same document is cancelled, cancellation of the lsp4j
+ * request future sends {@code $/cancelRequest} notification to the server.
+ * Latency of the requests is collected per LSP method.
+ */
+@Singleton
+public class LanguageServerRequestExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(LanguageServerRequestExecutor.class);
+
+    /** Upper bounds of latency histogram buckets in milliseconds, the last bucket is unbounded. */
+    static final long[] BUCKETS = {10, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final long                                     timeoutMs;
+    private final Map<String, CompletableFuture<?>>        supersedable;
+    private final ConcurrentHashMap<String, MethodMetrics> metrics;
+
+    @Inject
+    public LanguageServerRequestExecutor(@Named("che.languageserver.request.timeout_ms") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+        this.supersedable = new ConcurrentHashMap<>();
+        this.metrics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Waits for the result of the language server request.
+     *
+     * @param method
+     *         LSP method name, e.g. {@code textDocument/hover}
+     * @param request
+     *         future of the request
+     * @return result of the request
+     * @throws LanguageServerException
+     *         when request is failed or timed out
+     */
+    public <T> T await(String method, CompletableFuture<T> request) throws LanguageServerException {
+        MethodMetrics methodMetrics = metrics.computeIfAbsent(method, m -> new MethodMetrics());
+        long start = System.nanoTime();
+        try {
+            return request.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            request.cancel(true);
+            methodMetrics.timeouts.incrementAndGet();
+            throw new LanguageServerException("Language server didn't respond to " + method + " in " + timeoutMs + "ms");
+        } catch (ExecutionException e) {
+            methodMetrics.failures.incrementAndGet();
+            throw new LanguageServerException(method + " failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            request.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LanguageServerException(method + " was interrupted");
+        } finally {
+            methodMetrics.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Same as {@link #await(String, CompletableFuture)}, but previous not completed request with the same
+     * method and document is cancelled, e.g. completion request is superseded by the next one while user is typing.
+     *
+     * @return result of the request or {@code null} if the request was superseded
+     */
+    public <T> T awaitLatest(String method, String documentUri, CompletableFuture<T> request) throws LanguageServerException {
+        String key = method + ':' + documentUri;
+        CompletableFuture<?> previous = supersedable.put(key, request);
+        if (previous != null && previous.cancel(true)) {
+            LOG.debug("{} for {} is superseded by the newer request", method, documentUri);
+        }
+        try {
+            return await(method, request);
+        } catch (CancellationException e) {
+            metrics.get(method).cancellations.incrementAndGet();
+            return null;
+        } finally {
+            supersedable.remove(key, request);
+        }
+    }
+
+    /**
+     * Returns latency statistics per LSP method: number of requests in each latency bucket,
+     * number of timed out, failed and cancelled requests.
+     */
+    public List<LanguageServerRequestMetrics> getMetrics() {
+        List<LanguageServerRequestMetrics> result = new ArrayList<>();
+        metrics.forEach((method, methodMetrics) -> result.add(methodMetrics.toMetrics(method)));
+        return result;
+    }
+
+    /** Returns latency statistics of the given LSP method or {@code null} if there were no such requests. */
+    LanguageServerRequestMetrics getMetrics(String method) {
+        MethodMetrics methodMetrics = metrics.get(method);
+        return methodMetrics == null ? null : methodMetrics.toMetrics(method);
+    }
+
+    private static class MethodMetrics {
+        final AtomicLongArray histogram     = new AtomicLongArray(BUCKETS.length + 1);
+        final AtomicLong      timeouts      = new AtomicLong();
+        final AtomicLong      failures      = new AtomicLong();
+        final AtomicLong      cancellations = new AtomicLong();
+
+        void record(long latencyMs) {
+            int bucket = 0;
+            while (bucket < BUCKETS.length && latencyMs > BUCKETS[bucket]) {
+                bucket++;
+            }
+            histogram.incrementAndGet(bucket);
+        }
+
+        LanguageServerRequestMetrics toMetrics(String method) {
+            List<Long> buckets = new ArrayList<>(BUCKETS.length);
+            for (long bucket : BUCKETS) {
+                buckets.add(bucket);
+            }
+            List<Long> counts = new ArrayList<>(histogram.length());
+            for (int i = 0; i < histogram.length(); i++) {
+                counts.add(histogram.get(i));
+            }
+            LanguageServerRequestMetrics result = new LanguageServerRequestMetrics();
+            result.setMethod(method);
+            result.setLatencyBucketsMs(buckets);
+            result.setLatencyHistogram(counts);
+            result.setTimeouts(timeouts.get());
+            result.setFailures(failures.get());
+            result.setCancellations(cancellations.get());
+            return result;
+        }
+    }
+}
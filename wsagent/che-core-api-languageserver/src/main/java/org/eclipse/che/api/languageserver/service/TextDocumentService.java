@@ -13,6 +13,7 @@ package org.eclipse.che.api.languageserver.service;
 import com.google.inject.Singleton;
 
 import org.eclipse.che.api.languageserver.exception.LanguageServerException;
+import org.eclipse.che.api.languageserver.messager.PublishDiagnosticsParamsMessenger;
 import org.eclipse.che.api.languageserver.registry.LanguageServerRegistry;
 import org.eclipse.che.api.languageserver.registry.LanguageServerRegistryImpl;
 import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.CompletionItemDto;
@@ -20,6 +21,7 @@ import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.CompletionLi
 import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.ExtendedCompletionItemDto;
 import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.HoverDto;
 import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.LocationDto;
+import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.PublishDiagnosticsParamsDto;
 import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.SignatureHelpDto;
 import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.SymbolInformationDto;
 import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.TextEditDto;
@@ -34,19 +36,24 @@ import org.eclipse.lsp4j.DocumentOnTypeFormattingParams;
 import org.eclipse.lsp4j.DocumentRangeFormattingParams;
 import org.eclipse.lsp4j.DocumentSymbolParams;
 import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.ReferenceParams;
+import org.eclipse.lsp4j.SignatureHelp;
 import org.eclipse.lsp4j.TextDocumentPositionParams;
 import org.eclipse.lsp4j.services.LanguageServer;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -60,11 +67,17 @@ public class TextDocumentService {
 
     private static final String FILE_PROJECTS = "file:///projects";
 
-    private final LanguageServerRegistry languageServerRegistry;
+    private final LanguageServerRegistry        languageServerRegistry;
+    private final LanguageServerRequestExecutor     requestExecutor;
+    private final PublishDiagnosticsParamsMessenger diagnosticsMessenger;
 
     @Inject
-    public TextDocumentService(LanguageServerRegistry languageServerRegistry) {
+    public TextDocumentService(LanguageServerRegistry languageServerRegistry,
+                               LanguageServerRequestExecutor requestExecutor,
+                               PublishDiagnosticsParamsMessenger diagnosticsMessenger) {
         this.languageServerRegistry = languageServerRegistry;
+        this.requestExecutor = requestExecutor;
+        this.diagnosticsMessenger = diagnosticsMessenger;
     }
 
     static String prefixURI(String relativePath) {
@@ -84,14 +97,20 @@ public class TextDocumentService {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public CompletionListDto completion(TextDocumentPositionParams textDocumentPositionParams)
-            throws InterruptedException, ExecutionException, LanguageServerException {
+            throws LanguageServerException {
         textDocumentPositionParams.getTextDocument().setUri(prefixURI(textDocumentPositionParams.getTextDocument().getUri()));
         textDocumentPositionParams.setUri(prefixURI(textDocumentPositionParams.getUri()));
         LanguageServer server = getServer(textDocumentPositionParams.getTextDocument().getUri());
         if (server == null) {
-            return null;
+            return new CompletionListDto(new CompletionList(false, new ArrayList<>()));
+        }
+        CompletionList result = requestExecutor.awaitLatest("textDocument/completion",
+                                                            textDocumentPositionParams.getTextDocument().getUri(),
+                                                            server.getTextDocumentService().completion(textDocumentPositionParams));
+        if (result == null) {
+            // cancelled or superseded by the next completion request, incomplete list is never reused by the client
+            result = new CompletionList(true, new ArrayList<>());
         }
-        CompletionList result = server.getTextDocumentService().completion(textDocumentPositionParams).get();
 
         return new CompletionListDto(result);
     }
@@ -101,15 +120,18 @@ public class TextDocumentService {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public List<? extends SymbolInformationDto> documentSymbol(DocumentSymbolParams documentSymbolParams)
-            throws ExecutionException, InterruptedException, LanguageServerException {
+            throws LanguageServerException {
         documentSymbolParams.getTextDocument().setUri(prefixURI(documentSymbolParams.getTextDocument().getUri()));
         LanguageServer server = getServer(documentSymbolParams.getTextDocument().getUri());
         if (server == null) {
             return Collections.emptyList();
         }
 
-        return server.getTextDocumentService().documentSymbol(documentSymbolParams).get().stream().map(o -> new SymbolInformationDto(o))
-                     .collect(Collectors.toList());
+        return requestExecutor.await("textDocument/documentSymbol",
+                                     server.getTextDocumentService().documentSymbol(documentSymbolParams))
+                              .stream()
+                              .map(o -> new SymbolInformationDto(o))
+                              .collect(Collectors.toList());
     }
 
     @POST
@@ -117,14 +139,15 @@ public class TextDocumentService {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public List<? extends LocationDto> references(ReferenceParams params)
-            throws ExecutionException, InterruptedException, LanguageServerException {
+            throws LanguageServerException {
         params.getTextDocument().setUri(prefixURI(params.getTextDocument().getUri()));
         LanguageServer server = getServer(params.getTextDocument().getUri());
         if (server == null) {
             return Collections.emptyList();
         }
 
-        List<? extends Location> locations = server.getTextDocumentService().references(params).get();
+        List<? extends Location> locations = requestExecutor.await("textDocument/references",
+                                                                   server.getTextDocumentService().references(params));
         locations.forEach(o -> {
             o.setUri(removePrefixUri(o.getUri()));
         });
@@ -136,14 +159,15 @@ public class TextDocumentService {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public List<? extends LocationDto> definition(TextDocumentPositionParams params)
-            throws ExecutionException, InterruptedException, LanguageServerException {
+            throws LanguageServerException {
         params.getTextDocument().setUri(prefixURI(params.getTextDocument().getUri()));
         LanguageServer server = getServer(params.getTextDocument().getUri());
         if (server == null) {
             return Collections.emptyList();
         }
 
-        List<? extends Location> locations = server.getTextDocumentService().definition(params).get();
+        List<? extends Location> locations = requestExecutor.await("textDocument/definition",
+                                                                   server.getTextDocumentService().definition(params));
         locations.forEach(o -> {
             o.setUri(removePrefixUri(o.getUri()));
         });
@@ -156,10 +180,11 @@ public class TextDocumentService {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public CompletionItemDto resolveCompletionItem(ExtendedCompletionItemDto unresolved)
-            throws InterruptedException, ExecutionException, LanguageServerException {
+            throws LanguageServerException {
         LanguageServer server = getServer(prefixURI(unresolved.getTextDocumentIdentifier().getUri()));
         if (server != null) {
-            return new CompletionItemDto(server.getTextDocumentService().resolveCompletionItem(unresolved).get());
+            return new CompletionItemDto(requestExecutor.await("completionItem/resolve",
+                                                               server.getTextDocumentService().resolveCompletionItem(unresolved)));
         } else {
             return new CompletionItemDto(unresolved);
         }
@@ -171,12 +196,12 @@ public class TextDocumentService {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public HoverDto hover(TextDocumentPositionParams positionParams)
-            throws LanguageServerException, ExecutionException, InterruptedException {
+            throws LanguageServerException {
         positionParams.getTextDocument().setUri(prefixURI(positionParams.getTextDocument().getUri()));
         positionParams.setUri(prefixURI(positionParams.getUri()));
         LanguageServer server = getServer(positionParams.getTextDocument().getUri());
         if (server != null) {
-            return new HoverDto(server.getTextDocumentService().hover(positionParams).get());
+            return new HoverDto(requestExecutor.await("textDocument/hover", server.getTextDocumentService().hover(positionParams)));
         } else {
             return null;
         }
@@ -188,12 +213,20 @@ public class TextDocumentService {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public SignatureHelpDto signatureHelp(TextDocumentPositionParams positionParams)
-            throws LanguageServerException, ExecutionException, InterruptedException {
+            throws LanguageServerException {
         positionParams.getTextDocument().setUri(prefixURI(positionParams.getTextDocument().getUri()));
         positionParams.setUri(prefixURI(positionParams.getUri()));
         LanguageServer server = getServer(positionParams.getTextDocument().getUri());
         if (server != null) {
-            return new SignatureHelpDto(server.getTextDocumentService().signatureHelp(positionParams).get());
+            SignatureHelp result = requestExecutor.awaitLatest("textDocument/signatureHelp",
+                                                               positionParams.getTextDocument().getUri(),
+                                                               server.getTextDocumentService().signatureHelp(positionParams));
+            if (result == null) {
+                // cancelled or superseded by the next signature help request
+                result = new SignatureHelp();
+                result.setSignatures(new ArrayList<>());
+            }
+            return new SignatureHelpDto(result);
         } else {
             return null;
         }
@@ -204,13 +237,16 @@ public class TextDocumentService {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public List<? extends TextEditDto> formatting(DocumentFormattingParams params)
-            throws InterruptedException, ExecutionException, LanguageServerException {
+            throws LanguageServerException {
         params.getTextDocument().setUri(prefixURI(params.getTextDocument().getUri()));
         LanguageServer server = getServer(params.getTextDocument().getUri());
         if (server == null) {
             return Collections.emptyList();
         }
-        return server.getTextDocumentService().formatting(params).get().stream().map(o -> new TextEditDto(o)).collect(Collectors.toList());
+        return requestExecutor.await("textDocument/formatting", server.getTextDocumentService().formatting(params))
+                              .stream()
+                              .map(o -> new TextEditDto(o))
+                              .collect(Collectors.toList());
 
     }
 
@@ -219,14 +255,16 @@ public class TextDocumentService {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public List<? extends TextEditDto> rangeFormatting(DocumentRangeFormattingParams params)
-            throws InterruptedException, ExecutionException, LanguageServerException {
+            throws LanguageServerException {
         params.getTextDocument().setUri(prefixURI(params.getTextDocument().getUri()));
         LanguageServer server = getServer(params.getTextDocument().getUri());
         if (server == null) {
             return Collections.emptyList();
         }
-        return server.getTextDocumentService().rangeFormatting(params).get().stream().map(o -> new TextEditDto(o))
-                     .collect(Collectors.toList());
+        return requestExecutor.await("textDocument/rangeFormatting", server.getTextDocumentService().rangeFormatting(params))
+                              .stream()
+                              .map(o -> new TextEditDto(o))
+                              .collect(Collectors.toList());
 
     }
 
@@ -235,14 +273,16 @@ public class TextDocumentService {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public List<? extends TextEditDto> onTypeFormatting(DocumentOnTypeFormattingParams params)
-            throws InterruptedException, ExecutionException, LanguageServerException {
+            throws LanguageServerException {
         params.getTextDocument().setUri(prefixURI(params.getTextDocument().getUri()));
         LanguageServer server = getServer(params.getTextDocument().getUri());
         if (server == null) {
             return Collections.emptyList();
         }
-        return server.getTextDocumentService().onTypeFormatting(params).get().stream().map(o -> new TextEditDto(o))
-                     .collect(Collectors.toList());
+        return requestExecutor.await("textDocument/onTypeFormatting", server.getTextDocumentService().onTypeFormatting(params))
+                              .stream()
+                              .map(o -> new TextEditDto(o))
+                              .collect(Collectors.toList());
 
     }
 
@@ -263,10 +303,12 @@ public class TextDocumentService {
     @Path("didOpen")
     @Consumes(MediaType.APPLICATION_JSON)
     public void didOpen(DidOpenTextDocumentParams openEvent) throws LanguageServerException {
+        diagnosticsMessenger.fileOpened(openEvent.getTextDocument().getUri());
         openEvent.getTextDocument().setUri(prefixURI(openEvent.getTextDocument().getUri()));
         LanguageServer server = getServer(openEvent.getTextDocument().getUri());
         if (server != null) {
             server.getTextDocumentService().didOpen(openEvent);
+            languageServerRegistry.documentOpened(server, openEvent.getTextDocument().getUri());
         }
     }
 
@@ -274,10 +316,12 @@ public class TextDocumentService {
     @Path("didClose")
     @Consumes(MediaType.APPLICATION_JSON)
     public void didClose(DidCloseTextDocumentParams closeEvent) throws LanguageServerException {
+        diagnosticsMessenger.fileClosed(closeEvent.getTextDocument().getUri());
         closeEvent.getTextDocument().setUri(prefixURI(closeEvent.getTextDocument().getUri()));
         LanguageServer server = getServer(closeEvent.getTextDocument().getUri());
         if (server != null) {
             server.getTextDocumentService().didClose(closeEvent);
+            languageServerRegistry.documentClosed(server, closeEvent.getTextDocument().getUri());
         }
     }
 
@@ -296,15 +340,36 @@ public class TextDocumentService {
     @Path("documentHighlight")
     @Consumes(MediaType.APPLICATION_JSON)
     public DocumentHighlight documentHighlight(TextDocumentPositionParams positionParams)
-            throws LanguageServerException, InterruptedException, ExecutionException {
+            throws LanguageServerException {
         positionParams.getTextDocument().setUri(prefixURI(positionParams.getTextDocument().getUri()));
         LanguageServer server = getServer(positionParams.getTextDocument().getUri());
         if (server != null) {
-            return server.getTextDocumentService().documentHighlight(positionParams).get().get(0);
+            List<? extends DocumentHighlight> highlights =
+                    requestExecutor.awaitLatest("textDocument/documentHighlight",
+                                                positionParams.getTextDocument().getUri(),
+                                                server.getTextDocumentService().documentHighlight(positionParams));
+            return highlights == null || highlights.isEmpty() ? null : highlights.get(0);
         }
         return null;
     }
 
+    /**
+     * Returns latest diagnostics of the file, diagnostics are pushed to the client only for opened files.
+     */
+    @GET
+    @Path("diagnostics")
+    @Produces(MediaType.APPLICATION_JSON)
+    public PublishDiagnosticsParamsDto getDiagnostics(@QueryParam("uri") String uri) {
+        PublishDiagnosticsParams diagnostics = diagnosticsMessenger.getDiagnostics(uri);
+        return diagnostics == null ? null : new PublishDiagnosticsParamsDto(diagnostics);
+    }
+
+    @GET
+    @Path("diagnostics/statistics")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, Map<String, Long>> getDiagnosticsStatistics() {
+        return diagnosticsMessenger.getStatistics();
+    }
 
     private LanguageServer getServer(String uri) throws LanguageServerException {
         return languageServerRegistry.findServer(uri);
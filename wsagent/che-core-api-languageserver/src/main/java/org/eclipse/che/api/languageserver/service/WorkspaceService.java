@@ -28,7 +28,6 @@ import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
@@ -42,11 +41,13 @@ import static java.util.Collections.emptyList;
 @Singleton
 @Path("languageserver/workspace")
 public class WorkspaceService {
-    private LanguageServerRegistry registry;
+    private LanguageServerRegistry        registry;
+    private LanguageServerRequestExecutor requestExecutor;
 
     @Inject
-    public WorkspaceService(LanguageServerRegistry registry) {
+    public WorkspaceService(LanguageServerRegistry registry, LanguageServerRequestExecutor requestExecutor) {
         this.registry = registry;
+        this.requestExecutor = requestExecutor;
     }
 
     @POST
@@ -54,15 +55,20 @@ public class WorkspaceService {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public List<? extends SymbolInformationDto> documentSymbol(ExtendedWorkspaceSymbolParams workspaceSymbolParams)
-            throws ExecutionException,
-                   InterruptedException,
-                   LanguageServerException {
+            throws LanguageServerException {
         LanguageServer server = getServer(TextDocumentService.prefixURI(workspaceSymbolParams.getFileUri()));
         if (server == null) {
             return emptyList();
         }
 
-        List<? extends SymbolInformation> informations = server.getWorkspaceService().symbol(workspaceSymbolParams).get();
+        List<? extends SymbolInformation> informations =
+                requestExecutor.awaitLatest("workspace/symbol",
+                                            workspaceSymbolParams.getFileUri(),
+                                            server.getWorkspaceService().symbol(workspaceSymbolParams));
+        if (informations == null) {
+            // superseded by the next search
+            return emptyList();
+        }
         informations.forEach(o -> {
             Location location = o.getLocation();
             location.setUri(TextDocumentService.removePrefixUri(location.getUri()));
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.languageserver.messager;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class PublishDiagnosticsParamsMessengerTest {
+
+    private static final String PATH = "/project/src/index.ts";
+
+    private PublishDiagnosticsParamsMessenger messenger;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        messenger = new PublishDiagnosticsParamsMessenger(new EventService(), 0);
+    }
+
+    @Test
+    public void shouldKeepDiagnosticsOfNotOpenedFile() throws Exception {
+        messenger.onEvent("typescript", createParams("error"));
+
+        Map<String, Long> statistics = messenger.getStatistics().get("typescript");
+        assertEquals(statistics.get("received"), Long.valueOf(1));
+        assertEquals(statistics.get("deferred"), Long.valueOf(1));
+        assertEquals(statistics.get("sent"), Long.valueOf(0));
+        assertNotNull(messenger.getDiagnostics(PATH));
+    }
+
+    @Test
+    public void shouldSendDiagnosticsOfOpenedFile() throws Exception {
+        messenger.fileOpened(PATH);
+
+        messenger.onEvent("typescript", createParams("error"));
+
+        assertEquals(messenger.getStatistics().get("typescript").get("sent"), Long.valueOf(1));
+    }
+
+    @Test
+    public void shouldNotSendUnchangedDiagnostics() throws Exception {
+        messenger.fileOpened(PATH);
+
+        messenger.onEvent("typescript", createParams("error"));
+        messenger.onEvent("typescript", createParams("error"));
+        messenger.onEvent("typescript", createParams("another error"));
+
+        Map<String, Long> statistics = messenger.getStatistics().get("typescript");
+        assertEquals(statistics.get("sent"), Long.valueOf(2));
+        assertEquals(statistics.get("suppressed"), Long.valueOf(1));
+    }
+
+    @Test
+    public void shouldSendStoredDiagnosticsWhenFileIsOpened() throws Exception {
+        messenger.onEvent("typescript", createParams("error"));
+
+        messenger.fileOpened(PATH);
+        messenger.fileClosed(PATH);
+        messenger.fileOpened(PATH);
+
+        assertEquals(messenger.getStatistics().get("typescript").get("sent"), Long.valueOf(2));
+    }
+
+    @Test
+    public void shouldSendUnchangedDiagnosticsWhenFileIsOpenedAgain() throws Exception {
+        messenger.fileOpened(PATH);
+        messenger.onEvent("typescript", createParams("error"));
+
+        // the client is reloaded, so the file is opened without being closed
+        messenger.fileOpened(PATH);
+
+        Map<String, Long> statistics = messenger.getStatistics().get("typescript");
+        assertEquals(statistics.get("sent"), Long.valueOf(2));
+        assertEquals(statistics.get("suppressed"), Long.valueOf(0));
+    }
+
+    @Test
+    public void shouldForgetFileClosedInAllEditors() throws Exception {
+        messenger.fileOpened(PATH);
+        messenger.fileOpened(PATH);
+
+        messenger.fileClosed(PATH);
+        assertTrue(messenger.isOpened(PATH));
+        messenger.fileClosed(PATH);
+        assertFalse(messenger.isOpened(PATH));
+        messenger.fileClosed(PATH);
+        assertFalse(messenger.isOpened(PATH));
+    }
+
+    @Test
+    public void shouldForgetEmptyDiagnosticsOfNotOpenedFile() throws Exception {
+        messenger.onEvent("typescript", createParams("error"));
+
+        PublishDiagnosticsParams empty = createParams("error");
+        empty.setDiagnostics(Collections.emptyList());
+        messenger.onEvent("typescript", empty);
+
+        assertNull(messenger.getDiagnostics(PATH));
+    }
+
+    private static PublishDiagnosticsParams createParams(String message) {
+        Diagnostic diagnostic = new Diagnostic();
+        diagnostic.setMessage(message);
+        diagnostic.setSeverity(DiagnosticSeverity.Error);
+        diagnostic.setRange(new Range(new Position(1, 0), new Position(1, 5)));
+        PublishDiagnosticsParams params = new PublishDiagnosticsParams();
+        params.setUri("file:///projects" + PATH);
+        params.setDiagnostics(Collections.singletonList(diagnostic));
+        return params;
+    }
+}
@@ -25,17 +25,20 @@ import org.testng.annotations.Test;
 
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 
 /**
@@ -101,4 +104,86 @@ public class LanguageServerRegistryImplTest {
         verify(initializer).initialize(eq(languageServerLauncher), eq(PROJECT_PATH));
         verify(registry).onServerInitialized(eq(languageServer), eq(serverCapabilities), eq(languageDescription), eq(PROJECT_PATH));
     }
+
+    @Test
+    public void shouldNotInitializeServerTwiceForTheSameProject() throws Exception {
+        registry.findServer(PREFIX + FILE_PATH);
+        registry.findServer(PREFIX + FILE_PATH);
+
+        verify(initializer).initialize(eq(languageServerLauncher), eq(PROJECT_PATH));
+    }
+
+    @Test
+    public void shouldLaunchSingleServerForAllProjectsIfMultiRootIsSupported() throws Exception {
+        when(languageServerLauncher.isMultiRootSupported()).thenReturn(true);
+        doReturn("/2").when(registry).extractProjectPath("/projects/2/test.txt");
+
+        LanguageServer first = registry.findServer(PREFIX + FILE_PATH);
+        LanguageServer second = registry.findServer(PREFIX + "/projects/2/test.txt");
+
+        assertEquals(first, languageServer);
+        assertEquals(second, languageServer);
+        verify(initializer).initialize(eq(languageServerLauncher), eq(LanguageServerRegistryImpl.PROJECT_FOLDER_PATH));
+        verify(initializer, never()).initialize(any(LanguageServerLauncher.class), eq(PROJECT_PATH));
+        assertEquals(registry.getRunningServers().size(), 1);
+    }
+
+    @Test
+    public void shouldShutdownLeastRecentlyUsedServerWhenLimitIsReached() throws Exception {
+        LanguageServer anotherServer = mock(LanguageServer.class);
+        registry = spy(new LanguageServerRegistryImpl(Collections.singleton(languageServerLauncher), null, initializer, 1, 0, false));
+        doReturn(PROJECT_PATH).when(registry).extractProjectPath(FILE_PATH);
+        doReturn("/2").when(registry).extractProjectPath("/projects/2/test.txt");
+        when(initializer.initialize(any(LanguageServerLauncher.class), eq("/2"))).thenReturn(anotherServer);
+
+        registry.findServer(PREFIX + FILE_PATH);
+        LanguageServer server = registry.findServer(PREFIX + "/projects/2/test.txt");
+
+        assertEquals(server, anotherServer);
+        verify(initializer).shutdown(languageServer);
+        assertEquals(registry.getRunningServers().size(), 1);
+        assertEquals(registry.getRunningServers().get(0).getServer(), anotherServer);
+    }
+
+    @Test
+    public void shouldNotShutdownRecentlyUsedServers() throws Exception {
+        registry = spy(new LanguageServerRegistryImpl(Collections.singleton(languageServerLauncher), null, initializer, 0, 1, false));
+        doReturn(PROJECT_PATH).when(registry).extractProjectPath(FILE_PATH);
+        registry.findServer(PREFIX + FILE_PATH);
+
+        registry.shutdownIdleServers();
+
+        verify(initializer, never()).shutdown(languageServer);
+        assertEquals(registry.getRunningServers().size(), 1);
+    }
+
+    @Test
+    public void shouldShutdownIdleServers() throws Exception {
+        registry = spy(new LanguageServerRegistryImpl(Collections.singleton(languageServerLauncher), null, initializer, 0, 1, false));
+        doReturn(PROJECT_PATH).when(registry).extractProjectPath(FILE_PATH);
+        registry.findServer(PREFIX + FILE_PATH);
+
+        registry.shutdownIdleServers(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2));
+
+        verify(initializer).shutdown(languageServer);
+        assertTrue(registry.getRunningServers().isEmpty());
+    }
+
+    @Test
+    public void shouldNotShutdownIdleServerWithOpenDocuments() throws Exception {
+        registry = spy(new LanguageServerRegistryImpl(Collections.singleton(languageServerLauncher), null, initializer, 0, 1, false));
+        doReturn(PROJECT_PATH).when(registry).extractProjectPath(FILE_PATH);
+        LanguageServer server = registry.findServer(PREFIX + FILE_PATH);
+        registry.documentOpened(server, PREFIX + FILE_PATH);
+
+        registry.shutdownIdleServers(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2));
+
+        verify(initializer, never()).shutdown(languageServer);
+        assertEquals(registry.getRunningServers().size(), 1);
+
+        registry.documentClosed(server, PREFIX + FILE_PATH);
+        registry.shutdownIdleServers(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2));
+
+        verify(initializer).shutdown(languageServer);
+    }
 }
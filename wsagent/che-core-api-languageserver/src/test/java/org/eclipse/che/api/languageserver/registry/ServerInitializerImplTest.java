@@ -25,13 +25,16 @@ import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -80,4 +83,19 @@ public class ServerInitializerImplTest {
         assertEquals(server, languageServer);
         verify(observer).onServerInitialized(eq(server), any(ServerCapabilities.class), eq(languageDescription), eq("/path"));
     }
+
+    @Test
+    public void shouldAskServerToExitOnlyAfterItIsShutDown() throws Exception {
+        CompletableFuture<Object> shutdownFuture = new CompletableFuture<>();
+        when(server.shutdown()).thenReturn(shutdownFuture);
+
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(() -> initializer.shutdown(server));
+
+        verify(server, timeout(2000)).shutdown();
+        verify(server, never()).exit();
+
+        shutdownFuture.complete(null);
+        shutdown.get(2, TimeUnit.SECONDS);
+        verify(server).exit();
+    }
 }
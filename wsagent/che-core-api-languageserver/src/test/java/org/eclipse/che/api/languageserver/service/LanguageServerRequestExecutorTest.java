@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.languageserver.service;
+
+import org.eclipse.che.api.languageserver.exception.LanguageServerException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class LanguageServerRequestExecutorTest {
+
+    private LanguageServerRequestExecutor executor;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        executor = new LanguageServerRequestExecutor(200);
+    }
+
+    @Test
+    public void shouldReturnResultOfCompletedRequest() throws Exception {
+        String result = executor.await("textDocument/hover", CompletableFuture.completedFuture("hover"));
+
+        assertEquals(result, "hover");
+        assertEquals(executor.getMetrics("textDocument/hover").getLatencyHistogram().get(0), Long.valueOf(1));
+    }
+
+    @Test(expectedExceptions = LanguageServerException.class)
+    public void shouldCancelRequestWhenTimeoutIsReached() throws Exception {
+        CompletableFuture<String> request = new CompletableFuture<>();
+
+        try {
+            executor.await("textDocument/hover", request);
+        } finally {
+            assertTrue(request.isCancelled());
+            assertEquals(executor.getMetrics("textDocument/hover").getTimeouts(), 1);
+        }
+    }
+
+    @Test(expectedExceptions = LanguageServerException.class)
+    public void shouldWrapFailureOfRequest() throws Exception {
+        CompletableFuture<String> request = new CompletableFuture<>();
+        request.completeExceptionally(new IllegalStateException("failed"));
+
+        executor.await("textDocument/hover", request);
+    }
+
+    @Test
+    public void shouldCancelSupersededRequest() throws Exception {
+        CompletableFuture<String> first = new CompletableFuture<>();
+        ExecutorService thread = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> firstResult = thread.submit(() -> executor.awaitLatest("textDocument/completion", "file:///projects/a", first));
+            // wait until the first request is registered
+            while (executor.getMetrics("textDocument/completion") == null) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+
+            String second = executor.awaitLatest("textDocument/completion",
+                                                 "file:///projects/a",
+                                                 CompletableFuture.completedFuture("second"));
+
+            assertEquals(second, "second");
+            assertNull(firstResult.get(1, TimeUnit.SECONDS));
+            assertTrue(first.isCancelled());
+            assertEquals(executor.getMetrics("textDocument/completion").getCancellations(), 1);
+        } finally {
+            thread.shutdownNow();
+        }
+    }
+}
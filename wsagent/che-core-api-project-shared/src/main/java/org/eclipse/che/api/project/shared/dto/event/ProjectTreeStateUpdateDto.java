@@ -12,6 +12,12 @@ package org.eclipse.che.api.project.shared.dto.event;
 
 import org.eclipse.che.dto.shared.DTO;
 
+/**
+ * Change of the project tree pushed to the client.
+ * <p/>
+ * Updates sent to the client are numbered sequentially, so the client is able to detect
+ * missed updates by the gap in versions and to re-read the project tree in such case.
+ */
 @DTO
 public interface ProjectTreeStateUpdateDto {
     String getPath();
@@ -21,4 +27,19 @@ public interface ProjectTreeStateUpdateDto {
     FileWatcherEventType getType();
 
     ProjectTreeStateUpdateDto withType(FileWatcherEventType type);
+
+    /** Returns type of the item, {@code file} or {@code folder}, or {@code null} if the item doesn't exist anymore. */
+    String getItemType();
+
+    ProjectTreeStateUpdateDto withItemType(String itemType);
+
+    /** Returns time of the last modification of the item or 0 if the item doesn't exist anymore. */
+    long getModified();
+
+    ProjectTreeStateUpdateDto withModified(long modified);
+
+    /** Returns sequence number of the update, numbers start from 1 for each client. */
+    long getVersion();
+
+    ProjectTreeStateUpdateDto withVersion(long version);
 }
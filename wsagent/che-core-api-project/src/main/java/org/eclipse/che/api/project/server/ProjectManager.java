@@ -45,20 +45,25 @@ import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
 import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.nio.file.PathMatcher;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -84,6 +89,10 @@ public class ProjectManager {
     private final ExecutorService                executor;
     private final WorkspaceProjectsSyncer        workspaceProjectsHolder;
     private final FileWatcherManager             fileWatcherManager;
+    private final int                            importParallelism;
+
+    /** Number of operations which need the file watcher to be suspended, imports may run concurrently. */
+    private int watcherSuspensions;
 
     @Inject
     public ProjectManager(VirtualFileSystemProvider vfsProvider,
@@ -94,7 +103,8 @@ public class ProjectManager {
                           FileWatcherNotificationHandler fileWatcherNotificationHandler,
                           FileTreeWatcher fileTreeWatcher,
                           WorkspaceProjectsSyncer workspaceProjectsHolder,
-                          FileWatcherManager fileWatcherManager) throws ServerException {
+                          FileWatcherManager fileWatcherManager,
+                          @Named("che.project.import.parallel_projects") int importParallelism) throws ServerException {
         this.vfs = vfsProvider.getVirtualFileSystem();
         this.projectTypeRegistry = projectTypeRegistry;
         this.projectRegistry = projectRegistry;
@@ -104,6 +114,7 @@ public class ProjectManager {
         this.fileWatcher = fileTreeWatcher;
         this.workspaceProjectsHolder = workspaceProjectsHolder;
         this.fileWatcherManager = fileWatcherManager;
+        this.importParallelism = importParallelism;
 
         executor = Executors.newFixedThreadPool(1 + Runtime.getRuntime().availableProcessors(),
                                                 new ThreadFactoryBuilder().setNameFormat("ProjectService-IndexingThread-")
@@ -130,6 +141,18 @@ public class ProjectManager {
         }
     }
 
+    private synchronized void suspendWatcher() {
+        if (watcherSuspensions++ == 0) {
+            fileWatcherManager.suspend();
+        }
+    }
+
+    private synchronized void resumeWatcher() {
+        if (--watcherSuspensions == 0) {
+            fileWatcherManager.resume();
+        }
+    }
+
     @PreDestroy
     void stop() {
         executor.shutdownNow();
@@ -213,7 +236,7 @@ public class ProjectManager {
                                                                                                             ForbiddenException,
                                                                                                             ServerException,
                                                                                                             NotFoundException {
-        fileWatcherManager.suspend();
+        suspendWatcher();
         try {
             // path and primary type is mandatory
             if (projectConfig.getPath() == null) {
@@ -231,7 +254,7 @@ public class ProjectManager {
 
             return doCreateProject(projectConfig, options);
         } finally {
-            fileWatcherManager.resume();
+            resumeWatcher();
         }
     }
 
@@ -302,7 +325,7 @@ public class ProjectManager {
     public List<RegisteredProject> createBatchProjects(List<? extends NewProjectConfig> projectConfigList, boolean rewrite, ProjectOutputLineConsumerFactory lineConsumerFactory)
             throws BadRequestException, ConflictException, ForbiddenException, NotFoundException, ServerException, UnauthorizedException,
                    IOException {
-        fileWatcherManager.suspend();
+        suspendWatcher();
         try {
             final List<RegisteredProject> projects = new ArrayList<>(projectConfigList.size());
             validateProjectConfigurations(projectConfigList, rewrite);
@@ -312,6 +335,9 @@ public class ProjectManager {
                     .sorted((config1, config2) -> config1.getPath().compareTo(config2.getPath()))
                     .collect(Collectors.toList());
 
+            // sources of the projects which are not nested into each other are imported concurrently
+            final Map<String, Future<FolderEntry>> imports = importSourcesConcurrently(sortedConfigList, rewrite, lineConsumerFactory);
+
             for (NewProjectConfig projectConfig : sortedConfigList) {
                 RegisteredProject registeredProject;
                 final String pathToProject = projectConfig.getPath();
@@ -319,7 +345,10 @@ public class ProjectManager {
                 //creating project(by config or by importing source code)
                 try {
                     final SourceStorage sourceStorage = projectConfig.getSource();
-                    if (sourceStorage != null && !isNullOrEmpty(sourceStorage.getLocation())) {
+                    final Future<FolderEntry> imported = imports.remove(pathToProject);
+                    if (imported != null) {
+                        registerImportedProject(normalizePath(pathToProject), getImportedFolder(imported), sourceStorage);
+                    } else if (sourceStorage != null && !isNullOrEmpty(sourceStorage.getLocation())) {
                         doImportProject(pathToProject, sourceStorage, rewrite, lineConsumerFactory.setProjectName(projectConfig.getPath()));
                     } else if (!isVirtualFileExist(pathToProject)) {
                         registeredProject = doCreateProject(projectConfig, projectConfig.getOptions());
@@ -329,6 +358,7 @@ public class ProjectManager {
                 } catch (Exception e) {
                     if (!isVirtualFileExist(pathToProject)) {//project folder is absent
                         rollbackCreatingBatchProjects(projects);
+                        rollbackImports(imports);
                         throw e;
                     }
                 }
@@ -353,7 +383,102 @@ public class ProjectManager {
             return projects;
 
         } finally {
-            fileWatcherManager.resume();
+            resumeWatcher();
+        }
+    }
+
+    /**
+     * Starts concurrent import of the sources of the projects which have no parent project in the batch,
+     * nested projects are created after their parents. Returns the imports by the project paths, the map is empty
+     * if concurrent import is disabled or there is nothing to import concurrently.
+     */
+    private Map<String, Future<FolderEntry>> importSourcesConcurrently(List<NewProjectConfig> sortedConfigList,
+                                                                       boolean rewrite,
+                                                                       ProjectOutputLineConsumerFactory lineConsumerFactory) {
+        final List<NewProjectConfig> toImport = new ArrayList<>();
+        for (NewProjectConfig projectConfig : sortedConfigList) {
+            final SourceStorage sourceStorage = projectConfig.getSource();
+            if (sourceStorage == null || isNullOrEmpty(sourceStorage.getLocation())) {
+                continue;
+            }
+            final String path = normalizePath(projectConfig.getPath());
+            // the parent project is created before the nested one even without the sources to import
+            if (sortedConfigList.stream().noneMatch(parent -> path.startsWith(normalizePath(parent.getPath()) + '/'))) {
+                toImport.add(projectConfig);
+            }
+        }
+        if (importParallelism <= 1 || toImport.size() < 2) {
+            return new HashMap<>();
+        }
+
+        final ExecutorService importExecutor =
+                Executors.newFixedThreadPool(Math.min(importParallelism, toImport.size()),
+                                             new ThreadFactoryBuilder().setNameFormat("ProjectImporter-%d")
+                                                                       .setUncaughtExceptionHandler(
+                                                                               LoggingUncaughtExceptionHandler.getInstance())
+                                                                       .setDaemon(true)
+                                                                       .build());
+        try {
+            final Map<String, Future<FolderEntry>> imports = new LinkedHashMap<>();
+            for (NewProjectConfig projectConfig : toImport) {
+                final String path = projectConfig.getPath();
+                final LineConsumerFactory projectLineConsumerFactory = lineConsumerFactory.forProject(path);
+                imports.put(path, importExecutor.submit(ThreadLocalPropagateContext.wrap(
+                        () -> importSources(normalizePath(path), projectConfig.getSource(), rewrite, projectLineConsumerFactory))));
+            }
+            return imports;
+        } finally {
+            // submitted imports are completed, the threads are stopped after that
+            importExecutor.shutdown();
+        }
+    }
+
+    private static FolderEntry getImportedFolder(Future<FolderEntry> imported) throws ServerException,
+                                                                                      IOException,
+                                                                                      ForbiddenException,
+                                                                                      UnauthorizedException,
+                                                                                      ConflictException,
+                                                                                      NotFoundException {
+        try {
+            return imported.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("Import of the project sources is interrupted", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ServerException) {
+                throw (ServerException)cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException)cause;
+            } else if (cause instanceof ForbiddenException) {
+                throw (ForbiddenException)cause;
+            } else if (cause instanceof UnauthorizedException) {
+                throw (UnauthorizedException)cause;
+            } else if (cause instanceof ConflictException) {
+                throw (ConflictException)cause;
+            } else if (cause instanceof NotFoundException) {
+                throw (NotFoundException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new ServerException(cause.getLocalizedMessage(), cause);
+        }
+    }
+
+    /** Waits for the imports which are not registered yet and removes the imported sources. */
+    private void rollbackImports(Map<String, Future<FolderEntry>> imports) {
+        for (Future<FolderEntry> imported : imports.values()) {
+            try {
+                imported.get().getVirtualFile().delete();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // failed import removes its folder itself
+                LOG.debug(e.getLocalizedMessage());
+            }
         }
     }
 
@@ -457,11 +582,11 @@ public class ProjectManager {
                                                                                                              UnauthorizedException,
                                                                                                              ConflictException,
                                                                                                              NotFoundException {
-        fileWatcherManager.suspend();
+        suspendWatcher();
         try {
             return doImportProject(path, sourceStorage, rewrite, lineConsumerFactory);
         } finally {
-            fileWatcherManager.resume();
+            resumeWatcher();
         }
     }
 
@@ -472,16 +597,34 @@ public class ProjectManager {
                                                                                                                 UnauthorizedException,
                                                                                                                 ConflictException,
                                                                                                                 NotFoundException {
+        final String normalizePath = normalizePath(path);
+        final FolderEntry folder = importSources(normalizePath, sourceStorage, rewrite, lineConsumerFactory);
+        return registerImportedProject(normalizePath, folder, sourceStorage);
+    }
+
+    private static String normalizePath(String path) {
+        return (path.startsWith("/")) ? path : "/".concat(path);
+    }
+
+    /** Imports sources into the project folder, doesn't register the project, so it may be called concurrently. */
+    private FolderEntry importSources(String normalizePath,
+                                      SourceStorage sourceStorage,
+                                      boolean rewrite,
+                                      LineConsumerFactory lineConsumerFactory) throws ServerException,
+                                                                                      IOException,
+                                                                                      ForbiddenException,
+                                                                                      UnauthorizedException,
+                                                                                      ConflictException,
+                                                                                      NotFoundException {
         final ProjectImporter importer = importers.getImporter(sourceStorage.getType());
         if (importer == null) {
             throw new NotFoundException(format("Unable import sources project from '%s'. Sources type '%s' is not supported.",
                                                sourceStorage.getLocation(), sourceStorage.getType()));
         }
 
-        String normalizePath = (path.startsWith("/")) ? path : "/".concat(path);
         FolderEntry folder = asFolder(normalizePath);
         if (folder != null && !rewrite) {
-            throw new ConflictException(format("Project %s already exists ", path));
+            throw new ConflictException(format("Project %s already exists ", normalizePath));
         }
 
         if (folder == null) {
@@ -494,7 +637,11 @@ public class ProjectManager {
             folder.remove();
             throw e;
         }
+        return folder;
+    }
 
+    private RegisteredProject registerImportedProject(String normalizePath, FolderEntry folder, SourceStorage sourceStorage)
+            throws ServerException, NotFoundException {
         final String name = folder.getPath().getName();
         for (ProjectConfig project : workspaceProjectsHolder.getProjects()) {
             if (normalizePath.equals(project.getPath())) {
@@ -42,6 +42,11 @@ public class ProjectOutputLineConsumerFactory implements LineConsumerFactory {
         return this;
     }
 
+    /** Returns new factory for the given project, unlike {@link #setProjectName(String)} this factory is not changed. */
+    public ProjectOutputLineConsumerFactory forProject(String projectName) {
+        return new ProjectOutputLineConsumerFactory(projectName, workspaceId, delay);
+    }
+
     @Override
     public LineConsumer newLineConsumer() {
         return new ProjectImportOutputWSLineConsumer(projectName, workspaceId, delay);
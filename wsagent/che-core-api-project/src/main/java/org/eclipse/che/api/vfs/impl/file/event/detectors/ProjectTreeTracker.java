@@ -18,26 +18,44 @@ import org.eclipse.che.api.project.shared.dto.event.ProjectTreeTrackingOperation
 import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
 import org.slf4j.Logger;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
+import java.io.File;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
-import static com.google.common.collect.Sets.newConcurrentHashSet;
 import static java.util.stream.Collectors.toSet;
 import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
 import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
 import static org.eclipse.che.api.vfs.watcher.FileWatcherManager.EMPTY_CONSUMER;
+import static org.eclipse.che.api.vfs.watcher.FileWatcherUtils.toNormalPath;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 import static org.slf4j.LoggerFactory.getLogger;
 
+/**
+ * Pushes changes of the project tree to the clients which track it.
+ * <p/>
+ * Each update carries the metadata of the changed item, so the client is able to apply it without
+ * reading the tree, and the sequence number, so the client is able to detect missed updates.
+ * <p/>
+ * Deletion is reported with a delay: if an item with the same path is created in the meantime,
+ * e.g. the file is re-written by an editor, nothing is reported. A move is reported as a deletion
+ * and a creation, metadata of the deleted item isn't available anymore, so the moved item can't be
+ * reliably matched by name only.
+ * <p/>
+ * Sequence numbers and pending deletions of the client are dropped when it stops tracking
+ * all the paths, so a client which tracks the tree again gets the updates numbered from 1.
+ */
 @Singleton
 public class ProjectTreeTracker {
     private static final Logger LOG = getLogger(ProjectTreeTracker.class);
@@ -45,17 +63,26 @@ public class ProjectTreeTracker {
     private static final String OUTGOING_METHOD = "event:project-tree-state-changed";
     private static final String INCOMING_METHOD = "track:project-tree";
 
-    private final Map<String, Integer> watchIdRegistry = new HashMap<>();
-    private final Set<String>          timers          = newConcurrentHashSet();
+    static final long DELETE_DELAY_MS = 1_000L;
 
+    private final Map<String, Integer>                 watchIdRegistry  = new HashMap<>();
+    /** Deletions which are not reported yet, by endpoint and path. */
+    private final Map<String, Map<String, TimerTask>>  pendingDeletions = new ConcurrentHashMap<>();
+    /** Sequence numbers of the last updates sent to the endpoints. */
+    private final Map<String, Long>                    versions         = new HashMap<>();
+    private final Timer                                timer            = new Timer("ProjectTreeTracker", true);
 
     private final RequestTransmitter transmitter;
     private final FileWatcherManager fileWatcherManager;
+    private final Path               root;
 
     @Inject
-    public ProjectTreeTracker(FileWatcherManager fileWatcherManager, RequestTransmitter transmitter) {
+    public ProjectTreeTracker(FileWatcherManager fileWatcherManager,
+                              RequestTransmitter transmitter,
+                              @Named("che.user.workspaces.storage") File root) {
         this.fileWatcherManager = fileWatcherManager;
         this.transmitter = transmitter;
+        this.root = root.toPath().normalize().toAbsolutePath();
     }
 
     @Inject
@@ -86,16 +113,7 @@ public class ProjectTreeTracker {
                 case STOP: {
                     LOG.debug("Received project tree tracking operation STOP trigger.");
 
-                    Predicate<Entry<String, Integer>> isSubPath = it -> it.getKey().startsWith(path) && it.getKey().endsWith(endpointId);
-
-                    watchIdRegistry.entrySet()
-                                   .stream()
-                                   .filter(isSubPath)
-                                   .map(Entry::getKey)
-                                   .collect(toSet())
-                                   .stream()
-                                   .map(watchIdRegistry::remove)
-                                   .forEach(fileWatcherManager::unRegisterByPath);
+                    stopTracking(endpointId, path);
 
                     break;
                 }
@@ -122,14 +140,45 @@ public class ProjectTreeTracker {
         };
     }
 
-    private Consumer<String> getCreateOperation(String endpointId) {
+    @PreDestroy
+    public void stop() {
+        timer.cancel();
+    }
+
+    synchronized void stopTracking(String endpointId, String path) {
+        Predicate<Entry<String, Integer>> isSubPath = it -> it.getKey().startsWith(path) && it.getKey().endsWith(endpointId);
+
+        watchIdRegistry.entrySet()
+                       .stream()
+                       .filter(isSubPath)
+                       .map(Entry::getKey)
+                       .collect(toSet())
+                       .stream()
+                       .map(watchIdRegistry::remove)
+                       .forEach(fileWatcherManager::unRegisterByPath);
+
+        if (watchIdRegistry.keySet().stream().noneMatch(it -> it.endsWith(endpointId))) {
+            versions.remove(endpointId);
+            Map<String, TimerTask> deletions = pendingDeletions.remove(endpointId);
+            if (deletions != null) {
+                deletions.values().forEach(TimerTask::cancel);
+            }
+        }
+    }
+
+    Consumer<String> getCreateOperation(String endpointId) {
         return it -> {
-            if (timers.contains(it)) {
-                timers.remove(it);
-            } else {
-                ProjectTreeStateUpdateDto params = newDto(ProjectTreeStateUpdateDto.class).withPath(it).withType(CREATED);
-                transmitter.transmitOneToNone(endpointId, OUTGOING_METHOD, params);
+            Map<String, TimerTask> deletions = pendingDeletions.get(endpointId);
+            if (deletions != null) {
+                TimerTask deletion = deletions.remove(it);
+                if (deletion != null) {
+                    // item is re-created, so nothing has changed for the client
+                    deletion.cancel();
+                    return;
+                }
             }
+
+            transmit(endpointId, newUpdate(it).withType(CREATED));
         };
     }
 
@@ -137,20 +186,39 @@ public class ProjectTreeTracker {
         return EMPTY_CONSUMER;
     }
 
-    private Consumer<String> getDeleteOperation(String endpointId) {
+    Consumer<String> getDeleteOperation(String endpointId) {
         return it -> {
-            timers.add(it);
-            new Timer().schedule(new TimerTask() {
+            Map<String, TimerTask> deletions = pendingDeletions.computeIfAbsent(endpointId, key -> new ConcurrentHashMap<>());
+            TimerTask deletion = new TimerTask() {
                 @Override
                 public void run() {
-                    if (timers.contains(it)) {
-                        timers.remove(it);
-                        ProjectTreeStateUpdateDto params = newDto(ProjectTreeStateUpdateDto.class).withPath(it).withType(DELETED);
-                        transmitter.transmitOneToNone(endpointId, OUTGOING_METHOD, params);
+                    if (deletions.remove(it, this)) {
+                        transmit(endpointId, newDto(ProjectTreeStateUpdateDto.class).withPath(it).withType(DELETED));
                     }
-
                 }
-            }, 1_000L);
+            };
+            TimerTask previous = deletions.put(it, deletion);
+            if (previous != null) {
+                previous.cancel();
+            }
+            timer.schedule(deletion, DELETE_DELAY_MS);
         };
     }
+
+    private ProjectTreeStateUpdateDto newUpdate(String path) {
+        ProjectTreeStateUpdateDto update = newDto(ProjectTreeStateUpdateDto.class).withPath(path);
+        File file = toNormalPath(root, path).toFile();
+        if (file.exists()) {
+            update.withItemType(file.isDirectory() ? "folder" : "file")
+                  .withModified(file.lastModified());
+        }
+        return update;
+    }
+
+    /** Numbers and sends the update, updates are sent to the endpoint in order of their numbers. */
+    private synchronized void transmit(String endpointId, ProjectTreeStateUpdateDto update) {
+        long version = versions.getOrDefault(endpointId, 0L) + 1;
+        versions.put(endpointId, version);
+        transmitter.transmitOneToNone(endpointId, OUTGOING_METHOD, update.withVersion(version));
+    }
 }
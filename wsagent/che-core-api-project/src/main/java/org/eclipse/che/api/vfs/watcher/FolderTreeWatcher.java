@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.watcher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.che.api.vfs.watcher.FileWatcherUtils.toInternalPath;
+import static org.eclipse.che.api.vfs.watcher.FileWatcherUtils.toNormalPath;
+
+/**
+ * Watches all the folders accepted by the folder matcher and reports the changes made inside of them.
+ * <p/>
+ * The folders found by the file tree walker are watched by the path matcher, while the folders
+ * created between two walks are registered by path as soon as their creation is reported, so the
+ * changes made inside of them are not missed. Folders registered by path are unregistered when
+ * they are removed.
+ */
+public class FolderTreeWatcher {
+
+    private final FileWatcherManager           fileWatcherManager;
+    private final Path                         root;
+    private final PathMatcher                  folderMatcher;
+    private final Consumer<Path>               changeConsumer;
+    private final Consumer<Path>               deleteConsumer;
+    private final ConcurrentMap<Path, Integer> createdFolders;
+
+    private int watchId = -1;
+
+    /**
+     * @param root
+     *         root of the file system watched by the file watcher manager
+     * @param folderMatcher
+     *         accepts the normalized absolute paths of the folders which should be watched
+     * @param changeConsumer
+     *         consumes the normalized absolute path of each created or modified item
+     * @param deleteConsumer
+     *         consumes the normalized absolute path of each deleted item
+     */
+    public FolderTreeWatcher(FileWatcherManager fileWatcherManager,
+                             Path root,
+                             PathMatcher folderMatcher,
+                             Consumer<Path> changeConsumer,
+                             Consumer<Path> deleteConsumer) {
+        this.fileWatcherManager = fileWatcherManager;
+        this.root = root;
+        this.folderMatcher = folderMatcher;
+        this.changeConsumer = changeConsumer;
+        this.deleteConsumer = deleteConsumer;
+        this.createdFolders = new ConcurrentHashMap<>();
+    }
+
+    public void start() {
+        watchId = fileWatcherManager.registerByMatcher(this::isWatchedByMatcher, this::onCreate, this::onChange, this::onDelete);
+    }
+
+    public void stop() {
+        if (watchId != -1) {
+            fileWatcherManager.unRegisterByMatcher(watchId);
+            watchId = -1;
+        }
+        createdFolders.keySet().forEach(this::unwatchCreatedFolder);
+    }
+
+    private void onCreate(String path) {
+        final Path created = toNormalPath(root, path);
+        if (folderMatcher.matches(created)) {
+            // the folder is watched before the change is reported, so nothing created inside it in between is missed
+            try (Stream<Path> tree = Files.walk(created)) {
+                tree.filter(folderMatcher::matches).collect(toList()).forEach(this::watchCreatedFolder);
+            } catch (IOException | RuntimeException ignored) {
+                // the folder is removed meanwhile or it is watched after the next walk of the file tree
+            }
+        }
+        changeConsumer.accept(created);
+    }
+
+    private void onChange(String path) {
+        changeConsumer.accept(toNormalPath(root, path));
+    }
+
+    private void onDelete(String path) {
+        final Path deleted = toNormalPath(root, path);
+        createdFolders.keySet()
+                      .stream()
+                      .filter(folder -> folder.startsWith(deleted))
+                      .collect(toList())
+                      .forEach(this::unwatchCreatedFolder);
+        deleteConsumer.accept(deleted);
+    }
+
+    private void watchCreatedFolder(Path folder) {
+        createdFolders.computeIfAbsent(folder, key -> fileWatcherManager.registerByPath(toInternalPath(root, key),
+                                                                                        this::onCreate,
+                                                                                        this::onChange,
+                                                                                        this::onDelete));
+    }
+
+    private void unwatchCreatedFolder(Path folder) {
+        final Integer id = createdFolders.remove(folder);
+        if (id != null) {
+            fileWatcherManager.unRegisterByPath(id);
+        }
+    }
+
+    /** Folders which are already registered after their creation are not registered once again by the matcher. */
+    private boolean isWatchedByMatcher(Path path) {
+        return !createdFolders.containsKey(path) && folderMatcher.matches(path);
+    }
+}
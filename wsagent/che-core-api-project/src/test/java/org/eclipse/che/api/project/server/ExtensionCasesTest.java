@@ -62,7 +62,7 @@ public class ExtensionCasesTest extends WsAgentTestBase {
         projectRegistry.initProjects();
 
         pm = new ProjectManager(vfsProvider, projectTypeRegistry, projectRegistry, projectHandlerRegistry,
-                                null, fileWatcherNotificationHandler, fileTreeWatcher, workspaceHolder, fileWatcherManager);
+                                null, fileWatcherNotificationHandler, fileTreeWatcher, workspaceHolder, fileWatcherManager, 4);
         pm.initWatcher();
 
 
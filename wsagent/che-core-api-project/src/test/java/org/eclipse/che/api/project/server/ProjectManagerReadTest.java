@@ -76,7 +76,7 @@ public class ProjectManagerReadTest extends WsAgentTestBase {
         projectRegistry.initProjects();
 
         pm = new ProjectManager(vfsProvider, projectTypeRegistry, projectRegistry, projectHandlerRegistry,
-                                null, fileWatcherNotificationHandler, fileTreeWatcher, workspaceHolder, fileWatcherManager);
+                                null, fileWatcherNotificationHandler, fileTreeWatcher, workspaceHolder, fileWatcherManager, 4);
         pm.initWatcher();
     }
 
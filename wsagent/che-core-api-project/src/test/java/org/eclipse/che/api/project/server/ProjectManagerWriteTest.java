@@ -45,6 +45,9 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -133,6 +136,132 @@ public class ProjectManagerWriteTest extends WsAgentTestBase {
         checkChildrenFor(projectFolder2, children2);
     }
 
+    @Test
+    public void testCreateBatchProjectsImportsSourcesConcurrently() throws Exception {
+        final String importType = "concurrentImportType";
+        // each import waits for the other one, so they complete only if they are performed concurrently
+        final CountDownLatch importsStarted = new CountDownLatch(2);
+        importerRegistry.register(new ProjectImporter() {
+            @Override
+            public String getId() {
+                return importType;
+            }
+
+            @Override
+            public boolean isInternal() {
+                return false;
+            }
+
+            @Override
+            public String getDescription() {
+                return "importer";
+            }
+
+            @Override
+            public void importSources(FolderEntry baseFolder, SourceStorage storage) throws ConflictException,
+                                                                                            ServerException,
+                                                                                            ForbiddenException {
+                importSources(baseFolder, storage, LineConsumerFactory.NULL);
+            }
+
+            @Override
+            public void importSources(FolderEntry baseFolder,
+                                      SourceStorage storage,
+                                      LineConsumerFactory importOutputConsumerFactory) throws ConflictException,
+                                                                                              ServerException,
+                                                                                              ForbiddenException {
+                importsStarted.countDown();
+                try {
+                    if (!importsStarted.await(10, TimeUnit.SECONDS)) {
+                        throw new ServerException("Sources are not imported concurrently");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ServerException(e);
+                }
+                baseFolder.createFile("file.txt", new byte[0]);
+            }
+
+            @Override
+            public ImporterCategory getCategory() {
+                return ProjectImporter.ImporterCategory.ARCHIVE;
+            }
+        });
+
+        final List<NewProjectConfig> configs = new ArrayList<>(2);
+        for (String name : Arrays.asList("testProject1", "testProject2")) {
+            final SourceStorageDto source = DtoFactory.newDto(SourceStorageDto.class).withLocation("someLocation").withType(importType);
+            configs.add(createProjectConfigObject(name, "/" + name, BaseProjectType.ID, source));
+        }
+
+        pm.createBatchProjects(configs, false, new ProjectOutputLineConsumerFactory("ws", 300));
+
+        checkProjectExist("/testProject1");
+        checkProjectExist("/testProject2");
+        assertNotNull(projectRegistry.getProject("/testProject1").getBaseFolder().getChild("file.txt"));
+        assertNotNull(projectRegistry.getProject("/testProject2").getBaseFolder().getChild("file.txt"));
+    }
+
+    @Test
+    public void testCreateBatchProjectsImportsNestedProjectAfterParentIsCreated() throws Exception {
+        final String importType = "threadRecordingImportType";
+        final Map<String, String> importThreads = new ConcurrentHashMap<>();
+        importerRegistry.register(new ProjectImporter() {
+            @Override
+            public String getId() {
+                return importType;
+            }
+
+            @Override
+            public boolean isInternal() {
+                return false;
+            }
+
+            @Override
+            public String getDescription() {
+                return "importer";
+            }
+
+            @Override
+            public void importSources(FolderEntry baseFolder, SourceStorage storage) throws ConflictException,
+                                                                                            ServerException,
+                                                                                            ForbiddenException {
+                importSources(baseFolder, storage, LineConsumerFactory.NULL);
+            }
+
+            @Override
+            public void importSources(FolderEntry baseFolder,
+                                      SourceStorage storage,
+                                      LineConsumerFactory importOutputConsumerFactory) throws ConflictException,
+                                                                                              ServerException,
+                                                                                              ForbiddenException {
+                importThreads.put(baseFolder.getPath().toString(), Thread.currentThread().getName());
+                baseFolder.createFile("file.txt", new byte[0]);
+            }
+
+            @Override
+            public ImporterCategory getCategory() {
+                return ProjectImporter.ImporterCategory.ARCHIVE;
+            }
+        });
+        final SourceStorageDto source = DtoFactory.newDto(SourceStorageDto.class).withLocation("someLocation").withType(importType);
+
+        final List<NewProjectConfig> configs = new ArrayList<>(3);
+        // the parent project has no sources, it is created from the config
+        configs.add(createProjectConfigObject("parent", "/parent", BaseProjectType.ID, null));
+        configs.add(createProjectConfigObject("child", "/parent/child", BaseProjectType.ID, source));
+        configs.add(createProjectConfigObject("other", "/other", BaseProjectType.ID, source));
+        configs.add(createProjectConfigObject("another", "/another", BaseProjectType.ID, source));
+
+        pm.createBatchProjects(configs, false, new ProjectOutputLineConsumerFactory("ws", 300));
+
+        checkProjectExist("/parent");
+        checkProjectExist("/parent/child");
+        assertNotNull(projectRegistry.getProject("/parent/child").getBaseFolder().getChild("file.txt"));
+        assertTrue(importThreads.get("/other").startsWith("ProjectImporter-"));
+        assertFalse(importThreads.get("/parent/child").startsWith("ProjectImporter-"));
+    }
+
     @Test
     public void testCreateProjectWhenSourceCodeIsNotReachable() throws Exception {
         final String projectPath = "/testProject";
@@ -250,7 +250,7 @@ public class ProjectServiceTest {
 
         pm = new ProjectManager(vfsProvider, ptRegistry, projectRegistry, phRegistry,
                                 importerRegistry, fileWatcherNotificationHandler, fileTreeWatcher, workspaceHolder,
-                                fileWatcherManager);
+                                fileWatcherManager, 4);
         pm.initWatcher();
 
         HttpJsonRequest httpJsonRequest = mock(HttpJsonRequest.class, new SelfReturningAnswer());
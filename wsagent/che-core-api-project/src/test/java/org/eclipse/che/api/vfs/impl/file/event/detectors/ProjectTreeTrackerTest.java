@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file.event.detectors;
+
+import org.eclipse.che.api.core.jsonrpc.RequestTransmitter;
+import org.eclipse.che.api.project.shared.dto.event.ProjectTreeStateUpdateDto;
+import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.util.List;
+
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ProjectTreeTrackerTest {
+    private static final String ENDPOINT = "endpoint";
+    private static final String METHOD   = "event:project-tree-state-changed";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private RequestTransmitter transmitter;
+    private ProjectTreeTracker tracker;
+
+    @Before
+    public void setUp() throws Exception {
+        transmitter = mock(RequestTransmitter.class);
+        tracker = new ProjectTreeTracker(mock(FileWatcherManager.class), transmitter, temporaryFolder.getRoot());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        tracker.stop();
+    }
+
+    @Test
+    public void shouldSendCreatedItemWithMetadataAndVersion() throws Exception {
+        File folder = temporaryFolder.newFolder("project", "src");
+
+        tracker.getCreateOperation(ENDPOINT).accept("/project/src");
+        tracker.getCreateOperation(ENDPOINT).accept("/project/pom.xml");
+
+        List<ProjectTreeStateUpdateDto> updates = captureUpdates(2);
+        assertEquals(CREATED, updates.get(0).getType());
+        assertEquals("folder", updates.get(0).getItemType());
+        assertEquals(folder.lastModified(), updates.get(0).getModified());
+        assertEquals(1, updates.get(0).getVersion());
+        assertEquals(2, updates.get(1).getVersion());
+    }
+
+    @Test
+    public void shouldNotSendAnythingWhenItemIsRecreated() throws Exception {
+        tracker.getDeleteOperation(ENDPOINT).accept("/project/pom.xml");
+        tracker.getCreateOperation(ENDPOINT).accept("/project/pom.xml");
+
+        verify(transmitter, after(ProjectTreeTracker.DELETE_DELAY_MS * 2).never())
+                .transmitOneToNone(anyString(), anyString(), anyObject());
+    }
+
+    @Test
+    public void shouldSendCreationAndDeletionWhenItemWithSameNameIsCreatedInAnotherFolder() throws Exception {
+        temporaryFolder.newFolder("project", "main");
+        temporaryFolder.newFile("project/main/App.java");
+
+        tracker.getDeleteOperation(ENDPOINT).accept("/project/src/App.java");
+        tracker.getCreateOperation(ENDPOINT).accept("/project/main/App.java");
+
+        List<ProjectTreeStateUpdateDto> updates = captureUpdates(2);
+        assertEquals(CREATED, updates.get(0).getType());
+        assertEquals("/project/main/App.java", updates.get(0).getPath());
+        assertEquals("file", updates.get(0).getItemType());
+        assertEquals(DELETED, updates.get(1).getType());
+        assertEquals("/project/src/App.java", updates.get(1).getPath());
+    }
+
+    @Test
+    public void shouldForgetVersionAndPendingDeletionsWhenClientStopsTracking() throws Exception {
+        tracker.getCreateOperation(ENDPOINT).accept("/project/pom.xml");
+        tracker.getDeleteOperation(ENDPOINT).accept("/project/pom.xml");
+
+        tracker.stopTracking(ENDPOINT, "/");
+        tracker.getCreateOperation(ENDPOINT).accept("/project/README.md");
+
+        List<ProjectTreeStateUpdateDto> updates = captureUpdates(2);
+        assertEquals(CREATED, updates.get(1).getType());
+        assertEquals(1, updates.get(1).getVersion());
+        verify(transmitter, after(ProjectTreeTracker.DELETE_DELAY_MS * 2).times(2))
+                .transmitOneToNone(anyString(), anyString(), anyObject());
+    }
+
+    @Test
+    public void shouldSendDeletionAfterDelay() throws Exception {
+        tracker.getDeleteOperation(ENDPOINT).accept("/project/pom.xml");
+
+        verify(transmitter, never()).transmitOneToNone(anyString(), anyString(), anyObject());
+        List<ProjectTreeStateUpdateDto> updates = captureUpdates(1);
+        assertEquals(DELETED, updates.get(0).getType());
+        assertEquals("/project/pom.xml", updates.get(0).getPath());
+    }
+
+    private List<ProjectTreeStateUpdateDto> captureUpdates(int count) {
+        ArgumentCaptor<ProjectTreeStateUpdateDto> captor = ArgumentCaptor.forClass(ProjectTreeStateUpdateDto.class);
+        verify(transmitter, timeout(ProjectTreeTracker.DELETE_DELAY_MS * 5).times(count))
+                .transmitOneToNone(eq(ENDPOINT), eq(METHOD), captor.capture());
+        return captor.getAllValues();
+    }
+}
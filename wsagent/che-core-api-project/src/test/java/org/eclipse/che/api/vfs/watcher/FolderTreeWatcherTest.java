@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.watcher;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link FolderTreeWatcher}
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class FolderTreeWatcherTest {
+
+    @Rule
+    public TemporaryFolder rootFolder = new TemporaryFolder();
+
+    @Mock
+    FileWatcherManager manager;
+    @Mock
+    Consumer<Path>     change;
+    @Mock
+    Consumer<Path>     delete;
+
+    Path              root;
+    FolderTreeWatcher watcher;
+    PathMatcher       matcher;
+    Consumer<String>  onCreate;
+    Consumer<String>  onDelete;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        root = rootFolder.getRoot().toPath().normalize().toAbsolutePath();
+        // hidden folders are not watched
+        watcher = new FolderTreeWatcher(manager,
+                                        root,
+                                        path -> Files.isDirectory(path) && !path.getFileName().toString().startsWith("."),
+                                        change,
+                                        delete);
+        watcher.start();
+
+        ArgumentCaptor<PathMatcher> matcherCaptor = ArgumentCaptor.forClass(PathMatcher.class);
+        ArgumentCaptor<Consumer> createCaptor = ArgumentCaptor.forClass(Consumer.class);
+        ArgumentCaptor<Consumer> deleteCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(manager).registerByMatcher(matcherCaptor.capture(), createCaptor.capture(), any(Consumer.class), deleteCaptor.capture());
+        matcher = matcherCaptor.getValue();
+        onCreate = createCaptor.getValue();
+        onDelete = deleteCaptor.getValue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldWatchCreatedFolderTreeByPath() throws Exception {
+        Files.createDirectories(root.resolve("lib/api"));
+        Files.createDirectories(root.resolve("lib/.hidden"));
+
+        onCreate.accept("/lib");
+
+        verify(manager).registerByPath(eq("/lib"), any(Consumer.class), any(Consumer.class), any(Consumer.class));
+        verify(manager).registerByPath(eq("/lib/api"), any(Consumer.class), any(Consumer.class), any(Consumer.class));
+        verify(manager, never()).registerByPath(eq("/lib/.hidden"), any(Consumer.class), any(Consumer.class), any(Consumer.class));
+        verify(change).accept(root.resolve("lib"));
+        assertFalse(matcher.matches(root.resolve("lib")));
+        assertTrue(matcher.matches(root));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldNotWatchCreatedFileByPath() throws Exception {
+        Files.createFile(root.resolve("file.txt"));
+
+        onCreate.accept("/file.txt");
+
+        verify(manager, never()).registerByPath(anyString(), any(Consumer.class), any(Consumer.class), any(Consumer.class));
+        verify(change).accept(root.resolve("file.txt"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldStopWatchingRemovedFolder() throws Exception {
+        when(manager.registerByPath(anyString(), any(Consumer.class), any(Consumer.class), any(Consumer.class))).thenReturn(7);
+        Files.createDirectories(root.resolve("lib"));
+        onCreate.accept("/lib");
+
+        Files.delete(root.resolve("lib"));
+        onDelete.accept("/lib");
+
+        verify(manager).unRegisterByPath(7);
+        verify(delete).accept(root.resolve("lib"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldStopWatchingAllFoldersOnStop() throws Exception {
+        when(manager.registerByMatcher(any(PathMatcher.class), any(Consumer.class), any(Consumer.class), any(Consumer.class))).thenReturn(3);
+        when(manager.registerByPath(anyString(), any(Consumer.class), any(Consumer.class), any(Consumer.class))).thenReturn(7);
+        watcher.start();
+        Files.createDirectories(root.resolve("lib"));
+        onCreate.accept("/lib");
+
+        watcher.stop();
+
+        verify(manager).unRegisterByMatcher(3);
+        verify(manager).unRegisterByPath(7);
+    }
+}
@@ -18,9 +18,6 @@ import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.Session;
 
-import org.apache.commons.io.filefilter.DirectoryFileFilter;
-import org.apache.commons.io.filefilter.IOFileFilter;
-import org.apache.commons.io.filefilter.TrueFileFilter;
 import org.eclipse.che.api.core.ErrorCodes;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.UnauthorizedException;
@@ -105,6 +102,8 @@ import org.eclipse.jgit.api.errors.TransportException;
 import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.diff.DiffFormatter;
 import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheBuilder;
+import org.eclipse.jgit.dircache.DirCacheEntry;
 import org.eclipse.jgit.lib.BatchingProgressMonitor;
 import org.eclipse.jgit.lib.ConfigConstants;
 import org.eclipse.jgit.lib.Constants;
@@ -255,6 +254,11 @@ class JGitConnection implements GitConnection {
     private final GitUserResolver   userResolver;
     private final Repository        repository;
 
+    private JGitStatusCache statusCache;
+    private int             diffMaxEntries                = JGitDiffPage.DEFAULT_MAX_ENTRIES;
+    private int             diffMaxFileBytes              = JGitDiffPage.DEFAULT_MAX_FILE_BYTES;
+    private int             diffRenameDetectionMaxEntries = JGitDiffPage.DEFAULT_RENAME_DETECTION_MAX_ENTRIES;
+
     @Inject
     JGitConnection(Repository repository, CredentialsLoader credentialsLoader, SshKeyProvider sshKeyProvider,
                    GitUserResolver userResolver) {
@@ -479,13 +483,31 @@ class JGitConnection implements GitConnection {
                                            .setRemote(params.getRemoteName())
                                            .setCloneSubmodules(params.isRecursive())
                                            .setURI(remoteUri);
+            String branch = null;
             if (params.getBranchesToFetch().isEmpty()) {
                 cloneCommand.setCloneAllBranches(true);
             } else {
                 cloneCommand.setBranchesToClone(params.getBranchesToFetch());
+                if (params.getBranchesToFetch().size() == 1) {
+                    // single branch clone, check out the cloned branch
+                    branch = Repository.shortenRefName(params.getBranchesToFetch().get(0));
+                    cloneCommand.setBranch(Constants.R_HEADS + branch);
+                }
+            }
+            List<String> sparseCheckoutPaths = params.getSparseCheckoutPaths();
+            if (!sparseCheckoutPaths.isEmpty()) {
+                if (branch == null) {
+                    branch = getDefaultBranch(remoteUri, params.getUsername(), params.getPassword());
+                }
+                // only the sparse checkout paths are written to the working tree after the clone
+                cloneCommand.setNoCheckout(true);
             }
 
             LineConsumer lineConsumer = lineConsumerFactory.newLineConsumer();
+            if (params.getDepth() > 0) {
+                // JGit doesn't support shallow clones
+                writeLine(lineConsumer, "Shallow clone is not supported, the whole history of the cloned branches is fetched");
+            }
             cloneCommand.setProgressMonitor(new BatchingProgressMonitor() {
                 @Override
                 protected void onUpdate(String taskName, int workCurr) {
@@ -515,6 +537,9 @@ class JGitConnection implements GitConnection {
             });
 
             ((Git)executeRemoteCommand(remoteUri, cloneCommand, params.getUsername(), params.getPassword())).close();
+            if (!sparseCheckoutPaths.isEmpty() && branch != null) {
+                sparseCheckout(params.getRemoteName(), branch, sparseCheckoutPaths, lineConsumer);
+            }
 
             StoredConfig repositoryConfig = getRepository().getConfig();
             GitUser gitUser = getUser();
@@ -647,7 +672,7 @@ class JGitConnection implements GitConnection {
 
     @Override
     public DiffPage diff(DiffParams params) throws GitException {
-        return new JGitDiffPage(params, repository);
+        return new JGitDiffPage(params, repository, diffMaxEntries, diffMaxFileBytes, diffRenameDetectionMaxEntries);
     }
 
     @Override
@@ -1522,6 +1547,9 @@ class JGitConnection implements GitConnection {
             throw new GitException("Not a git repository");
         }
         String branchName = getCurrentBranch();
+        if (statusCache != null) {
+            return new JGitStatusImpl(branchName, statusCache.getStatus(repository, getGit()), format);
+        }
         return new JGitStatusImpl(branchName, getGit().status(), format);
     }
 
@@ -1651,6 +1679,18 @@ class JGitConnection implements GitConnection {
         this.lineConsumerFactory = lineConsumerFactory;
     }
 
+    /** Sets the cache of the status results, the status is computed on each call if the cache is not set. */
+    void setStatusCache(JGitStatusCache statusCache) {
+        this.statusCache = statusCache;
+    }
+
+    /** Sets the limits of the raw diff output, see {@link JGitDiffPage}. */
+    void setDiffLimits(int maxEntries, int maxFileBytes, int renameDetectionMaxEntries) {
+        this.diffMaxEntries = maxEntries;
+        this.diffMaxFileBytes = maxFileBytes;
+        this.diffRenameDetectionMaxEntries = renameDetectionMaxEntries;
+    }
+
 
     private Git getGit() {
         if (git != null) {
@@ -1671,39 +1711,99 @@ class JGitConnection implements GitConnection {
 
     @Override
     public void cloneWithSparseCheckout(String directory, String remoteUrl) throws GitException, UnauthorizedException {
-        //TODO rework this code when jgit will support sparse-checkout. Tracked issue: https://bugs.eclipse.org/bugs/show_bug.cgi?id=383772
         if (directory == null) {
             throw new GitException("Subdirectory for sparse-checkout is not specified");
         }
-        clone(CloneParams.create(remoteUrl));
-        final String sourcePath = getWorkingDir().getPath();
-        final String keepDirectoryPath = sourcePath + "/" + directory;
-        IOFileFilter folderFilter = new DirectoryFileFilter() {
-            public boolean accept(File dir) {
-                String directoryPath = dir.getPath();
-                return !(directoryPath.startsWith(keepDirectoryPath) || directoryPath.startsWith(sourcePath + "/.git"));
-            }
-        };
-        Collection<File> files = org.apache.commons.io.FileUtils.listFilesAndDirs(getWorkingDir(), TrueFileFilter.INSTANCE, folderFilter);
+        clone(CloneParams.create(remoteUrl).withSparseCheckoutPaths(Collections.singletonList(directory)));
+    }
+
+    /**
+     * Returns the branch which HEAD of the remote repository refers to or {@code null} if the remote repository is empty.
+     * As well as git, prefers master when several branches refer to the same commit as HEAD.
+     */
+    @SuppressWarnings("unchecked")
+    private String getDefaultBranch(String remoteUrl, @Nullable String username, @Nullable String password)
+            throws GitException, GitAPIException, UnauthorizedException {
+        Collection<Ref> refs = (Collection<Ref>)executeRemoteCommand(remoteUrl,
+                                                                     Git.lsRemoteRepository().setRemote(remoteUrl),
+                                                                     username,
+                                                                     password);
+        ObjectId head = refs.stream()
+                            .filter(ref -> Constants.HEAD.equals(ref.getName()))
+                            .map(Ref::getObjectId)
+                            .findFirst()
+                            .orElse(null);
+        if (head == null) {
+            return null;
+        }
+        List<String> branches = refs.stream()
+                                    .filter(ref -> ref.getName().startsWith(Constants.R_HEADS) && head.equals(ref.getObjectId()))
+                                    .map(ref -> Repository.shortenRefName(ref.getName()))
+                                    .collect(Collectors.toList());
+        if (branches.contains(Constants.MASTER)) {
+            return Constants.MASTER;
+        }
+        return branches.isEmpty() ? null : branches.get(0);
+    }
+
+    /**
+     * Creates local branch which tracks the cloned one and checks out only the given paths.
+     * All files are added to the index, files which are not checked out are marked as assume-valid,
+     * so they are not reported as deleted.
+     */
+    private void sparseCheckout(String remoteName, String branch, List<String> paths, LineConsumer lineConsumer)
+            throws IOException, GitAPIException, GitException {
+        Ref remoteBranch = repository.exactRef(Constants.R_REMOTES + remoteName + '/' + branch);
+        if (remoteBranch == null) {
+            throw new GitException(format("Branch %s is not found in the cloned repository", branch));
+        }
+        RevCommit commit;
+        try (RevWalk revWalk = new RevWalk(repository)) {
+            commit = revWalk.parseCommit(remoteBranch.getObjectId());
+        }
+
+        RefUpdate branchUpdate = repository.updateRef(Constants.R_HEADS + branch);
+        branchUpdate.setNewObjectId(commit);
+        branchUpdate.forceUpdate();
+        RefUpdate headUpdate = repository.updateRef(Constants.HEAD);
+        headUpdate.disableRefLog();
+        headUpdate.link(Constants.R_HEADS + branch);
+        StoredConfig config = repository.getConfig();
+        config.setString(ConfigConstants.CONFIG_BRANCH_SECTION, branch, ConfigConstants.CONFIG_KEY_REMOTE, remoteName);
+        config.setString(ConfigConstants.CONFIG_BRANCH_SECTION, branch, ConfigConstants.CONFIG_KEY_MERGE, Constants.R_HEADS + branch);
+        config.save();
+
+        List<String> sparsePaths = paths.stream()
+                                        .map(path -> path.replaceAll("^/+|/+$", ""))
+                                        .collect(Collectors.toList());
+        DirCache index = repository.lockDirCache();
+        try (TreeWalk treeWalk = new TreeWalk(repository)) {
+            DirCacheBuilder builder = index.builder();
+            treeWalk.addTree(commit.getTree());
+            treeWalk.setRecursive(true);
+            while (treeWalk.next()) {
+                String path = treeWalk.getPathString();
+                DirCacheEntry entry = new DirCacheEntry(path);
+                entry.setFileMode(treeWalk.getFileMode(0));
+                entry.setObjectId(treeWalk.getObjectId(0));
+                entry.setAssumeValid(sparsePaths.stream().noneMatch(sparsePath -> path.equals(sparsePath)
+                                                                                  || path.startsWith(sparsePath + '/')));
+                builder.add(entry);
+            }
+            builder.commit();
+        } finally {
+            index.unlock();
+        }
+
+        writeLine(lineConsumer, "Checking out " + String.join(", ", sparsePaths));
+        getGit().checkout().setStartPoint(commit).addPaths(sparsePaths).call();
+    }
+
+    private static void writeLine(LineConsumer lineConsumer, String line) {
         try {
-            DirCache index = getRepository().lockDirCache();
-            int sourcePathLength = sourcePath.length() + 1;
-            files.stream()
-                 .filter(File::isFile)
-                 .forEach(file -> index.getEntry(file.getPath().substring(sourcePathLength)).setAssumeValid(true));
-            index.write();
-            index.commit();
-            for (File file : files) {
-                if (keepDirectoryPath.startsWith(file.getPath())) {
-                    continue;
-                }
-                if (file.exists()) {
-                    FileUtils.delete(file, FileUtils.RECURSIVE);
-                }
-            }
+            lineConsumer.writeLine(line);
         } catch (IOException exception) {
-            String message = generateExceptionMessage(exception);
-            throw new GitException(message, exception);
+            LOG.error(exception.getMessage(), exception);
         }
     }
 
@@ -23,6 +23,7 @@ import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.transport.UserAgent;
 
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
@@ -44,12 +45,47 @@ public class JGitConnectionFactory extends GitConnectionFactory {
     private final CredentialsLoader credentialsLoader;
     private final SshKeyProvider    sshKeyProvider;
     private final GitUserResolver   userResolver;
+    private final JGitStatusCache   statusCache;
+    private final int               diffMaxEntries;
+    private final int               diffMaxFileBytes;
+    private final int               diffRenameDetectionMaxEntries;
 
-    @Inject
     public JGitConnectionFactory(CredentialsLoader credentialsLoader, SshKeyProvider sshKeyProvider, GitUserResolver userResolver) throws GitException {
+        this(credentialsLoader,
+             sshKeyProvider,
+             userResolver,
+             null,
+             JGitDiffPage.DEFAULT_MAX_ENTRIES,
+             JGitDiffPage.DEFAULT_MAX_FILE_BYTES,
+             JGitDiffPage.DEFAULT_RENAME_DETECTION_MAX_ENTRIES);
+    }
+
+    /**
+     * @param statusCache
+     *         cache of the status results, may be {@code null} then the status is computed on each call
+     * @param diffMaxEntries
+     *         max number of the files shown in the raw diff, {@code 0} means no limit
+     * @param diffMaxFileBytes
+     *         max size of the diff of a single file in the raw diff, {@code 0} means no limit
+     * @param diffRenameDetectionMaxEntries
+     *         renames are not detected in the diff when more files are changed, {@code 0} means no limit
+     */
+    @Inject
+    public JGitConnectionFactory(CredentialsLoader credentialsLoader,
+                                 SshKeyProvider sshKeyProvider,
+                                 GitUserResolver userResolver,
+                                 JGitStatusCache statusCache,
+                                 @Named("che.git.diff.max_entries") int diffMaxEntries,
+                                 @Named("che.git.diff.max_file_bytes") int diffMaxFileBytes,
+                                 @Named("che.git.diff.rename_detection.max_entries") int diffRenameDetectionMaxEntries)
+            throws GitException {
         this.credentialsLoader = credentialsLoader;
         this.sshKeyProvider = sshKeyProvider;
         this.userResolver = userResolver;
+        this.statusCache = statusCache;
+        this.diffMaxEntries = diffMaxEntries;
+        this.diffMaxFileBytes = diffMaxFileBytes;
+        this.diffRenameDetectionMaxEntries = diffRenameDetectionMaxEntries;
 
         UserAgent.set(USER_AGENT);
         // Install the all-trusting trust manager
@@ -81,6 +117,8 @@ public class JGitConnectionFactory extends GitConnectionFactory {
         Repository gitRepo = createRepository(workDir);
         JGitConnection conn = new JGitConnection(gitRepo, credentialsLoader, sshKeyProvider, userResolver);
         conn.setOutputLineConsumerFactory(outputPublisherFactory);
+        conn.setStatusCache(statusCache);
+        conn.setDiffLimits(diffMaxEntries, diffMaxFileBytes, diffRenameDetectionMaxEntries);
         return conn;
     }
 
@@ -14,6 +14,7 @@ package org.eclipse.che.git.impl.jgit;
 import org.eclipse.che.api.git.DiffPage;
 import org.eclipse.che.api.git.params.DiffParams;
 import org.eclipse.che.api.git.shared.DiffType;
+import org.eclipse.jgit.diff.AbbreviatedObjectId;
 import org.eclipse.jgit.diff.ContentSource;
 import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.diff.DiffEntry.ChangeType;
@@ -21,6 +22,7 @@ import org.eclipse.jgit.diff.DiffFormatter;
 import org.eclipse.jgit.diff.RenameDetector;
 import org.eclipse.jgit.dircache.DirCache;
 import org.eclipse.jgit.dircache.DirCacheIterator;
+import org.eclipse.jgit.errors.MissingObjectException;
 import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.NullProgressMonitor;
 import org.eclipse.jgit.lib.ObjectId;
@@ -37,6 +39,7 @@ import org.eclipse.jgit.treewalk.filter.TreeFilter;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
@@ -44,26 +47,56 @@ import java.util.Collections;
 import java.util.List;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
 import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Contains information about difference between two commits, commit and working tree,
  * working tree and index, commit and index.
+ * <p/>
+ * Raw diff is written file by file, so the client gets the first files before the whole diff is formatted.
+ * The number of files in the raw diff and the size of the diff of a single file are limited, files which are
+ * not shown or shown partially are marked with lines starting with {@code "\ "}, as git does for the
+ * missing new line. Rename detection is skipped when there are too many changed files.
  *
  * @author Andrey Parfonov
  */
 class JGitDiffPage extends DiffPage {
+    static final int DEFAULT_MAX_ENTRIES                  = 3000;
+    static final int DEFAULT_MAX_FILE_BYTES               = 1024 * 1024;
+    static final int DEFAULT_RENAME_DETECTION_MAX_ENTRIES = 5000;
+
     private final DiffParams params;
     private final Repository repository;
+    private final int        maxEntries;
+    private final int        maxFileBytes;
+    private final int        renameDetectionMaxEntries;
 
     JGitDiffPage(DiffParams params, Repository repository) {
+        this(params, repository, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_FILE_BYTES, DEFAULT_RENAME_DETECTION_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries
+     *         max number of the files shown in the raw diff, {@code 0} means no limit
+     * @param maxFileBytes
+     *         max size of the diff of a single file in the raw diff, {@code 0} means no limit
+     * @param renameDetectionMaxEntries
+     *         renames are not detected when more files are changed, {@code 0} means no limit
+     */
+    JGitDiffPage(DiffParams params, Repository repository, int maxEntries, int maxFileBytes, int renameDetectionMaxEntries) {
         this.params = params;
         this.repository = repository;
+        this.maxEntries = maxEntries;
+        this.maxFileBytes = maxFileBytes;
+        this.renameDetectionMaxEntries = renameDetectionMaxEntries;
     }
 
     @Override
     public final void writeTo(OutputStream out) throws IOException {
-        DiffFormatter formatter = new DiffFormatter(new BufferedOutputStream(out));
+        LimitedOutputStream limitedOut = new LimitedOutputStream(new BufferedOutputStream(out));
+        DiffFormatter formatter = new DiffFormatter(limitedOut);
         formatter.setRepository(repository);
         List<String> rawFileFilter = params.getFileFilter();
         TreeFilter pathFilter = (rawFileFilter != null && rawFileFilter.size() > 0)
@@ -94,7 +127,7 @@ class JGitDiffPage extends DiffPage {
             } else if (type == DiffType.NAME_STATUS) {
                 writeNamesAndStatus(diff, out);
             } else {
-                writeRawDiff(diff, formatter);
+                writeRawDiff(diff, formatter, limitedOut);
             }
         } finally {
             formatter.close();
@@ -151,14 +184,7 @@ class JGitDiffPage extends DiffPage {
             // renames by formatter and do it later.
             formatter.setDetectRenames(false);
             diff = formatter.scan(iterA, iterB);
-            if (!params.isNoRenames()) {
-                // Detect renames.
-                RenameDetector renameDetector = createRenameDetector();
-                ContentSource.Pair sourcePairReader = new ContentSource.Pair(ContentSource.create(reader),
-                                                                             ContentSource.create(iterB));
-                renameDetector.addAll(diff);
-                diff = renameDetector.compute(sourcePairReader, NullProgressMonitor.INSTANCE);
-            }
+            diff = detectRenames(diff, new ContentSource.Pair(ContentSource.create(reader), ContentSource.create(iterB)));
         } finally {
             reader.close();
             if (dirCache != null) {
@@ -202,14 +228,7 @@ class JGitDiffPage extends DiffPage {
             // renames by formatter and do it later.
             formatter.setDetectRenames(false);
             diff = formatter.scan(iterA, iterB);
-            if (!params.isNoRenames()) {
-                // Detect renames.
-                RenameDetector renameDetector = createRenameDetector();
-                ContentSource.Pair sourcePairReader = new ContentSource.Pair(ContentSource.create(reader),
-                                                                             ContentSource.create(iterB));
-                renameDetector.addAll(diff);
-                diff = renameDetector.compute(sourcePairReader, NullProgressMonitor.INSTANCE);
-            }
+            diff = detectRenames(diff, new ContentSource.Pair(ContentSource.create(reader), ContentSource.create(iterB)));
         }
         return diff;
     }
@@ -247,16 +266,10 @@ class JGitDiffPage extends DiffPage {
             CanonicalTreeParser iterA = new CanonicalTreeParser();
             iterA.reset(reader, treeA);
             DirCacheIterator iterB = new DirCacheIterator(dirCache);
-            if (!params.isNoRenames()) {
-                // Use embedded RenameDetector it works well with index and
-                // revision history.
-                formatter.setDetectRenames(true);
-                int renameLimit = params.getRenameLimit();
-                if (renameLimit > 0) {
-                    formatter.getRenameDetector().setRenameLimit(renameLimit);
-                }
-            }
+            // Renames are detected after the scan, so the detection can be skipped when there are too many changes.
+            formatter.setDetectRenames(false);
             diff = formatter.scan(iterA, iterB);
+            diff = detectRenames(diff, new ContentSource.Pair(ContentSource.create(reader), ContentSource.create(reader)));
         } finally {
             if (dirCache != null) {
                 dirCache.unlock();
@@ -303,16 +316,21 @@ class JGitDiffPage extends DiffPage {
             treeB = revWalkB.parseTree(commitB);
         }
 
-        if (!params.isNoRenames()) {
-            // Use embedded RenameDetector it works well with index and revision
-            // history.
-            formatter.setDetectRenames(true);
-            int renameLimit = params.getRenameLimit();
-            if (renameLimit > 0) {
-                formatter.getRenameDetector().setRenameLimit(renameLimit);
-            }
+        // Renames are detected after the scan, so the detection can be skipped when there are too many changes.
+        formatter.setDetectRenames(false);
+        List<DiffEntry> diff = formatter.scan(treeA, treeB);
+        try (ObjectReader reader = repository.newObjectReader()) {
+            return detectRenames(diff, new ContentSource.Pair(ContentSource.create(reader), ContentSource.create(reader)));
         }
-        return formatter.scan(treeA, treeB);
+    }
+
+    private List<DiffEntry> detectRenames(List<DiffEntry> diff, ContentSource.Pair contentSource) throws IOException {
+        if (params.isNoRenames() || (renameDetectionMaxEntries > 0 && diff.size() > renameDetectionMaxEntries)) {
+            return diff;
+        }
+        RenameDetector renameDetector = createRenameDetector();
+        renameDetector.addAll(diff);
+        return renameDetector.compute(contentSource, NullProgressMonitor.INSTANCE);
     }
 
     private RenameDetector createRenameDetector() {
@@ -324,16 +342,63 @@ class JGitDiffPage extends DiffPage {
         return renameDetector;
     }
 
-    private void writeRawDiff(List<DiffEntry> diff, DiffFormatter formatter) throws IOException {
-        formatter.format(diff);
+    private void writeRawDiff(List<DiffEntry> diff, DiffFormatter formatter, LimitedOutputStream out) throws IOException {
+        try (ObjectReader reader = repository.newObjectReader()) {
+            for (int i = 0; i < diff.size(); i++) {
+                if (maxEntries > 0 && i == maxEntries) {
+                    out.writeMarker(format("\\ Diff is truncated, %d more files are changed", diff.size() - i));
+                    break;
+                }
+                DiffEntry entry = diff.get(i);
+                long size = Math.max(getSize(reader, entry.getOldId(), entry.getOldPath()),
+                                     getSize(reader, entry.getNewId(), entry.getNewPath()));
+                if (maxFileBytes > 0 && size > maxFileBytes) {
+                    // don't load the content of the huge files
+                    out.write(format("diff --git a/%s b/%s\n", getOldPath(entry), getNewPath(entry)).getBytes(UTF_8));
+                    out.writeMarker(format("\\ File is too large to show the difference, its size is %d bytes", size));
+                } else {
+                    out.setLimit(maxFileBytes);
+                    try {
+                        formatter.format(entry);
+                    } catch (LimitExceededException e) {
+                        out.writeMarker(format("\\ Diff of the file is truncated, it is larger than %d bytes", maxFileBytes));
+                    } finally {
+                        out.setLimit(0);
+                    }
+                }
+                // let the client get the diff of this file right away
+                formatter.flush();
+            }
+        }
         formatter.flush();
     }
 
+    private long getSize(ObjectReader reader, AbbreviatedObjectId id, String path) throws IOException {
+        if (id == null || !id.isComplete() || DiffEntry.DEV_NULL.equals(path) || ObjectId.zeroId().equals(id.toObjectId())) {
+            return 0;
+        }
+        try {
+            return reader.getObjectSize(id.toObjectId(), ObjectReader.OBJ_ANY);
+        } catch (MissingObjectException e) {
+            // content of the working tree file is not in the repository
+            return new File(repository.getWorkTree(), path).length();
+        }
+    }
+
+    private static String getOldPath(DiffEntry entry) {
+        return entry.getChangeType() == ChangeType.ADD ? entry.getNewPath() : entry.getOldPath();
+    }
+
+    private static String getNewPath(DiffEntry entry) {
+        return entry.getChangeType() == ChangeType.DELETE ? entry.getOldPath() : entry.getNewPath();
+    }
+
     private void writeNames(List<DiffEntry> diff, OutputStream out) throws IOException {
         PrintWriter writer = new PrintWriter(out);
-        for (DiffEntry de : diff) {
+        for (int i = 0; i < diff.size(); i++) {
+            DiffEntry de = diff.get(i);
             writer.print((de.getChangeType() == ChangeType.DELETE ? de.getOldPath() : de.getNewPath()) +
-                         (diff.size() != diff.indexOf(de) + 1 ? lineSeparator() : ""));
+                         (diff.size() != i + 1 ? lineSeparator() : ""));
         }
         writer.flush();
     }
@@ -341,19 +406,79 @@ class JGitDiffPage extends DiffPage {
     private void writeNamesAndStatus(List<DiffEntry> diff, OutputStream out) throws IOException {
         PrintWriter writer = new PrintWriter(out);
         int diffSize = diff.size();
-        for (DiffEntry de : diff) {
+        for (int i = 0; i < diffSize; i++) {
+            DiffEntry de = diff.get(i);
+            String separator = diffSize != i + 1 ? lineSeparator() : "";
             if (de.getChangeType() == ChangeType.ADD) {
-                writer.print("A\t" + de.getNewPath() + (diffSize != diff.indexOf(de) + 1 ? lineSeparator() : ""));
+                writer.print("A\t" + de.getNewPath() + separator);
             } else if (de.getChangeType() == ChangeType.DELETE) {
-                writer.print("D\t" + de.getOldPath() + (diffSize != diff.indexOf(de) + 1 ? lineSeparator() : ""));
+                writer.print("D\t" + de.getOldPath() + separator);
             } else if (de.getChangeType() == ChangeType.MODIFY) {
-                writer.print("M\t" + de.getNewPath() + (diffSize != diff.indexOf(de) + 1 ? lineSeparator() : ""));
+                writer.print("M\t" + de.getNewPath() + separator);
             } else if (de.getChangeType() == ChangeType.COPY) {
-                writer.print("C\t" + de.getOldPath() + '\t' + de.getNewPath() + (diffSize != diff.indexOf(de) + 1 ? lineSeparator() : ""));
+                writer.print("C\t" + de.getOldPath() + '\t' + de.getNewPath() + separator);
             } else if (de.getChangeType() == ChangeType.RENAME) {
-                writer.print("R\t" + de.getOldPath() + '\t' + de.getNewPath() + (diffSize != diff.indexOf(de) + 1 ? lineSeparator() : ""));
+                writer.print("R\t" + de.getOldPath() + '\t' + de.getNewPath() + separator);
             }
         }
         writer.flush();
     }
+
+    /** Thrown when the diff of a single file exceeds the limit. */
+    private static class LimitExceededException extends IOException {
+        LimitExceededException() {
+            super("Diff of the file is too large");
+        }
+    }
+
+    /** Stream which limits the number of bytes written until the limit is reset. */
+    private static class LimitedOutputStream extends FilterOutputStream {
+        private int     limit;
+        private int     written;
+        private boolean atLineStart = true;
+
+        LimitedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        /** Sets the limit of bytes which may be written from now on, {@code 0} means no limit. */
+        void setLimit(int limit) {
+            this.limit = limit;
+            this.written = 0;
+        }
+
+        /** Writes the marker line which is not counted in the limit. */
+        void writeMarker(String marker) throws IOException {
+            if (!atLineStart) {
+                out.write('\n');
+            }
+            out.write(marker.getBytes(UTF_8));
+            out.write('\n');
+            atLineStart = true;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte)b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            if (limit > 0 && written + len > limit) {
+                int allowed = limit - written;
+                if (allowed > 0) {
+                    out.write(b, off, allowed);
+                    atLineStart = b[off + allowed - 1] == '\n';
+                }
+                written = limit;
+                throw new LimitExceededException();
+            }
+            out.write(b, off, len);
+            written += len;
+            atLineStart = b[off + len - 1] == '\n';
+        }
+    }
 }
@@ -0,0 +1,391 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.api.git.exception.GitException;
+import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
+import org.eclipse.che.api.vfs.watcher.FolderTreeWatcher;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.StatusCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.ignore.IgnoreNode;
+import org.eclipse.jgit.internal.storage.file.FileSnapshot;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.nio.file.Files.isDirectory;
+import static java.util.Arrays.asList;
+import static org.eclipse.jgit.ignore.IgnoreNode.MatchResult.IGNORED;
+import static org.eclipse.jgit.ignore.IgnoreNode.MatchResult.NOT_IGNORED;
+
+/**
+ * Cache of the git status of the repositories.
+ * <p/>
+ * The cached status is valid while the index and HEAD of the repository are not changed,
+ * so the changes made by git commands, including those executed outside of the workspace agent,
+ * make the whole status to be recomputed. Changes of the work tree files are reported by the
+ * file watcher, only the status of the changed paths is recomputed then. The cached status
+ * also expires after {@link #EXPIRE_AFTER_MS} in case some change is not reported by the watcher.
+ * <p/>
+ * The folders of the work trees are watched by the {@link FolderTreeWatcher}. Ignored folders,
+ * e.g. build output, are not watched at all, since their content doesn't affect the status,
+ * it saves the watches of the file system.
+ */
+@Singleton
+public class JGitStatusCache {
+    static final long EXPIRE_AFTER_MS     = 60_000;
+    static final int  MAX_PATHS_TO_UPDATE = 100;
+
+    private final Path                                  root;
+    private final FolderTreeWatcher                     watcher;
+    private final ConcurrentMap<Path, RepositoryStatus> entries;
+    private final ConcurrentMap<Path, IgnoreRules>      ignoreRules;
+
+    @Inject
+    public JGitStatusCache(FileWatcherManager fileWatcherManager, @Named("che.user.workspaces.storage") File root) {
+        this.root = root.toPath().normalize().toAbsolutePath();
+        this.watcher = new FolderTreeWatcher(fileWatcherManager, this.root, this::isWorkTreeFolder, this::onChange, this::onDelete);
+        this.entries = new ConcurrentHashMap<>();
+        this.ignoreRules = new ConcurrentHashMap<>();
+    }
+
+    @PostConstruct
+    public void startWatcher() {
+        watcher.start();
+    }
+
+    @PreDestroy
+    public void stopWatcher() {
+        watcher.stop();
+    }
+
+    /**
+     * Returns the status of the given repository, computes it only if the cached one is not valid anymore.
+     *
+     * @param repository
+     *         non-bare repository
+     * @param git
+     *         git facade of the repository
+     * @throws GitException
+     *         when status can't be computed
+     */
+    Snapshot getStatus(Repository repository, Git git) throws GitException {
+        final Path workTree = repository.getWorkTree().toPath().normalize().toAbsolutePath();
+        final RepositoryStatus entry = entries.computeIfAbsent(workTree, path -> new RepositoryStatus());
+        final File indexFile = repository.getIndexFile();
+        final Ref head;
+        try {
+            head = repository.exactRef(Constants.HEAD);
+        } catch (IOException x) {
+            throw new GitException(x.getMessage(), x);
+        }
+        final ObjectId headId = head == null ? null : head.getObjectId();
+        final String headTarget = head == null ? null : head.getTarget().getName();
+
+        synchronized (entry.updateLock) {
+            final Set<String> pathsToUpdate;
+            final boolean fullUpdateRequired;
+            synchronized (entry) {
+                pathsToUpdate = entry.dirtyPaths;
+                fullUpdateRequired = entry.fullUpdateRequired;
+                entry.dirtyPaths = new HashSet<>();
+                entry.fullUpdateRequired = false;
+            }
+            final boolean valid = entry.snapshot != null
+                                  && !fullUpdateRequired
+                                  && System.currentTimeMillis() - entry.updateTime < EXPIRE_AFTER_MS
+                                  && !entry.indexSnapshot.isModified(indexFile)
+                                  && Objects.equals(entry.headId, headId)
+                                  && Objects.equals(entry.headTarget, headTarget);
+            try {
+                if (!valid) {
+                    final FileSnapshot indexSnapshot = FileSnapshot.save(indexFile);
+                    final long updateTime = System.currentTimeMillis();
+                    entry.snapshot = Snapshot.of(call(git.status()));
+                    entry.indexSnapshot = indexSnapshot;
+                    entry.headId = headId;
+                    entry.headTarget = headTarget;
+                    entry.updateTime = updateTime;
+                } else if (!pathsToUpdate.isEmpty()) {
+                    final StatusCommand command = git.status();
+                    pathsToUpdate.forEach(command::addPath);
+                    final org.eclipse.jgit.api.Status update = call(command);
+                    if (update.getUntrackedFolders().isEmpty()) {
+                        entry.snapshot = entry.snapshot.update(pathsToUpdate, update);
+                    } else {
+                        // untracked folders are detected relatively to the whole tree, so the partial result can't be merged
+                        entry.updateTime = System.currentTimeMillis();
+                        entry.snapshot = Snapshot.of(call(git.status()));
+                    }
+                }
+            } catch (GitException | RuntimeException x) {
+                entry.snapshot = null;
+                throw x;
+            }
+            return entry.snapshot;
+        }
+    }
+
+    private static org.eclipse.jgit.api.Status call(StatusCommand command) throws GitException {
+        try {
+            return command.call();
+        } catch (GitAPIException x) {
+            throw new GitException(x.getMessage(), x);
+        }
+    }
+
+    private void onDelete(Path deleted) {
+        ignoreRules.keySet().removeIf(file -> file.startsWith(deleted));
+        onChange(deleted);
+    }
+
+    private void onChange(Path changed) {
+        for (Map.Entry<Path, RepositoryStatus> entry : entries.entrySet()) {
+            final Path workTree = entry.getKey();
+            if (workTree.startsWith(changed)) {
+                // work tree itself is changed, e.g. removed
+                entries.remove(workTree);
+            } else if (changed.startsWith(workTree)) {
+                entry.getValue().pathChanged(workTree.relativize(changed));
+            }
+        }
+    }
+
+    /**
+     * Folders of the work trees are watched, except the {@code .git} folder with its sub-folders
+     * and the ignored folders.
+     */
+    private boolean isWorkTreeFolder(Path path) {
+        if (!isDirectory(path)) {
+            return false;
+        }
+        for (Path name : path) {
+            if (Constants.DOT_GIT.equals(name.toString())) {
+                return false;
+            }
+        }
+        for (Path folder = path; folder != null && folder.startsWith(root); folder = folder.getParent()) {
+            if (isDirectory(folder.resolve(Constants.DOT_GIT))) {
+                return !isIgnored(folder, path);
+            }
+        }
+        return false;
+    }
+
+    /** The folder is ignored when either it or some of its parents is matched by the ignore rules. */
+    private boolean isIgnored(Path workTree, Path folder) {
+        for (Path current = folder; !current.equals(workTree); current = current.getParent()) {
+            if (isMatchedByIgnoreRules(workTree, current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks the rules of the {@code .gitignore} files from the closest one to the work tree root,
+     * the first rule which matches the folder wins, then the rules of {@code .git/info/exclude}.
+     */
+    private boolean isMatchedByIgnoreRules(Path workTree, Path folder) {
+        for (Path dir = folder.getParent(); dir != null && dir.startsWith(workTree); dir = dir.getParent()) {
+            final IgnoreNode rules = getIgnoreRules(dir.resolve(Constants.DOT_GIT_IGNORE));
+            final IgnoreNode.MatchResult result = rules.isIgnored(toGitPath(dir.relativize(folder)), true);
+            if (result == IGNORED) {
+                return true;
+            } else if (result == NOT_IGNORED) {
+                return false;
+            }
+        }
+        final Path exclude = workTree.resolve(Constants.DOT_GIT).resolve(Constants.INFO_EXCLUDE);
+        return getIgnoreRules(exclude).isIgnored(toGitPath(workTree.relativize(folder)), true) == IGNORED;
+    }
+
+    private IgnoreNode getIgnoreRules(Path file) {
+        return ignoreRules.compute(file, (key, rules) -> rules == null || rules.snapshot.isModified(key.toFile())
+                                                         ? IgnoreRules.read(key)
+                                                         : rules).node;
+    }
+
+    private static String toGitPath(Path relative) {
+        return relative.toString().replace(File.separatorChar, '/');
+    }
+
+    /**
+     * Cached status of a single repository. Changed paths are collected under the monitor of this object,
+     * while the status is computed under the {@link #updateLock}, so the watcher is not blocked by the computation.
+     */
+    private static class RepositoryStatus {
+        final Object updateLock = new Object();
+
+        volatile Snapshot snapshot;
+        FileSnapshot      indexSnapshot;
+        ObjectId          headId;
+        String            headTarget;
+        long              updateTime;
+        boolean           fullUpdateRequired;
+        Set<String>       dirtyPaths = new HashSet<>();
+
+        synchronized void pathChanged(Path relative) {
+            if (fullUpdateRequired) {
+                return;
+            }
+            final String path = toGitPath(relative);
+            if (path.equals(Constants.DOT_GIT)
+                || path.startsWith(Constants.DOT_GIT + '/')
+                || Constants.DOT_GIT_IGNORE.equals(relative.getFileName().toString())
+                || isInUntrackedFolder(path)
+                || dirtyPaths.size() >= MAX_PATHS_TO_UPDATE) {
+                fullUpdateRequired = true;
+                dirtyPaths.clear();
+            } else {
+                dirtyPaths.add(path);
+            }
+        }
+
+        private boolean isInUntrackedFolder(String path) {
+            if (snapshot == null) {
+                return false;
+            }
+            for (String folder : snapshot.untrackedFolders) {
+                if (path.equals(folder) || path.startsWith(folder + '/')) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /** Parsed ignore rules of a single file, re-read when the file is modified. */
+    private static class IgnoreRules {
+        final FileSnapshot snapshot;
+        final IgnoreNode   node;
+
+        IgnoreRules(FileSnapshot snapshot, IgnoreNode node) {
+            this.snapshot = snapshot;
+            this.node = node;
+        }
+
+        static IgnoreRules read(Path file) {
+            final FileSnapshot snapshot = FileSnapshot.save(file.toFile());
+            final IgnoreNode node = new IgnoreNode();
+            if (Files.isRegularFile(file)) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    node.parse(in);
+                } catch (IOException ignored) {
+                    // unreadable rules don't ignore anything, so the folders are watched
+                }
+            }
+            return new IgnoreRules(snapshot, node);
+        }
+    }
+
+    /** Immutable result of the git status command. */
+    static class Snapshot {
+        final Set<String> added;
+        final Set<String> changed;
+        final Set<String> removed;
+        final Set<String> missing;
+        final Set<String> modified;
+        final Set<String> untracked;
+        final Set<String> untrackedFolders;
+        final Set<String> conflicting;
+
+        private Snapshot(Collection<String> added,
+                         Collection<String> changed,
+                         Collection<String> removed,
+                         Collection<String> missing,
+                         Collection<String> modified,
+                         Collection<String> untracked,
+                         Collection<String> untrackedFolders,
+                         Collection<String> conflicting) {
+            this.added = new TreeSet<>(added);
+            this.changed = new TreeSet<>(changed);
+            this.removed = new TreeSet<>(removed);
+            this.missing = new TreeSet<>(missing);
+            this.modified = new TreeSet<>(modified);
+            this.untracked = new TreeSet<>(untracked);
+            this.untrackedFolders = new TreeSet<>(untrackedFolders);
+            this.conflicting = new TreeSet<>(conflicting);
+        }
+
+        static Snapshot of(org.eclipse.jgit.api.Status status) {
+            return new Snapshot(status.getAdded(),
+                                status.getChanged(),
+                                status.getRemoved(),
+                                status.getMissing(),
+                                status.getModified(),
+                                status.getUntracked(),
+                                status.getUntrackedFolders(),
+                                status.getConflicting());
+        }
+
+        /** Returns the copy of this snapshot where the status of the given paths is replaced with the given one. */
+        Snapshot update(Collection<String> paths, org.eclipse.jgit.api.Status update) {
+            final Snapshot result = new Snapshot(added, changed, removed, missing, modified, untracked, untrackedFolders, conflicting);
+            for (Set<String> files : result.all()) {
+                files.removeIf(file -> isUnder(file, paths));
+            }
+            result.added.addAll(update.getAdded());
+            result.changed.addAll(update.getChanged());
+            result.removed.addAll(update.getRemoved());
+            result.missing.addAll(update.getMissing());
+            result.modified.addAll(update.getModified());
+            result.untracked.addAll(update.getUntracked());
+            result.conflicting.addAll(update.getConflicting());
+            return result;
+        }
+
+        boolean isClean() {
+            return added.isEmpty()
+                   && changed.isEmpty()
+                   && removed.isEmpty()
+                   && missing.isEmpty()
+                   && modified.isEmpty()
+                   && untracked.isEmpty()
+                   && conflicting.isEmpty();
+        }
+
+        private List<Set<String>> all() {
+            return asList(added, changed, removed, missing, modified, untracked, untrackedFolders, conflicting);
+        }
+
+        private static boolean isUnder(String file, Collection<String> paths) {
+            for (String path : paths) {
+                if (file.equals(path) || file.startsWith(path + '/')) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
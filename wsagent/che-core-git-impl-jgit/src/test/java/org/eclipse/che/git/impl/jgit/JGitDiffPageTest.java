@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.api.git.params.DiffParams;
+import org.eclipse.che.api.git.shared.DiffType;
+import org.eclipse.jgit.api.Git;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.che.commons.lang.IoUtil.deleteRecursive;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for {@link JGitDiffPage}
+ */
+public class JGitDiffPageTest {
+
+    private File workTree;
+    private Git  git;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        workTree = Files.createTempDirectory("project").toFile();
+        git = Git.init().setDirectory(workTree).call();
+        write("a.txt", lines("a", 20));
+        write("b.txt", lines("b", 20));
+        write("c.txt", lines("c", 20));
+        git.add().addFilepattern(".").call();
+        git.commit().setMessage("init").setAuthor("che", "che@eclipse.org").call();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        git.close();
+        deleteRecursive(workTree);
+    }
+
+    @Test
+    public void shouldShowLimitedNumberOfFiles() throws Exception {
+        write("a.txt", lines("x", 20));
+        write("b.txt", lines("x", 20));
+        write("c.txt", lines("x", 20));
+
+        String diff = diff(DiffParams.create(), 2, 0);
+
+        assertEquals(diff.split("diff --git").length - 1, 2);
+        assertTrue(diff.endsWith("\\ Diff is truncated, 1 more files are changed\n"));
+    }
+
+    @Test
+    public void shouldTruncateDiffOfFileWhenItExceedsLimit() throws Exception {
+        write("a.txt", lines("x", 20));
+
+        String diff = diff(DiffParams.create(), 0, 100);
+
+        assertTrue(diff.startsWith("diff --git a/a.txt b/a.txt"));
+        assertTrue(diff.endsWith("\\ Diff of the file is truncated, it is larger than 100 bytes\n"));
+    }
+
+    @Test
+    public void shouldNotReadContentOfTooLargeFile() throws Exception {
+        write("a.txt", lines("x", 200));
+
+        String diff = diff(DiffParams.create(), 0, 100);
+
+        assertEquals(diff, "diff --git a/a.txt b/a.txt\n\\ File is too large to show the difference, its size is 600 bytes\n");
+    }
+
+    @Test
+    public void shouldNotLimitNamesOfChangedFiles() throws Exception {
+        write("a.txt", lines("x", 200));
+        write("b.txt", lines("x", 20));
+
+        String diff = diff(DiffParams.create().withType(DiffType.NAME_ONLY), 1, 100);
+
+        assertEquals(diff, "a.txt" + System.lineSeparator() + "b.txt");
+        assertFalse(diff.contains("\\"));
+    }
+
+    private String diff(DiffParams params, int maxEntries, int maxFileBytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new JGitDiffPage(params, git.getRepository(), maxEntries, maxFileBytes, 0).writeTo(out);
+        return new String(out.toByteArray(), UTF_8);
+    }
+
+    private void write(String path, String content) throws Exception {
+        Files.write(new File(workTree, path).toPath(), content.getBytes(UTF_8));
+    }
+
+    private static String lines(String line, int count) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            content.append(line).append(i % 10).append('\n');
+        }
+        return content.toString();
+    }
+}
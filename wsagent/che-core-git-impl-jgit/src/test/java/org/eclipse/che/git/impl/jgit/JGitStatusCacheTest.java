@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
+import org.eclipse.jgit.api.Git;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.PathMatcher;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.eclipse.che.commons.lang.IoUtil.deleteRecursive;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for {@link JGitStatusCache}
+ */
+@Listeners(value = MockitoTestNGListener.class)
+public class JGitStatusCacheTest {
+
+    @Mock
+    private FileWatcherManager fileWatcherManager;
+
+    private File             root;
+    private File             workTree;
+    private Git              git;
+    private JGitStatusCache  cache;
+    private PathMatcher      matcher;
+    private Consumer<String> onCreate;
+    private Consumer<String> onChange;
+    private Consumer<String> onDelete;
+
+    @BeforeMethod
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("workspace").toFile();
+        workTree = new File(root, "project");
+        git = Git.init().setDirectory(workTree).call();
+        write("README.md", "readme");
+        write("src/Main.java", "class Main {}");
+        git.add().addFilepattern(".").call();
+        git.commit().setMessage("init").setAuthor("che", "che@eclipse.org").call();
+        makeIndexNotRacy();
+
+        cache = new JGitStatusCache(fileWatcherManager, root);
+        cache.startWatcher();
+        ArgumentCaptor<PathMatcher> matcherCaptor = ArgumentCaptor.forClass(PathMatcher.class);
+        ArgumentCaptor<Consumer> createCaptor = ArgumentCaptor.forClass(Consumer.class);
+        ArgumentCaptor<Consumer> modifyCaptor = ArgumentCaptor.forClass(Consumer.class);
+        ArgumentCaptor<Consumer> deleteCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(fileWatcherManager).registerByMatcher(matcherCaptor.capture(),
+                                                     createCaptor.capture(),
+                                                     modifyCaptor.capture(),
+                                                     deleteCaptor.capture());
+        matcher = matcherCaptor.getValue();
+        onCreate = createCaptor.getValue();
+        onChange = modifyCaptor.getValue();
+        onDelete = deleteCaptor.getValue();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        git.close();
+        deleteRecursive(root);
+    }
+
+    @Test
+    public void shouldReturnCachedStatusIfNothingIsChanged() throws Exception {
+        JGitStatusCache.Snapshot first = cache.getStatus(git.getRepository(), git);
+        JGitStatusCache.Snapshot second = cache.getStatus(git.getRepository(), git);
+
+        assertTrue(first.isClean());
+        assertSame(second, first);
+    }
+
+    @Test
+    public void shouldUpdateStatusOfChangedPathsOnly() throws Exception {
+        cache.getStatus(git.getRepository(), git);
+
+        write("src/Main.java", "class Main { }");
+        write("src/New.java", "class New {}");
+        onChange.accept("/project/src/Main.java");
+        onChange.accept("/project/src/New.java");
+        JGitStatusCache.Snapshot status = cache.getStatus(git.getRepository(), git);
+
+        assertEquals(status.modified, singleton("src/Main.java"));
+        assertEquals(status.untracked, singleton("src/New.java"));
+    }
+
+    @Test
+    public void shouldRemoveStatusOfRestoredFile() throws Exception {
+        write("README.md", "changed");
+        assertEquals(cache.getStatus(git.getRepository(), git).modified, singleton("README.md"));
+
+        write("README.md", "readme");
+        onChange.accept("/project/README.md");
+
+        assertTrue(cache.getStatus(git.getRepository(), git).isClean());
+    }
+
+    @Test
+    public void shouldRecomputeStatusWhenIndexIsChanged() throws Exception {
+        JGitStatusCache.Snapshot first = cache.getStatus(git.getRepository(), git);
+
+        write("build.xml", "<project/>");
+        git.add().addFilepattern("build.xml").call();
+        JGitStatusCache.Snapshot second = cache.getStatus(git.getRepository(), git);
+
+        assertNotSame(second, first);
+        assertEquals(second.added, singleton("build.xml"));
+    }
+
+    @Test
+    public void shouldWatchFolderCreatedAfterFirstStatus() throws Exception {
+        assertTrue(cache.getStatus(git.getRepository(), git).isClean());
+
+        write("lib/api/Api.java", "interface Api {}");
+        onCreate.accept("/project/lib");
+
+        verify(fileWatcherManager).registerByPath(eq("/project/lib"), any(Consumer.class), any(Consumer.class), any(Consumer.class));
+        verify(fileWatcherManager).registerByPath(eq("/project/lib/api"), any(Consumer.class), any(Consumer.class), any(Consumer.class));
+        assertFalse(matcher.matches(new File(workTree, "lib").toPath()));
+        assertEquals(cache.getStatus(git.getRepository(), git).untracked, singleton("lib/api/Api.java"));
+
+        write("lib/api/Impl.java", "class Impl {}");
+        onCreate.accept("/project/lib/api/Impl.java");
+
+        assertEquals(cache.getStatus(git.getRepository(), git).untracked,
+                     new TreeSet<>(asList("lib/api/Api.java", "lib/api/Impl.java")));
+    }
+
+    @Test
+    public void shouldStopWatchingRemovedFolder() throws Exception {
+        when(fileWatcherManager.registerByPath(anyString(), any(Consumer.class), any(Consumer.class), any(Consumer.class))).thenReturn(7);
+        write("lib/Lib.java", "class Lib {}");
+        onCreate.accept("/project/lib");
+
+        deleteRecursive(new File(workTree, "lib"));
+        onDelete.accept("/project/lib");
+
+        verify(fileWatcherManager).unRegisterByPath(7);
+    }
+
+    @Test
+    public void shouldNotWatchIgnoredFolders() throws Exception {
+        write(".gitignore", "target/\n");
+        write("target/classes/Main.class", "");
+        write("src/target/Gen.java", "class Gen {}");
+
+        onCreate.accept("/project/target");
+
+        verify(fileWatcherManager, never()).registerByPath(anyString(), any(Consumer.class), any(Consumer.class), any(Consumer.class));
+        assertFalse(matcher.matches(new File(workTree, "target/classes").toPath()));
+        assertFalse(matcher.matches(new File(workTree, "src/target").toPath()));
+        assertFalse(matcher.matches(new File(workTree, ".git").toPath()));
+        assertTrue(matcher.matches(new File(workTree, "src").toPath()));
+    }
+
+    private void write(String path, String content) throws Exception {
+        File file = new File(workTree, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(UTF_8));
+    }
+
+    /** Index modified right before the status is read is treated as modified, see the racy git problem. */
+    private void makeIndexNotRacy() {
+        File index = git.getRepository().getIndexFile();
+        index.setLastModified(index.lastModified() - 10_000);
+    }
+}
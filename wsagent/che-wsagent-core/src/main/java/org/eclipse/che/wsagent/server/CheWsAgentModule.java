@@ -17,6 +17,7 @@ import org.eclipse.che.ApiEndpointAccessibilityChecker;
 import org.eclipse.che.EventBusURLProvider;
 import org.eclipse.che.UriApiEndpointProvider;
 import org.eclipse.che.UserTokenProvider;
+import org.eclipse.che.WsAgentReadinessNotifier;
 import org.eclipse.che.inject.DynaModule;
 
 import java.net.URI;
@@ -35,6 +36,7 @@ public class CheWsAgentModule extends AbstractModule {
 
         bind(String.class).annotatedWith(Names.named("event.bus.url")).toProvider(EventBusURLProvider.class);
         bind(ApiEndpointAccessibilityChecker.class);
+        bind(WsAgentReadinessNotifier.class);
         bind(WsAgentAnalyticsAddresser.class);
 
         bind(String.class).annotatedWith(Names.named("wsagent.endpoint"))
@@ -35,6 +35,8 @@ public class WsAgentModule extends AbstractModule {
         install(new org.eclipse.che.api.core.util.FileCleaner.FileCleanerModule());
         install(new org.eclipse.che.api.project.server.ProjectApiModule());
         install(new org.eclipse.che.commons.schedule.executor.ScheduleModule());
+        bind(org.eclipse.che.api.core.schedule.ScheduleService.class);
+        bind(org.eclipse.che.api.core.startup.StartupService.class);
         install(new org.eclipse.che.plugin.ssh.key.SshModule());
         install(new org.eclipse.che.api.languageserver.LanguageServerModule());
         install(new org.eclipse.che.api.debugger.server.DebuggerModule());
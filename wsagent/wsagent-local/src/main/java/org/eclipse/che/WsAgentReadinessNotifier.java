@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.che.api.core.ApiException;
+import org.eclipse.che.api.core.rest.HttpJsonRequestFactory;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.UriBuilder;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * Notifies the Che server that the workspace agent is ready, so the server doesn't wait for the next ping of the agent.
+ * <p/>
+ * The agent is initialized before the servlet container starts accepting connections,
+ * so the notification is sent once the agent API responds on the local endpoint.
+ */
+@Singleton
+public class WsAgentReadinessNotifier {
+    private static final Logger LOG = LoggerFactory.getLogger(WsAgentReadinessNotifier.class);
+
+    private static final long CHECK_DELAY_MS        = 200;
+    private static final long MAX_WAIT_TIME_MS      = 180_000;
+    private static final int  CONNECTION_TIMEOUT_MS = 2000;
+
+    private final String                 apiEndpoint;
+    private final String                 localEndpoint;
+    private final String                 workspaceId;
+    private final String                 token;
+    private final HttpJsonRequestFactory httpJsonRequestFactory;
+
+    private ExecutorService executor;
+
+    @Inject
+    public WsAgentReadinessNotifier(@Named("che.api") String apiEndpoint,
+                                    @Named("che.wsagent.ready.local_endpoint") String localEndpoint,
+                                    @Named("env.CHE_WORKSPACE_ID") String workspaceId,
+                                    @Named("user.token") String token,
+                                    HttpJsonRequestFactory httpJsonRequestFactory) {
+        this.apiEndpoint = apiEndpoint;
+        this.localEndpoint = localEndpoint;
+        this.workspaceId = workspaceId;
+        this.token = token;
+        this.httpJsonRequestFactory = httpJsonRequestFactory;
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("WsAgentReadinessNotifier")
+                                                                               .setUncaughtExceptionHandler(
+                                                                                       LoggingUncaughtExceptionHandler.getInstance())
+                                                                               .setDaemon(true)
+                                                                               .build());
+        executor.execute(this::notifyWhenReady);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void notifyWhenReady() {
+        final long startTime = System.currentTimeMillis();
+        try {
+            while (!isLocalEndpointAvailable()) {
+                if (System.currentTimeMillis() - startTime > MAX_WAIT_TIME_MS) {
+                    LOG.warn("Workspace agent doesn't respond on {}, the Che server will detect its start by pinging it",
+                             localEndpoint);
+                    return;
+                }
+                Thread.sleep(CHECK_DELAY_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        final UriBuilder builder = UriBuilder.fromUri(apiEndpoint).path("workspace").path(workspaceId).path("ws-agent/ready");
+        if (!isNullOrEmpty(token)) {
+            builder.queryParam("token", token);
+        }
+        try {
+            httpJsonRequestFactory.fromUrl(builder.build().toString())
+                                  .usePostMethod()
+                                  .setTimeout(CONNECTION_TIMEOUT_MS)
+                                  .request();
+            LOG.info("The Che server is notified that workspace agent is ready in {} ms", System.currentTimeMillis() - startTime);
+        } catch (ApiException | IOException e) {
+            // not critical, the Che server pings the agent anyway
+            LOG.warn("Failed to notify the Che server that workspace agent is ready. " + e.getLocalizedMessage());
+        }
+    }
+
+    private boolean isLocalEndpointAvailable() {
+        try {
+            return httpJsonRequestFactory.fromUrl(localEndpoint)
+                                         .setMethod(HttpMethod.GET)
+                                         .setTimeout(CONNECTION_TIMEOUT_MS)
+                                         .request()
+                                         .getResponseCode() == HttpURLConnection.HTTP_OK;
+        } catch (ApiException | IOException e) {
+            return false;
+        }
+    }
+}
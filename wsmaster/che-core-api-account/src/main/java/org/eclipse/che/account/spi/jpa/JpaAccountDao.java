@@ -18,6 +18,7 @@ import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.core.db.jpa.DuplicateKeyException;
+import org.eclipse.che.core.db.jpa.eclipselink.SharedCacheInvalidator;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -37,10 +38,12 @@ import static java.util.Objects.requireNonNull;
 @Singleton
 public class JpaAccountDao implements AccountDao {
     private final Provider<EntityManager> managerProvider;
+    private final SharedCacheInvalidator  cacheInvalidator;
 
     @Inject
-    public JpaAccountDao(Provider<EntityManager> managerProvider) {
+    public JpaAccountDao(Provider<EntityManager> managerProvider, SharedCacheInvalidator cacheInvalidator) {
         this.managerProvider = managerProvider;
+        this.cacheInvalidator = cacheInvalidator;
     }
 
     @Override
@@ -58,13 +61,19 @@ public class JpaAccountDao implements AccountDao {
     @Override
     public void update(AccountImpl account) throws NotFoundException, ConflictException, ServerException {
         requireNonNull(account, "Required non-null account");
+        final boolean renamed;
         try {
-            doUpdate(account);
+            renamed = doUpdate(account);
         } catch (DuplicateKeyException x) {
             throw new ConflictException("Account with such name already exists");
         } catch (RuntimeException x) {
             throw new ServerException(x.getLocalizedMessage(), x);
         }
+        if (renamed) {
+            // cached results of the queries by account name, e.g. workspaces by namespace, are outdated,
+            // they are invalidated after the commit, so no other transaction caches the old results again
+            cacheInvalidator.invalidateQueryResults();
+        }
     }
 
     @Override
@@ -115,15 +124,18 @@ public class JpaAccountDao implements AccountDao {
         managerProvider.get().persist(account);
     }
 
+    /** Returns {@code true} if the account is renamed by the update. */
     @Transactional
-    protected void doUpdate(AccountImpl update) throws NotFoundException {
+    protected boolean doUpdate(AccountImpl update) throws NotFoundException {
         final EntityManager manager = managerProvider.get();
         final AccountImpl account = manager.find(AccountImpl.class, update.getId());
         if (account == null) {
             throw new NotFoundException(format("Couldn't update account with id '%s' because it doesn't exist", update.getId()));
         }
+        final boolean renamed = !account.getName().equals(update.getName());
         manager.merge(update);
         manager.flush();
+        return renamed;
     }
 
     @Transactional
@@ -21,6 +21,7 @@ import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -30,6 +31,9 @@ import java.util.Objects;
 /**
  * Data object for the {@link User}.
  *
+ * <p>Results of the queries by name and email are cached by EclipseLink,
+ * cached results are invalidated when any user is created, updated or removed.
+ *
  * @author Yevhenii Voevodin
  */
 @Entity(name = "Usr")
@@ -43,9 +47,11 @@ import java.util.Objects;
                 @NamedQuery(name = "User.getByAlias",
                             query = "SELECT u FROM Usr u WHERE :alias MEMBER OF u.aliases"),
                 @NamedQuery(name = "User.getByName",
-                            query = "SELECT u FROM Usr u WHERE u.name = :name"),
+                            query = "SELECT u FROM Usr u WHERE u.name = :name",
+                            hints = @QueryHint(name = "eclipselink.query-results-cache", value = "true")),
                 @NamedQuery(name = "User.getByEmail",
-                            query = "SELECT u FROM Usr u WHERE u.email = :email"),
+                            query = "SELECT u FROM Usr u WHERE u.email = :email",
+                            hints = @QueryHint(name = "eclipselink.query-results-cache", value = "true")),
                 @NamedQuery(name = "User.getAll",
                             query = "SELECT u FROM Usr u"),
                 @NamedQuery(name = "User.getTotalCount",
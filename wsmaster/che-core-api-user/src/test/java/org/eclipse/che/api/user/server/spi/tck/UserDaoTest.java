@@ -44,6 +44,7 @@ import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.fail;
 import static org.testng.AssertJUnit.assertTrue;
 
 /**
@@ -326,6 +327,24 @@ public class UserDaoTest {
         assertEquals(new HashSet<>(updated.getAliases()), new HashSet<>(asList("google:new-alias", "github:new-alias")));
     }
 
+    @Test
+    public void shouldGetUserByNewNameAndEmailAfterUpdate() throws Exception {
+        final UserImpl user = users[0];
+        // previous results may be cached
+        userDao.getByName(user.getName());
+        userDao.getByEmail(user.getEmail());
+
+        userDao.update(new UserImpl(user.getId(), "new-email", "new-name", null, user.getAliases()));
+
+        assertEquals(userDao.getByName("new-name").getId(), user.getId());
+        assertEquals(userDao.getByEmail("new-email").getId(), user.getId());
+        try {
+            userDao.getByName(user.getName());
+            fail("User must not be found by the previous name");
+        } catch (NotFoundException ignored) {
+        }
+    }
+
     @Test(expectedExceptions = ConflictException.class)
     public void shouldThrowConflictExceptionWhenUpdatingUserWithReservedEmail() throws Exception {
         final UserImpl user = users[0];
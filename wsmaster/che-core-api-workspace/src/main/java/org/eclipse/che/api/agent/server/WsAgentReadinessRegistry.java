@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.agent.server;
+
+import javax.inject.Singleton;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps track of the workspace agents which are being started and
+ * completes the waiting when the agent reports that it is ready.
+ * <p/>
+ * The notification is only a hint, those who wait for it should check
+ * the agent before using it, as anyone who can call the workspace API
+ * may send such a notification.
+ */
+@Singleton
+public class WsAgentReadinessRegistry {
+
+    private final ConcurrentMap<String, CompletableFuture<Void>> awaiting = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the future which is completed when the agent of the given workspace reports that it is ready.
+     * Must be called before the agent is started, so the notification is not missed.
+     *
+     * @param workspaceId
+     *         the id of the workspace which agent is started
+     */
+    public CompletableFuture<Void> await(String workspaceId) {
+        return awaiting.computeIfAbsent(workspaceId, id -> new CompletableFuture<>());
+    }
+
+    /**
+     * Completes the waiting for the agent of the given workspace, does nothing if nobody waits for it.
+     *
+     * @param workspaceId
+     *         the id of the workspace which agent is ready
+     */
+    public void notifyReady(String workspaceId) {
+        final CompletableFuture<Void> readiness = awaiting.get(workspaceId);
+        if (readiness != null) {
+            readiness.complete(null);
+        }
+    }
+
+    /**
+     * Stops the waiting for the agent of the given workspace.
+     *
+     * @param workspaceId
+     *         the id of the workspace
+     * @param readiness
+     *         the future returned by {@link #await(String)}
+     */
+    public void remove(String workspaceId, CompletableFuture<Void> readiness) {
+        awaiting.remove(workspaceId, readiness);
+    }
+}
@@ -27,6 +27,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Removes temporary workspaces on server startup and shutdown.
+ * Workspaces are removed in batches, a batch which can't be removed at once is removed workspace by workspace.
  *
  * @author Max Shaposhnik (mshaposhnik@codenvy.com)
  */
@@ -35,6 +36,8 @@ public class TemporaryWorkspaceRemover {
 
     private static final Logger LOG = getLogger(TemporaryWorkspaceRemover.class);
 
+    static final int BATCH_SIZE = 100;
+
     private final WorkspaceDao workspaceDao;
 
     @Inject
@@ -63,20 +66,29 @@ public class TemporaryWorkspaceRemover {
 
     @VisibleForTesting
     void removeTemporaryWs() throws ServerException {
-        final int count = 100;
-        int skip = 0;
-        List<WorkspaceImpl> workspaces = workspaceDao.getWorkspaces(true, skip, count);
-        while (!workspaces.isEmpty()) {
-            for (WorkspaceImpl workspace : workspaces) {
-                try {
-                    workspaceDao.remove(workspace.getId());
-                } catch (ServerException e) {
-                    LOG.error("Unable to cleanup temporary workspace {}. Reason is {}", workspace.getId(), e.getLocalizedMessage());
+        // workspaces which can't be removed are left in place, so the next batches are after them
+        int failed = 0;
+        while (true) {
+            try {
+                if (workspaceDao.removeTemporary(failed, BATCH_SIZE) == 0) {
+                    return;
+                }
+            } catch (ServerException e) {
+                LOG.warn("Unable to cleanup batch of temporary workspaces, they will be removed one by one. Reason is {}",
+                         e.getLocalizedMessage());
+                final List<WorkspaceImpl> workspaces = workspaceDao.getWorkspaces(true, failed, BATCH_SIZE);
+                if (workspaces.isEmpty()) {
+                    return;
+                }
+                for (WorkspaceImpl workspace : workspaces) {
+                    try {
+                        workspaceDao.remove(workspace.getId());
+                    } catch (ServerException x) {
+                        failed++;
+                        LOG.error("Unable to cleanup temporary workspace {}. Reason is {}", workspace.getId(), x.getLocalizedMessage());
+                    }
                 }
             }
-            skip = skip + count;
-            workspaces = workspaceDao.getWorkspaces(true, skip, count);
         }
     }
-
 }
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.server;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.workspace.Workspace;
+import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.slf4j.Logger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Comparator.comparingLong;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Queue of the removed workspaces which files are cleaned up by the {@link WorkspaceFilesCleaner}.
+ * <p/>
+ * Files are cleaned up asynchronously one workspace after another, the rate of the cleanup is limited
+ * by {@code che.workspace.files_cleanup.max_per_second}, so removal of many workspaces doesn't overload
+ * the file system. Queued workspaces are stored in the {@code che.database} folder until their files
+ * are cleaned up, so the cleanup which is not performed before the server stop is resumed after its start.
+ */
+@Singleton
+public class WorkspaceFilesCleanupQueue {
+
+    private static final Logger LOG = getLogger(WorkspaceFilesCleanupQueue.class);
+
+    private static final String QUEUE_FOLDER = "workspace_files_cleanup";
+    private static final String ENTRY_SUFFIX = ".json";
+
+    private final WorkspaceFilesCleaner    workspaceFilesCleaner;
+    private final Path                     queueFolder;
+    private final RateLimiter              rateLimiter;
+    private final BlockingQueue<Workspace> queue;
+    private final ExecutorService          executor;
+
+    @Inject
+    public WorkspaceFilesCleanupQueue(WorkspaceFilesCleaner workspaceFilesCleaner,
+                                      @Named("che.database") String storageFolder,
+                                      @Named("che.workspace.files_cleanup.max_per_second") double maxPerSecond) {
+        this.workspaceFilesCleaner = workspaceFilesCleaner;
+        this.queueFolder = Paths.get(storageFolder, QUEUE_FOLDER);
+        this.rateLimiter = RateLimiter.create(maxPerSecond);
+        this.queue = new LinkedBlockingQueue<>();
+        this.executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("WorkspaceFilesCleanupQueue")
+                                                                                    .setUncaughtExceptionHandler(
+                                                                                            LoggingUncaughtExceptionHandler.getInstance())
+                                                                                    .setDaemon(true)
+                                                                                    .build());
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            Files.createDirectories(queueFolder);
+            final List<Path> entries = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(queueFolder, '*' + ENTRY_SUFFIX)) {
+                stream.forEach(entries::add);
+            }
+            // cleanup is resumed in the order the workspaces were removed
+            entries.sort(comparingLong(entry -> entry.toFile().lastModified()));
+            for (Path entry : entries) {
+                try {
+                    queue.offer(DtoFactory.getInstance().createDtoFromJson(new String(Files.readAllBytes(entry), UTF_8),
+                                                                           WorkspaceDto.class));
+                } catch (IOException | RuntimeException e) {
+                    LOG.error("Failed to read {} from the workspace files cleanup queue. Cause: {}", entry, e.getMessage());
+                    deleteEntry(entry);
+                }
+            }
+            if (!queue.isEmpty()) {
+                LOG.info("Cleanup of files of {} removed workspaces is resumed", queue.size());
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to read the workspace files cleanup queue from {}. Cause: {}", queueFolder, e.getMessage());
+        }
+        executor.execute(this::cleanUpQueued);
+    }
+
+    @PreDestroy
+    public void stop() {
+        // the workspaces which files are not cleaned up yet are kept in the queue folder
+        executor.shutdownNow();
+    }
+
+    /**
+     * Adds the workspace to the queue, its files are cleaned up asynchronously.
+     *
+     * @param workspace
+     *         the removed workspace which files are cleaned up
+     */
+    public void add(Workspace workspace) {
+        final Path entry = getEntry(workspace.getId());
+        try {
+            Files.createDirectories(queueFolder);
+            final Path tmp = Files.createTempFile(queueFolder, workspace.getId(), ".tmp");
+            Files.write(tmp, DtoFactory.getInstance().toJson(DtoConverter.asDto(workspace)).getBytes(UTF_8));
+            Files.move(tmp, entry, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            // files are cleaned up anyway, the cleanup is not resumed after restart
+            LOG.warn("Failed to store workspace '{}' in the files cleanup queue. Cause: {}", workspace.getId(), e.getMessage());
+        }
+        queue.offer(workspace);
+    }
+
+    private void cleanUpQueued() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                final Workspace workspace = queue.take();
+                rateLimiter.acquire();
+                cleanUp(workspace);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void cleanUp(Workspace workspace) {
+        try {
+            workspaceFilesCleaner.clear(workspace);
+        } catch (IOException | ServerException e) {
+            LOG.error("Failed to remove workspace files for workspace with id: '{}'. Cause: '{}'", workspace.getId(), e.getMessage());
+        } catch (RuntimeException e) {
+            // must not stop the cleanup of the next queued workspaces
+            LOG.error("Failed to remove workspace files for workspace with id: '" + workspace.getId() + "'", e);
+        }
+        // a failed cleanup is only logged, it is not retried
+        deleteEntry(getEntry(workspace.getId()));
+    }
+
+    private Path getEntry(String workspaceId) {
+        return queueFolder.resolve(workspaceId + ENTRY_SUFFIX);
+    }
+
+    private static void deleteEntry(Path entry) {
+        try {
+            Files.deleteIfExists(entry);
+        } catch (IOException e) {
+            LOG.warn("Failed to remove {} from the workspace files cleanup queue. Cause: {}", entry, e.getMessage());
+        }
+    }
+}
@@ -47,18 +47,22 @@ import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent.EventType;
 import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.che.commons.lang.concurrent.StripedLocks;
+import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
 import org.eclipse.che.commons.lang.concurrent.Unlocker;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.slf4j.Logger;
 
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -68,9 +72,13 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -117,6 +125,8 @@ public class WorkspaceRuntimes {
     private final SnapshotDao                         snapshotDao;
     private final WorkspaceSharedPool                 sharedPool;
 
+    private final ThreadPoolExecutor                  snapshotExecutor;
+
     private final AtomicBoolean         isShutdown            = new AtomicBoolean(false);
     private final AtomicBoolean         isStartRefused        = new AtomicBoolean(false);
     private final MachineAgentsLauncher machineAgentsLauncher = new MachineAgentsLauncher();
@@ -128,7 +138,8 @@ public class WorkspaceRuntimes {
                              AgentLauncherFactory launcherFactory,
                              AgentRegistry agentRegistry,
                              SnapshotDao snapshotDao,
-                             WorkspaceSharedPool sharedPool) {
+                             WorkspaceSharedPool sharedPool,
+                             @Named("che.workspace.snapshot.parallel_machines") int snapshotParallelism) {
         this(eventsService,
              envEngine,
              agentSorter,
@@ -136,9 +147,15 @@ public class WorkspaceRuntimes {
              agentRegistry,
              snapshotDao,
              sharedPool,
+             snapshotParallelism,
              new ConcurrentHashMap<>());
     }
 
+    /**
+     * Creates the runtimes which keep the states of the workspaces in the given map.
+     * Snapshots of at most {@code snapshotParallelism} machines are created at the same time,
+     * the limit is shared by all the workspaces.
+     */
     public WorkspaceRuntimes(EventService eventsService,
                              CheEnvironmentEngine envEngine,
                              AgentSorter agentSorter,
@@ -146,7 +163,11 @@ public class WorkspaceRuntimes {
                              AgentRegistry agentRegistry,
                              SnapshotDao snapshotDao,
                              WorkspaceSharedPool sharedPool,
+                             int snapshotParallelism,
                              ConcurrentMap<String, RuntimeState> states) {
+        if (snapshotParallelism <= 0) {
+            throw new IllegalArgumentException("Number of machines snapshotted in parallel must be positive: " + snapshotParallelism);
+        }
         this.eventsService = eventsService;
         this.envEngine = envEngine;
         this.agentSorter = agentSorter;
@@ -157,6 +178,17 @@ public class WorkspaceRuntimes {
         this.locks = new StripedLocks(16);
         this.sharedPool = sharedPool;
         this.states = states;
+        this.snapshotExecutor = new ThreadPoolExecutor(snapshotParallelism,
+                                                       snapshotParallelism,
+                                                       60,
+                                                       TimeUnit.SECONDS,
+                                                       new LinkedBlockingQueue<>(),
+                                                       new ThreadFactoryBuilder().setNameFormat("MachineSnapshotPool-%d")
+                                                                                 .setUncaughtExceptionHandler(
+                                                                                         LoggingUncaughtExceptionHandler.getInstance())
+                                                                                 .setDaemon(true)
+                                                                                 .build());
+        this.snapshotExecutor.allowCoreThreadTimeOut(true);
     }
 
     /**
@@ -617,6 +649,7 @@ public class WorkspaceRuntimes {
         if (!isShutdown.compareAndSet(false, true)) {
             throw new IllegalStateException("Workspace runtimes service shutdown has been already called");
         }
+        snapshotExecutor.shutdown();
 
         List<String> idsToStop;
         try (@SuppressWarnings("unused") Unlocker u = locks.writeAllLock()) {
@@ -859,26 +892,60 @@ public class WorkspaceRuntimes {
         machines.sort(comparing(m -> !m.getConfig().isDev(), Boolean::compare));
 
         LOG.info("Creating snapshot of workspace '{}', machines to snapshot: '{}'", workspaceId, machines.size());
+        // machines are snapshotted in parallel, the number of concurrent snapshots is limited by the pool
+        Map<MachineImpl, Future<SnapshotImpl>> futures = new LinkedHashMap<>();
+        Exception devMachineError = null;
+        try {
+            for (MachineImpl machine : machines) {
+                futures.put(machine, snapshotExecutor.submit(ThreadLocalPropagateContext.wrap(
+                        () -> envEngine.saveSnapshot(workspaceId, machine.getId()))));
+            }
+        } catch (RejectedExecutionException x) {
+            // the pool is shut down, snapshots which are already submitted are created and then removed
+            devMachineError = new ServerException(format("Snapshotting of workspace '%s' is rejected, " +
+                                                         "workspaces service is being terminated", workspaceId));
+        }
         List<SnapshotImpl> newSnapshots = new ArrayList<>(machines.size());
-        for (MachineImpl machine : machines) {
+        for (Map.Entry<MachineImpl, Future<SnapshotImpl>> entry : futures.entrySet()) {
+            MachineImpl machine = entry.getKey();
             try {
-                newSnapshots.add(envEngine.saveSnapshot(workspaceId, machine.getId()));
-            } catch (ServerException | NotFoundException x) {
-                if (machine.getConfig().isDev()) {
-                    compareAndSetStatus(workspaceId, WorkspaceStatus.SNAPSHOTTING, WorkspaceStatus.RUNNING);
-                    eventsService.publish(DtoFactory.newDto(WorkspaceStatusEvent.class)
-                                                    .withWorkspaceId(workspaceId)
-                                                    .withStatus(WorkspaceStatus.RUNNING)
-                                                    .withEventType(EventType.SNAPSHOT_CREATION_ERROR)
-                                                    .withPrevStatus(WorkspaceStatus.SNAPSHOTTING)
-                                                    .withError(x.getMessage()));
-                    throw x;
+                newSnapshots.add(entry.getValue().get());
+            } catch (ExecutionException x) {
+                if (machine.getConfig().isDev() && devMachineError == null) {
+                    devMachineError = x.getCause() instanceof Exception ? (Exception)x.getCause()
+                                                                        : new ServerException(x.getCause().getMessage(), x.getCause());
+                } else {
+                    LOG.warn(format("Couldn't create snapshot of machine '%s:%s' in workspace '%s'",
+                                    machine.getEnvName(),
+                                    machine.getConfig().getName(),
+                                    workspaceId));
                 }
-                LOG.warn(format("Couldn't create snapshot of machine '%s:%s' in workspace '%s'",
-                                machine.getEnvName(),
-                                machine.getConfig().getName(),
-                                workspaceId));
+            } catch (InterruptedException x) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(future -> future.cancel(true));
+                devMachineError = new ServerException(format("Snapshotting of workspace '%s' is interrupted", workspaceId));
+                break;
+            }
+        }
+        if (devMachineError != null) {
+            if (!newSnapshots.isEmpty()) {
+                LOG.info("Removing newly created snapshots, workspace id '{}', snapshots to remove '{}'", workspaceId, newSnapshots.size());
+                removeBinaries(newSnapshots);
+            }
+            compareAndSetStatus(workspaceId, WorkspaceStatus.SNAPSHOTTING, WorkspaceStatus.RUNNING);
+            eventsService.publish(DtoFactory.newDto(WorkspaceStatusEvent.class)
+                                            .withWorkspaceId(workspaceId)
+                                            .withStatus(WorkspaceStatus.RUNNING)
+                                            .withEventType(EventType.SNAPSHOT_CREATION_ERROR)
+                                            .withPrevStatus(WorkspaceStatus.SNAPSHOTTING)
+                                            .withError(devMachineError.getMessage()));
+            if (devMachineError instanceof NotFoundException) {
+                throw (NotFoundException)devMachineError;
+            }
+            if (devMachineError instanceof ServerException) {
+                throw (ServerException)devMachineError;
             }
+            throw new ServerException(devMachineError.getMessage(), devMachineError);
         }
 
         LOG.info("Saving new snapshots metadata, workspace id '{}'", workspaceId);
@@ -22,6 +22,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 
 import org.eclipse.che.api.agent.server.WsAgentHealthChecker;
+import org.eclipse.che.api.agent.server.WsAgentReadinessRegistry;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
@@ -91,6 +92,7 @@ public class WorkspaceService extends Service {
     private final WorkspaceManager              workspaceManager;
     private final WorkspaceValidator            validator;
     private final WsAgentHealthChecker          agentHealthChecker;
+    private final WsAgentReadinessRegistry      agentReadinessRegistry;
     private final WorkspaceServiceLinksInjector linksInjector;
     private final String                        apiEndpoint;
     private final boolean                       cheWorkspaceAutoSnapshot;
@@ -104,6 +106,7 @@ public class WorkspaceService extends Service {
                             WorkspaceManager workspaceManager,
                             WorkspaceValidator validator,
                             WsAgentHealthChecker agentHealthChecker,
+                            WsAgentReadinessRegistry agentReadinessRegistry,
                             WorkspaceServiceLinksInjector workspaceServiceLinksInjector,
                             @Named(CHE_WORKSPACE_AUTO_SNAPSHOT) boolean cheWorkspaceAutoSnapshot,
                             @Named(CHE_WORKSPACE_AUTO_RESTORE) boolean cheWorkspaceAutoRestore,
@@ -112,6 +115,7 @@ public class WorkspaceService extends Service {
         this.workspaceManager = workspaceManager;
         this.validator = validator;
         this.agentHealthChecker = agentHealthChecker;
+        this.agentReadinessRegistry = agentReadinessRegistry;
         this.linksInjector = workspaceServiceLinksInjector;
         this.cheWorkspaceAutoSnapshot = cheWorkspaceAutoSnapshot;
         this.cheWorkspaceAutoRestore = cheWorkspaceAutoRestore;
@@ -719,6 +723,18 @@ public class WorkspaceService extends Service {
         return check;
     }
 
+    @POST
+    @Path("/{id}/ws-agent/ready")
+    @ApiOperation(value = "Notify that the workspace agent is ready",
+                  notes = "The notification is sent by the workspace agent when it starts, " +
+                          "so the workspace becomes running without waiting for the next ping of the agent")
+    @ApiResponses({@ApiResponse(code = 204, message = "The notification is accepted"),
+                   @ApiResponse(code = 500, message = "Internal server error occurred")})
+    public void notifyAgentReady(@ApiParam(value = "Workspace id")
+                                 @PathParam("id") String id) {
+        agentReadinessRegistry.notifyReady(id);
+    }
+
     @GET
     @Path("/settings")
     @Produces(APPLICATION_JSON)
@@ -29,7 +29,7 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import javax.persistence.EntityManager;
-import javax.persistence.TypedQuery;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -105,22 +105,29 @@ public class JpaStackDao implements StackDao {
                                         @Nullable List<String> tags,
                                         int skipCount,
                                         int maxItems) throws ServerException {
-        final TypedQuery<StackImpl> query;
-        if (tags == null || tags.isEmpty()) {
-            query = managerProvider.get().createNamedQuery("Stack.getAll", StackImpl.class);
-        } else {
-            query = managerProvider.get()
-                                   .createNamedQuery("Stack.getByTags", StackImpl.class)
-                                   .setParameter("tags", tags)
-                                   .setParameter("tagsSize", tags.size());
-        }
+        final EntityManager manager = managerProvider.get();
         try {
-            return query.setMaxResults(maxItems)
-                        .setFirstResult(skipCount)
-                        .getResultList()
-                        .stream()
-                        .map(StackImpl::new)
-                        .collect(Collectors.toList());
+            if (tags == null || tags.isEmpty()) {
+                return toStacks(manager.createNamedQuery("Stack.getAll", StackImpl.class)
+                                       .setMaxResults(maxItems)
+                                       .setFirstResult(skipCount)
+                                       .getResultList());
+            }
+            // ids of the page are found first, the tags are matched through
+            // the (tag, stack_id) index and the stack table is joined only by
+            // its primary key, then only the stacks of the page are fetched
+            final List<String> ids = manager.createNamedQuery("Stack.getIdsByTags", String.class)
+                                            .setParameter("tags", tags)
+                                            .setParameter("tagsSize", tags.size())
+                                            .setMaxResults(maxItems)
+                                            .setFirstResult(skipCount)
+                                            .getResultList();
+            if (ids.isEmpty()) {
+                return new ArrayList<>();
+            }
+            return toStacks(manager.createNamedQuery("Stack.getByIds", StackImpl.class)
+                                   .setParameter("ids", ids)
+                                   .getResultList());
         } catch (RuntimeException x) {
             throw new ServerException(x.getLocalizedMessage(), x);
         }
@@ -161,4 +168,10 @@ public class JpaStackDao implements StackDao {
         manager.flush();
         return merged;
     }
+
+    private static List<StackImpl> toStacks(List<StackImpl> entities) {
+        return entities.stream()
+                       .map(StackImpl::new)
+                       .collect(Collectors.toList());
+    }
 }
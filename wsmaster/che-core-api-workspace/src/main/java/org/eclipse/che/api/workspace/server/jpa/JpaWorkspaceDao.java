@@ -183,6 +183,19 @@ public class JpaWorkspaceDao implements WorkspaceDao {
         }
     }
 
+    @Override
+    public int removeTemporary(int skipCount, int maxItems) throws ServerException {
+        checkArgument(maxItems >= 0, "The number of items to remove can't be negative.");
+        checkArgument(skipCount >= 0, "The number of items to skip can't be negative or greater than " + Integer.MAX_VALUE);
+        try {
+            final List<WorkspaceImpl> removed = doRemoveTemporary(skipCount, maxItems);
+            removed.forEach(workspace -> eventService.publish(new WorkspaceRemovedEvent(workspace)));
+            return removed.size();
+        } catch (RuntimeException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+    }
+
     @Transactional
     protected void doCreate(WorkspaceImpl workspace) {
         if (workspace.getConfig() != null) {
@@ -206,6 +219,23 @@ public class JpaWorkspaceDao implements WorkspaceDao {
         return Optional.of(workspace);
     }
 
+    @Transactional(rollbackOn = {RuntimeException.class, ServerException.class})
+    protected List<WorkspaceImpl> doRemoveTemporary(int skipCount, int maxItems) throws ServerException {
+        final EntityManager manager = managerProvider.get();
+        final List<WorkspaceImpl> workspaces = manager.createNamedQuery("Workspace.getByTemporary", WorkspaceImpl.class)
+                                                      .setParameter("temporary", true)
+                                                      .setMaxResults(maxItems)
+                                                      .setFirstResult(skipCount)
+                                                      .getResultList();
+        for (WorkspaceImpl workspace : workspaces) {
+            eventService.publish(new BeforeWorkspaceRemovedEvent(new WorkspaceImpl(workspace))).propagateException();
+            manager.remove(workspace);
+        }
+        // the whole batch is removed with a single flush
+        manager.flush();
+        return workspaces;
+    }
+
     @Transactional
     protected WorkspaceImpl doUpdate(WorkspaceImpl update) throws NotFoundException {
         EntityManager manager = managerProvider.get();
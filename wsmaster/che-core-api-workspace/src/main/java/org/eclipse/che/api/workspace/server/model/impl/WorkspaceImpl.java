@@ -38,6 +38,7 @@ import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 import java.util.HashMap;
@@ -48,6 +49,10 @@ import java.util.Objects;
 /**
  * Data object for {@link Workspace}.
  *
+ * <p>Results of the queries by namespace are cached by EclipseLink, cached results are invalidated
+ * when any workspace is changed. The namespace is the name of the account, so the account DAO
+ * invalidates cached query results when an account is renamed.
+ *
  * @author Yevhenii Voevodin
  */
 @Entity(name = "Workspace")
@@ -55,13 +60,15 @@ import java.util.Objects;
 @NamedQueries(
         {
                 @NamedQuery(name = "Workspace.getByNamespace",
-                            query = "SELECT w FROM Workspace w WHERE w.account.name = :namespace"),
+                            query = "SELECT w FROM Workspace w WHERE w.account.name = :namespace",
+                            hints = @QueryHint(name = "eclipselink.query-results-cache", value = "true")),
                 @NamedQuery(name = "Workspace.getByName",
-                            query = "SELECT w FROM Workspace w WHERE w.account.name = :namespace AND w.name = :name"),
+                            query = "SELECT w FROM Workspace w WHERE w.account.name = :namespace AND w.name = :name",
+                            hints = @QueryHint(name = "eclipselink.query-results-cache", value = "true")),
                 @NamedQuery(name = "Workspace.getAll",
                             query = "SELECT w FROM Workspace w"),
                 @NamedQuery(name = "Workspace.getByTemporary",
-                            query = "SELECT w FROM Workspace w WHERE w.isTemporary = :temporary")
+                            query = "SELECT w FROM Workspace w WHERE w.isTemporary = :temporary ORDER BY w.id")
 
         }
 )
@@ -29,6 +29,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 import javax.persistence.OneToOne;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
@@ -39,18 +40,33 @@ import static java.util.stream.Collectors.toList;
 /**
  * Data object for {@link Stack}.
  *
+ * <p>Identifiers of the stacks which have all the given tags are selected by
+ * grouping the matched tags by stack id. JPQL can't select from the tags
+ * collection without its owner, so the stack table is still joined by its
+ * primary key, while the tags are matched using the (tag, stack_id) index.
+ *
+ * <p>Results of the query by identifiers are cached by EclipseLink,
+ * cached results are invalidated when any stack is created, updated or removed.
+ *
  * @author Alexander Andrienko
  * @author Yevhenii Voevodin
  */
 @Entity(name = "Stack")
 @NamedQueries(
         {
-                @NamedQuery(name = "Stack.getByTags",
-                            query = "SELECT stack " +
+                @NamedQuery(name = "Stack.getIdsByTags",
+                            query = "SELECT stack.id " +
                                     "FROM Stack stack, stack.tags tag " +
                                     "WHERE tag IN :tags " +
                                     "GROUP BY stack.id " +
-                                    "HAVING COUNT(tag) = :tagsSize"),
+                                    "HAVING COUNT(tag) = :tagsSize " +
+                                    "ORDER BY stack.id"),
+                @NamedQuery(name = "Stack.getByIds",
+                            query = "SELECT stack " +
+                                    "FROM Stack stack " +
+                                    "WHERE stack.id IN :ids " +
+                                    "ORDER BY stack.id",
+                            hints = @QueryHint(name = "eclipselink.query-results-cache", value = "true")),
                 @NamedQuery(name = "Stack.getAll",
                             query = "SELECT stack FROM Stack stack")
         }
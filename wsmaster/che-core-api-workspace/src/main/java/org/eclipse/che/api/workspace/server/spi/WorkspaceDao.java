@@ -159,4 +159,23 @@ public interface WorkspaceDao {
      *         when {@code maxItems} or {@code skipCount} is negative
      */
     List<WorkspaceImpl> getWorkspaces(boolean isTemporary, int skipCount, int maxItems) throws ServerException;
+
+    /**
+     * Removes a batch of temporary workspaces at once.
+     *
+     * <p>Workspaces of the batch are the same as returned by {@link #getWorkspaces(boolean, int, int)}
+     * for temporary workspaces. Related data is removed in the same way as by {@link #remove(String)},
+     * if any workspace of the batch can't be removed then none of them is removed.
+     *
+     * @param skipCount
+     *         the number of temporary workspaces to skip
+     * @param maxItems
+     *         the maximum number of workspaces to remove
+     * @return the number of removed workspaces, {@code 0} if there are no temporary workspaces to remove
+     * @throws ServerException
+     *         when any error occurs during workspaces removing
+     * @throws IllegalArgumentException
+     *         when {@code maxItems} or {@code skipCount} is negative
+     */
+    int removeTemporary(int skipCount, int maxItems) throws ServerException;
 }
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.workspace.server.stack;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
@@ -25,6 +28,7 @@ import org.eclipse.che.api.workspace.server.model.impl.stack.StackImpl;
 import org.eclipse.che.api.workspace.server.spi.StackDao;
 import org.eclipse.che.api.workspace.server.stack.image.StackIcon;
 import org.eclipse.che.api.workspace.shared.stack.Stack;
+import org.eclipse.che.dto.server.DtoFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +41,8 @@ import java.nio.file.Paths;
 import java.util.List;
 
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.che.api.workspace.server.DtoConverter.asDto;
 
 /**
  * Class for loading list predefined {@link Stack} to the {@link StackDao}
@@ -69,22 +75,33 @@ public class StackLoader {
 
     /**
      * Load predefined stacks with their icons to the {@link StackDao}.
+     * Stacks which content is not changed since the previous load are not rewritten.
      */
     @PostConstruct
     public void start() {
         if (Files.exists(stackJsonPath) && Files.isRegularFile(stackJsonPath)) {
             try (BufferedReader reader = Files.newBufferedReader(stackJsonPath)) {
                 List<StackImpl> stacks = GSON.fromJson(reader, new TypeToken<List<StackImpl>>() {}.getType());
-                stacks.forEach(this::loadStack);
+                int unchanged = 0;
+                for (StackImpl stack : stacks) {
+                    if (!loadStack(stack)) {
+                        unchanged++;
+                    }
+                }
+                LOG.info("Predefined stacks are loaded, {} of {} are not changed", unchanged, stacks.size());
             } catch (Exception e) {
                 LOG.error("Failed to store stacks ", e);
             }
         }
     }
 
-    private void loadStack(StackImpl stack) {
+    /** Returns {@code false} if the stack is not stored because it is not changed. */
+    private boolean loadStack(StackImpl stack) {
         setIconData(stack, stackIconFolderPath);
 
+        if (isNotChanged(stack)) {
+            return false;
+        }
         try {
             stackDao.update(stack);
         } catch (NotFoundException | ConflictException | ServerException e) {
@@ -94,6 +111,32 @@ public class StackLoader {
                 LOG.error(format("Failed to load stack with id '%s' ", stack.getId()), ex.getMessage());
             }
         }
+        return true;
+    }
+
+    private boolean isNotChanged(StackImpl stack) {
+        try {
+            final StackImpl stored = stackDao.getById(stack.getId());
+            return stored != null && contentHash(stored).equals(contentHash(stack));
+        } catch (NotFoundException | ServerException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Computes hash of the stack content, the content is taken from its DTO
+     * so identifiers generated by the database don't affect the hash.
+     */
+    private static HashCode contentHash(StackImpl stack) {
+        final Hasher hasher = Hashing.sha256().newHasher()
+                                     .putString(DtoFactory.getInstance().toJson(asDto(stack)), UTF_8);
+        final StackIcon icon = stack.getStackIcon();
+        if (icon != null) {
+            hasher.putString(String.valueOf(icon.getName()), UTF_8)
+                  .putString(String.valueOf(icon.getMediaType()), UTF_8)
+                  .putBytes(icon.getData() == null ? new byte[0] : icon.getData());
+        }
+        return hasher.hash();
     }
 
     private void setIconData(StackImpl stack, Path stackIconFolderPath) {
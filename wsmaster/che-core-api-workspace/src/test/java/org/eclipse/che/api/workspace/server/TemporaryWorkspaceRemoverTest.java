@@ -10,9 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.workspace.server;
 
+import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
-import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -20,17 +20,16 @@ import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
-import static org.mockito.Matchers.anyInt;
+import static org.eclipse.che.api.workspace.server.TemporaryWorkspaceRemover.BATCH_SIZE;
 import static org.mockito.Matchers.anyString;
-import static org.mockito.Matchers.eq;
-import static org.mockito.Matchers.intThat;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Max Shaposhnik (mshaposhnik@codenvy.com)
@@ -38,7 +37,7 @@ import static org.mockito.Mockito.verify;
 @Listeners(MockitoTestNGListener.class)
 public class TemporaryWorkspaceRemoverTest {
 
-    static final int COUNT_OF_WORKSPACES = 250;
+    static final int COUNT_OF_WORKSPACES = 5;
 
     @Mock
     private WorkspaceDao workspaceDao;
@@ -47,32 +46,27 @@ public class TemporaryWorkspaceRemoverTest {
     private TemporaryWorkspaceRemover remover;
 
     @Test
-    public void shouldRemoveTemporaryWorkspaces() throws Exception {
-        doNothing().when(workspaceDao).remove(anyString());
-        // As we want to check pagination, we return items 100 when skip count is 0 or 100,
-        // return 50 items when skip count is 200, and return empty list when skip count is 300.
-        doReturn(createEntities(100)).when(workspaceDao).getWorkspaces(eq(true), intThat(new ArgumentMatcher<Integer>() {
-            @Override
-            public boolean matches(Object argument) {
-                return ((int)argument) < 200;
-            }
-        }), anyInt());
-        doReturn(createEntities(50)).when(workspaceDao).getWorkspaces(eq(true), intThat(new ArgumentMatcher<Integer>() {
-            @Override
-            public boolean matches(Object argument) {
-                return ((int)argument) == 200;
-            }
-        }), anyInt());
-        doReturn(Collections.emptyList()).when(workspaceDao).getWorkspaces(eq(true), intThat(new ArgumentMatcher<Integer>() {
-            @Override
-            public boolean matches(Object argument) {
-                return ((int)argument) > COUNT_OF_WORKSPACES;
-            }
-        }), anyInt());
+    public void shouldRemoveTemporaryWorkspacesInBatches() throws Exception {
+        when(workspaceDao.removeTemporary(0, BATCH_SIZE)).thenReturn(BATCH_SIZE, BATCH_SIZE, 50, 0);
+
+        remover.removeTemporaryWs();
+
+        verify(workspaceDao, times(4)).removeTemporary(0, BATCH_SIZE);
+        verify(workspaceDao, never()).remove(anyString());
+    }
+
+    @Test
+    public void shouldRemoveWorkspacesOneByOneWhenBatchCanNotBeRemoved() throws Exception {
+        when(workspaceDao.removeTemporary(0, BATCH_SIZE)).thenThrow(new ServerException("error"));
+        when(workspaceDao.removeTemporary(1, BATCH_SIZE)).thenReturn(0);
+        doReturn(createEntities(COUNT_OF_WORKSPACES)).when(workspaceDao).getWorkspaces(true, 0, BATCH_SIZE);
+        doThrow(new ServerException("error")).when(workspaceDao).remove("id0");
 
         remover.removeTemporaryWs();
 
         verify(workspaceDao, times(COUNT_OF_WORKSPACES)).remove(anyString());
+        // the workspace which can't be removed is skipped
+        verify(workspaceDao).removeTemporary(1, BATCH_SIZE);
     }
 
     private List<WorkspaceImpl> createEntities(int number) {
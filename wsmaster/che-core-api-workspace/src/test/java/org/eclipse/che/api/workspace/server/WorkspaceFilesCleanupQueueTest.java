@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.server;
+
+import com.google.common.io.Files;
+
+import org.eclipse.che.api.core.model.workspace.Workspace;
+import org.eclipse.che.api.workspace.shared.dto.WorkspaceConfigDto;
+import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests {@link WorkspaceFilesCleanupQueue}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class WorkspaceFilesCleanupQueueTest {
+
+    @Mock
+    private WorkspaceFilesCleaner workspaceFilesCleaner;
+
+    private File                       storage;
+    private WorkspaceFilesCleanupQueue queue;
+
+    @BeforeMethod
+    public void setUp() {
+        storage = Files.createTempDir();
+        queue = new WorkspaceFilesCleanupQueue(workspaceFilesCleaner, storage.getAbsolutePath(), 100);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        queue.stop();
+        IoUtil.deleteRecursive(storage);
+    }
+
+    @Test
+    public void shouldCleanUpFilesOfAddedWorkspace() throws Exception {
+        queue.start();
+
+        queue.add(createWorkspace("workspace123", "ws"));
+
+        ArgumentCaptor<Workspace> captor = ArgumentCaptor.forClass(Workspace.class);
+        verify(workspaceFilesCleaner, timeout(2000)).clear(captor.capture());
+        assertEquals(captor.getValue().getId(), "workspace123");
+        assertEquals(captor.getValue().getConfig().getName(), "ws");
+    }
+
+    @Test
+    public void shouldResumeCleanupAfterRestart() throws Exception {
+        // the queue is not started, so the workspace is only stored
+        queue.add(createWorkspace("workspace123", "ws"));
+        verifyZeroInteractions(workspaceFilesCleaner);
+        assertTrue(new File(storage, "workspace_files_cleanup/workspace123.json").exists());
+
+        final WorkspaceFilesCleanupQueue restarted = new WorkspaceFilesCleanupQueue(workspaceFilesCleaner, storage.getAbsolutePath(), 100);
+        try {
+            restarted.start();
+
+            ArgumentCaptor<Workspace> captor = ArgumentCaptor.forClass(Workspace.class);
+            verify(workspaceFilesCleaner, timeout(2000)).clear(captor.capture());
+            assertEquals(captor.getValue().getId(), "workspace123");
+            assertEquals(captor.getValue().getConfig().getName(), "ws");
+        } finally {
+            restarted.stop();
+        }
+    }
+
+    @Test
+    public void shouldContinueCleanupWhenCleanerThrowsRuntimeException() throws Exception {
+        final Workspace failing = createWorkspace("workspace123", "ws");
+        doThrow(new IllegalStateException("test")).when(workspaceFilesCleaner).clear(failing);
+        queue.start();
+
+        queue.add(failing);
+        queue.add(createWorkspace("workspace234", "ws2"));
+
+        ArgumentCaptor<Workspace> captor = ArgumentCaptor.forClass(Workspace.class);
+        verify(workspaceFilesCleaner, timeout(2000).times(2)).clear(captor.capture());
+        assertEquals(captor.getAllValues().get(1).getId(), "workspace234");
+    }
+
+    private static Workspace createWorkspace(String id, String name) {
+        return newDto(WorkspaceDto.class).withId(id)
+                                         .withConfig(newDto(WorkspaceConfigDto.class).withName(name));
+    }
+}
@@ -146,6 +146,7 @@ public class WorkspaceRuntimesTest {
                                          agentRegistry,
                                          snapshotDao,
                                          sharedPool,
+                                         2,
                                          runtimeStates = new ConcurrentHashMap<>());
     }
 
@@ -737,6 +738,103 @@ public class WorkspaceRuntimesTest {
         }
     }
 
+    @Test
+    public void removesSnapshotsOfOtherMachinesWhenDevMachineSnapshottingFailed() throws Exception {
+        WorkspaceImpl workspace = newWorkspace("workspace", "env-name");
+        setRuntime(workspace.getId(), WorkspaceStatus.RUNNING, "env-name");
+        prepareMachines(workspace.getId(), "env-name");
+        SnapshotImpl snapshot2 = mock(SnapshotImpl.class);
+        SnapshotImpl snapshot3 = mock(SnapshotImpl.class);
+        when(envEngine.saveSnapshot(workspace.getId(), "machine1")).thenThrow(new ServerException("can't save dev"));
+        when(envEngine.saveSnapshot(workspace.getId(), "machine2")).thenReturn(snapshot2);
+        when(envEngine.saveSnapshot(workspace.getId(), "machine3")).thenReturn(snapshot3);
+
+        try {
+            runtimes.snapshot(workspace.getId());
+            fail("Snapshotting must fail when snapshot of the dev machine is not created");
+        } catch (ServerException x) {
+            assertEquals(x.getMessage(), "can't save dev");
+        }
+
+        verify(envEngine).saveSnapshot(workspace.getId(), "machine2");
+        verify(envEngine).saveSnapshot(workspace.getId(), "machine3");
+        verify(envEngine).removeSnapshot(snapshot2);
+        verify(envEngine).removeSnapshot(snapshot3);
+        verify(snapshotDao, never()).replaceSnapshots(any(), any(), any());
+        assertEquals(runtimes.getStatus(workspace.getId()), WorkspaceStatus.RUNNING);
+    }
+
+    @Test
+    public void savesSnapshotsOfOtherMachinesWhenNonDevMachineSnapshottingFailed() throws Exception {
+        WorkspaceImpl workspace = newWorkspace("workspace", "env-name");
+        setRuntime(workspace.getId(), WorkspaceStatus.RUNNING, "env-name");
+        prepareMachines(workspace.getId(), "env-name");
+        SnapshotImpl snapshot1 = mock(SnapshotImpl.class);
+        SnapshotImpl snapshot3 = mock(SnapshotImpl.class);
+        when(envEngine.saveSnapshot(workspace.getId(), "machine1")).thenReturn(snapshot1);
+        when(envEngine.saveSnapshot(workspace.getId(), "machine2")).thenThrow(new ServerException("can't save"));
+        when(envEngine.saveSnapshot(workspace.getId(), "machine3")).thenReturn(snapshot3);
+
+        runtimes.snapshot(workspace.getId());
+
+        verify(snapshotDao).replaceSnapshots(eq(workspace.getId()), eq("env-name"), snapshotsCaptor.capture());
+        assertEquals(new ArrayList<>(snapshotsCaptor.getValue()), Arrays.asList(snapshot1, snapshot3));
+        verify(envEngine, never()).removeSnapshot(any());
+        verifyEventsSequence(event(workspace.getId(),
+                                   WorkspaceStatus.RUNNING,
+                                   WorkspaceStatus.SNAPSHOTTING,
+                                   EventType.SNAPSHOT_CREATING,
+                                   null),
+                             event(workspace.getId(),
+                                   WorkspaceStatus.SNAPSHOTTING,
+                                   WorkspaceStatus.RUNNING,
+                                   EventType.SNAPSHOT_CREATED,
+                                   null));
+    }
+
+    @Test
+    public void cancelsSnapshottingOfMachinesWhenInterrupted() throws Exception {
+        WorkspaceImpl workspace = newWorkspace("workspace", "env-name");
+        setRuntime(workspace.getId(), WorkspaceStatus.RUNNING, "env-name");
+        prepareMachines(workspace.getId(), "env-name");
+        // snapshotting doesn't complete until it is cancelled
+        when(envEngine.saveSnapshot(any(), any())).thenAnswer(invocation -> {
+            new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+            return mock(SnapshotImpl.class);
+        });
+
+        Thread.currentThread().interrupt();
+        try {
+            runtimes.snapshot(workspace.getId());
+            fail("Snapshotting must fail when the thread is interrupted");
+        } catch (ServerException x) {
+            assertEquals(x.getMessage(), "Snapshotting of workspace 'workspace' is interrupted");
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+
+        verify(snapshotDao, never()).replaceSnapshots(any(), any(), any());
+        assertEquals(runtimes.getStatus(workspace.getId()), WorkspaceStatus.RUNNING);
+    }
+
+    @Test
+    public void failsToCreateSnapshotWhenSnapshottingIsRejectedAfterShutdown() throws Exception {
+        runtimes.shutdown();
+        WorkspaceImpl workspace = newWorkspace("workspace", "env-name");
+        setRuntime(workspace.getId(), WorkspaceStatus.RUNNING, "env-name");
+        prepareMachines(workspace.getId(), "env-name");
+
+        try {
+            runtimes.snapshot(workspace.getId());
+            fail("Snapshotting must fail when the service is terminated");
+        } catch (ServerException ignored) {
+            // rejected execution is reported as the failure of the snapshotting
+        }
+
+        verify(envEngine, never()).saveSnapshot(any(), any());
+        verify(snapshotDao, never()).replaceSnapshots(any(), any(), any());
+    }
+
     @Test
     public void removesNewlyCreatedSnapshotsWhenFailedToSaveTheirsMetadata() throws Exception {
         WorkspaceImpl workspace = newWorkspace("workspace", "env-name");
@@ -977,6 +1075,7 @@ public class WorkspaceRuntimesTest {
 
     private Instance newMachine(String workspaceId, String envName, String name, boolean isDev) {
         MachineImpl machine = MachineImpl.builder()
+                                         .setId(name)
                                          .setConfig(MachineConfigImpl.builder()
                                                                      .setDev(isDev)
                                                                      .setName(name)
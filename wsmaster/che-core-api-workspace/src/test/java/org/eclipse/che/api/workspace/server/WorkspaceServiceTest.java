@@ -20,6 +20,7 @@ import com.jayway.restassured.response.Response;
 import org.eclipse.che.account.shared.model.Account;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.agent.server.WsAgentHealthChecker;
+import org.eclipse.che.api.agent.server.WsAgentReadinessRegistry;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.workspace.WorkspaceConfig;
@@ -135,13 +136,15 @@ public class WorkspaceServiceTest {
     private static final EnvironmentFilter  FILTER       = new EnvironmentFilter();
 
     @Mock
-    private WorkspaceManager      wsManager;
+    private WorkspaceManager         wsManager;
     @Mock
-    private MachineProcessManager machineProcessManager;
+    private MachineProcessManager    machineProcessManager;
     @Mock
-    private WorkspaceValidator    validator;
+    private WorkspaceValidator       validator;
     @Mock
-    private WsAgentHealthChecker  wsAgentHealthChecker;
+    private WsAgentHealthChecker     wsAgentHealthChecker;
+    @Mock
+    private WsAgentReadinessRegistry wsAgentReadinessRegistry;
 
     private WorkspaceService service;
 
@@ -151,6 +154,7 @@ public class WorkspaceServiceTest {
                                        wsManager,
                                        validator,
                                        wsAgentHealthChecker,
+                                       wsAgentReadinessRegistry,
                                        new WorkspaceServiceLinksInjector(new MachineLinksInjector()),
                                        true,
                                        false,
@@ -959,6 +963,17 @@ public class WorkspaceServiceTest {
         assertEquals(200, response.getStatusCode());
     }
 
+    @Test
+    public void shouldNotifyThatWsAgentIsReady() throws Exception {
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .post(SECURE_PATH + "/workspace/workspace123/ws-agent/ready");
+
+        assertEquals(response.getStatusCode(), 204);
+        verify(wsAgentReadinessRegistry).notifyReady("workspace123");
+    }
+
     @Test
     public void shouldReturnEmptyListIfNotSnapshotsFound() throws Exception {
         // given
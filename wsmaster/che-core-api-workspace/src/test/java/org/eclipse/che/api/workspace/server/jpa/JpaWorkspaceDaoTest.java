@@ -14,6 +14,7 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 
 import org.eclipse.che.account.spi.AccountImpl;
+import org.eclipse.che.account.spi.jpa.JpaAccountDao;
 import org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl;
 import org.eclipse.che.commons.test.db.H2JpaCleaner;
 import org.eclipse.che.commons.test.tck.JpaCleaner;
@@ -32,6 +33,7 @@ import java.util.List;
 import static java.util.Collections.singletonList;
 import static org.eclipse.che.api.workspace.server.spi.tck.WorkspaceDaoTest.createWorkspace;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Tests JPA specific use-cases.
@@ -42,6 +44,7 @@ public class JpaWorkspaceDaoTest {
 
     private EntityManager   manager;
     private JpaWorkspaceDao workspaceDao;
+    private JpaAccountDao   accountDao;
     private JpaCleaner      cleaner;
 
     @BeforeMethod
@@ -49,6 +52,7 @@ public class JpaWorkspaceDaoTest {
         final Injector injector = Guice.createInjector(new WorkspaceTckModule());
         manager = injector.getInstance(EntityManager.class);
         workspaceDao = injector.getInstance(JpaWorkspaceDao.class);
+        accountDao = injector.getInstance(JpaAccountDao.class);
         cleaner = injector.getInstance(H2JpaCleaner.class);
     }
 
@@ -151,6 +155,26 @@ public class JpaWorkspaceDaoTest {
                            .size(), 3);
     }
 
+    @Test
+    public void shouldGetWorkspacesByNewNamespaceAfterAccountIsRenamed() throws Exception {
+        final AccountImpl account = new AccountImpl("accountId", "namespace", "test");
+        final WorkspaceImpl workspace = createWorkspace("id", account, "name");
+        manager.getTransaction().begin();
+        manager.persist(account);
+        manager.persist(workspace);
+        manager.getTransaction().commit();
+        manager.clear();
+        // previous results may be cached
+        workspaceDao.getByNamespace("namespace");
+        workspaceDao.get("name", "namespace");
+
+        accountDao.update(new AccountImpl("accountId", "new-namespace", "test"));
+
+        assertTrue(workspaceDao.getByNamespace("namespace").isEmpty());
+        assertEquals(workspaceDao.getByNamespace("new-namespace").size(), 1);
+        assertEquals(workspaceDao.get("name", "new-namespace").getId(), "id");
+    }
+
     private long asLong(String query) {
         return manager.createQuery(query, Long.class).getSingleResult();
     }
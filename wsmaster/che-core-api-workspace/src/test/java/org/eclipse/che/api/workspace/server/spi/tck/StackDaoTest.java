@@ -261,6 +261,22 @@ public class StackDaoTest {
         assertEquals(new HashSet<>(found), new HashSet<>(asList(stacks[0], stacks[3])));
     }
 
+    @Test(dependsOnMethods = "shouldFindStacksWithSpecifiedTags")
+    public void shouldFindUpdatedStackWithSpecifiedTags() throws Exception {
+        final StackImpl stack = stacks[0];
+        stack.getTags().addAll(asList("search-tag1", "search-tag2"));
+        stackDao.update(stack);
+        // previous results may be cached
+        stackDao.searchStacks(null, asList("search-tag1", "search-tag2"), 0, 0);
+
+        stack.setName("new-name");
+        stackDao.update(stack);
+
+        final List<StackImpl> found = stackDao.searchStacks(null, asList("search-tag1", "search-tag2"), 0, 0);
+        assertEquals(found.size(), 1);
+        assertEquals(found.get(0).getName(), "new-name");
+    }
+
     @Test
     public void shouldReturnAllStacksWhenSearchingWithoutTags() throws Exception {
         final List<StackImpl> found = stackDao.searchStacks(null, null, 0, 0);
@@ -247,6 +247,46 @@ public class WorkspaceDaoTest {
         workspaceDao.getWorkspaces(true, -2, 0);
     }
 
+    @Test
+    public void shouldRemoveBatchOfTemporaryWorkspaces() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            workspaces[i].setTemporary(true);
+            workspaceDao.update(workspaces[i]);
+        }
+        final List<String> removed = new ArrayList<>();
+        eventService.subscribe(event -> removed.add(event.getWorkspace().getId()), WorkspaceRemovedEvent.class);
+
+        assertEquals(workspaceDao.removeTemporary(0, 2), 2);
+
+        assertEquals(removed.size(), 2);
+        final List<WorkspaceImpl> left = workspaceDao.getWorkspaces(true, 0, 0);
+        assertEquals(left.size(), 1);
+        assertTrue(!removed.contains(left.get(0).getId()));
+        assertEquals(workspaceDao.getWorkspaces(false, 0, 0).size(), COUNT_OF_WORKSPACES - 3);
+        assertEquals(workspaceDao.removeTemporary(0, 2), 1);
+        assertEquals(workspaceDao.removeTemporary(0, 2), 0);
+    }
+
+    @Test(dependsOnMethods = "shouldGetWorkspaceById")
+    public void shouldNotRemoveAnyTemporaryWorkspaceWhenSubscriberThrowsExceptionOnWorkspaceRemoving() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            workspaces[i].setTemporary(true);
+            workspaceDao.update(workspaces[i]);
+        }
+        CascadeEventSubscriber<BeforeWorkspaceRemovedEvent> subscriber = mockCascadeEventSubscriber();
+        doThrow(new ServerException("error")).when(subscriber).onCascadeEvent(any());
+        eventService.subscribe(subscriber, BeforeWorkspaceRemovedEvent.class);
+
+        try {
+            workspaceDao.removeTemporary(0, 2);
+            fail("WorkspaceDao#removeTemporary had to throw server exception");
+        } catch (ServerException ignored) {
+        }
+
+        assertEquals(workspaceDao.getWorkspaces(true, 0, 0).size(), 2);
+        eventService.unsubscribe(subscriber, BeforeWorkspaceRemovedEvent.class);
+    }
+
     @Test
     public void shouldPublicRemoveWorkspaceEventAfterRemoveWorkspace() throws Exception {
         final boolean[] isNotified = new boolean[] {false};
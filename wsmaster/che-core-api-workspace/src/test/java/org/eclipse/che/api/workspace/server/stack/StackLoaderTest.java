@@ -31,6 +31,7 @@ import org.eclipse.che.api.workspace.shared.dto.SourceStorageDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.stack.StackComponentDto;
 import org.eclipse.che.api.workspace.shared.dto.stack.StackDto;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.Listeners;
@@ -46,10 +47,12 @@ import java.util.Map;
 import static java.util.Collections.singletonMap;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Tests for {@link StackLoader}
@@ -104,6 +107,24 @@ public class StackLoaderTest {
         verify(stackDao, times(5)).create(any());
     }
 
+    @Test
+    public void predefinedStackShouldNotBeUpdatedIfItIsNotChanged() throws Exception {
+        URL url = Resources.getResource("stacks.json");
+        URL urlFolder = Thread.currentThread().getContextClassLoader().getResource("stack_img");
+        new StackLoader(url.getPath(), urlFolder.getPath(), stackDao, null).start();
+        ArgumentCaptor<StackImpl> captor = ArgumentCaptor.forClass(StackImpl.class);
+        verify(stackDao, times(5)).update(captor.capture());
+        Map<String, StackImpl> stored = new HashMap<>();
+        captor.getAllValues().forEach(stack -> stored.put(stack.getId(), new StackImpl(stack)));
+        when(stackDao.getById(anyString())).thenAnswer(invocation -> stored.get((String)invocation.getArguments()[0]));
+
+        stackLoader = new StackLoader(url.getPath(), urlFolder.getPath(), stackDao, null);
+
+        stackLoader.start();
+        verify(stackDao, times(5)).update(any());
+        verify(stackDao, never()).create(any());
+    }
+
     @Test
     public void dtoShouldBeSerialized() {
         StackDto stackDtoDescriptor = newDto(StackDto.class).withName("nameWorkspaceConfig");
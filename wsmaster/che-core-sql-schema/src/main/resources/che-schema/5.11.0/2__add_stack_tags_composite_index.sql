@@ -0,0 +1,19 @@
+--
+--  [2012] - [2017] Codenvy, S.A.
+--  All Rights Reserved.
+--
+-- NOTICE:  All information contained herein is, and remains
+-- the property of Codenvy S.A. and its suppliers,
+-- if any.  The intellectual and technical concepts contained
+-- herein are proprietary to Codenvy S.A.
+-- and its suppliers and may be covered by U.S. and Foreign Patents,
+-- patents in process, and are protected by trade secret or copyright law.
+-- Dissemination of this information or reproduction of this material
+-- is strictly forbidden unless prior written permission is obtained
+-- from Codenvy S.A..
+--
+
+-- Stacks are searched by tags, the index covers both the tag and the stack id,
+-- so the search by tags doesn't read the table
+CREATE INDEX index_stack_tags_tag_stackid ON stack_tags (tag, stack_id);
+DROP INDEX index_stack_tags_tag;